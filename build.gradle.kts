@@ -1,10 +1,13 @@
 import com.vanniktech.maven.publish.SonatypeHost
+import java.util.zip.Deflater
+import java.util.zip.GZIPOutputStream
 
 plugins {
     id("java-library")
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
     id("com.vanniktech.maven.publish") version "0.28.0"
+    id("me.champeau.jmh") version "0.7.2"
     `maven-publish`
     signing
 }
@@ -15,6 +18,11 @@ repositories {
     mavenCentral()
 }
 
+// 문서 페이지의 브라우저 라이브러리. CDN 대신 jar 안에 넣어 제공하며 사용자 의존성에는 나타나지 않는다.
+val docsVendor: Configuration by configurations.creating {
+    isTransitive = false
+}
+
 dependencies {
     compileOnly("org.projectlombok:lombok:1.18.34")
     annotationProcessor("org.projectlombok:lombok:1.18.34")
@@ -22,7 +30,16 @@ dependencies {
     // 사용자 프로젝트에서 제공될 것으로 기대하는 의존성
     compileOnly("org.springframework:spring-messaging")
     compileOnly("org.springframework:spring-websocket") 
+    compileOnly("org.springframework:spring-webmvc")
+    // WebFlux 애플리케이션이면 함수형 라우트로 문서를 제공
+    compileOnly("org.springframework:spring-webflux")
+    compileOnly("com.fasterxml.jackson.module:jackson-module-blackbird:2.18.0")
+    compileOnly("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:2.18.0")
+    compileOnly("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.18.0")
     compileOnly("org.springframework.boot:spring-boot-autoconfigure")
+    // 있으면 생성 단계별 타이머와 actuator 엔드포인트를 등록
+    compileOnly("io.micrometer:micrometer-core")
+    compileOnly("org.springframework.boot:spring-boot-actuator-autoconfigure")
 
     // 내부 구현용 - 버전을 고정하되 사용자에게 노출되지 않음
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
@@ -31,6 +48,54 @@ dependencies {
     implementation("org.reflections:reflections:0.10.2")
     implementation("com.github.victools:jsonschema-generator:4.37.0")
     implementation("org.yaml:snakeyaml:2.0")
+
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    // compileOnly 의존성은 테스트 클래스패스에 들어가지 않는다
+    testImplementation("org.springframework:spring-messaging")
+
+    // 벤치마크용 가짜 핸들러가 컴파일될 때 필요
+    jmhImplementation("org.springframework:spring-messaging")
+
+    docsVendor("org.webjars.npm:sockjs-client:1.6.1")
+    docsVendor("org.webjars.npm:stomp__stompjs:7.0.0")
+}
+
+// webjar 에서 페이지가 쓰는 번들 파일만 꺼내 문서 페이지 자원 옆(vendor/)에 둔다.
+val vendorDocsAssets by tasks.registering(Sync::class) {
+    from(provider { docsVendor.map { zipTree(it) } }) {
+        include("**/dist/sockjs.min.js", "**/bundles/stomp.umd.min.js")
+        eachFile { path = "META-INF/websocket-docs/assets/vendor/$name" }
+    }
+    includeEmptyDirs = false
+    into(layout.buildDirectory.dir("generated/docs-vendor"))
+}
+
+// 문서 페이지 자원은 EncodedResourceResolver 가 압축 없이 그대로 보낼 수 있도록 gzip 본을 같이 넣는다.
+// .br 본은 JDK 에 인코더가 없어 만들지 않지만, 자원 옆에 두면 br 을 받는 브라우저에 먼저 보낸다.
+tasks.processResources {
+    from(vendorDocsAssets)
+    doLast {
+        fileTree(destinationDir.resolve("META-INF/websocket-docs/assets")) { include("**/*.js", "**/*.css") }.forEach { file ->
+            file.resolveSibling("${file.name}.gz").outputStream().use { out ->
+                object : GZIPOutputStream(out) {
+                    init { def.setLevel(Deflater.BEST_COMPRESSION) }
+                }.use { gzip -> file.inputStream().use { it.copyTo(gzip) } }
+            }
+        }
+    }
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+// ./gradlew jmh
+// 단계별 시간(us/op)과 gc 프로파일러의 할당량(gc.alloc.rate.norm, B/op)을 build/results/jmh 에 남긴다.
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
 }
 
 // 라이브러리이므로 bootJar 비활성화
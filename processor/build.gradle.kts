@@ -0,0 +1,59 @@
+import com.vanniktech.maven.publish.SonatypeHost
+
+plugins {
+    id("java-library")
+    id("com.vanniktech.maven.publish")
+    signing
+}
+group = "io.github.20hyeonsulee"
+version = "1.0.7"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    // javac 실행 시점에만 사용되므로 사용자 런타임 클래스패스에는 포함되지 않음
+    implementation("com.fasterxml.jackson.core:jackson-databind:2.18.0")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-yaml:2.18.0")
+}
+
+signing {
+    useGpgCmd()
+    sign(publishing.publications)
+}
+
+mavenPublishing {
+    publishToMavenCentral(SonatypeHost.CENTRAL_PORTAL)
+
+    coordinates("io.github.20hyeonsulee", "websocket-docs-processor", "1.0.7")
+
+    pom {
+        name = "WebSocket Docs Processor"
+        description = "Annotation processor that prebuilds the AsyncAPI document at compile time"
+        inceptionYear = "2025"
+        url = "https://github.com/20HyeonsuLee/websocket-docs-generator"
+
+        licenses {
+            license {
+                name = "MIT License"
+                url = "https://opensource.org/licenses/MIT"
+                distribution = "https://opensource.org/licenses/MIT"
+            }
+        }
+
+        developers {
+            developer {
+                id = "20HyeonsuLee"
+                name = "Hyeonsu Lee"
+                url = "https://github.com/20HyeonsuLee"
+            }
+        }
+
+        scm {
+            url = "https://github.com/20HyeonsuLee/websocket-docs-generator"
+            connection = "scm:git:git://github.com/20HyeonsuLee/websocket-docs-generator.git"
+            developerConnection = "scm:git:ssh://git@github.com/20HyeonsuLee/websocket-docs-generator.git"
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package generator.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * 컴파일 시점에 {@code @MessageMapping}, {@code @MessageResponse}, {@code @Operation}, {@code @MessageLimit}, {@code @JsonSchemaEnumType}을 읽어
+ * {@code META-INF/websocket-docs/asyncapi.yaml}과 {@code META-INF/websocket-docs/asyncapi.json}을 생성합니다.
+ * 런타임의 {@code AsyncApiGenerator}와 같은 구조의 문서를 만들며, 생성된 파일은 DocsAutoConfiguration이 리플렉션 없이 그대로 제공합니다.
+ * 메시지로 오가는 타입 목록도 {@code META-INF/websocket-docs/wire-types}에 남겨, 런타임에 Jackson 직렬화기를 미리 만들 때 씁니다.
+ *
+ * <p>옵션 (-A)
+ * <ul>
+ *     <li>{@code asyncapi.appPath}: 클라이언트 → 서버 prefix (기본값 /app)</li>
+ *     <li>{@code asyncapi.topicPath}: 서버 → 클라이언트 prefix (기본값 /topic)</li>
+ * </ul>
+ * 사용한 prefix 는 문서의 {@code x-destination-prefixes}에 남겨, 런타임 설정과 다르면 읽을 때 채널 경로를 바꿉니다.
+ */
+@SupportedAnnotationTypes({AsyncApiProcessor.MESSAGE_MAPPING, AsyncApiProcessor.MESSAGE_RESPONSE})
+@SupportedOptions({AsyncApiProcessor.APP_PATH_OPTION, AsyncApiProcessor.TOPIC_PATH_OPTION})
+public class AsyncApiProcessor extends AbstractProcessor {
+
+    static final String MESSAGE_MAPPING = "org.springframework.messaging.handler.annotation.MessageMapping";
+    static final String MESSAGE_RESPONSE = "generator.annotaions.MessageResponse";
+    static final String APP_PATH_OPTION = "asyncapi.appPath";
+    static final String TOPIC_PATH_OPTION = "asyncapi.topicPath";
+
+    private static final String DESTINATION_VARIABLE = "org.springframework.messaging.handler.annotation.DestinationVariable";
+    private static final String OPERATION = "generator.annotaions.Operation";
+    private static final String MESSAGE_LIMIT = "generator.annotaions.MessageLimit";
+    private static final String ASYNCAPI_VERSION = "3.0.0";
+    private static final String YAML_LOCATION = "META-INF/websocket-docs/asyncapi.yaml";
+    private static final String JSON_LOCATION = "META-INF/websocket-docs/asyncapi.json";
+    private static final String PREFIXES_FIELD = "x-destination-prefixes";
+    private static final String WIRE_TYPES_LOCATION = "META-INF/websocket-docs/wire-types";
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectWriter YAML_WRITER = new ObjectMapper(new YAMLFactory()).writerWithDefaultPrettyPrinter();
+
+    private static final Comparator<Endpoint> ORDER = Comparator
+            .comparing(Endpoint::handler)
+            .thenComparing(Endpoint::destination, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * 라운드가 바뀌어도 Element를 붙잡지 않도록 읽는 즉시 모델과 스키마로 변환해 보관한다.
+     */
+    private final Map<String, Endpoint> endpoints = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+    private final Set<String> wireTypes = new TreeSet<>();
+    private TypeSchemas typeSchemas;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (typeSchemas == null) {
+            typeSchemas = new TypeSchemas(processingEnv);
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD) {
+                    Endpoint endpoint = toEndpoint((ExecutableElement) element);
+                    endpoints.put(endpoint.handler() + "|" + endpoint.destination(), endpoint);
+                    originatingElements.add(element.getEnclosingElement());
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !endpoints.isEmpty()) {
+            write(render());
+        }
+        return false;
+    }
+
+    private Endpoint toEndpoint(ExecutableElement method) {
+        TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+        String handler = declaringType.getQualifiedName() + "#" + method.getSimpleName();
+
+        String destination = null;
+        AnnotationMirror messageMapping = findAnnotation(method, MESSAGE_MAPPING);
+        List<Payload> payloads = new ArrayList<>();
+        if (messageMapping != null) {
+            AnnotationMirror typeMapping = findAnnotation(declaringType, MESSAGE_MAPPING);
+            destination = combine(typeMapping != null ? firstValue(typeMapping) : "", firstValue(messageMapping));
+            for (VariableElement parameter : method.getParameters()) {
+                if (findAnnotation(parameter, DESTINATION_VARIABLE) == null) {
+                    payloads.add(toPayload(parameter.asType()));
+                    addWireType(canonicalName(parameter.asType()));
+                }
+            }
+        }
+
+        AnnotationMirror operation = findAnnotation(method, OPERATION);
+        String summary = operation != null ? (String) value(operation, "summary") : null;
+        String description = operation != null ? (String) value(operation, "description") : null;
+        String contentType = operation != null ? contentType(operation) : null;
+
+        Reply reply = null;
+        AnnotationMirror messageResponse = findAnnotation(method, MESSAGE_RESPONSE);
+        if (messageResponse != null) {
+            TypeMirror returnType = (TypeMirror) value(messageResponse, "returnType");
+            TypeMirror genericType = (TypeMirror) value(messageResponse, "genericType");
+            reply = new Reply((String) value(messageResponse, "path"), toPayload(returnType, genericType), contentType(messageResponse));
+            addWireType(replyTypeName(returnType, genericType));
+        }
+        return new Endpoint(handler, destination, payloads, summary, description, contentType, limit(method), reply);
+    }
+
+    /**
+     * 런타임 OperationLimit 과 같은 규칙으로 burst 를 보정합니다. 한도를 하나도 지정하지 않았으면 null 입니다.
+     */
+    private Limit limit(ExecutableElement method) {
+        AnnotationMirror messageLimit = findAnnotation(method, MESSAGE_LIMIT);
+        if (messageLimit == null) {
+            return null;
+        }
+        double rate = Math.max(((Number) value(messageLimit, "ratePerSecond")).doubleValue(), 0);
+        int burst = ((Number) value(messageLimit, "burst")).intValue();
+        int maxPayloadSize = Math.max(((Number) value(messageLimit, "maxPayloadSize")).intValue(), 0);
+        if (rate == 0 && maxPayloadSize == 0) {
+            return null;
+        }
+        int effectiveBurst = burst > 0 ? burst : (int) Math.max(Math.ceil(rate), 1);
+        return new Limit(rate, rate > 0 ? effectiveBurst : 0, maxPayloadSize);
+    }
+
+    /**
+     * contentType 을 지정하지 않은(이전 버전 포함) 어노테이션은 null 입니다.
+     */
+    private String contentType(AnnotationMirror annotation) {
+        Object value = value(annotation, "contentType");
+        return value instanceof String contentType && !contentType.isBlank() ? contentType.trim() : null;
+    }
+
+    /**
+     * 런타임 PayloadType과 같은 규칙으로 이름(List_User)과 스키마 대상 타입을 정합니다.
+     */
+    private Payload toPayload(TypeMirror type) {
+        TypeMirror argument = null;
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            argument = ((DeclaredType) type).getTypeArguments().get(0);
+        }
+        return toPayload(processingEnv.getTypeUtils().erasure(type), argument);
+    }
+
+    private Payload toPayload(TypeMirror rawType, TypeMirror argument) {
+        if (argument != null && isVoid(argument)) {
+            argument = null;
+        }
+        boolean list = typeSchemas.isCollection(rawType);
+        String rawName = simpleName(rawType);
+        String name = argument == null ? rawName : rawName + "_" + simpleName(argument);
+
+        Map<String, ObjectNode> schemas = new LinkedHashMap<>();
+        if (!list) {
+            schemas.put(rawName, typeSchemas.schemaOf(rawType));
+        }
+        if (argument != null && argument.getKind() == TypeKind.DECLARED && !simpleName(argument).equals("List")) {
+            TypeMirror argumentRaw = processingEnv.getTypeUtils().erasure(argument);
+            schemas.put(simpleName(argumentRaw), typeSchemas.schemaOf(argument));
+        }
+        return new Payload(name, list, argument != null ? simpleName(argument) : null, schemas);
+    }
+
+    /**
+     * 런타임 PayloadType.of(returnType, genericType) 처럼 제네릭 인자를 하나만 받는 타입일 때만 인자를 붙입니다.
+     */
+    private String replyTypeName(TypeMirror returnType, TypeMirror genericType) {
+        TypeMirror rawType = processingEnv.getTypeUtils().erasure(returnType);
+        if (genericType == null || isVoid(genericType) || rawType.getKind() != TypeKind.DECLARED) {
+            return canonicalName(rawType);
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) rawType).asElement();
+        if (element.getTypeParameters().size() != 1) {
+            return canonicalName(rawType);
+        }
+        String argument = canonicalName(genericType);
+        return argument == null ? canonicalName(rawType) : binaryName(element) + "<" + argument + ">";
+    }
+
+    /**
+     * Jackson {@code TypeFactory.constructFromCanonical} 이 읽는 형식(java.util.List&lt;com.example.Dto$Inner&gt;)입니다.
+     * 기본형과 배열은 null 입니다.
+     */
+    private String canonicalName(TypeMirror type) {
+        if (type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.WILDCARD) {
+            return Object.class.getName();
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        DeclaredType declared = (DeclaredType) type;
+        StringBuilder name = new StringBuilder(binaryName((TypeElement) declared.asElement()));
+        if (!declared.getTypeArguments().isEmpty()) {
+            List<String> arguments = new ArrayList<>();
+            for (TypeMirror argument : declared.getTypeArguments()) {
+                String argumentName = canonicalName(argument);
+                arguments.add(argumentName != null ? argumentName : Object.class.getName());
+            }
+            name.append('<').append(String.join(",", arguments)).append('>');
+        }
+        return name.toString();
+    }
+
+    private String binaryName(TypeElement element) {
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
+
+    private void addWireType(String canonicalName) {
+        if (canonicalName != null && !isUntyped(canonicalName)) {
+            wireTypes.add(canonicalName);
+        }
+    }
+
+    private boolean isUntyped(String canonicalName) {
+        return canonicalName.equals(Void.class.getName()) || canonicalName.equals(Object.class.getName());
+    }
+
+    private ObjectNode render() {
+        String appPath = processingEnv.getOptions().getOrDefault(APP_PATH_OPTION, "/app");
+        String topicPath = processingEnv.getOptions().getOrDefault(TOPIC_PATH_OPTION, "/topic");
+        List<Endpoint> handlers = endpoints.values().stream().sorted(ORDER).toList();
+
+        ObjectNode channels = JSON_MAPPER.createObjectNode();
+        ObjectNode operations = JSON_MAPPER.createObjectNode();
+        Map<String, Payload> requests = new LinkedHashMap<>();
+        Map<String, Payload> replies = new LinkedHashMap<>();
+
+        for (Endpoint handler : handlers) {
+            if (handler.destination() == null) {
+                continue;
+            }
+            ObjectNode messages = JSON_MAPPER.createObjectNode();
+            handler.payloads().forEach(payload -> {
+                messages.set(payload.name(), messageRef(payload.name()));
+                requests.putIfAbsent(payload.name(), payload);
+            });
+            ObjectNode channel = JSON_MAPPER.createObjectNode();
+            if (!messages.isEmpty()) {
+                channel.set("messages", messages);
+            }
+            channels.set(appPath + handler.destination(), channel);
+        }
+        for (Endpoint handler : handlers) {
+            if (handler.reply() == null) {
+                continue;
+            }
+            Payload payload = handler.reply().payload();
+            replies.putIfAbsent(payload.name(), payload);
+            ObjectNode messages = JSON_MAPPER.createObjectNode();
+            messages.set(payload.name(), messageRef(payload.name()));
+            ObjectNode channel = JSON_MAPPER.createObjectNode();
+            channel.set("messages", messages);
+            channels.set(topicPath + handler.reply().path(), channel);
+        }
+
+        for (Endpoint handler : handlers) {
+            if (handler.destination() == null) {
+                continue;
+            }
+            // 응답이 없는 핸들러도 send 오퍼레이션을 만든다. 전송 한도도 이 오퍼레이션에 적힌다.
+            ObjectNode body = operationBody("send", appPath + handler.destination(), handler);
+            putLimitBindings(body, handler.limit());
+            ArrayNode messages = body.putArray("messages");
+            handler.payloads().forEach(payload -> messages.add(messageRef(payload.name())));
+            if (handler.reply() != null) {
+                ObjectNode reply = body.putObject("reply");
+                reply.set("channel", channelRef(topicPath + handler.reply().path()));
+                reply.putArray("messages").add(messageRef(handler.reply().payload().name()));
+            }
+            operations.set(handler.destination(), body);
+        }
+        for (Endpoint handler : handlers) {
+            if (handler.destination() != null || handler.reply() == null) {
+                continue;
+            }
+            ObjectNode body = operationBody("receive", topicPath + handler.reply().path(), handler);
+            body.putArray("messages").add(messageRef(handler.reply().payload().name()));
+            operations.set(handler.reply().path(), body);
+        }
+
+        // 런타임 생성기처럼 같은 메시지에 다른 content type 이 지정되면 핸들러 순서상 처음 값을 쓴다.
+        Map<String, String> contentTypes = new LinkedHashMap<>();
+        for (Endpoint handler : handlers) {
+            if (handler.destination() != null && handler.contentType() != null) {
+                handler.payloads().forEach(payload -> contentTypes.putIfAbsent(payload.name(), handler.contentType()));
+            }
+            if (handler.reply() != null && handler.reply().contentType() != null) {
+                contentTypes.putIfAbsent(handler.reply().payload().name(), handler.reply().contentType());
+            }
+        }
+
+        ObjectNode messages = JSON_MAPPER.createObjectNode();
+        Map<String, Payload> allPayloads = new LinkedHashMap<>(requests);
+        replies.forEach(allPayloads::putIfAbsent);
+        for (Payload payload : allPayloads.values()) {
+            ObjectNode message = JSON_MAPPER.createObjectNode();
+            if (contentTypes.containsKey(payload.name())) {
+                message.put("contentType", contentTypes.get(payload.name()));
+            }
+            if (payload.list() && payload.elementName() != null) {
+                ObjectNode array = message.putObject("payload");
+                array.put("type", "array");
+                array.set("items", schemaRef(payload.elementName()));
+            } else {
+                message.set("payload", schemaRef(payload.name()));
+            }
+            messages.set(payload.name(), message);
+        }
+
+        ObjectNode schemas = JSON_MAPPER.createObjectNode();
+        replies.values().forEach(payload -> payload.schemas().forEach(schemas::set));
+        requests.values().forEach(payload -> payload.schemas().forEach(schemas::set));
+
+        ObjectNode root = JSON_MAPPER.createObjectNode();
+        root.put("asyncapi", ASYNCAPI_VERSION);
+        ObjectNode info = root.putObject("info");
+        info.put("title", "WebSocket API Documentation");
+        info.put("version", "1.0.0");
+        root.put("defaultContentType", "application/json");
+        root.set("channels", channels);
+        root.set("operations", operations);
+        ObjectNode components = root.putObject("components");
+        components.set("messages", messages);
+        components.set("schemas", schemas);
+        ObjectNode prefixes = root.putObject(PREFIXES_FIELD);
+        prefixes.put("app", appPath);
+        prefixes.put("topic", topicPath);
+        return root;
+    }
+
+    private ObjectNode operationBody(String action, String channelPath, Endpoint handler) {
+        ObjectNode body = JSON_MAPPER.createObjectNode();
+        body.put("action", action);
+        body.set("channel", channelRef(channelPath));
+        if (handler.summary() != null) {
+            body.put("summary", handler.summary());
+            body.put("description", handler.description());
+        }
+        return body;
+    }
+
+    private void putLimitBindings(ObjectNode body, Limit limit) {
+        if (limit == null) {
+            return;
+        }
+        ObjectNode stomp = body.putObject("bindings").putObject("stomp");
+        if (limit.ratePerSecond() > 0) {
+            ObjectNode rate = stomp.putObject("x-rate-limit");
+            rate.put("messagesPerSecond", limit.ratePerSecond());
+            rate.put("burst", limit.burst());
+        }
+        if (limit.maxPayloadSize() > 0) {
+            stomp.put("x-max-payload-size", limit.maxPayloadSize());
+        }
+    }
+
+    private void write(ObjectNode document) {
+        Element[] origins = originatingElements.toArray(Element[]::new);
+        try {
+            FileObject yaml = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", YAML_LOCATION, origins);
+            try (Writer writer = yaml.openWriter()) {
+                YAML_WRITER.writeValue(writer, document);
+            }
+            FileObject json = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", JSON_LOCATION, origins);
+            try (Writer writer = json.openWriter()) {
+                JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValue(writer, document);
+            }
+            FileObject types = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", WIRE_TYPES_LOCATION, origins);
+            try (Writer writer = types.openWriter()) {
+                for (String type : wireTypes) {
+                    writer.write(type);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "AsyncAPI 문서를 생성하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private ObjectNode messageRef(String name) {
+        return JSON_MAPPER.createObjectNode().put("$ref", "#/components/messages/" + name);
+    }
+
+    private ObjectNode schemaRef(String name) {
+        return JSON_MAPPER.createObjectNode().put("$ref", "#/components/schemas/" + name);
+    }
+
+    private ObjectNode channelRef(String path) {
+        return JSON_MAPPER.createObjectNode().put("$ref", "#/channels/" + path.replace("/", "~1"));
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String firstValue(AnnotationMirror messageMapping) {
+        List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) value(messageMapping, "value");
+        return values == null || values.isEmpty() ? "" : (String) values.get(0).getValue();
+    }
+
+    /**
+     * 클래스 레벨과 메소드 레벨 경로를 Spring과 같은 방식으로 "/" 하나로 이어 붙입니다.
+     */
+    private String combine(String prefix, String path) {
+        String normalizedPrefix = prefix.isEmpty() || prefix.startsWith("/") ? prefix : "/" + prefix;
+        String normalizedPath = path.isEmpty() || path.startsWith("/") ? path : "/" + path;
+        if (normalizedPrefix.endsWith("/") && normalizedPath.startsWith("/")) {
+            normalizedPrefix = normalizedPrefix.substring(0, normalizedPrefix.length() - 1);
+        }
+        return normalizedPrefix + normalizedPath;
+    }
+
+    private boolean isVoid(TypeMirror type) {
+        return type.getKind() == TypeKind.VOID
+                || (type.getKind() == TypeKind.DECLARED && simpleName(type).equals("Void"));
+    }
+
+    private String simpleName(TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((DeclaredType) type).asElement().getSimpleName().toString();
+        }
+        String name = processingEnv.getTypeUtils().erasure(type).toString();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private record Endpoint(
+            String handler,
+            String destination,
+            List<Payload> payloads,
+            String summary,
+            String description,
+            String contentType,
+            Limit limit,
+            Reply reply
+    ) {
+    }
+
+    private record Limit(double ratePerSecond, int burst, int maxPayloadSize) {
+    }
+
+    private record Reply(String path, Payload payload, String contentType) {
+    }
+
+    private record Payload(String name, boolean list, String elementName, Map<String, ObjectNode> schemas) {
+    }
+}
@@ -0,0 +1,238 @@
+package generator.processor;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+/**
+ * 컴파일 시점의 {@link TypeMirror}로 JSON Schema(draft-07)를 만듭니다.
+ * 런타임의 victools 설정(PLAIN_JSON, 인라인)과 같은 모양이 되도록 필드 기준으로 생성합니다.
+ */
+class TypeSchemas {
+
+    static final String JSON_SCHEMA_ENUM_TYPE = "generator.annotaions.JsonSchemaEnumType";
+    private static final String SCHEMA_VERSION = "http://json-schema.org/draft-07/schema#";
+
+    private static final Set<String> STRING_TYPES = Set.of(
+            "java.lang.String", "java.lang.CharSequence", "java.lang.Character",
+            "java.time.ZoneId", "java.time.Duration", "java.time.Period", "java.util.Locale"
+    );
+    private static final Set<String> INTEGER_TYPES = Set.of(
+            "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte", "java.math.BigInteger",
+            "java.util.concurrent.atomic.AtomicInteger", "java.util.concurrent.atomic.AtomicLong"
+    );
+    private static final Set<String> NUMBER_TYPES = Set.of(
+            "java.lang.Float", "java.lang.Double", "java.math.BigDecimal", "java.lang.Number"
+    );
+    private static final Map<String, String> FORMATTED_STRING_TYPES = Map.of(
+            "java.time.LocalDate", "date",
+            "java.time.LocalTime", "time",
+            "java.time.OffsetTime", "time",
+            "java.time.LocalDateTime", "date-time",
+            "java.time.ZonedDateTime", "date-time",
+            "java.time.OffsetDateTime", "date-time",
+            "java.time.Instant", "date-time",
+            "java.util.Date", "date-time",
+            "java.util.Calendar", "date-time",
+            "java.util.UUID", "uuid"
+    );
+
+    private final Types types;
+    private final TypeMirror collectionType;
+    private final TypeMirror mapType;
+
+    TypeSchemas(ProcessingEnvironment processingEnv) {
+        this.types = processingEnv.getTypeUtils();
+        this.collectionType = types.erasure(processingEnv.getElementUtils().getTypeElement("java.util.Collection").asType());
+        this.mapType = types.erasure(processingEnv.getElementUtils().getTypeElement("java.util.Map").asType());
+    }
+
+    ObjectNode schemaOf(TypeMirror type) {
+        ObjectNode schema = JsonNodeFactory.instance.objectNode();
+        schema.put("$schema", SCHEMA_VERSION);
+        fill(schema, type, new ArrayDeque<>());
+        return schema;
+    }
+
+    boolean isCollection(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), collectionType);
+    }
+
+    private ObjectNode nodeOf(TypeMirror type, Deque<String> visiting) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        fill(node, type, visiting);
+        return node;
+    }
+
+    private void fill(ObjectNode node, TypeMirror type, Deque<String> visiting) {
+        switch (type.getKind()) {
+            case BOOLEAN -> node.put("type", "boolean");
+            case BYTE, SHORT, INT, LONG -> node.put("type", "integer");
+            case FLOAT, DOUBLE -> node.put("type", "number");
+            case CHAR -> node.put("type", "string");
+            case ARRAY -> {
+                node.put("type", "array");
+                node.set("items", nodeOf(((ArrayType) type).getComponentType(), visiting));
+            }
+            case TYPEVAR -> fill(node, ((TypeVariable) type).getUpperBound(), visiting);
+            case WILDCARD -> {
+                TypeMirror bound = ((WildcardType) type).getExtendsBound();
+                if (bound != null) {
+                    fill(node, bound, visiting);
+                }
+            }
+            case DECLARED -> fillDeclared(node, (DeclaredType) type, visiting);
+            default -> {
+                // void, null, intersection 등은 스키마로 표현하지 않는다.
+            }
+        }
+    }
+
+    private void fillDeclared(ObjectNode node, DeclaredType type, Deque<String> visiting) {
+        TypeElement element = (TypeElement) type.asElement();
+        String name = element.getQualifiedName().toString();
+
+        if (name.equals("java.lang.Object")) {
+            return;
+        }
+        if (STRING_TYPES.contains(name)) {
+            node.put("type", "string");
+            return;
+        }
+        if (FORMATTED_STRING_TYPES.containsKey(name)) {
+            node.put("type", "string");
+            node.put("format", FORMATTED_STRING_TYPES.get(name));
+            return;
+        }
+        if (INTEGER_TYPES.contains(name)) {
+            node.put("type", "integer");
+            return;
+        }
+        if (NUMBER_TYPES.contains(name)) {
+            node.put("type", "number");
+            return;
+        }
+        if (name.equals("java.lang.Boolean")) {
+            node.put("type", "boolean");
+            return;
+        }
+        if (element.getKind() == ElementKind.ENUM) {
+            node.put("type", "string");
+            node.set("enum", enumConstants(element));
+            return;
+        }
+        if (name.equals("java.util.Optional") && !type.getTypeArguments().isEmpty()) {
+            fill(node, type.getTypeArguments().get(0), visiting);
+            return;
+        }
+        if (types.isAssignable(types.erasure(type), collectionType)) {
+            node.put("type", "array");
+            List<? extends TypeMirror> arguments = type.getTypeArguments();
+            node.set("items", arguments.isEmpty()
+                    ? JsonNodeFactory.instance.objectNode()
+                    : nodeOf(arguments.get(0), visiting));
+            return;
+        }
+        node.put("type", "object");
+        if (types.isAssignable(types.erasure(type), mapType) || visiting.contains(name)) {
+            // 순환 참조는 더 내려가지 않고 object로만 표시한다.
+            return;
+        }
+
+        visiting.push(name);
+        ObjectNode properties = JsonNodeFactory.instance.objectNode();
+        for (Map.Entry<String, ObjectNode> property : propertiesOf(type, visiting).entrySet()) {
+            properties.set(property.getKey(), property.getValue());
+        }
+        visiting.pop();
+        if (!properties.isEmpty()) {
+            node.set("properties", properties);
+        }
+    }
+
+    /**
+     * 상속받은 필드를 포함한 non-static 필드들을 이름순으로 돌려줍니다.
+     */
+    private Map<String, ObjectNode> propertiesOf(DeclaredType type, Deque<String> visiting) {
+        Map<String, ObjectNode> properties = new TreeMap<>();
+        DeclaredType current = type;
+        while (current != null) {
+            TypeElement element = (TypeElement) current.asElement();
+            if (element.getQualifiedName().contentEquals("java.lang.Object")) {
+                break;
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC) || properties.containsKey(field.getSimpleName().toString())) {
+                    continue;
+                }
+                TypeMirror fieldType = types.asMemberOf(current, field);
+                ObjectNode fieldNode = nodeOf(fieldType, visiting);
+                addEnumTypeValues(field, fieldNode);
+                properties.put(field.getSimpleName().toString(), fieldNode);
+            }
+            current = superTypeOf(current);
+        }
+        return properties;
+    }
+
+    private DeclaredType superTypeOf(DeclaredType type) {
+        for (TypeMirror superType : types.directSupertypes(type)) {
+            if (superType.getKind() == TypeKind.DECLARED
+                    && ((DeclaredType) superType).asElement().getKind() == ElementKind.CLASS) {
+                return (DeclaredType) superType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@code @JsonSchemaEnumType(enumType = X.class)}가 붙은 필드에 X의 상수 목록을 enum으로 추가합니다.
+     */
+    private void addEnumTypeValues(VariableElement field, ObjectNode fieldNode) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(JSON_SCHEMA_ENUM_TYPE)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("enumType")) {
+                    Element enumElement = types.asElement((TypeMirror) entry.getValue().getValue());
+                    fieldNode.set("enum", enumConstants((TypeElement) enumElement));
+                }
+            }
+        }
+    }
+
+    private ArrayNode enumConstants(TypeElement enumElement) {
+        ArrayNode values = JsonNodeFactory.instance.arrayNode();
+        for (Element enclosed : enumElement.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.ENUM_CONSTANT) {
+                values.add(enclosed.getSimpleName().toString());
+            }
+        }
+        return values;
+    }
+}
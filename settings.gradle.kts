@@ -1,2 +1,3 @@
 rootProject.name = "STOMP-docs-generator"
 
+include("processor")
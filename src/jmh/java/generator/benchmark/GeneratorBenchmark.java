@@ -0,0 +1,154 @@
+package generator.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import generator.AsyncApiGenerator;
+import generator.config.DocsProperties;
+import generator.model.EndpointModel;
+import generator.model.ReflectionsEndpointDiscovery;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 문서 생성 단계별 소요 시간과 할당량을 잽니다. 할당량은 gc 프로파일러(-prof gc)로 확인합니다.
+ * 핸들러 수마다 가짜 코드베이스를 한 번 컴파일하고, 스캔 외의 단계는 미리 만든 모델을 재사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    private static final ObjectWriter YAML_WRITER = new ObjectMapper(new YAMLFactory()).writerWithDefaultPrettyPrinter();
+
+    @Param({"10", "100", "1000"})
+    private int handlers;
+
+    private Path workDir;
+    private ClassLoader classLoader;
+    private DocsProperties properties;
+    private EndpointModel model;
+    private AsyncApiGenerator warmGenerator;
+    private ObjectNode document;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Setup(Level.Trial)
+    public void compileHandlers() throws IOException {
+        workDir = Files.createTempDirectory("docs-benchmark");
+        classLoader = SyntheticHandlers.compile(handlers, workDir);
+        bindClassLoader();
+
+        properties = new DocsProperties();
+        properties.setBasePackage(SyntheticHandlers.basePackage(handlers));
+        model = discovery().discover();
+        warmGenerator = new AsyncApiGenerator(properties, model);
+        document = warmGenerator.generateAsyncapi();
+    }
+
+    /**
+     * Reflections 는 컨텍스트 클래스 로더로 클래스를 찾으므로 측정 스레드에 컴파일한 클래스 로더를 걸어 둡니다.
+     */
+    @Setup(Level.Iteration)
+    public void bindClassLoader() {
+        Thread.currentThread().setContextClassLoader(classLoader);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteHandlers() throws IOException {
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * 생성기를 만든 뒤 처음 문서를 만들 때 일어나는 Reflections 스캔입니다.
+     */
+    @Benchmark
+    public EndpointModel scan() {
+        return discovery().discover();
+    }
+
+    @Benchmark
+    public JsonNode appChannel() {
+        return warmGenerator.generateAppChannel(mapper.createObjectNode());
+    }
+
+    @Benchmark
+    public JsonNode topicChannel() {
+        return warmGenerator.generateTopicChannel(mapper.createObjectNode());
+    }
+
+    @Benchmark
+    public JsonNode sendOperation() {
+        return warmGenerator.generateSendOperation(mapper.createObjectNode());
+    }
+
+    @Benchmark
+    public JsonNode topicOperation() {
+        return warmGenerator.generateTopicOperation(mapper.createObjectNode());
+    }
+
+    /**
+     * 스키마 캐시가 채워진 상태에서 메시지 섹션을 조립하는 비용입니다.
+     */
+    @Benchmark
+    public JsonNode message() {
+        return warmGenerator.generateMessage(mapper.createObjectNode());
+    }
+
+    @Benchmark
+    public JsonNode meta() {
+        return warmGenerator.generateMeta();
+    }
+
+    /**
+     * 매번 새 생성기를 만들어 캐시 없이 스키마를 만드는 비용입니다.
+     */
+    @Benchmark
+    public JsonNode schema() {
+        return new AsyncApiGenerator(properties, model).generateSchema(mapper.createObjectNode());
+    }
+
+    /**
+     * generateAsyncapiYml 중 YAML 직렬화 부분만 잽니다.
+     */
+    @Benchmark
+    public String yaml() throws IOException {
+        return YAML_WRITER.writeValueAsString(document);
+    }
+
+    /**
+     * 스캔을 제외한 문서 전체 생성과 YAML 직렬화입니다.
+     */
+    @Benchmark
+    public String asyncapiYml() throws IOException {
+        return new AsyncApiGenerator(properties, model).generateAsyncapiYml();
+    }
+
+    private ReflectionsEndpointDiscovery discovery() {
+        return new ReflectionsEndpointDiscovery(List.of(SyntheticHandlers.basePackage(handlers)));
+    }
+}
@@ -0,0 +1,146 @@
+package generator.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * 벤치마크용 가짜 핸들러 코드베이스를 만들어 컴파일합니다.
+ * 핸들러 수에 비례해 DTO도 늘어나며, 중첩 객체, 컬렉션, Map, enum, 제네릭 응답(List, Page)을 섞어 씁니다.
+ */
+final class SyntheticHandlers {
+
+    private static final int HANDLERS_PER_CONTROLLER = 10;
+
+    private SyntheticHandlers() {
+    }
+
+    static String basePackage(int handlers) {
+        return "bench.h" + handlers;
+    }
+
+    /**
+     * @return 컴파일된 클래스를 읽는 클래스 로더
+     */
+    static ClassLoader compile(int handlers, Path workDir) {
+        String pkg = basePackage(handlers);
+        Path sourceDir = workDir.resolve("src");
+        Path classDir = workDir.resolve("classes");
+        try {
+            Path packageDir = Files.createDirectories(sourceDir.resolve(pkg.replace('.', '/')));
+            Files.createDirectories(classDir);
+            List<Path> sources = new ArrayList<>();
+            sources.add(write(packageDir, "Status", "public enum Status { ACTIVE, IDLE, CLOSED }", pkg));
+            sources.add(write(packageDir, "Page", """
+                    public class Page<T> {
+                        public List<T> items;
+                        public int page;
+                        public long total;
+                    }""", pkg));
+            int dtos = Math.max(5, handlers / 5);
+            for (int i = 0; i < dtos; i++) {
+                sources.add(write(packageDir, "Detail" + i, """
+                        public class Detail%1$d {
+                            public List<String> tags;
+                            public Map<String, Integer> scores;
+                            public Status status;
+                        }""".formatted(i), pkg));
+                sources.add(write(packageDir, "Item" + i, """
+                        public class Item%1$d {
+                            public String name;
+                            public int count;
+                            public double ratio;
+                            public boolean enabled;
+                            public Detail%1$d detail;
+                            public List<Detail%1$d> history;
+                        }""".formatted(i), pkg));
+            }
+            for (int controller = 0; controller * HANDLERS_PER_CONTROLLER < handlers; controller++) {
+                sources.add(write(packageDir, "Controller" + controller,
+                        controllerSource(controller, handlers, dtos), pkg));
+            }
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            List<String> arguments = new ArrayList<>(List.of(
+                    "-proc:none", "-parameters", "-nowarn",
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", classDir.toString()));
+            sources.forEach(source -> arguments.add(source.toString()));
+            if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0) {
+                throw new IllegalStateException("벤치마크용 핸들러를 컴파일하지 못했습니다: " + workDir);
+            }
+            return new URLClassLoader(new URL[]{classDir.toUri().toURL()}, SyntheticHandlers.class.getClassLoader());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 핸들러 종류를 번갈아 만듭니다: 단일 DTO 응답, List 응답, Page 응답, 응답 없음, 구독 전용 topic.
+     */
+    private static String controllerSource(int controller, int handlers, int dtos) {
+        StringBuilder body = new StringBuilder();
+        int from = controller * HANDLERS_PER_CONTROLLER;
+        int to = Math.min(from + HANDLERS_PER_CONTROLLER, handlers);
+        for (int handler = from; handler < to; handler++) {
+            String request = "Item" + (handler % dtos);
+            String reply = "Item" + ((handler + 1) % dtos);
+            String annotations = switch (handler % 5) {
+                case 0 -> """
+                        @MessageMapping("/h%1$d/{roomId}")
+                        @MessageResponse(path = "/h%1$d/{roomId}", returnType = %2$s.class)""".formatted(handler, reply);
+                case 1 -> """
+                        @MessageMapping("/h%1$d/{roomId}")
+                        @MessageResponse(path = "/h%1$d/{roomId}/list", returnType = List.class, genericType = %2$s.class)"""
+                        .formatted(handler, reply);
+                case 2 -> """
+                        @MessageMapping("/h%1$d")
+                        @MessageResponse(path = "/h%1$d/page", returnType = Page.class, genericType = %2$s.class)"""
+                        .formatted(handler, reply);
+                case 3 -> """
+                        @MessageMapping("/h%1$d")""".formatted(handler);
+                default -> """
+                        @MessageResponse(path = "/h%1$d/events", returnType = %2$s.class)""".formatted(handler, reply);
+            };
+            String parameters = switch (handler % 5) {
+                case 0, 1 -> "@DestinationVariable String roomId, " + request + " request";
+                case 2, 3 -> request + " request";
+                default -> "";
+            };
+            body.append("""
+                    @Operation(summary = "handler %1$d", description = "synthetic handler %1$d")
+                    %2$s
+                    public void handler%1$d(%3$s) {
+                    }
+
+                    """.formatted(handler, annotations, parameters).indent(4));
+        }
+        return """
+                @MessageMapping("/c%d")
+                public class Controller%d {
+                %s}""".formatted(controller, controller, body);
+    }
+
+    private static Path write(Path packageDir, String className, String body, String pkg) throws IOException {
+        String source = """
+                package %s;
+
+                import generator.annotaions.MessageResponse;
+                import generator.annotaions.Operation;
+                import java.util.List;
+                import java.util.Map;
+                import org.springframework.messaging.handler.annotation.DestinationVariable;
+                import org.springframework.messaging.handler.annotation.MessageMapping;
+
+                %s
+                """.formatted(pkg, body);
+        return Files.writeString(packageDir.resolve(className + ".java"), source);
+    }
+}
@@ -17,65 +17,93 @@ package generator;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import com.github.victools.jsonschema.generator.Option;
-import com.github.victools.jsonschema.generator.OptionPreset;
-import com.github.victools.jsonschema.generator.SchemaGenerator;
-import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
-import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
-import com.github.victools.jsonschema.generator.SchemaVersion;
-import generator.annotaions.JsonSchemaEnumType;
-import generator.annotaions.MessageResponse;
-import generator.annotaions.Operation;
+import generator.codec.PayloadSizeEstimator;
 import generator.config.DocsProperties;
-import generator.util.TypeGenerator;
+import generator.incremental.FragmentCache;
+import generator.model.EndpointDiscovery;
+import generator.model.EndpointModel;
+import generator.model.HandlerEndpoint;
+import generator.model.OperationLimit;
+import generator.model.PayloadType;
+import generator.model.ReflectionsEndpointDiscovery;
+import generator.model.ReplyEndpoint;
+import generator.schema.SchemaRegistry;
+import generator.stats.GenerationPhase;
+import generator.stats.GenerationStats;
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.springframework.messaging.handler.annotation.DestinationVariable;
-import org.springframework.messaging.handler.annotation.MessageMapping;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
 
+@Slf4j
 public class AsyncApiGenerator {
 
     private static final String ASYNCAPI_VERSION = "3.0.0";
+    private static final String DEFAULT_APP_PATH = "/app";
+    private static final ObjectWriter YAML_WRITER = new ObjectMapper(new YAMLFactory()).writerWithDefaultPrettyPrinter();
 
     private final ObjectMapper mapper = new ObjectMapper();
     private final DocsProperties properties;
-    private final Reflections reflections;
+    private final EndpointDiscovery discovery;
+    private final SchemaRegistry schemaRegistry;
+    private final GenerationStats stats;
+    private volatile EndpointModel model;
 
     public AsyncApiGenerator(DocsProperties properties) {
+        this(properties, new ReflectionsEndpointDiscovery(properties.basePackageList()));
+    }
+
+    public AsyncApiGenerator(DocsProperties properties, EndpointModel model) {
+        this(properties, () -> model);
+    }
+
+    /**
+     * 엔드포인트 탐색은 첫 문서 생성 시점까지 미룹니다.
+     */
+    public AsyncApiGenerator(DocsProperties properties, EndpointDiscovery discovery) {
+        this(properties, discovery, new GenerationStats());
+    }
+
+    /**
+     * @param stats 스키마 생성 시간을 기록할 곳, 탐색 시간은 {@code discovery}가 기록한다
+     */
+    public AsyncApiGenerator(DocsProperties properties, EndpointDiscovery discovery, GenerationStats stats) {
         this.properties = properties;
-        String basePackage = properties.getBasePackage();
-        if (basePackage == null || basePackage.trim().isEmpty()) {
-            basePackage = "coffeeshout";
-        }
-        this.reflections = new Reflections(basePackage, Scanners.MethodsAnnotated);
+        this.discovery = discovery;
+        this.stats = stats;
+        this.schemaRegistry = new SchemaRegistry(
+                properties.getSchemaMode(),
+                properties.getSchemaParallelism(),
+                properties.getDev().isEnabled() ? FragmentCache.shared() : null
+        );
     }
 
     public String generateAsyncapiYml() throws IOException {
+        return YAML_WRITER.writeValueAsString(generateAsyncapi());
+    }
+
+    /**
+     * 문서를 JsonNode 트리로 만듭니다. 응답은 이 트리를 스트림으로 직렬화합니다.
+     */
+    public ObjectNode generateAsyncapi() {
         ObjectNode root = mapper.createObjectNode();
         ObjectNode channel = mapper.createObjectNode();
         generateAppChannel(channel);
         generateTopicChannel(channel);
 
         ObjectNode schema = mapper.createObjectNode();
-        generateSchema(schema);
-
         ObjectNode message = mapper.createObjectNode();
-        generateMessage(message);
+        stats.time(GenerationPhase.SCHEMA, () -> {
+            generateSchema(schema);
+            return generateMessage(message);
+        });
 
         ObjectNode operation = mapper.createObjectNode();
         generateSendOperation(operation);
@@ -83,6 +111,7 @@ public class AsyncApiGenerator {
 
         root.put("asyncapi", ASYNCAPI_VERSION);
         root.put("info", generateMeta());
+        root.put("defaultContentType", properties.getDefaultContentType());
 
         root.put("channels", channel);
         root.put("operations", operation);
@@ -92,85 +121,89 @@ public class AsyncApiGenerator {
         components.put("schemas", schema);
 
         root.put("components", components);
+        PayloadSizeEstimator.annotate(root);
 
-        ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
-        return yamlMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+        return root;
+    }
+
+    public EndpointModel getModel() {
+        EndpointModel current = model;
+        if (current == null) {
+            synchronized (this) {
+                current = model;
+                if (current == null) {
+                    current = discovery.discover();
+                    model = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 엔드포인트를 다시 탐색하고 스키마 캐시를 비웁니다. 조각 캐시를 쓰면 바뀐 클래스의 스키마만 다시 만듭니다.
+     */
+    public void reload() {
+        synchronized (this) {
+            model = null;
+        }
+        schemaRegistry.clear();
     }
 
     public JsonNode generateTopicOperation(ObjectNode operationNode) {
         /*
-            1. MessageMapping을 찾는다.
-            2. MessageMapping에 따라서 json정의
-            3. Operation이 있으면 summery, description 정의
-            4. MessageResponse있으면 reply정의
+            1. MessageResponse만 있는 핸들러(토픽)를 찾는다.
+            2. Operation이 있으면 summery, description 정의
+            3. 응답 타입으로 messages 정의
          */
-        final Set<Method> methods = reflections.getMethodsAnnotatedWith(MessageResponse.class);
-        for (var method : methods) {
-            if (!isTopic(method)) {
+        for (HandlerEndpoint handler : getModel().handlers()) {
+            if (!handler.isTopic()) {
                 continue;
             }
+            ReplyEndpoint reply = handler.reply();
             ObjectNode body = mapper.createObjectNode();
-            Operation operation = method.getAnnotation(Operation.class);
-            MessageResponse messageResponse = method.getAnnotation(MessageResponse.class);
             body.put("action", "receive");
-            body.put("channel", operationChannelRef(messageResponse.path(), properties.getTopicPath()));
-            if (operation != null) {
-                body.put("summary", operation.summary());
-                body.put("description", operation.description());
-            }
+            body.put("channel", operationChannelRef(reply.path(), properties.getTopicPath()));
+            putOperationInfo(body, handler);
             ArrayNode messagesArray = mapper.createArrayNode();
-            Type returnType = TypeGenerator.generateType(messageResponse.returnType(), messageResponse.genericType());
-            String messageTypeName = getSimpleTypeName(returnType);
-            messagesArray.add(messageParameterNode(messageTypeName));
+            messagesArray.add(messageParameterNode(reply.payload().name()));
             body.put("messages", messagesArray);
-            operationNode.put(messageResponse.path(), body);
+            operationNode.put(reply.path(), body);
         }
         return operationNode;
     }
 
-    private boolean isTopic(Method method) {
-
-        return method.getAnnotation(MessageMapping.class) == null;
-    }
-
-
     public JsonNode generateSendOperation(ObjectNode operationNode) {
         /*
             1. MessageMapping을 찾는다.
             2. MessageMapping에 따라서 json정의
             3. Operation이 있으면 summery, description 정의
-            4. MessageResponse있으면 reply정의
+            4. MessageResponse있으면 reply정의 (응답이 없는 핸들러도 send 오퍼레이션은 만든다)
          */
-        final Set<Method> methods = reflections.getMethodsAnnotatedWith(MessageMapping.class);
-        for (var method : methods) {
+        for (HandlerEndpoint handler : getModel().handlers()) {
+            if (!handler.isSend()) {
+                continue;
+            }
             ObjectNode body = mapper.createObjectNode();
-            MessageMapping messageMapping = method.getAnnotation(MessageMapping.class);
-            Operation operation = method.getAnnotation(Operation.class);
-            MessageResponse messageResponse = method.getAnnotation(MessageResponse.class);
             body.put("action", "send");
-            body.put("channel", operationChannelRef(messageMapping.value()[0], properties.getAppPath()));
-            if (operation != null) {
-                body.put("summary", operation.summary());
-                body.put("description", operation.description());
-            }
+            body.put("channel", operationChannelRef(handler.destination(), appPath()));
+            putOperationInfo(body, handler);
+            putLimitBindings(body, handler.limit());
             ArrayNode messagesArray = mapper.createArrayNode();
-            for (var param : method.getParameters()) {
-                if (!isDestinationVariable(param)) {
-                    messagesArray.add(messageParameterNode(param.getType().getSimpleName()));
-                }
+            for (PayloadType payload : handler.payloads()) {
+                messagesArray.add(messageParameterNode(payload.name()));
             }
             body.put("messages", messagesArray);
-            if (messageResponse != null) {
-                ObjectNode reply = mapper.createObjectNode();
-                reply.put("channel", operationChannelRef(messageResponse.path(), properties.getTopicPath()));
+            ReplyEndpoint reply = handler.reply();
+            if (reply != null) {
+                ObjectNode replyNode = mapper.createObjectNode();
+                replyNode.put("channel", operationChannelRef(reply.path(), properties.getTopicPath()));
                 ArrayNode responseNodes = mapper.createArrayNode();
-                Type returnType = TypeGenerator.generateType(messageResponse.returnType(), messageResponse.genericType());
-                String messageTypeName = getSimpleTypeName(returnType);
-                responseNodes.add(messageParameterNode(messageTypeName));
-                reply.put("messages", responseNodes);
-                body.put("reply", reply);
-                operationNode.put(messageMapping.value()[0], body);
+                responseNodes.add(messageParameterNode(reply.payload().name()));
+                replyNode.put("messages", responseNodes);
+                body.put("reply", replyNode);
             }
+            operationNode.put(handler.destination(), body);
         }
         return operationNode;
     }
@@ -184,199 +217,69 @@ public class AsyncApiGenerator {
     }
 
     public JsonNode generateMessage(ObjectNode messageNode) {
-        Set<Type> requests = getRequests();
-        Set<Type> responses = getResponses();
-        requests.addAll(responses);
+        Set<PayloadType> payloads = new LinkedHashSet<>(getModel().requestPayloads());
+        payloads.addAll(getModel().replyPayloads());
+        Map<String, String> contentTypes = contentTypes();
 
         // 기본 클래스들의 메시지 생성
-        for (var type : requests) {
-            String messageTypeName = getSimpleTypeName(type);
+        for (PayloadType payload : payloads) {
             ObjectNode payloadNode = mapper.createObjectNode();
-            
-            if (type.toString().startsWith("List_")) {
-                // List 타입의 경우 직접 array 스키마 생성
-                ObjectNode arraySchema = mapper.createObjectNode();
-                String genericName = type.toString().substring(5); // List_ 이후 부분
-                arraySchema.put("type", "array");
-                arraySchema.put("items", schemaNode(genericName));
-                payloadNode.put("payload", arraySchema);
-            } else {
-                payloadNode.put("payload", schemaNode(getSimpleTypeName(type)));
+            String contentType = contentTypes.get(payload.name());
+            if (contentType != null) {
+                payloadNode.put("contentType", contentType);
             }
-            messageNode.put(messageTypeName, payloadNode);
+            payloadNode.put("payload", schemaRegistry.payloadSchema(payload));
+            messageNode.put(payload.name(), payloadNode);
         }
         return messageNode;
     }
 
-    public JsonNode generateSchema(ObjectNode schemaNode) {
-
-        // ⚡ victools 설정
-        SchemaGeneratorConfigBuilder configBuilder =
-                new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
-                        .without(Option.DEFINITIONS_FOR_ALL_OBJECTS)   // definitions/ref 없애고 inline
-                        .without(Option.EXTRA_OPEN_API_FORMAT_VALUES); // 필요없으면 뺄 수 있음
-
-        // Enum 처리 커스터마이징
-        configBuilder.forFields().withEnumResolver(field -> {
-            JsonSchemaEnumType annotation = field.getAnnotation(JsonSchemaEnumType.class);
-            if (annotation != null) {
-                Class<? extends Enum<?>> enumClass = annotation.enumType();
-                return Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList();
-            }
-            return null;
-        });
-
-        SchemaGeneratorConfig config = configBuilder.build();
-        SchemaGenerator generator = new SchemaGenerator(config);
-
-        // 커스텀 어노테이션 붙은 클래스만 스캔
-        Set<Method> methods = reflections.getMethodsAnnotatedWith(MessageResponse.class);
-        for (var method : methods) {
-            MessageResponse annotation = method.getAnnotation(MessageResponse.class);
-            Class<?> returnType = annotation.returnType();
-            Class<?> genericType = annotation.genericType();
-
-            // List가 아닌 returnType만 스키마에 추가
-            if (returnType != List.class) {
-                JsonNode schema = generator.generateSchema(returnType);
-                ((ObjectNode) schemaNode).set(returnType.getSimpleName(), schema);
-            }
-            
-            // 제네릭 타입이 있고 List가 아닌 경우 genericType 스키마 추가
-            if (genericType != null && genericType != Void.class && genericType != List.class) {
-                JsonNode genericSchema = generator.generateSchema(genericType);
-                ((ObjectNode) schemaNode).set(genericType.getSimpleName(), genericSchema);
-            }
-        }
-
-        Set<Method> messageMappingMethods = reflections.getMethodsAnnotatedWith(MessageMapping.class);
-        for (var method : messageMappingMethods) {
-            Parameter[] parameters = method.getParameters();
-            for (var parameter : parameters) {
-                if (isDestinationVariable(parameter)) {
-                    continue;
-                }
-                
-                Type paramType = parameter.getParameterizedType();
-                
-                // List<T> 형태인 경우 T만 스키마에 추가
-                if (paramType instanceof ParameterizedType) {
-                    ParameterizedType pType = (ParameterizedType) paramType;
-                    if (pType.getRawType().equals(List.class)) {
-                        Type actualTypeArg = pType.getActualTypeArguments()[0];
-                        if (actualTypeArg instanceof Class) {
-                            Class<?> genericClass = (Class<?>) actualTypeArg;
-                            JsonNode schema = generator.generateSchema(genericClass);
-                            ((ObjectNode) schemaNode).set(genericClass.getSimpleName(), schema);
-                        }
-                    } else {
-                        // 다른 제네릭 타입의 경우 raw type 사용
-                        Class<?> rawType = (Class<?>) pType.getRawType();
-                        JsonNode schema = generator.generateSchema(rawType);
-                        ((ObjectNode) schemaNode).set(rawType.getSimpleName(), schema);
-                    }
-                } else {
-                    // 일반 클래스인 경우
-                    Class<?> paramClass = (Class<?>) paramType;
-                    JsonNode schema = generator.generateSchema(paramClass);
-                    ((ObjectNode) schemaNode).set(paramClass.getSimpleName(), schema);
+    /**
+     * 메시지 이름별로 {@code @Operation}, {@code @MessageResponse} 에 지정한 content type 입니다.
+     * 메시지는 페이로드 타입마다 하나이므로, 같은 타입에 다른 값이 지정되면 핸들러 순서상 처음 값을 씁니다.
+     */
+    private Map<String, String> contentTypes() {
+        Map<String, String> contentTypes = new LinkedHashMap<>();
+        for (HandlerEndpoint handler : getModel().handlers()) {
+            if (handler.isSend() && handler.contentType() != null) {
+                for (PayloadType payload : handler.payloads()) {
+                    putContentType(contentTypes, payload.name(), handler.contentType(), handler.handler());
                 }
             }
+            ReplyEndpoint reply = handler.reply();
+            if (reply != null && reply.contentType() != null) {
+                putContentType(contentTypes, reply.payload().name(), reply.contentType(), handler.handler());
+            }
         }
-
-        return schemaNode;
+        return contentTypes;
     }
 
-//    public JsonNode generateSchemaV2(ObjectNode schemaNode) {
-//
-//        // ⚡ victools 설정
-//        SchemaGeneratorConfigBuilder configBuilder =
-//                new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
-//                        .without(Option.DEFINITIONS_FOR_ALL_OBJECTS)   // definitions/ref 없애고 inline
-//                        .without(Option.EXTRA_OPEN_API_FORMAT_VALUES); // 필요없으면 뺄 수 있음
-//
-//        // Enum 처리 커스터마이징
-//        configBuilder.forFields().withEnumResolver(field -> {
-//            JsonSchemaEnumType annotation = field.getAnnotation(JsonSchemaEnumType.class);
-//            if (annotation != null) {
-//                Class<? extends Enum<?>> enumClass = annotation.enumType();
-//                return Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList();
-//            }
-//            return null;
-//        });
-//
-//        SchemaGeneratorConfig config = configBuilder.build();
-//        SchemaGenerator generator = new SchemaGenerator(config);
-//
-//        // 커스텀 어노테이션 붙은 클래스만 스캔
-//        Set<Method> methods = reflections.getMethodsAnnotatedWith(MessageResponse.class);
-//        for (var method : methods) {
-//            MessageResponse annotation = method.getAnnotation(MessageResponse.class);
-//            Class<?> clazz = annotation.returnType();
-//            JsonNode schema = generator.generateSchema(clazz);
-//            ((ObjectNode) schemaNode).set(clazz.getSimpleName(), schema);
-//        }
-//
-//        Set<Method> messageMappingMethods = reflections.getMethodsAnnotatedWith(MessageMapping.class);
-//        for (var method : messageMappingMethods) {
-//            Parameter[] parameters = method.getParameters();
-//            for (var parameter : parameters) {
-//                if (isDestinationVariable(parameter)) {
-//                    continue;
-//                }
-//                JsonNode schema = generator.generateSchema(parameter.getType());
-//                ((ObjectNode) schemaNode).set(parameter.getType().getSimpleName(), schema);
-//            }
-//        }
-//
-//        return schemaNode;
-//    }
-
-    private Set<Type> getResponses() {
-        final Set<Type> ret = new HashSet<>();
-        Set<Method> methods = reflections.getMethodsAnnotatedWith(MessageResponse.class);
-        for (var method : methods) {
-            MessageResponse annotation = method.getAnnotation(MessageResponse.class);
-            ret.add(TypeGenerator.generateType(annotation.returnType(), annotation.genericType()));
+    private void putContentType(Map<String, String> contentTypes, String messageName, String contentType, String handler) {
+        String previous = contentTypes.putIfAbsent(messageName, contentType);
+        if (previous != null && !previous.equals(contentType)) {
+            log.warn("{} 메시지의 content type 이 {} 에서 {} 로 다르게 지정되어 {} 를 사용합니다.",
+                    messageName, handler, contentType, previous);
         }
-        return ret;
     }
 
-    private Set<Type> getRequests() {
-        final Set<Type> ret = new HashSet<>();
-        final Set<Method> messageMappingMethods = reflections.getMethodsAnnotatedWith(MessageMapping.class);
-        for (var method : messageMappingMethods) {
-            Parameter[] parameters = method.getParameters();
-            for (var parameter : parameters) {
-                if (isDestinationVariable(parameter)) {
-                    continue;
-                }
-                // 파라미터의 실제 제네릭 타입 정보 사용
-                ret.add(parameter.getParameterizedType());
-            }
-        }
-        return ret;
+    public JsonNode generateSchema(ObjectNode schemaNode) {
+        // 응답 타입을 먼저, 요청 파라미터 타입을 나중에 등록한다.
+        Set<PayloadType> payloads = new LinkedHashSet<>(getModel().replyPayloads());
+        payloads.addAll(getModel().requestPayloads());
+        schemaNode.setAll(schemaRegistry.definitions(payloads));
+        return schemaNode;
     }
 
     public JsonNode generateAppChannel(ObjectNode channel) {
-
-        final Set<Method> methods = reflections.getMethodsAnnotatedWith(MessageMapping.class);
-        for (Method method : methods) {
-            final MessageMapping annotation = method.getAnnotation(MessageMapping.class);
-            final String path = properties.getAppPath() + annotation.value()[0];
+        for (HandlerEndpoint handler : getModel().handlers()) {
+            if (!handler.isSend()) {
+                continue;
+            }
+            final String path = appPath() + handler.destination();
             final ObjectNode body = mapper.createObjectNode();
             final ObjectNode messageNode = mapper.createObjectNode();
-            final ObjectNode paramNode = mapper.createObjectNode();
-            for (var param : method.getParameters()) {
-                String paramName = param.getName();
-                if (isDestinationVariable(param)) {
-                    paramNode.put(paramName, refParameterNode(paramName));
-                } else {
-                    // 파라미터의 실제 제네릭 타입 정보 추출
-                    Type paramType = param.getParameterizedType();
-                    String paramTypeName = getSimpleTypeName(paramType);
-                    messageNode.put(paramTypeName, messageParameterNode(paramTypeName));
-                }
+            for (PayloadType payload : handler.payloads()) {
+                messageNode.put(payload.name(), messageParameterNode(payload.name()));
             }
             if (!messageNode.isEmpty()) {
                 body.put("messages", messageNode);
@@ -387,42 +290,59 @@ public class AsyncApiGenerator {
     }
 
     public JsonNode generateTopicChannel(ObjectNode channel) {
-        final Set<Method> methods = reflections.getMethodsAnnotatedWith(MessageResponse.class);
-        for (Method method : methods) {
-            final MessageResponse annotation = method.getAnnotation(MessageResponse.class);
-            final String path = properties.getTopicPath() + annotation.path();
+        for (HandlerEndpoint handler : getModel().handlers()) {
+            final ReplyEndpoint reply = handler.reply();
+            if (reply == null) {
+                continue;
+            }
+            final String path = properties.getTopicPath() + reply.path();
             final ObjectNode body = mapper.createObjectNode();
             final ObjectNode messageNode = mapper.createObjectNode();
-            final ObjectNode paramNode = mapper.createObjectNode();
-            for (var paramName : getParams(path)) {
-                paramNode.put(paramName, refParameterNode(paramName));
-            }
-            Type returnType = TypeGenerator.generateType(annotation.returnType(), annotation.genericType());
-            String messageTypeName = getSimpleTypeName(returnType);
-            messageNode.put(messageTypeName, messageParameterNode(messageTypeName));
-            if (!messageNode.isEmpty()) {
-                body.put("messages", messageNode);
-            }
+            messageNode.put(reply.payload().name(), messageParameterNode(reply.payload().name()));
+            body.put("messages", messageNode);
             channel.put(path, body);
         }
         return channel;
     }
 
-    private ObjectNode refParameterNode(String paramName) {
-        ObjectNode refNode = mapper.createObjectNode();
-        refNode.put("$ref", "#/components/parameters/" + paramName);
-        return refNode;
+    /**
+     * 설정값이 없으면 STOMP 핸들러에 등록된 destination prefix를, 그것도 없으면 /app 을 사용합니다.
+     */
+    public String appPath() {
+        if (StringUtils.hasText(properties.getAppPath())) {
+            return properties.getAppPath();
+        }
+        return getModel().appDestinationPrefix().orElse(DEFAULT_APP_PATH);
     }
 
-    private ObjectNode messageParameterNode(String paramName) {
-        ObjectNode refNode = mapper.createObjectNode();
-        refNode.put("$ref", "#/components/messages/" + paramName);
-        return refNode;
+    private void putOperationInfo(ObjectNode body, HandlerEndpoint handler) {
+        if (handler.hasOperation()) {
+            body.put("summary", handler.summary());
+            body.put("description", handler.description());
+        }
     }
 
-    private ObjectNode schemaNode(String paramName) {
+    /**
+     * {@code @MessageLimit}을 STOMP 오퍼레이션 바인딩의 확장 필드로 적습니다. 한도 적용({@code websocket.docs.limits})도 이 값을 읽습니다.
+     */
+    private void putLimitBindings(ObjectNode body, OperationLimit limit) {
+        if (limit == null) {
+            return;
+        }
+        ObjectNode stomp = body.putObject("bindings").putObject("stomp");
+        if (limit.hasRate()) {
+            ObjectNode rate = stomp.putObject("x-rate-limit");
+            rate.put("messagesPerSecond", limit.ratePerSecond());
+            rate.put("burst", limit.burst());
+        }
+        if (limit.hasMaxPayloadSize()) {
+            stomp.put("x-max-payload-size", limit.maxPayloadSize());
+        }
+    }
+
+    private ObjectNode messageParameterNode(String paramName) {
         ObjectNode refNode = mapper.createObjectNode();
-        refNode.put("$ref", "#/components/schemas/" + paramName);
+        refNode.put("$ref", "#/components/messages/" + paramName);
         return refNode;
     }
 
@@ -433,64 +353,4 @@ public class AsyncApiGenerator {
         refNode.put("$ref", "#/channels/" + parse);
         return refNode;
     }
-
-    private boolean isDestinationVariable(Parameter parameter) {
-        return Arrays.stream(parameter.getAnnotations())
-                .anyMatch(ann -> ann.annotationType() == DestinationVariable.class);
-    }
-
-    private List<String> getParams(String path) {
-        Pattern pattern = Pattern.compile("\\{([^}]+)\\}");
-        Matcher matcher = pattern.matcher(path);
-
-        List<String> results = new ArrayList<>();
-        while (matcher.find()) {
-            results.add(matcher.group(1));
-        }
-        return results;
-    }
-
-    /**
-     * Type에서 간단한 타입명을 추출합니다.
-     * 패키지명 없이 클래스명만 반환하며, JSON 호환성을 위해 <> 를 _로 변경합니다.
-     */
-    private String getSimpleTypeName(Type type) {
-        String typeString = type.toString();
-        
-        // List<coffeeshout.room.ui.request.ReadyChangeMessage> -> List_ReadyChangeMessage
-        if (typeString.contains("<") && typeString.contains(">")) {
-            int startIndex = typeString.indexOf('<') + 1;
-            int endIndex = typeString.lastIndexOf('>');
-            String innerType = typeString.substring(startIndex, endIndex);
-            
-            // 패키지명 제거
-            String simpleInnerType = innerType.contains(".") 
-                ? innerType.substring(innerType.lastIndexOf('.') + 1)
-                : innerType;
-                
-            String outerType = typeString.substring(0, typeString.indexOf('<'));
-            return outerType + "_" + simpleInnerType;  // <> 대신 _ 사용
-        } else {
-            // 단순 타입: coffeeshout.room.ui.request.ReadyChangeMessage -> ReadyChangeMessage
-            return typeString.contains(".") 
-                ? typeString.substring(typeString.lastIndexOf('.') + 1)
-                : typeString;
-        }
-    }
-    
-    /**
-     * MessageResponse 애노테이션에서 메시지 타입명을 생성합니다. 제네릭 타입이 있으면 "ReturnType<GenericType>" 형태로, 없으면 "ReturnType"으로 반환합니다.
-     */
-    private String getMessageTypeName(MessageResponse annotation) {
-        Class<?> returnType = annotation.returnType();
-        Class<?> genericType = annotation.genericType();
-
-        if (genericType != null && genericType != Void.class) {
-            // 제네릭 타입이 있는 경우: List<User> -> ListUser
-            return returnType.getSimpleName() + genericType.getSimpleName();
-        } else {
-            // 제네릭 타입이 없는 경우
-            return returnType.getSimpleName();
-        }
-    }
 }
@@ -0,0 +1,96 @@
+package generator.aggregate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Map;
+
+/**
+ * 여러 AsyncAPI 문서를 하나로 합칩니다. 문서마다 이름공간을 붙여 서로 같은 이름이 있어도 겹치지 않게 합니다.
+ *
+ * <ul>
+ *     <li>채널, 오퍼레이션: {@code orders:/app/order/{id}} (채널에는 원래 경로를 {@code address}로 남김)</li>
+ *     <li>메시지, 스키마: {@code orders.OrderCreated}</li>
+ * </ul>
+ * 문서 안의 {@code $ref}도 같은 규칙으로 바꿉니다.
+ */
+final class NamespacedSpecMerger {
+
+    private static final String ASYNCAPI_VERSION = "3.0.0";
+    private static final String CHANNEL_REF_PREFIX = "#/channels/";
+    private static final String MESSAGE_REF_PREFIX = "#/components/messages/";
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private NamespacedSpecMerger() {
+    }
+
+    /**
+     * @param documents 이름공간별 문서, 순서대로 합침. 문서는 복사해서 쓰므로 바뀌지 않습니다.
+     */
+    static ObjectNode merge(JsonNode info, String defaultContentType, Map<String, JsonNode> documents) {
+        ObjectNode root = NODES.objectNode();
+        root.put("asyncapi", ASYNCAPI_VERSION);
+        root.set("info", info);
+        root.put("defaultContentType", defaultContentType);
+        ObjectNode sources = root.putObject("x-aggregated-from");
+        ObjectNode channels = root.putObject("channels");
+        ObjectNode operations = root.putObject("operations");
+        ObjectNode components = root.putObject("components");
+        ObjectNode messages = components.putObject("messages");
+        ObjectNode schemas = components.putObject("schemas");
+
+        documents.forEach((namespace, source) -> {
+            JsonNode document = source.deepCopy();
+            rewriteRefs(document, namespace);
+            sources.set(namespace, document.path("info"));
+            document.path("channels").fields().forEachRemaining(channel -> {
+                JsonNode body = channel.getValue();
+                if (body.isObject() && !body.has("address")) {
+                    ((ObjectNode) body).put("address", channel.getKey());
+                }
+                channels.set(namespace + ":" + channel.getKey(), body);
+            });
+            document.path("operations").fields().forEachRemaining(operation ->
+                    operations.set(namespace + ":" + operation.getKey(), operation.getValue()));
+            // 원래 문서의 기본 형식이 합친 문서와 다르면 메시지에 직접 적는다.
+            String sourceContentType = document.path("defaultContentType").asText(defaultContentType);
+            document.path("components").path("messages").fields().forEachRemaining(message -> {
+                JsonNode body = message.getValue();
+                if (body.isObject() && !body.has("contentType") && !sourceContentType.equals(defaultContentType)) {
+                    ((ObjectNode) body).put("contentType", sourceContentType);
+                }
+                messages.set(namespace + "." + message.getKey(), body);
+            });
+            document.path("components").path("schemas").fields().forEachRemaining(schema ->
+                    schemas.set(namespace + "." + schema.getKey(), schema.getValue()));
+        });
+        return root;
+    }
+
+    private static void rewriteRefs(JsonNode node, String namespace) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            JsonNode ref = object.get("$ref");
+            if (ref != null && ref.isTextual()) {
+                object.put("$ref", namespaced(ref.asText(), namespace));
+            }
+            object.elements().forEachRemaining(child -> rewriteRefs(child, namespace));
+        } else if (node.isArray()) {
+            node.elements().forEachRemaining(child -> rewriteRefs(child, namespace));
+        }
+    }
+
+    private static String namespaced(String ref, String namespace) {
+        if (ref.startsWith(CHANNEL_REF_PREFIX)) {
+            return CHANNEL_REF_PREFIX + namespace + ":" + ref.substring(CHANNEL_REF_PREFIX.length());
+        }
+        if (ref.startsWith(MESSAGE_REF_PREFIX)) {
+            return MESSAGE_REF_PREFIX + namespace + "." + ref.substring(MESSAGE_REF_PREFIX.length());
+        }
+        if (ref.startsWith(SCHEMA_REF_PREFIX)) {
+            return SCHEMA_REF_PREFIX + namespace + "." + ref.substring(SCHEMA_REF_PREFIX.length());
+        }
+        return ref;
+    }
+}
@@ -0,0 +1,31 @@
+package generator.aggregate;
+
+import java.time.Instant;
+
+/**
+ * @param name                 문서에서 이 인스턴스의 이름 (채널, 오퍼레이션, 메시지, 스키마 이름 앞에 붙음)
+ * @param url                  문서 URL
+ * @param available            한 번이라도 문서를 받았는지 여부
+ * @param etag                 마지막으로 받은 ETag
+ * @param checkedAt            마지막 요청 시각
+ * @param changedAt            문서가 마지막으로 바뀐 시각
+ * @param fullResponses        본문을 받은 응답 수 (200)
+ * @param notModifiedResponses 바뀌지 않아 본문 없이 받은 응답 수 (304)
+ * @param failures             실패한 요청 수
+ * @param transferredBytes     마지막 200 응답의 본문 크기 (압축된 크기)
+ * @param lastError            마지막 요청이 실패했으면 그 이유
+ */
+public record PeerSnapshot(
+        String name,
+        String url,
+        boolean available,
+        String etag,
+        Instant checkedAt,
+        Instant changedAt,
+        long fullResponses,
+        long notModifiedResponses,
+        long failures,
+        long transferredBytes,
+        String lastError
+) {
+}
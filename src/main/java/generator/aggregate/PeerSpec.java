@@ -0,0 +1,138 @@
+package generator.aggregate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 문서를 가져올 인스턴스 하나와 마지막으로 받은 문서, ETag 입니다.
+ * 요청마다 {@code If-None-Match}를 붙이므로 문서가 바뀌지 않았으면 본문 없는 304 만 받습니다.
+ */
+class PeerSpec {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private final String name;
+    private final URI uri;
+    private final LongAdder fullResponses = new LongAdder();
+    private final LongAdder notModifiedResponses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile String etag;
+    private volatile JsonNode document;
+    private volatile Instant checkedAt;
+    private volatile Instant changedAt;
+    private volatile long transferredBytes;
+    private volatile String lastError;
+
+    PeerSpec(String name, URI uri) {
+        this.name = name;
+        this.uri = uri;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * 마지막으로 받은 문서, 한 번도 받지 못했으면 null 입니다. 요청이 실패해도 이전 문서는 유지합니다.
+     */
+    JsonNode getDocument() {
+        return document;
+    }
+
+    /**
+     * 문서가 바뀌었으면 true 로 완료됩니다. 실패는 예외로 완료하지 않고 기록만 합니다.
+     */
+    CompletableFuture<Boolean> poll(HttpClient client, Duration timeout) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                // 이 라이브러리의 /docs/asyncapi.json 은 gzip 표현을 미리 만들어 두므로 압축을 요청한다.
+                .header("Accept-Encoding", "gzip")
+                .GET();
+        String previousEtag = etag;
+        if (previousEtag != null) {
+            request.header("If-None-Match", previousEtag);
+        }
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::accept)
+                .exceptionally(e -> {
+                    failures.increment();
+                    lastError = e.getCause() != null ? e.getCause().toString() : e.toString();
+                    checkedAt = Instant.now();
+                    return false;
+                });
+    }
+
+    private boolean accept(HttpResponse<byte[]> response) {
+        checkedAt = Instant.now();
+        if (response.statusCode() == 304) {
+            notModifiedResponses.increment();
+            lastError = null;
+            return false;
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        fullResponses.increment();
+        transferredBytes = response.body().length;
+        JsonNode received = parse(response.body(), response.headers());
+        String receivedEtag = response.headers().firstValue("ETag").orElse(null);
+        boolean changed = !received.equals(document);
+        etag = receivedEtag;
+        lastError = null;
+        if (changed) {
+            document = received;
+            changedAt = checkedAt;
+        }
+        return changed;
+    }
+
+    private static JsonNode parse(byte[] body, HttpHeaders headers) {
+        boolean gzip = headers.firstValue("Content-Encoding").map(encoding -> encoding.equalsIgnoreCase("gzip")).orElse(false);
+        try (InputStream in = gzip ? new GZIPInputStream(new ByteArrayInputStream(body)) : new ByteArrayInputStream(body)) {
+            JsonNode root = JSON_MAPPER.readTree(in);
+            if (root == null || !root.isObject()) {
+                throw new IllegalStateException("AsyncAPI 문서가 아닙니다");
+            }
+            return root;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    PeerSnapshot snapshot() {
+        return new PeerSnapshot(
+                name,
+                uri.toString(),
+                document != null,
+                etag,
+                checkedAt,
+                changedAt,
+                fullResponses.sum(),
+                notModifiedResponses.sum(),
+                failures.sum(),
+                transferredBytes,
+                lastError
+        );
+    }
+
+    @Override
+    public String toString() {
+        return name + "(" + Objects.toString(uri) + ")";
+    }
+}
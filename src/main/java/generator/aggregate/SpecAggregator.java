@@ -0,0 +1,157 @@
+package generator.aggregate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import generator.config.DocsProperties;
+import generator.spec.AsyncApiSpecProvider;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.StringUtils;
+
+/**
+ * 설정한 인스턴스들의 문서를 동시에 받아 이름공간을 붙여 하나의 문서로 합칩니다.
+ *
+ * <p>합친 문서는 이 애플리케이션의 문서와 별도인 {@link #mergedSpec()}이 캐시합니다. 검증, 한도, 지표처럼
+ * 이 애플리케이션의 destination 으로 동작하는 기능은 계속 이 애플리케이션의 문서만 봅니다.
+ * TTL 마다 모든 인스턴스에 ETag 조건부 요청을 보냅니다.
+ * 바뀐 문서가 없으면(모두 304) 캐시를 그대로 쓰고, 하나라도 바뀌었을 때만 다시 합쳐서 갱신합니다.
+ * 요청이 실패한 인스턴스는 마지막으로 받은 문서를 계속 씁니다.
+ */
+@Slf4j
+public class SpecAggregator implements SmartLifecycle {
+
+    private static final String DEFAULT_LOCAL_NAME = "local";
+
+    private final List<PeerSpec> peers = new ArrayList<>();
+    private final DocsProperties properties;
+    private final AsyncApiSpecProvider local;
+    private final AsyncApiSpecProvider merged = new AsyncApiSpecProvider(this::merge);
+    private final Duration ttl;
+    private final Duration timeout;
+    private final HttpClient client;
+    private volatile boolean polled;
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     * @param local 이 애플리케이션의 문서
+     */
+    public SpecAggregator(DocsProperties properties, AsyncApiSpecProvider local) {
+        DocsProperties.Aggregator aggregator = properties.getAggregator();
+        this.properties = properties;
+        this.local = local;
+        this.ttl = aggregator.getTtl();
+        this.timeout = aggregator.getTimeout();
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        for (DocsProperties.Aggregator.Peer peer : aggregator.getPeers()) {
+            if (!StringUtils.hasText(peer.getName()) || !StringUtils.hasText(peer.getUrl())) {
+                throw new IllegalStateException("websocket.docs.aggregator.peers 에는 name 과 url 이 모두 필요합니다: " + peer);
+            }
+            peers.add(new PeerSpec(peer.getName().trim(), URI.create(peer.getUrl().trim())));
+        }
+    }
+
+    /**
+     * 합친 문서입니다. 다른 인스턴스의 문서가 바뀌거나 이 애플리케이션의 문서가 갱신되면 다시 만듭니다.
+     */
+    public AsyncApiSpecProvider mergedSpec() {
+        return merged;
+    }
+
+    /**
+     * 받아 둔 문서와 이 애플리케이션의 문서를 합칩니다. 아직 한 번도 받지 않았으면 먼저 받습니다.
+     */
+    private ObjectNode merge() {
+        if (!polled) {
+            poll();
+        }
+        Map<String, JsonNode> documents = new LinkedHashMap<>();
+        String localName = properties.getAggregator().getLocalName();
+        documents.put(StringUtils.hasText(localName) ? localName.trim() : DEFAULT_LOCAL_NAME, local.get().getRoot());
+        for (PeerSpec peer : peers) {
+            JsonNode document = peer.getDocument();
+            if (document != null) {
+                documents.putIfAbsent(peer.getName(), document);
+            }
+        }
+        ObjectNode info = JsonNodeFactory.instance.objectNode();
+        info.put("title", properties.getInfo().getTitle());
+        info.put("version", properties.getInfo().getVersion());
+        info.put("description", properties.getInfo().getDescription());
+        return NamespacedSpecMerger.merge(info, properties.getDefaultContentType(), documents);
+    }
+
+    /**
+     * 모든 인스턴스에 동시에 요청하고 모두 끝날 때까지(최대 timeout) 기다립니다.
+     *
+     * @return 하나라도 문서가 바뀌었으면 true
+     */
+    public synchronized boolean poll() {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(peers.size());
+        for (PeerSpec peer : peers) {
+            results.add(peer.poll(client, timeout));
+        }
+        boolean changed = false;
+        for (CompletableFuture<Boolean> result : results) {
+            changed |= result.join();
+        }
+        polled = true;
+        return changed;
+    }
+
+    public List<PeerSnapshot> snapshot() {
+        return peers.stream().map(PeerSpec::snapshot).toList();
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "docs-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(ttl.toMillis(), 1000);
+        scheduler.scheduleWithFixedDelay(this::revalidate, millis, millis, TimeUnit.MILLISECONDS);
+        executor = scheduler;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    private void revalidate() {
+        try {
+            if (poll()) {
+                log.info("다른 인스턴스의 문서가 바뀌어 합친 문서를 갱신합니다: {}", peers);
+                merged.refresh();
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도한다.
+            log.warn("합친 문서를 갱신하지 못했습니다: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package generator.annotaions;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MessageLimit {
+    double ratePerSecond() default 0; // 세션 하나가 이 destination 으로 보낼 수 있는 초당 메시지 수, 0이면 제한 없음
+    int burst() default 0; // 한꺼번에 보낼 수 있는 메시지 수, 0이면 ratePerSecond 를 올림한 값
+    int maxPayloadSize() default 0; // 페이로드 최대 크기 (byte), 0이면 제한 없음
+}
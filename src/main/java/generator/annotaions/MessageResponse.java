@@ -11,4 +11,5 @@ public @interface MessageResponse {
     String path();
     Class<?> returnType();
     Class<?> genericType() default Void.class; // 옵셔널 제네릭 타입
+    String contentType() default ""; // 응답 페이로드의 content type, 비어 있으면 기본값
 }
@@ -10,4 +10,5 @@ import java.lang.annotation.Target;
 public @interface Operation {
     String summary();
     String description();
+    String contentType() default ""; // 요청 페이로드의 content type, 비어 있으면 기본값(websocket.docs.default-content-type)
 }
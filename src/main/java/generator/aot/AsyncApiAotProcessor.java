@@ -0,0 +1,136 @@
+package generator.aot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import generator.AsyncApiGenerator;
+import generator.config.DocsProperties;
+import generator.model.BeanDefinitionEndpointDiscovery;
+import generator.model.EndpointDiscovery;
+import generator.model.EndpointModel;
+import generator.model.PayloadType;
+import generator.model.ReflectionsEndpointDiscovery;
+import generator.query.DocsOverview;
+import generator.query.OperationDetail;
+import generator.query.OperationPage;
+import generator.query.SchemaDetail;
+import generator.query.SpecChange;
+import generator.spec.PrebuiltSpecLoader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.ByteArrayResource;
+
+/**
+ * Spring AOT 처리 시점에 엔드포인트를 탐색하고 문서를 만들어 {@value #SPEC_RESOURCE}에 넣습니다.
+ * 런타임(네이티브 이미지 포함)에는 이 파일을 읽으므로 Reflections 스캔과 victools 스키마 생성이 일어나지 않습니다.
+ *
+ * <p>AOT 단계에서는 빈을 만들지 않으므로 STOMP 핸들러 레지스트리 대신 빈 정의의 {@code @Controller} 타입에서 핸들러를 찾습니다.
+ * ({@code discovery=reflections}이면 basePackage 스캔) 레지스트리의 destination prefix 는 알 수 없으므로
+ * {@code websocket.docs.app-path}가 없으면 {@code /app}으로 만들고, 런타임에 실제 prefix 로 채널 경로를 바꿉니다.
+ * 페이로드 타입과 조회 API 응답 타입에는 Jackson 바인딩용 리플렉션 힌트를 등록합니다.
+ */
+@Slf4j
+public class AsyncApiAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    public static final String SPEC_RESOURCE = "META-INF/websocket-docs/asyncapi-aot.json";
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    /**
+     * 조회 API, SSE, 지표 엔드포인트가 JSON 으로 내보내는 타입입니다.
+     */
+    private static final List<Class<?>> RESPONSE_TYPES = List.of(
+            DocsOverview.class,
+            OperationPage.class,
+            OperationDetail.class,
+            SchemaDetail.class,
+            SpecChange.class
+    );
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        if (!beanFactory.containsBean("environment")) {
+            return null;
+        }
+        ConfigurableEnvironment environment = beanFactory.getBean("environment", ConfigurableEnvironment.class);
+        DocsProperties properties = Binder.get(environment)
+                .bind("websocket.docs", DocsProperties.class)
+                .orElseGet(DocsProperties::new);
+        // 개발 모드는 런타임에 다시 만들어야 하므로 미리 만들지 않는다.
+        // 이 애플리케이션의 빈 정의로 만드는 문서이므로 다른 jar 의 문서와 섞이지 않아 prebuilt 설정과 무관하게 만든다.
+        if (!properties.isEnabled() || properties.getDev().isEnabled()) {
+            return null;
+        }
+        EndpointDiscovery discovery = selectDiscovery(properties, beanFactory);
+        if (discovery == null) {
+            log.warn("basePackage를 찾지 못해 AsyncAPI 문서를 미리 생성하지 않습니다.");
+            return null;
+        }
+
+        EndpointModel model = discovery.discover();
+        AsyncApiGenerator generator = new AsyncApiGenerator(properties, model);
+        ObjectNode document = generator.generateAsyncapi();
+        // 런타임 설정의 prefix 가 빌드 때와 다르면 PrebuiltSpecLoader 가 채널 경로를 바꾼다.
+        ObjectNode prefixes = document.putObject(PrebuiltSpecLoader.PREFIXES_FIELD);
+        prefixes.put("app", generator.appPath());
+        prefixes.put("topic", properties.getTopicPath());
+        try {
+            return new Contribution(JSON_MAPPER.writeValueAsBytes(document), payloadTypes(model));
+        } catch (IOException e) {
+            throw new UncheckedIOException("AsyncAPI 문서를 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static EndpointDiscovery selectDiscovery(DocsProperties properties, ConfigurableListableBeanFactory beanFactory) {
+        if (properties.getDiscovery() != DocsProperties.Discovery.REFLECTIONS) {
+            return new BeanDefinitionEndpointDiscovery(beanFactory);
+        }
+        List<String> basePackages = properties.basePackageList();
+        if (basePackages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            basePackages = AutoConfigurationPackages.get(beanFactory);
+        }
+        return basePackages.isEmpty() ? null : new ReflectionsEndpointDiscovery(basePackages);
+    }
+
+    private static List<Type> payloadTypes(EndpointModel model) {
+        Set<Type> types = new LinkedHashSet<>();
+        for (PayloadType payload : model.requestPayloads()) {
+            types.add(payload.type());
+        }
+        for (PayloadType payload : model.replyPayloads()) {
+            types.add(payload.type());
+        }
+        return new ArrayList<>(types);
+    }
+
+    private record Contribution(byte[] document, List<Type> payloadTypes)
+            implements BeanFactoryInitializationAotContribution {
+
+        @Override
+        public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode code) {
+            generationContext.getGeneratedFiles().addResourceFile(SPEC_RESOURCE, new ByteArrayResource(document));
+
+            RuntimeHints hints = generationContext.getRuntimeHints();
+            hints.resources().registerPattern(SPEC_RESOURCE);
+            // 개발자가 런타임 생성으로 되돌리거나 STOMP 메시지를 변환할 때도 페이로드 타입을 리플렉션으로 읽을 수 있어야 한다.
+            BindingReflectionHintsRegistrar registrar = new BindingReflectionHintsRegistrar();
+            registrar.registerReflectionHints(hints.reflection(), payloadTypes.toArray(Type[]::new));
+            registrar.registerReflectionHints(hints.reflection(), RESPONSE_TYPES.toArray(Type[]::new));
+        }
+    }
+}
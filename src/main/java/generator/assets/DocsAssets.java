@@ -0,0 +1,49 @@
+package generator.assets;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.http.CacheControl;
+
+/**
+ * 문서 페이지가 쓰는 CSS, 스크립트, 브라우저 라이브러리(SockJS, STOMP)의 위치입니다. CDN 없이 jar 안의 자원으로 제공합니다.
+ *
+ * <p>페이지는 내용 해시가 붙은 URL({@code /docs/assets/docs-<md5>.js})로 자원을 참조합니다.
+ * 내용이 바뀌면 URL 도 바뀌므로 1년 immutable 캐시를 걸고, 빌드가 만들어 둔 {@code .gz} / {@code .br} 본이 있으면 그대로 보냅니다.
+ */
+public final class DocsAssets {
+
+    public static final String PATH_PATTERN = "/docs/assets/**";
+    public static final String LOCATION = "classpath:/META-INF/websocket-docs/assets/";
+    public static final String RESOURCE_PATTERN = "META-INF/websocket-docs/assets/**";
+    public static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    // 템플릿에서 ${assets.이름} 으로 참조하는 자원
+    private static final Map<String, String> PATHS = Map.of(
+            "style", "/docs/assets/docs.css",
+            "script", "/docs/assets/docs.js",
+            "sockjs", "/docs/assets/vendor/sockjs.min.js",
+            "stomp", "/docs/assets/vendor/stomp.umd.min.js"
+    );
+
+    private DocsAssets() {
+    }
+
+    public static Map<String, String> paths() {
+        return PATHS;
+    }
+
+    /**
+     * @param resolver 자원 경로를 해시가 붙은 URL 로 바꾸는 함수, 찾지 못하면 null 을 돌려줌
+     * @return 이름별 URL, 해시를 구하지 못한 자원은 원래 경로
+     */
+    public static Map<String, String> urls(Function<String, String> resolver) {
+        Map<String, String> urls = new HashMap<>(PATHS.size());
+        PATHS.forEach((name, path) -> {
+            String url = resolver != null ? resolver.apply(path) : null;
+            urls.put(name, url != null ? url : path);
+        });
+        return urls;
+    }
+}
@@ -0,0 +1,24 @@
+package generator.assets;
+
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * {@code /docs/assets/**} 를 jar 안의 문서 페이지 자원으로 연결합니다.
+ * 해시가 붙은 경로는 {@link VersionResourceResolver}가 원래 파일로 풀고,
+ * 요청이 gzip / br 을 받으면 {@link EncodedResourceResolver}가 미리 압축된 파일을 고릅니다.
+ */
+public class DocsAssetsConfigurer implements WebMvcConfigurer {
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(DocsAssets.PATH_PATTERN)
+                .addResourceLocations(DocsAssets.LOCATION)
+                .setCacheControl(DocsAssets.CACHE_CONTROL)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
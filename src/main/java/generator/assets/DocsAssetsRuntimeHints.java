@@ -0,0 +1,15 @@
+package generator.assets;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * 문서 페이지 자원은 {@code static/} 밖에 있어 Spring Boot 가 네이티브 이미지 힌트를 등록하지 않으므로 직접 등록합니다.
+ */
+public class DocsAssetsRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern(DocsAssets.RESOURCE_PATTERN);
+    }
+}
@@ -0,0 +1,22 @@
+package generator.assets;
+
+import org.springframework.web.reactive.config.ResourceHandlerRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.resource.EncodedResourceResolver;
+import org.springframework.web.reactive.resource.VersionResourceResolver;
+
+/**
+ * WebFlux 애플리케이션에서 {@link DocsAssetsConfigurer}와 같은 방식으로 {@code /docs/assets/**} 를 제공합니다.
+ */
+public class ReactiveDocsAssetsConfigurer implements WebFluxConfigurer {
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(DocsAssets.PATH_PATTERN)
+                .addResourceLocations(DocsAssets.LOCATION)
+                .setCacheControl(DocsAssets.CACHE_CONTROL)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
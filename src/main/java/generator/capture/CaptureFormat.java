@@ -0,0 +1,203 @@
+package generator.capture;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세그먼트 파일 형식입니다. 모든 숫자는 big-endian 입니다.
+ *
+ * <pre>
+ * 세그먼트 헤더: int magic, short version, int segmentIndex
+ * 레코드:       int length (레코드 전체 길이, 0 이면 기록 끝)
+ *              long timestamp (캡처 시작부터 나노초)
+ *              byte type ({@link FrameType})
+ *              str sessionId, str destination
+ *              short headerCount, (str name, str value) * headerCount
+ *              int payloadLength, byte[] payload
+ * str:         unsigned short 바이트 길이 + UTF-8
+ * </pre>
+ *
+ * 기록 경로에서 쓰는 메소드는 문자열을 byte[] 로 바꾸지 않고 버퍼에 바로 인코딩합니다.
+ */
+final class CaptureFormat {
+
+    static final int MAGIC = 0x53544D50;
+    static final short VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 4 + 2 + 4;
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int MAX_HEADERS = 0xFFFF;
+    private static final int FIXED_SIZE = 4 + 8 + 1 + 2 + 4;
+
+    private CaptureFormat() {
+    }
+
+    /**
+     * 레코드 길이입니다. destination 이나 세션 ID 가 너무 길어 기록할 수 없으면 -1 입니다.
+     */
+    static int recordSize(String sessionId, String destination, Map<String, List<String>> headers, Object payload) {
+        int sessionLength = utf8Length(sessionId);
+        int destinationLength = utf8Length(destination);
+        if (sessionLength > MAX_STRING_BYTES || destinationLength > MAX_STRING_BYTES) {
+            return -1;
+        }
+        long size = FIXED_SIZE + 2 + sessionLength + 2 + destinationLength + payloadLength(payload);
+        if (headers != null) {
+            int count = 0;
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                String name = entry.getKey();
+                int nameLength = utf8Length(name);
+                if (!recorded(name, nameLength)) {
+                    continue;
+                }
+                List<String> values = entry.getValue();
+                for (int i = 0; i < values.size() && count < MAX_HEADERS; i++) {
+                    int valueLength = utf8Length(values.get(i));
+                    if (valueLength <= MAX_STRING_BYTES) {
+                        size += 2 + nameLength + 2 + valueLength;
+                        count++;
+                    }
+                }
+            }
+        }
+        return size > Integer.MAX_VALUE ? -1 : (int) size;
+    }
+
+    /**
+     * {@code offset} 부터 레코드를 씁니다. 길이 필드는 마지막에 써서, 0 이 아니면 레코드가 완성된 것입니다.
+     * 버퍼의 position 은 바꾸지 않으므로 여러 스레드가 서로 다른 구간에 동시에 쓸 수 있습니다.
+     */
+    static void write(ByteBuffer buffer, int offset, int size, long timestamp, FrameType type, String sessionId,
+                      String destination, Map<String, List<String>> headers, Object payload) {
+        int position = offset + 4;
+        buffer.putLong(position, timestamp);
+        position += 8;
+        buffer.put(position++, type.code());
+        position = putString(buffer, position, sessionId);
+        position = putString(buffer, position, destination);
+        int countPosition = position;
+        position += 2;
+        int count = 0;
+        if (headers != null) {
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                String name = entry.getKey();
+                if (!recorded(name, utf8Length(name))) {
+                    continue;
+                }
+                List<String> values = entry.getValue();
+                for (int i = 0; i < values.size() && count < MAX_HEADERS; i++) {
+                    String value = values.get(i);
+                    if (utf8Length(value) <= MAX_STRING_BYTES) {
+                        position = putString(buffer, position, name);
+                        position = putString(buffer, position, value);
+                        count++;
+                    }
+                }
+            }
+        }
+        buffer.putShort(countPosition, (short) count);
+        if (payload instanceof byte[] bytes) {
+            buffer.putInt(position, bytes.length);
+            buffer.put(position + 4, bytes);
+        } else if (payload instanceof String text) {
+            buffer.putInt(position, utf8Length(text));
+            putUtf8(buffer, position + 4, text);
+        } else {
+            buffer.putInt(position, 0);
+        }
+        buffer.putInt(offset, size);
+    }
+
+    static int payloadLength(Object payload) {
+        if (payload instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (payload instanceof String text) {
+            return utf8Length(text);
+        }
+        return 0;
+    }
+
+    /**
+     * destination 은 따로 저장하고, content-length 는 재생할 때 다시 계산되므로 기록하지 않는다.
+     */
+    private static boolean recorded(String name, int nameLength) {
+        return nameLength <= MAX_STRING_BYTES && !"destination".equals(name) && !"content-length".equals(name);
+    }
+
+    static String getString(ByteBuffer buffer, int position) {
+        int length = Short.toUnsignedInt(buffer.getShort(position));
+        byte[] bytes = new byte[length];
+        buffer.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int stringSize(ByteBuffer buffer, int position) {
+        return 2 + Short.toUnsignedInt(buffer.getShort(position));
+    }
+
+    private static int putString(ByteBuffer buffer, int position, String value) {
+        int length = putUtf8(buffer, position + 2, value);
+        buffer.putShort(position, (short) length);
+        return position + 2 + length;
+    }
+
+    static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * UTF-8 로 버퍼에 바로 씁니다. 짝이 없는 서로게이트는 U+FFFD 로 씁니다.
+     */
+    private static int putUtf8(ByteBuffer buffer, int position, String value) {
+        if (value == null) {
+            return 0;
+        }
+        int start = position;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put(position++, (byte) c);
+            } else if (c < 0x800) {
+                buffer.put(position++, (byte) (0xC0 | (c >> 6)));
+                buffer.put(position++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put(position++, (byte) (0xF0 | (codePoint >> 18)));
+                buffer.put(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put(position++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // utf8Length 가 3바이트로 셌으므로 같은 길이의 U+FFFD 를 쓴다.
+                buffer.put(position++, (byte) 0xEF);
+                buffer.put(position++, (byte) 0xBF);
+                buffer.put(position++, (byte) 0xBD);
+            } else {
+                buffer.put(position++, (byte) (0xE0 | (c >> 12)));
+                buffer.put(position++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put(position++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return position - start;
+    }
+}
@@ -0,0 +1,91 @@
+package generator.capture;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 한 번의 기록으로 만든 세그먼트 파일들을 순서대로 읽습니다. 파일 전체를 메모리에 올리지 않고 프레임 하나씩 넘깁니다.
+ */
+public final class CaptureReader {
+
+    private CaptureReader() {
+    }
+
+    public static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files
+                    .filter(path -> path.getFileName().toString().endsWith(CaptureFormat.SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+            if (segments.isEmpty()) {
+                throw new IllegalArgumentException("세그먼트 파일이 없습니다: " + directory);
+            }
+            return segments;
+        }
+    }
+
+    public static void read(Path directory, Consumer<CapturedFrame> consumer) throws IOException {
+        for (Path segment : segments(directory)) {
+            readSegment(segment, consumer);
+        }
+    }
+
+    /**
+     * 레코드는 여러 스레드가 잡은 순서대로 놓이므로, 같은 세그먼트 안에서도 타임스탬프가 조금씩 뒤바뀔 수 있습니다.
+     */
+    static void readSegment(Path path, Consumer<CapturedFrame> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < CaptureFormat.SEGMENT_HEADER_SIZE || buffer.getInt(0) != CaptureFormat.MAGIC) {
+                throw new IllegalArgumentException("세그먼트 파일이 아닙니다: " + path);
+            }
+            if (buffer.getShort(4) != CaptureFormat.VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 세그먼트 버전입니다: " + buffer.getShort(4));
+            }
+            int position = CaptureFormat.SEGMENT_HEADER_SIZE;
+            while (position <= buffer.capacity() - 4) {
+                int length = buffer.getInt(position);
+                // 0 이면 이후로는 기록되지 않았거나 쓰는 도중에 멈춘 레코드다.
+                if (length <= 0 || position > buffer.capacity() - length) {
+                    break;
+                }
+                consumer.accept(readRecord(buffer, position));
+                position += length;
+            }
+        }
+    }
+
+    private static CapturedFrame readRecord(MappedByteBuffer buffer, int offset) {
+        int position = offset + 4;
+        long timestamp = buffer.getLong(position);
+        position += 8;
+        FrameType type = FrameType.of(buffer.get(position++));
+        String sessionId = CaptureFormat.getString(buffer, position);
+        position += CaptureFormat.stringSize(buffer, position);
+        String destination = CaptureFormat.getString(buffer, position);
+        position += CaptureFormat.stringSize(buffer, position);
+        int headerCount = Short.toUnsignedInt(buffer.getShort(position));
+        position += 2;
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            String name = CaptureFormat.getString(buffer, position);
+            position += CaptureFormat.stringSize(buffer, position);
+            String value = CaptureFormat.getString(buffer, position);
+            position += CaptureFormat.stringSize(buffer, position);
+            headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+        }
+        byte[] payload = new byte[buffer.getInt(position)];
+        buffer.get(position + 4, payload);
+        return new CapturedFrame(timestamp, type, sessionId, destination, headers, payload);
+    }
+}
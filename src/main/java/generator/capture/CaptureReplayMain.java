@@ -0,0 +1,37 @@
+package generator.capture;
+
+/**
+ * 애플리케이션 밖에서 기록을 재생합니다.
+ *
+ * <pre>
+ * java -cp ... generator.capture.CaptureReplayMain \
+ *     --url=ws://localhost:8080/ws --dir=stomp-capture/20250101-120000 --speed=2
+ * </pre>
+ */
+public final class CaptureReplayMain {
+
+    private CaptureReplayMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CaptureReplayOptions options = new CaptureReplayOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("--name=value 형식이 아닙니다: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "url" -> options.setUrl(value);
+                case "dir" -> options.setDirectory(value);
+                case "speed" -> options.setSpeed(Double.parseDouble(value));
+                case "connect-concurrency" -> options.setConnectConcurrency(Integer.parseInt(value));
+                default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+            }
+        }
+        if (options.getDirectory() == null) {
+            throw new IllegalArgumentException("--dir 옵션이 필요합니다.");
+        }
+        System.out.print(new CaptureReplayer(options).run().format());
+    }
+}
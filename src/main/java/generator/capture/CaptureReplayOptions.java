@@ -0,0 +1,30 @@
+package generator.capture;
+
+import lombok.Data;
+
+/**
+ * 기록 재생 설정입니다.
+ */
+@Data
+public class CaptureReplayOptions {
+
+    /**
+     * 재생할 STOMP 엔드포인트 (예: ws://localhost:8080/ws). SockJS 엔드포인트라면 뒤에 /websocket 을 붙입니다.
+     */
+    private String url = "ws://localhost:8080/ws";
+
+    /**
+     * 한 번의 기록으로 만든 세그먼트 디렉터리 (예: stomp-capture/20250101-120000)
+     */
+    private String directory;
+
+    /**
+     * 재생 속도 배율. 1 이면 기록된 간격 그대로, 2 면 두 배 빠르게, 0 이면 기다리지 않고 보냅니다.
+     */
+    private double speed = 1.0;
+
+    /**
+     * 동시에 진행할 연결 핸드셰이크 수
+     */
+    private int connectConcurrency = 64;
+}
@@ -0,0 +1,37 @@
+package generator.capture;
+
+import java.util.Locale;
+
+/**
+ * 재생 결과입니다.
+ *
+ * @param capturedSeconds 기록된 첫 프레임과 마지막 프레임 사이 시간
+ * @param maxLagMillis    예정 시각보다 늦게 보낸 가장 큰 지연, 재생기가 기록 속도를 따라가지 못했는지 확인합니다
+ * @param expectedMessages 기록된 MESSAGE 프레임 수
+ * @param receivedMessages 재생 중 구독으로 받은 MESSAGE 프레임 수
+ */
+public record CaptureReplayReport(
+        double capturedSeconds,
+        double elapsedSeconds,
+        int sessions,
+        int connectedSessions,
+        long sent,
+        long subscribed,
+        long expectedMessages,
+        long receivedMessages,
+        long skipped,
+        long errors,
+        double maxLagMillis
+) {
+
+    /**
+     * 콘솔에 출력할 문자열입니다.
+     */
+    public String format() {
+        return String.format(Locale.ROOT,
+                "sessions %d/%d, captured %.1fs, replayed %.1fs, max lag %.2f ms%n"
+                        + "sent %d, subscribed %d, messages %d/%d (received/captured), skipped %d, errors %d%n",
+                connectedSessions, sessions, capturedSeconds, elapsedSeconds, maxLagMillis,
+                sent, subscribed, receivedMessages, expectedMessages, skipped, errors);
+    }
+}
@@ -0,0 +1,194 @@
+package generator.capture;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 기록된 STOMP 프레임을 로컬 인스턴스에 다시 보냅니다.
+ * 기록된 세션마다 STOMP 세션을 하나씩 연결하고, SEND 와 SUBSCRIBE 를 기록된 간격(속도 배율 적용)대로 한 스레드에서 재생합니다.
+ * MESSAGE 프레임은 보내지 않고, 재생 중 받은 MESSAGE 수와 비교하는 데만 씁니다.
+ */
+public class CaptureReplayer {
+
+    private static final long CONNECT_TIMEOUT_SECONDS = 60;
+    private static final long SETTLE_MILLIS = 1000;
+    private static final long DRAIN_MILLIS = 2000;
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final CaptureReplayOptions options;
+
+    public CaptureReplayer(CaptureReplayOptions options) {
+        this.options = options;
+    }
+
+    public CaptureReplayReport run() throws IOException, InterruptedException {
+        Path directory = Path.of(options.getDirectory());
+        Plan plan = plan(directory);
+        LongAdder received = new LongAdder();
+        LongAdder errors = new LongAdder();
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        Map<String, ReplaySession> sessions = connect(client, plan, received, errors);
+
+        // 기록 전부터 있던 구독이 브로커에 등록될 시간을 준다
+        Thread.sleep(SETTLE_MILLIS);
+
+        Driver driver = new Driver(sessions, options.getSpeed(), plan.firstTimestamp());
+        CaptureReader.read(directory, driver);
+        double elapsedSeconds = (System.nanoTime() - driver.start) / 1e9;
+
+        // 마지막으로 보낸 메시지의 응답을 기다린다
+        Thread.sleep(DRAIN_MILLIS);
+        int connected = (int) sessions.values().stream().filter(ReplaySession::isConnected).count();
+        CaptureReplayReport report = new CaptureReplayReport(
+                (plan.lastTimestamp() - plan.firstTimestamp()) / 1e9,
+                elapsedSeconds,
+                plan.subscriptions().size(),
+                connected,
+                driver.sent,
+                driver.subscribed,
+                driver.expectedMessages,
+                received.sum(),
+                driver.skipped,
+                errors.sum(),
+                driver.maxLagNanos / 1e6
+        );
+        sessions.values().forEach(ReplaySession::disconnect);
+        client.stop();
+        return report;
+    }
+
+    /**
+     * 재생 전에 한 번 읽어 세션 목록과 시간 범위를 구합니다.
+     * 기록 중 SUBSCRIBE 없이 MESSAGE 를 받은 세션은 기록 전부터 구독하고 있던 것이므로, 연결할 때 미리 구독합니다.
+     */
+    private static Plan plan(Path directory) throws IOException {
+        Map<String, Set<String>> subscribed = new LinkedHashMap<>();
+        Map<String, Set<String>> initial = new LinkedHashMap<>();
+        long[] range = {Long.MAX_VALUE, Long.MIN_VALUE};
+        CaptureReader.read(directory, frame -> {
+            range[0] = Math.min(range[0], frame.timestampNanos());
+            range[1] = Math.max(range[1], frame.timestampNanos());
+            Set<String> destinations = subscribed.computeIfAbsent(frame.sessionId(), key -> new LinkedHashSet<>());
+            Set<String> initialDestinations = initial.computeIfAbsent(frame.sessionId(), key -> new LinkedHashSet<>());
+            if (frame.type() == FrameType.SUBSCRIBE) {
+                destinations.add(frame.destination());
+            } else if (frame.type() == FrameType.MESSAGE && !destinations.contains(frame.destination())) {
+                initialDestinations.add(frame.destination());
+            }
+        });
+        if (range[0] > range[1]) {
+            throw new IllegalArgumentException("기록된 프레임이 없습니다: " + directory);
+        }
+        return new Plan(initial, range[0], range[1]);
+    }
+
+    /**
+     * 동시에 진행하는 핸드셰이크 수를 제한하면서 세션을 연결합니다. 연결에 실패한 세션의 프레임은 건너뜁니다.
+     */
+    private Map<String, ReplaySession> connect(WebSocketStompClient client, Plan plan, LongAdder received, LongAdder errors)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(Math.max(1, options.getConnectConcurrency()));
+        CountDownLatch done = new CountDownLatch(plan.subscriptions().size());
+        Map<String, ReplaySession> connected = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : plan.subscriptions().entrySet()) {
+            ReplaySession session = new ReplaySession(entry.getValue(), received, errors);
+            permits.acquire();
+            client.connectAsync(options.getUrl(), new WebSocketHttpHeaders(), session)
+                    .whenComplete((stompSession, failure) -> {
+                        permits.release();
+                        if (failure == null) {
+                            synchronized (connected) {
+                                connected.put(entry.getKey(), session);
+                            }
+                        } else {
+                            errors.increment();
+                        }
+                        done.countDown();
+                    });
+        }
+        if (!done.await(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("세션 연결이 " + CONNECT_TIMEOUT_SECONDS + "초 안에 끝나지 않았습니다.");
+        }
+        synchronized (connected) {
+            return Map.copyOf(connected);
+        }
+    }
+
+    /**
+     * @param subscriptions 기록된 세션 ID 별로 연결 직후 만들 구독
+     */
+    private record Plan(Map<String, Set<String>> subscriptions, long firstTimestamp, long lastTimestamp) {
+    }
+
+    /**
+     * 프레임마다 예정 시각까지 기다렸다가 보냅니다. 오래 기다릴 때는 park 하고, 예정 시각 직전에는 spin 합니다.
+     */
+    private static final class Driver implements Consumer<CapturedFrame> {
+
+        private final Map<String, ReplaySession> sessions;
+        private final double speed;
+        private final long base;
+        private final long start = System.nanoTime();
+        private long sent;
+        private long subscribed;
+        private long expectedMessages;
+        private long skipped;
+        private long maxLagNanos;
+
+        private Driver(Map<String, ReplaySession> sessions, double speed, long base) {
+            this.sessions = sessions;
+            this.speed = speed;
+            this.base = base;
+        }
+
+        @Override
+        public void accept(CapturedFrame frame) {
+            if (frame.type() == FrameType.MESSAGE) {
+                expectedMessages++;
+                return;
+            }
+            ReplaySession session = sessions.get(frame.sessionId());
+            if (session == null) {
+                skipped++;
+                return;
+            }
+            if (speed > 0) {
+                long due = start + (long) ((frame.timestampNanos() - base) / speed);
+                waitUntil(due);
+                maxLagNanos = Math.max(maxLagNanos, System.nanoTime() - due);
+            }
+            boolean replayed = frame.type() == FrameType.SEND ? session.send(frame) : session.subscribe(frame.destination());
+            if (!replayed) {
+                skipped++;
+            } else if (frame.type() == FrameType.SEND) {
+                sent++;
+            } else {
+                subscribed++;
+            }
+        }
+
+        private static void waitUntil(long due) {
+            long remaining;
+            while ((remaining = due - System.nanoTime()) > 0) {
+                if (remaining > SPIN_THRESHOLD_NANOS) {
+                    LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package generator.capture;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리 크기를 잡아 메모리 매핑한 세그먼트 파일 하나입니다.
+ * 기록하는 스레드는 {@link #reserve(int)} 로 자기 구간을 fetch-and-add 한 번으로 잡은 뒤 잠금 없이 씁니다.
+ */
+final class CaptureSegment {
+
+    private static final long CLOSE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicInteger position = new AtomicInteger(CaptureFormat.SEGMENT_HEADER_SIZE);
+    private final AtomicInteger writers = new AtomicInteger();
+    private volatile boolean closed;
+
+    private CaptureSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    static CaptureSegment create(Path path, int size, int index) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, CaptureFormat.MAGIC);
+            buffer.putShort(4, CaptureFormat.VERSION);
+            buffer.putInt(6, index);
+            return new CaptureSegment(path, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * {@code size} 바이트 구간의 시작 위치를 돌려줍니다. 남은 공간이 없거나 닫혔으면 -1 입니다.
+     * 성공했으면 쓰기를 마친 뒤 {@link #release()} 를 호출해야 합니다.
+     */
+    int reserve(int size) {
+        // 닫기와 경합할 때 close() 가 이 증가를 보거나, 이 스레드가 closed 를 보게 된다.
+        writers.incrementAndGet();
+        if (closed) {
+            writers.decrementAndGet();
+            return -1;
+        }
+        int offset = position.getAndAdd(size);
+        if (offset < 0 || offset > capacity - size) {
+            writers.decrementAndGet();
+            return -1;
+        }
+        return offset;
+    }
+
+    void release() {
+        writers.decrementAndGet();
+    }
+
+    /**
+     * 진행 중인 쓰기를 기다린 뒤 디스크에 내리고, 쓰지 않은 뒷부분을 잘라 냅니다.
+     */
+    void close() {
+        closed = true;
+        long deadline = System.nanoTime() + CLOSE_WAIT_NANOS;
+        while (writers.get() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        buffer.force();
+        try {
+            if (writers.get() == 0) {
+                // 매핑은 GC 때 풀리지만 이후로는 아무도 접근하지 않는다. 매핑된 파일을 자를 수 없는 OS 면 그대로 둔다.
+                channel.truncate(Math.min(position.get(), capacity));
+            }
+        } catch (IOException e) {
+            // 잘라 내지 못해도 뒷부분은 0 이므로 읽기에는 문제가 없다.
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 매핑된 버퍼는 채널과 별개로 유효하다.
+            }
+        }
+    }
+}
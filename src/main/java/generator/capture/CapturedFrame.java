@@ -0,0 +1,20 @@
+package generator.capture;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세그먼트 파일에서 읽은 프레임 하나입니다.
+ *
+ * @param timestampNanos 캡처 시작부터의 나노초
+ * @param headers        STOMP 네이티브 헤더 (destination, content-length 제외)
+ */
+public record CapturedFrame(
+        long timestampNanos,
+        FrameType type,
+        String sessionId,
+        String destination,
+        Map<String, List<String>> headers,
+        byte[] payload
+) {
+}
@@ -0,0 +1,39 @@
+package generator.capture;
+
+/**
+ * 기록하는 STOMP 프레임 종류입니다. 세그먼트 파일에는 {@link #code()} 한 바이트로 저장됩니다.
+ */
+public enum FrameType {
+
+    /**
+     * 클라이언트가 보낸 SEND (clientInboundChannel 의 MESSAGE)
+     */
+    SEND((byte) 0),
+    /**
+     * 클라이언트가 보낸 SUBSCRIBE
+     */
+    SUBSCRIBE((byte) 1),
+    /**
+     * 서버가 구독자에게 보낸 MESSAGE (clientOutboundChannel)
+     */
+    MESSAGE((byte) 2);
+
+    private static final FrameType[] BY_CODE = values();
+
+    private final byte code;
+
+    FrameType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static FrameType of(byte code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("알 수 없는 프레임 종류입니다: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
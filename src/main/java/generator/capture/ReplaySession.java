@@ -0,0 +1,109 @@
+package generator.capture;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+/**
+ * 기록된 세션 하나를 대신하는 STOMP 세션입니다.
+ * 기록을 시작하기 전부터 있던 구독은 연결 직후 다시 만듭니다.
+ */
+final class ReplaySession extends StompSessionHandlerAdapter {
+
+    private final Set<String> initialSubscriptions;
+    private final LongAdder received;
+    private final LongAdder errors;
+    private volatile StompSession session;
+
+    ReplaySession(Set<String> initialSubscriptions, LongAdder received, LongAdder errors) {
+        this.initialSubscriptions = initialSubscriptions;
+        this.received = received;
+        this.errors = errors;
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        initialSubscriptions.forEach(destination -> session.subscribe(destination, new MessageCounter()));
+        this.session = session;
+    }
+
+    boolean isConnected() {
+        StompSession current = session;
+        return current != null && current.isConnected();
+    }
+
+    boolean send(CapturedFrame frame) {
+        StompSession current = session;
+        if (current == null) {
+            return false;
+        }
+        StompHeaders headers = new StompHeaders();
+        for (Map.Entry<String, List<String>> header : frame.headers().entrySet()) {
+            if (!isReserved(header.getKey())) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+        headers.setDestination(frame.destination());
+        try {
+            current.send(headers, frame.payload());
+            return true;
+        } catch (RuntimeException e) {
+            errors.increment();
+            return false;
+        }
+    }
+
+    boolean subscribe(String destination) {
+        StompSession current = session;
+        if (current == null) {
+            return false;
+        }
+        current.subscribe(destination, new MessageCounter());
+        return true;
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+        errors.increment();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        errors.increment();
+    }
+
+    /**
+     * 재생하는 세션의 값으로 다시 정해지는 헤더입니다.
+     */
+    private static boolean isReserved(String name) {
+        return "receipt".equals(name) || "id".equals(name) || "subscription".equals(name)
+                || "message-id".equals(name) || "ack".equals(name);
+    }
+
+    private final class MessageCounter implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            received.increment();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package generator.capture;
+
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 사용자 STOMP 설정에 기록 인터셉터를 추가로 등록합니다. 기존 인터셉터는 그대로 유지됩니다.
+ */
+public class StompCaptureConfigurer implements WebSocketMessageBrokerConfigurer {
+
+    private final StompCaptureRecorder recorder;
+
+    public StompCaptureConfigurer(StompCaptureRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompCaptureInterceptor(recorder, true));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompCaptureInterceptor(recorder, false));
+    }
+}
@@ -0,0 +1,32 @@
+package generator.capture;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * clientInboundChannel 에서는 SEND, SUBSCRIBE 프레임을, clientOutboundChannel 에서는 MESSAGE 프레임을 기록합니다.
+ */
+public class StompCaptureInterceptor implements ChannelInterceptor {
+
+    private final StompCaptureRecorder recorder;
+    private final boolean inbound;
+
+    public StompCaptureInterceptor(StompCaptureRecorder recorder, boolean inbound) {
+        this.recorder = recorder;
+        this.inbound = inbound;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (messageType == SimpMessageType.MESSAGE) {
+            recorder.record(inbound ? FrameType.SEND : FrameType.MESSAGE, message);
+        } else if (inbound && messageType == SimpMessageType.SUBSCRIBE) {
+            recorder.record(FrameType.SUBSCRIBE, message);
+        }
+        return message;
+    }
+}
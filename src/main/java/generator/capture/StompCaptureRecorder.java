@@ -0,0 +1,209 @@
+package generator.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import generator.config.DocsProperties;
+import generator.metrics.DestinationIndex;
+import generator.spec.AsyncApiSpecProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+/**
+ * 문서화된 destination 의 STOMP 프레임을 메모리 매핑한 세그먼트 파일에 이어 씁니다.
+ * 실행마다 {@code directory/yyyyMMdd-HHmmss/} 아래에 {@code segment-00000.seg} 부터 만들고,
+ * {@code maxSegments} 를 다 채우거나 {@code maxDuration} 이 지나면 멈춥니다.
+ *
+ * <p>기록 경로는 잠금 없이 세그먼트의 구간을 잡고 문자열을 버퍼에 바로 인코딩하므로, 헤더 맵 순회 외에는 객체를 만들지 않습니다.
+ * 세그먼트가 찰 때만 잠금을 잡고 다음 파일을 엽니다.
+ */
+@Slf4j
+public class StompCaptureRecorder implements ApplicationListener<ApplicationReadyEvent>, AutoCloseable {
+
+    private static final DateTimeFormatter RUN_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final AsyncApiSpecProvider specProvider;
+    private final DocsProperties.Capture properties;
+    private final List<CaptureSegment> segments = new ArrayList<>();
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile DestinationIndex<String> index = DestinationIndex.empty();
+    private volatile CaptureSegment current;
+    private volatile Path directory;
+    private long startNanos;
+    private ScheduledExecutorService timer;
+
+    public StompCaptureRecorder(AsyncApiSpecProvider specProvider, DocsProperties.Capture properties) {
+        this.specProvider = specProvider;
+        this.properties = properties;
+    }
+
+    /**
+     * 메시지 스레드가 문서 생성을 기다리지 않도록 기동 직후 별도 스레드에서 채널 색인을 만들고 기록을 시작합니다.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        CompletableFuture.runAsync(this::start).exceptionally(error -> {
+            log.warn("STOMP 프레임 기록을 시작하지 못했습니다: {}", error.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * 현재 문서의 채널로 색인을 다시 만듭니다.
+     */
+    public void refresh() {
+        JsonNode channels = specProvider.get().getRoot().path("channels");
+        Map<String, String> templates = new LinkedHashMap<>();
+        channels.fieldNames().forEachRemaining(channel -> templates.put(channel, channel));
+        index = new DestinationIndex<>(templates);
+    }
+
+    public synchronized void start() {
+        if (current != null) {
+            return;
+        }
+        refresh();
+        Path run = Path.of(properties.getDirectory()).resolve(LocalDateTime.now().format(RUN_NAME));
+        try {
+            Files.createDirectories(run);
+            directory = run;
+            segments.clear();
+            startNanos = System.nanoTime();
+            current = openSegment();
+        } catch (IOException e) {
+            throw new IllegalStateException("기록 디렉터리를 만들 수 없습니다: " + run, e);
+        }
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "docs-capture-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.schedule(this::stop, properties.getMaxDuration().toMillis(), TimeUnit.MILLISECONDS);
+        log.info("STOMP 프레임 기록을 시작합니다: {} (최대 {})", run, properties.getMaxDuration());
+    }
+
+    public synchronized void stop() {
+        if (current == null) {
+            return;
+        }
+        current = null;
+        segments.forEach(CaptureSegment::close);
+        if (timer != null) {
+            timer.shutdownNow();
+            timer = null;
+        }
+        log.info("STOMP 프레임 기록을 마쳤습니다: {} ({}개 프레임, {} bytes, 버림 {}개)",
+                directory, frames.sum(), bytes.sum(), dropped.sum());
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    public void record(FrameType type, Message<?> message) {
+        CaptureSegment segment = current;
+        if (segment == null) {
+            return;
+        }
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || index.find(destination) == null) {
+            return;
+        }
+        long timestamp = System.nanoTime() - startNanos;
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> nativeHeaders =
+                (Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        Object payload = message.getPayload();
+        int size = CaptureFormat.recordSize(sessionId, destination, nativeHeaders, payload);
+        if (size < 0 || size > segment.capacity() - CaptureFormat.SEGMENT_HEADER_SIZE) {
+            dropped.increment();
+            return;
+        }
+        while (segment != null) {
+            int offset = segment.reserve(size);
+            if (offset >= 0) {
+                try {
+                    CaptureFormat.write(segment.buffer(), offset, size, timestamp, type, sessionId, destination, nativeHeaders, payload);
+                } finally {
+                    segment.release();
+                }
+                frames.increment();
+                bytes.add(size);
+                return;
+            }
+            segment = next(segment);
+        }
+        dropped.increment();
+    }
+
+    public boolean isRecording() {
+        return current != null;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getRecordedFrames() {
+        return frames.sum();
+    }
+
+    public long getRecordedBytes() {
+        return bytes.sum();
+    }
+
+    public long getDroppedFrames() {
+        return dropped.sum();
+    }
+
+    /**
+     * 가득 찬 세그먼트 다음 파일을 엽니다. 다른 스레드가 이미 열었으면 그 세그먼트를 돌려줍니다.
+     */
+    private synchronized CaptureSegment next(CaptureSegment full) {
+        if (current != full) {
+            return current;
+        }
+        if (segments.size() >= properties.getMaxSegments()) {
+            log.warn("세그먼트 {}개를 모두 채워 기록을 멈춥니다.", properties.getMaxSegments());
+            stop();
+            return null;
+        }
+        try {
+            current = openSegment();
+        } catch (IOException e) {
+            log.warn("세그먼트 파일을 만들 수 없어 기록을 멈춥니다: {}", e.getMessage());
+            stop();
+        }
+        return current;
+    }
+
+    private CaptureSegment openSegment() throws IOException {
+        int segmentIndex = segments.size();
+        Path path = directory.resolve(String.format("segment-%05d%s", segmentIndex, CaptureFormat.SEGMENT_SUFFIX));
+        CaptureSegment segment = CaptureSegment.create(path, Math.toIntExact(properties.getSegmentSize().toBytes()), segmentIndex);
+        segments.add(segment);
+        return segment;
+    }
+}
@@ -0,0 +1,87 @@
+package generator.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * 사용자 STOMP 설정에 CBOR/Smile 컨버터와 바이너리 프레임 전송을 추가합니다. 기본 컨버터(JSON 등)는 그대로 유지됩니다.
+ *
+ * <p>추가한 컨버터는 content-type 헤더가 그 형식일 때만 동작합니다. 클라이언트는 SEND 프레임의 content-type 으로 형식을 고르고,
+ * 서버는 {@code convertAndSend(destination, payload, Map.of("content-type", "application/cbor"))} 처럼 content-type 헤더를 넣어 보냅니다.
+ */
+@Slf4j
+public class BinaryCodecConfigurer implements WebSocketMessageBrokerConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    /**
+     * @param objectMapperBuilder 애플리케이션의 Jackson 설정(모듈, 날짜 형식 등)을 바이너리 형식에도 쓰기 위한 빌더
+     */
+    public BinaryCodecConfigurer(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // Spring Boot 의 JSON 컨버터는 content-type 이 없거나 달라도 변환하므로, 그보다 앞에 둔다.
+        int index = 0;
+        for (PayloadFormat format : PayloadFormat.values()) {
+            if (!format.isBinary()) {
+                continue;
+            }
+            if (!format.isAvailable()) {
+                log.debug("{} 모듈이 없어 컨버터를 추가하지 않습니다.", format.mimeType());
+                continue;
+            }
+            MappingJackson2MessageConverter converter = new BinaryMessageConverter(format.mimeType());
+            JsonFactory factory = format.mapper().getFactory().copy();
+            converter.setObjectMapper(objectMapperBuilder.factory(factory).build());
+            // content-type 이 없는 메시지는 기본 JSON 컨버터가 처리하도록 한다.
+            converter.setStrictContentTypeMatch(true);
+            messageConverters.add(index++, converter);
+        }
+        return true;
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(BinaryFrameHandlerDecorator::new);
+    }
+
+    /**
+     * {@code convertAndSend} 의 헤더 맵은 STOMP 네이티브 헤더가 되므로, contentType 헤더가 없으면 네이티브 content-type 을 봅니다.
+     */
+    private static final class BinaryMessageConverter extends MappingJackson2MessageConverter {
+
+        private BinaryMessageConverter(MimeType mimeType) {
+            super(mimeType);
+        }
+
+        @Override
+        protected MimeType getMimeType(MessageHeaders headers) {
+            MimeType mimeType = super.getMimeType(headers);
+            if (mimeType != null || headers == null) {
+                return mimeType;
+            }
+            String contentType = NativeMessageHeaderAccessor.getFirstNativeHeader("content-type", headers);
+            if (contentType == null) {
+                return null;
+            }
+            try {
+                return MimeType.valueOf(contentType);
+            } catch (InvalidMimeTypeException e) {
+                return null;
+            }
+        }
+    }
+}
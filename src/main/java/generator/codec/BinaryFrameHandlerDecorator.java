@@ -0,0 +1,97 @@
+package generator.codec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+/**
+ * CBOR/Smile 페이로드를 담은 STOMP 프레임을 바이너리 WebSocket 메시지로 보냅니다.
+ *
+ * <p>Spring 의 STOMP 핸들러는 content-type 이 application/octet-stream 일 때만 바이너리 메시지를 쓰고, 나머지는
+ * 텍스트 메시지로 보내므로 UTF-8 이 아닌 바이트가 깨집니다. 텍스트 메시지는 인코딩 전 프레임 바이트를 그대로 가지고 있으므로,
+ * 프레임 헤더의 content-type 이 바이너리 형식이면 같은 바이트를 바이너리 메시지로 바꿔 보냅니다.
+ * SockJS 는 바이너리 메시지를 보낼 수 없어 감싸지 않습니다.
+ */
+class BinaryFrameHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private static final byte[] CONTENT_TYPE = "content-type:".getBytes(StandardCharsets.US_ASCII);
+
+    BinaryFrameHandlerDecorator(WebSocketHandler delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        super.afterConnectionEstablished(session instanceof SockJsSession ? session : new BinaryFrameSession(session));
+    }
+
+    /**
+     * 명령 줄 다음부터 빈 줄까지의 헤더에서 content-type 을 찾습니다. 페이로드는 읽지 않습니다.
+     */
+    static boolean hasBinaryPayload(byte[] frame) {
+        int lineStart = indexOf(frame, (byte) '\n', 0) + 1;
+        while (lineStart > 0 && lineStart < frame.length) {
+            int lineEnd = indexOf(frame, (byte) '\n', lineStart);
+            if (lineEnd < 0) {
+                return false;
+            }
+            int end = lineEnd > lineStart && frame[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            if (end == lineStart) {
+                return false;
+            }
+            if (startsWith(frame, lineStart, CONTENT_TYPE)) {
+                String value = new String(frame, lineStart + CONTENT_TYPE.length, end - lineStart - CONTENT_TYPE.length, StandardCharsets.UTF_8);
+                return PayloadFormat.of(value).map(PayloadFormat::isBinary).orElse(false);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return false;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, byte[] prefix) {
+        if (bytes.length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class BinaryFrameSession extends WebSocketSessionDecorator {
+
+        private BinaryFrameSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (message instanceof TextMessage text) {
+                byte[] frame = text.asBytes();
+                if (hasBinaryPayload(frame)) {
+                    super.sendMessage(new BinaryMessage(frame));
+                    return;
+                }
+            }
+            super.sendMessage(message);
+        }
+    }
+}
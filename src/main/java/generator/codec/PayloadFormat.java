@@ -0,0 +1,119 @@
+package generator.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Optional;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+
+/**
+ * 문서에 적을 수 있는 페이로드 형식입니다.
+ * 바이너리 형식은 jackson-dataformat 모듈이 클래스패스에 있을 때만 쓸 수 있고, 컴파일 의존성은 없습니다.
+ */
+public enum PayloadFormat {
+
+    JSON("application/json", null),
+    CBOR("application/cbor", "com.fasterxml.jackson.dataformat.cbor.CBORFactory"),
+    SMILE("application/x-jackson-smile", "com.fasterxml.jackson.dataformat.smile.SmileFactory");
+
+    private final MimeType mimeType;
+    private final String factoryClassName;
+    private volatile ObjectMapper mapper;
+
+    PayloadFormat(String mimeType, String factoryClassName) {
+        this.mimeType = MimeType.valueOf(mimeType);
+        this.factoryClassName = factoryClassName;
+    }
+
+    /**
+     * content type 의 type/subtype 이 같은 형식을 찾습니다. 파라미터(charset 등)는 무시합니다.
+     */
+    public static Optional<PayloadFormat> of(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return of(MimeType.valueOf(contentType));
+        } catch (InvalidMimeTypeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<PayloadFormat> of(MimeType contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        for (PayloadFormat format : values()) {
+            if (format.mimeType.equalsTypeAndSubtype(contentType)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@link #of(String)} 중 지금 클래스패스에서 쓸 수 있는 형식입니다.
+     */
+    public static Optional<PayloadFormat> available(String contentType) {
+        return of(contentType).filter(PayloadFormat::isAvailable);
+    }
+
+    public MimeType mimeType() {
+        return mimeType;
+    }
+
+    public boolean isBinary() {
+        return factoryClassName != null;
+    }
+
+    public boolean isAvailable() {
+        return factoryClassName == null || ClassUtils.isPresent(factoryClassName, PayloadFormat.class.getClassLoader());
+    }
+
+    /**
+     * 이 형식으로 읽고 쓰는 ObjectMapper 입니다. 처음 부를 때 한 번 만듭니다.
+     *
+     * @throws IllegalStateException 형식 모듈이 클래스패스에 없을 때
+     */
+    public ObjectMapper mapper() {
+        ObjectMapper current = mapper;
+        if (current == null) {
+            synchronized (this) {
+                current = mapper;
+                if (current == null) {
+                    current = new ObjectMapper(createFactory());
+                    mapper = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 이 형식의 페이로드를 읽어 {@code target} 형식으로 다시 씁니다. 문서 페이지의 테스트 도구가 씁니다.
+     *
+     * @throws IOException 이 형식으로 읽을 수 없거나 비어 있을 때
+     */
+    public byte[] transcode(byte[] payload, PayloadFormat target) throws IOException {
+        JsonNode tree = mapper().readTree(payload);
+        if (tree == null || tree.isMissingNode()) {
+            throw new IOException("페이로드가 비어 있습니다.");
+        }
+        return target.mapper().writeValueAsBytes(tree);
+    }
+
+    private JsonFactory createFactory() {
+        if (factoryClassName == null) {
+            return new JsonFactory();
+        }
+        if (!isAvailable()) {
+            throw new IllegalStateException(mimeType + " 형식을 쓰려면 " + factoryClassName + " 가 필요합니다.");
+        }
+        Class<?> factoryClass = ClassUtils.resolveClassName(factoryClassName, PayloadFormat.class.getClassLoader());
+        return (JsonFactory) BeanUtils.instantiateClass(factoryClass);
+    }
+}
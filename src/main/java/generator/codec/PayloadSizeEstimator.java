@@ -0,0 +1,58 @@
+package generator.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import generator.load.PayloadSampler;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 메시지 스키마로 만든 예시 페이로드를 형식마다 인코딩해, 그 크기(바이트)를 메시지의 {@value #EXTENSION} 에 적습니다.
+ * 예시 값으로 잰 추정치이므로 실제 크기는 문자열 길이와 배열 원소 수에 따라 달라집니다.
+ *
+ * <pre>
+ * "x-payload-size": {"application/json": 57, "application/cbor": 41, "application/x-jackson-smile": 44}
+ * </pre>
+ */
+public final class PayloadSizeEstimator {
+
+    public static final String EXTENSION = "x-payload-size";
+
+    private PayloadSizeEstimator() {
+    }
+
+    /**
+     * components/messages 의 모든 메시지에 크기를 적습니다. 이미 있으면 다시 잽니다.
+     * 클래스패스에 없는 바이너리 형식은 건너뜁니다.
+     */
+    public static void annotate(ObjectNode document) {
+        JsonNode messages = document.path("components").path("messages");
+        if (!messages.isObject()) {
+            return;
+        }
+        PayloadSampler sampler = new PayloadSampler(document);
+        Iterator<Map.Entry<String, JsonNode>> entries = messages.fields();
+        while (entries.hasNext()) {
+            JsonNode message = entries.next().getValue();
+            if (!message.isObject() || !message.has("payload")) {
+                continue;
+            }
+            JsonNode example = sampler.sample(message.get("payload"));
+            ObjectNode sizes = ((ObjectNode) message).putObject(EXTENSION);
+            for (PayloadFormat format : PayloadFormat.values()) {
+                if (format.isAvailable()) {
+                    sizes.put(format.mimeType().toString(), encodedSize(format, example));
+                }
+            }
+        }
+    }
+
+    private static int encodedSize(PayloadFormat format, JsonNode example) {
+        try {
+            return format.mapper().writeValueAsBytes(example).length;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예시 페이로드를 " + format.mimeType() + " 로 인코딩하지 못했습니다.", e);
+        }
+    }
+}
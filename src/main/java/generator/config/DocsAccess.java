@@ -0,0 +1,20 @@
+package generator.config;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 문서 기능({@code websocket.docs.enabled})이 꺼져 있을 때 문서 경로가 404 로 응답하도록 확인합니다.
+ * MVC 컨트롤러와 WebFlux 라우트가 함께 씁니다.
+ */
+public final class DocsAccess {
+
+    private DocsAccess() {
+    }
+
+    public static void checkEnabled(DocsProperties properties) {
+        if (!properties.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "문서 생성 기능이 비활성화되어 있습니다.");
+        }
+    }
+}
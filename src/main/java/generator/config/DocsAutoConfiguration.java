@@ -1,22 +1,499 @@
 package generator.config;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import generator.AsyncApiGenerator;
+import generator.aggregate.SpecAggregator;
+import generator.aot.AsyncApiAotProcessor;
+import generator.assets.DocsAssetsConfigurer;
+import generator.assets.ReactiveDocsAssetsConfigurer;
+import generator.capture.StompCaptureConfigurer;
+import generator.codec.BinaryCodecConfigurer;
+import generator.capture.StompCaptureRecorder;
+import generator.controller.AggregatedDocsController;
+import generator.controller.DocsAggregatorController;
+import generator.controller.DocsApiController;
+import generator.controller.DocsCodecController;
 import generator.controller.DocsController;
+import generator.controller.DocsEventsController;
+import generator.controller.DocsFanoutController;
+import generator.controller.DocsLimitsController;
+import generator.controller.DocsMetricsController;
+import generator.controller.DocsValidationController;
+import generator.fanout.SubscriptionFanout;
+import generator.fanout.SubscriptionFanoutConfigurer;
+import generator.incremental.ClassChangeWatcher;
+import generator.limit.MessageLimitConfigurer;
+import generator.limit.MessageLimiter;
+import generator.metrics.TrafficMetrics;
+import generator.metrics.TrafficMetricsConfigurer;
+import generator.model.EndpointDiscovery;
+import generator.model.HandlerMethodEndpointDiscovery;
+import generator.model.ReflectionsEndpointDiscovery;
+import generator.query.DocsQueryService;
+import generator.serialization.WireTypeWarmer;
+import generator.reactive.ReactiveDocsCodec;
+import generator.reactive.ReactiveDocsEvents;
+import generator.reactive.ReactiveDocsHandler;
+import generator.spec.AsyncApiSpecProvider;
+import generator.spec.PrebuiltSpecLoader;
+import generator.stats.AsyncApiActuatorEndpoint;
+import generator.stats.GenerationMeterBinder;
+import generator.stats.GenerationStats;
+import generator.validation.PayloadValidationConfigurer;
+import generator.validation.PayloadValidator;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 @AutoConfiguration
 @EnableConfigurationProperties(DocsProperties.class)
 public class DocsAutoConfiguration {
 
     @Bean
-    public AsyncApiGenerator asyncApiGenerator(DocsProperties properties) {
-        return new AsyncApiGenerator(properties);
+    public GenerationStats docsGenerationStats() {
+        return new GenerationStats();
     }
 
+    /**
+     * 실제 탐색은 첫 문서 생성 시점에 수행합니다. 그때는 STOMP 핸들러 레지스트리가 이미 채워져 있습니다.
+     */
     @Bean
-    public DocsController docsController(AsyncApiGenerator generator, DocsProperties properties) {
-        return new DocsController(generator, properties);
+    public EndpointDiscovery endpointDiscovery(
+            DocsProperties properties,
+            ListableBeanFactory beanFactory,
+            ObjectProvider<SimpAnnotationMethodMessageHandler> messageHandler,
+            GenerationStats stats
+    ) {
+        return () -> selectDiscovery(properties, beanFactory, messageHandler, stats).discover();
+    }
+
+    @Bean
+    public AsyncApiGenerator asyncApiGenerator(
+            DocsProperties properties,
+            EndpointDiscovery endpointDiscovery,
+            GenerationStats stats
+    ) {
+        return new AsyncApiGenerator(properties, endpointDiscovery, stats);
+    }
+
+    @Bean
+    public AsyncApiSpecProvider asyncApiSpecProvider(
+            AsyncApiGenerator generator,
+            DocsProperties properties,
+            ResourceLoader resourceLoader,
+            GenerationStats stats,
+            ObjectProvider<SimpAnnotationMethodMessageHandler> messageHandler
+    ) {
+        // 여러 인스턴스를 합친 문서는 SpecAggregator 가 따로 가진다. 이 빈은 항상 이 애플리케이션의 문서다.
+        return new AsyncApiSpecProvider(localDocument(generator, properties, resourceLoader, messageHandler), stats);
+    }
+
+    private Supplier<? extends JsonNode> localDocument(
+            AsyncApiGenerator generator,
+            DocsProperties properties,
+            ResourceLoader resourceLoader,
+            ObjectProvider<SimpAnnotationMethodMessageHandler> messageHandler
+    ) {
+        // 개발 모드는 클래스가 바뀌면 문서를 다시 만들어야 하므로 빌드 때 만든 문서를 쓰지 않는다. AOT 처리기도 같은 조건으로 건너뛴다.
+        if (properties.getDev().isEnabled()) {
+            return generator::generateAsyncapi;
+        }
+        Supplier<String> appPath = () -> runtimeAppPath(properties, messageHandler);
+        // Spring AOT 로 빌드했으면 AOT 처리 시점에 만든 문서를 쓴다. 스키마 모드와 무관하게 런타임 설정으로 만든 문서다.
+        if (AotDetector.useGeneratedArtifacts()) {
+            Resource aotSpec = resourceLoader.getResource("classpath:" + AsyncApiAotProcessor.SPEC_RESOURCE);
+            if (aotSpec.exists()) {
+                return new PrebuiltSpecLoader(aotSpec, properties, appPath);
+            }
+        }
+        // 어노테이션 프로세서는 INLINE 스키마만 만들므로 SHARED 모드에서는 런타임에 생성한다.
+        if (properties.getPrebuilt().isEnabled() && properties.getSchemaMode() == DocsProperties.SchemaMode.INLINE) {
+            Resource prebuilt = resourceLoader.getResource(properties.getPrebuilt().getLocation());
+            if (prebuilt.exists()) {
+                return new PrebuiltSpecLoader(prebuilt, properties, appPath);
+            }
+        }
+        return generator::generateAsyncapi;
+    }
+
+    /**
+     * 런타임 생성기와 같은 순서로 정합니다. 설정값, STOMP 핸들러의 prefix, /app 순서입니다.
+     */
+    private static String runtimeAppPath(
+            DocsProperties properties,
+            ObjectProvider<SimpAnnotationMethodMessageHandler> messageHandler
+    ) {
+        if (StringUtils.hasText(properties.getAppPath())) {
+            return properties.getAppPath();
+        }
+        SimpAnnotationMethodMessageHandler handler = messageHandler.getIfUnique();
+        String prefix = handler != null ? HandlerMethodEndpointDiscovery.appDestinationPrefix(handler) : null;
+        return prefix != null ? prefix : "/app";
+    }
+
+    @Bean
+    public DocsQueryService docsQueryService(AsyncApiSpecProvider specProvider) {
+        return new DocsQueryService(specProvider);
+    }
+
+    private EndpointDiscovery selectDiscovery(
+            DocsProperties properties,
+            ListableBeanFactory beanFactory,
+            ObjectProvider<SimpAnnotationMethodMessageHandler> messageHandler,
+            GenerationStats stats
+    ) {
+        if (properties.getDiscovery() != DocsProperties.Discovery.REFLECTIONS) {
+            SimpAnnotationMethodMessageHandler handler = messageHandler.getIfUnique();
+            if (handler != null) {
+                return new HandlerMethodEndpointDiscovery(handler, beanFactory, stats);
+            }
+            if (properties.getDiscovery() == DocsProperties.Discovery.HANDLER_METHODS) {
+                throw new IllegalStateException("SimpAnnotationMethodMessageHandler 빈을 찾을 수 없습니다. @EnableWebSocketMessageBroker 설정을 확인하세요.");
+            }
+        }
+        List<String> basePackages = properties.basePackageList();
+        if (basePackages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            basePackages = AutoConfigurationPackages.get(beanFactory);
+        }
+        return new ReflectionsEndpointDiscovery(basePackages, stats);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletDocsConfiguration {
+
+        @Bean
+        public DocsController docsController(
+                AsyncApiSpecProvider specProvider,
+                DocsProperties properties,
+                ObjectProvider<ResourceUrlProvider> resourceUrlProvider
+        ) {
+            return new DocsController(specProvider, properties, resourceUrlProvider.getIfAvailable());
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "websocket.docs", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public DocsAssetsConfigurer docsAssetsConfigurer() {
+            return new DocsAssetsConfigurer();
+        }
+
+        @Bean
+        public DocsApiController docsApiController(DocsQueryService queryService, DocsProperties properties) {
+            return new DocsApiController(queryService, properties);
+        }
+    }
+
+    /**
+     * WebFlux 애플리케이션에서는 같은 경로를 함수형 라우트로 제공합니다. 문서는 이벤트 루프를 막지 않도록 한 번 생성해 캐시합니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(RouterFunction.class)
+    static class ReactiveDocsConfiguration {
+
+        @Bean
+        public ReactiveDocsHandler reactiveDocsHandler(
+                AsyncApiSpecProvider specProvider,
+                DocsQueryService queryService,
+                DocsProperties properties,
+                ObjectProvider<org.springframework.web.reactive.resource.ResourceUrlProvider> resourceUrlProvider
+        ) {
+            return new ReactiveDocsHandler(specProvider, queryService, properties, resourceUrlProvider.getIfAvailable());
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "websocket.docs", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public ReactiveDocsAssetsConfigurer reactiveDocsAssetsConfigurer() {
+            return new ReactiveDocsAssetsConfigurer();
+        }
+
+        @Bean
+        public RouterFunction<ServerResponse> docsRouterFunction(ReactiveDocsHandler handler) {
+            return handler.routes();
+        }
+    }
+
+    /**
+     * Micrometer 가 있으면 생성 단계별 타이머와 문서 크기 게이지를 등록합니다. MeterBinder 빈은 Spring Boot 가 레지스트리에 연결합니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class GenerationMetricsConfiguration {
+
+        @Bean
+        public GenerationMeterBinder docsGenerationMeterBinder(GenerationStats stats) {
+            return new GenerationMeterBinder(stats);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+    static class ActuatorEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        public AsyncApiActuatorEndpoint asyncApiActuatorEndpoint(AsyncApiSpecProvider specProvider, GenerationStats stats) {
+            return new AsyncApiActuatorEndpoint(specProvider, stats);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebSocketMessageBrokerConfigurer.class)
+    @ConditionalOnProperty(prefix = "websocket.docs.metrics", name = "enabled", havingValue = "true")
+    static class TrafficMetricsConfiguration {
+
+        @Bean
+        public TrafficMetrics trafficMetrics(AsyncApiSpecProvider specProvider) {
+            TrafficMetrics trafficMetrics = new TrafficMetrics(specProvider);
+            // 문서가 갱신되면 새 채널 목록으로 색인을 다시 만든다.
+            specProvider.addListener((previous, current) -> trafficMetrics.refresh());
+            return trafficMetrics;
+        }
+
+        @Bean
+        public TrafficMetricsConfigurer trafficMetricsConfigurer(TrafficMetrics trafficMetrics) {
+            return new TrafficMetricsConfigurer(trafficMetrics);
+        }
+
+        @Bean
+        public DocsMetricsController docsMetricsController(TrafficMetrics trafficMetrics, DocsProperties properties) {
+            return new DocsMetricsController(trafficMetrics, properties);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebSocketMessageBrokerConfigurer.class)
+    @ConditionalOnProperty(prefix = "websocket.docs.fanout", name = "enabled", havingValue = "true")
+    static class FanoutConfiguration {
+
+        @Bean
+        public SubscriptionFanout subscriptionFanout(
+                DocsQueryService queryService,
+                AsyncApiSpecProvider specProvider,
+                ObjectProvider<SimpUserRegistry> userRegistry
+        ) {
+            SubscriptionFanout fanout = new SubscriptionFanout(queryService, userRegistry);
+            // 문서가 갱신되면 새 topic 목록으로 색인을 다시 만든다.
+            specProvider.addListener((previous, current) -> fanout.refresh());
+            return fanout;
+        }
+
+        @Bean
+        public SubscriptionFanoutConfigurer subscriptionFanoutConfigurer(SubscriptionFanout fanout) {
+            return new SubscriptionFanoutConfigurer(fanout);
+        }
+
+        @Bean
+        public DocsFanoutController docsFanoutController(SubscriptionFanout fanout, DocsProperties properties) {
+            return new DocsFanoutController(fanout, properties);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebSocketMessageBrokerConfigurer.class)
+    @ConditionalOnExpression("'${websocket.docs.validation.mode:off}'.toLowerCase() != 'off'")
+    static class ValidationConfiguration {
+
+        @Bean
+        public PayloadValidator payloadValidator(AsyncApiSpecProvider specProvider, DocsProperties properties) {
+            PayloadValidator validator = new PayloadValidator(specProvider, properties.getValidation());
+            // 문서가 갱신되면 새 스키마로 검증기를 다시 만든다.
+            specProvider.addListener((previous, current) -> validator.refresh());
+            return validator;
+        }
+
+        @Bean
+        public PayloadValidationConfigurer payloadValidationConfigurer(PayloadValidator validator) {
+            return new PayloadValidationConfigurer(validator);
+        }
+
+        @Bean
+        public DocsValidationController docsValidationController(PayloadValidator validator, DocsProperties properties) {
+            return new DocsValidationController(validator, properties);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebSocketMessageBrokerConfigurer.class)
+    @ConditionalOnProperty(prefix = "websocket.docs.limits", name = "enabled", havingValue = "true")
+    static class LimitsConfiguration {
+
+        @Bean
+        public MessageLimiter messageLimiter(AsyncApiSpecProvider specProvider) {
+            MessageLimiter limiter = new MessageLimiter(specProvider);
+            // 문서가 갱신되면 새 한도로 다시 읽는다.
+            specProvider.addListener((previous, current) -> limiter.refresh());
+            return limiter;
+        }
+
+        @Bean
+        public MessageLimitConfigurer messageLimitConfigurer(MessageLimiter limiter, DocsProperties properties) {
+            return new MessageLimitConfigurer(limiter, properties.getLimits().getAction());
+        }
+
+        @Bean
+        public DocsLimitsController docsLimitsController(MessageLimiter limiter, DocsProperties properties) {
+            return new DocsLimitsController(limiter, properties);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebSocketMessageBrokerConfigurer.class)
+    @ConditionalOnProperty(prefix = "websocket.docs.serialization", name = "enabled", havingValue = "true")
+    static class SerializationConfiguration {
+
+        @Bean
+        public WireTypeWarmer wireTypeWarmer(
+                ObjectProvider<CompositeMessageConverter> brokerMessageConverter,
+                AsyncApiGenerator generator,
+                DocsProperties properties
+        ) {
+            return new WireTypeWarmer(brokerMessageConverter, generator, properties.getSerialization());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebSocketMessageBrokerConfigurer.class)
+    @ConditionalOnProperty(prefix = "websocket.docs.codec", name = "enabled", havingValue = "true")
+    static class CodecConfiguration {
+
+        @Bean
+        public BinaryCodecConfigurer binaryCodecConfigurer(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+            return new BinaryCodecConfigurer(objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::new));
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public DocsCodecController docsCodecController(DocsProperties properties) {
+            return new DocsCodecController(properties);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebSocketMessageBrokerConfigurer.class)
+    @ConditionalOnProperty(prefix = "websocket.docs.capture", name = "enabled", havingValue = "true")
+    static class CaptureConfiguration {
+
+        @Bean
+        public StompCaptureRecorder stompCaptureRecorder(AsyncApiSpecProvider specProvider, DocsProperties properties) {
+            StompCaptureRecorder recorder = new StompCaptureRecorder(specProvider, properties.getCapture());
+            specProvider.addListener((previous, current) -> recorder.refresh());
+            return recorder;
+        }
+
+        @Bean
+        public StompCaptureConfigurer stompCaptureConfigurer(StompCaptureRecorder recorder) {
+            return new StompCaptureConfigurer(recorder);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "websocket.docs.aggregator", name = "enabled", havingValue = "true")
+    static class AggregatorConfiguration {
+
+        @Bean
+        public SpecAggregator specAggregator(DocsProperties properties, AsyncApiSpecProvider specProvider) {
+            SpecAggregator aggregator = new SpecAggregator(properties, specProvider);
+            // 이 애플리케이션의 문서가 갱신되면 합친 문서도 다음 요청에서 다시 만든다.
+            specProvider.addListener((previous, current) -> aggregator.mergedSpec().invalidate());
+            return aggregator;
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public DocsAggregatorController docsAggregatorController(SpecAggregator aggregator, DocsProperties properties) {
+            return new DocsAggregatorController(aggregator, properties);
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public AggregatedDocsController aggregatedDocsController(
+                SpecAggregator aggregator,
+                DocsProperties properties,
+                ObjectProvider<ResourceUrlProvider> resourceUrlProvider
+        ) {
+            return new AggregatedDocsController(aggregator, properties, resourceUrlProvider.getIfAvailable());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "websocket.docs.dev", name = "enabled", havingValue = "true")
+    static class DevConfiguration {
+
+        @Bean
+        public ClassChangeWatcher classChangeWatcher(
+                AsyncApiGenerator generator,
+                AsyncApiSpecProvider specProvider,
+                DocsProperties properties
+        ) {
+            return new ClassChangeWatcher(generator, specProvider, properties.getDev().getWatchInterval());
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public DocsEventsController docsEventsController(AsyncApiSpecProvider specProvider, DocsProperties properties) {
+            DocsEventsController controller = new DocsEventsController(specProvider, properties);
+            specProvider.addListener(controller);
+            return controller;
+        }
+    }
+
+    /**
+     * WebFlux 애플리케이션에는 STOMP 브로커 컨버터가 없으므로 테스트 도구용 변환 라우트만 등록합니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "websocket.docs.codec", name = "enabled", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(RouterFunction.class)
+    static class ReactiveCodecConfiguration {
+
+        @Bean
+        public RouterFunction<ServerResponse> docsCodecRouterFunction(DocsProperties properties) {
+            return new ReactiveDocsCodec(properties).routes();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "websocket.docs.dev", name = "enabled", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(RouterFunction.class)
+    static class ReactiveDevConfiguration {
+
+        @Bean
+        public ReactiveDocsEvents reactiveDocsEvents(AsyncApiSpecProvider specProvider, DocsProperties properties) {
+            ReactiveDocsEvents events = new ReactiveDocsEvents(specProvider, properties);
+            specProvider.addListener(events);
+            return events;
+        }
+
+        @Bean
+        public RouterFunction<ServerResponse> docsEventsRouterFunction(ReactiveDocsEvents events) {
+            return events.routes();
+        }
     }
 }
@@ -1,7 +1,13 @@
 package generator.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 @Data
 @ConfigurationProperties(prefix = "websocket.docs")
@@ -9,10 +15,40 @@ public class DocsProperties {
 
     private boolean enabled = true;
     private Info info = new Info();
+    private Discovery discovery = Discovery.AUTO;
     private String basePackage = "";
-    private String appPath = "/app";
+    private String appPath;
     private String topicPath = "/topic";
     private String serverUrl = "";
+    private SchemaMode schemaMode = SchemaMode.INLINE;
+    /**
+     * 문서의 defaultContentType 입니다. {@code @Operation}, {@code @MessageResponse} 에 contentType 이 없는 메시지는 이 형식입니다.
+     */
+    private String defaultContentType = "application/json";
+    /**
+     * 스키마 생성에 쓸 스레드 수입니다. 0이면 CPU 코어 수, 1이면 순차 생성합니다.
+     */
+    private int schemaParallelism = 0;
+    private Prebuilt prebuilt = new Prebuilt();
+    private Metrics metrics = new Metrics();
+    private Fanout fanout = new Fanout();
+    private Dev dev = new Dev();
+    private Capture capture = new Capture();
+    private Validation validation = new Validation();
+    private Limits limits = new Limits();
+    private Serialization serialization = new Serialization();
+    private Codec codec = new Codec();
+    private Aggregator aggregator = new Aggregator();
+
+    /**
+     * 콤마로 구분된 basePackage 목록입니다.
+     */
+    public List<String> basePackageList() {
+        return Arrays.stream(StringUtils.commaDelimitedListToStringArray(basePackage))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+    }
 
     @Data
     public static class Info {
@@ -20,4 +56,181 @@ public class DocsProperties {
         private String version = "1.0.0";
         private String description = "WebSocket API 명세서";
     }
+
+    @Data
+    public static class Prebuilt {
+        /**
+         * 어노테이션 프로세서가 만든 문서가 있으면 런타임 생성 대신 사용합니다.
+         * 같은 프로세서로 빌드한 의존성 jar 에도 같은 이름의 파일이 있을 수 있으므로 직접 켜야 합니다.
+         */
+        private boolean enabled = false;
+        private String location = "classpath:META-INF/websocket-docs/asyncapi.json";
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 문서화된 채널별 메시지 수, 초당 처리량, 페이로드 크기, 핸들러 처리 시간을 기록합니다.
+         */
+        private boolean enabled = false;
+    }
+
+    @Data
+    public static class Fanout {
+        /**
+         * 문서화된 topic 별 구독 수와 초당 전달 수, 전달 크기를 기록합니다.
+         * 구독 수는 구독/해제 이벤트로 유지하고, 기동 시점의 구독은 SimpUserRegistry 에서 가져옵니다.
+         */
+        private boolean enabled = false;
+    }
+
+    @Data
+    public static class Dev {
+        /**
+         * 개발 중 클래스가 바뀌면 영향받는 스키마만 다시 만들고, 문서 페이지에 SSE 로 알립니다.
+         * 켜져 있으면 미리 생성된 문서(prebuilt, AOT)는 쓰지 않습니다.
+         */
+        private boolean enabled = false;
+        private Duration watchInterval = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Capture {
+        /**
+         * 문서화된 destination 의 SEND, SUBSCRIBE, MESSAGE 프레임을 메모리 매핑 세그먼트 파일에 기록합니다.
+         * 기동 후 maxDuration 동안만 기록하며, 재생은 {@code generator.capture.CaptureReplayMain} 으로 합니다.
+         */
+        private boolean enabled = false;
+        private String directory = "stomp-capture";
+        /**
+         * 세그먼트 파일 하나의 크기 (2GB 미만), 파일은 이 크기로 미리 잡고 기록을 마치면 잘라 냅니다.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(16);
+        private int maxSegments = 16;
+        private Duration maxDuration = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Validation {
+        /**
+         * 클라이언트가 보낸 페이로드를 문서의 스키마로 검증하고 채널별 위반 건수를 기록합니다. 메시지는 막지 않습니다.
+         */
+        private ValidationMode mode = ValidationMode.OFF;
+        /**
+         * SAMPLED 모드에서 검증할 메시지 비율 (%), 0.01 단위
+         */
+        private double samplePercent = 1.0;
+    }
+
+    @Data
+    public static class Limits {
+        /**
+         * {@code @MessageLimit}으로 문서에 적은 세션당 속도/크기 한도를 clientInboundChannel 에서 적용합니다.
+         */
+        private boolean enabled = false;
+        private LimitAction action = LimitAction.DROP;
+    }
+
+    @Data
+    public static class Serialization {
+        /**
+         * 기동 직후 STOMP 브로커 컨버터의 ObjectMapper 에서 메시지 타입의 직렬화기를 미리 만듭니다.
+         * 타입마다 첫 메시지의 지연만 줄어듭니다.
+         */
+        private boolean enabled = false;
+        /**
+         * jackson-module-blackbird 가 클래스패스에 있으면 브로커 컨버터에만 ObjectMapper 복사본을 주고 거기에 등록합니다.
+         */
+        private boolean blackbird = true;
+    }
+
+    @Data
+    public static class Codec {
+        /**
+         * STOMP 브로커에 CBOR/Smile 컨버터를 추가하고, 이 형식의 프레임을 바이너리 WebSocket 메시지로 보냅니다.
+         * jackson-dataformat-cbor, jackson-dataformat-smile 중 클래스패스에 있는 형식만 추가합니다.
+         */
+        private boolean enabled = false;
+        /**
+         * 테스트 도구용 {@code /docs/api/codec/encode|decode} 요청 본문의 최대 크기, 넘으면 413 을 돌려줍니다.
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+    }
+
+    @Data
+    public static class Aggregator {
+        /**
+         * 다른 인스턴스들의 문서를 받아 하나로 합쳐 {@code /docs/aggregate} 아래에 제공합니다. 이 애플리케이션의 문서는 그대로입니다.
+         * 문서마다 채널, 오퍼레이션 이름 앞에 {@code name:}, 메시지, 스키마 이름 앞에 {@code name.}을 붙입니다.
+         */
+        private boolean enabled = false;
+        private List<Peer> peers = new ArrayList<>();
+        /**
+         * 합친 문서를 재사용하는 시간입니다. 지나면 ETag 조건부 요청을 보내고, 바뀐 문서가 있을 때만 다시 합칩니다.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration timeout = Duration.ofSeconds(5);
+        /**
+         * 합친 문서에서 이 애플리케이션의 문서에 붙일 이름입니다. 비우면 local 을 씁니다.
+         */
+        private String localName = "local";
+
+        @Data
+        public static class Peer {
+            private String name;
+            /**
+             * 문서 URL (예: http://orders:8080/docs/asyncapi.json)
+             */
+            private String url;
+        }
+    }
+
+    public enum Discovery {
+        /**
+         * STOMP 핸들러 레지스트리를 우선 사용하고, 없으면 Reflections로 스캔합니다.
+         */
+        AUTO,
+        /**
+         * {@code SimpAnnotationMethodMessageHandler}에 등록된 핸들러 메소드만 사용합니다.
+         */
+        HANDLER_METHODS,
+        /**
+         * basePackage를 Reflections로 스캔합니다.
+         */
+        REFLECTIONS
+    }
+
+    public enum SchemaMode {
+        /**
+         * 페이로드 스키마마다 중첩 DTO를 모두 펼쳐서 넣습니다.
+         */
+        INLINE,
+        /**
+         * 모든 객체 타입을 components/schemas 에 한 번만 정의하고 $ref 로 참조합니다.
+         */
+        SHARED
+    }
+
+    public enum LimitAction {
+        /**
+         * 한도를 넘은 메시지를 조용히 버립니다.
+         */
+        DROP,
+        /**
+         * 한도를 넘은 메시지를 버리고 클라이언트에 ERROR 프레임을 보냅니다. 대부분의 STOMP 클라이언트는 연결을 끊습니다.
+         */
+        ERROR
+    }
+
+    public enum ValidationMode {
+        OFF,
+        /**
+         * {@code sample-percent} 비율의 메시지만 검증합니다.
+         */
+        SAMPLED,
+        /**
+         * 모든 메시지를 검증합니다.
+         */
+        FULL
+    }
 }
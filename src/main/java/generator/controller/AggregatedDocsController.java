@@ -0,0 +1,117 @@
+package generator.controller;
+
+import generator.aggregate.SpecAggregator;
+import generator.assets.DocsAssets;
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import generator.query.DocsOverview;
+import generator.query.DocsQueryService;
+import generator.query.OperationDetail;
+import generator.query.OperationPage;
+import generator.query.SchemaDetail;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+/**
+ * 여러 인스턴스의 문서를 합친 문서를 {@code /docs/aggregate} 아래에 제공합니다. 페이지와 조회 API는
+ * {@code /docs}, {@code /docs/api}와 같은 형식이고, {@code /docs/asyncapi.json}은 계속 이 애플리케이션의 문서입니다.
+ * {@code websocket.docs.aggregator.enabled=true} 일 때만 등록됩니다.
+ */
+@Controller
+@RequestMapping("/docs/aggregate")
+public class AggregatedDocsController {
+
+    private static final String API_BASE = "/docs/aggregate/api";
+
+    private final SpecAggregator aggregator;
+    private final DocsQueryService queryService;
+    private final DocsProperties properties;
+    // 없으면 자원을 해시 없는 경로로 참조한다.
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    public AggregatedDocsController(SpecAggregator aggregator, DocsProperties properties, ResourceUrlProvider resourceUrlProvider) {
+        this.aggregator = aggregator;
+        this.queryService = new DocsQueryService(aggregator.mergedSpec());
+        this.properties = properties;
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    /**
+     * {@code /docs}와 같은 페이지를 합친 문서의 조회 API로 엽니다. 지표, 팬아웃처럼 이 애플리케이션에만 있는 정보는 표시하지 않습니다.
+     */
+    @GetMapping
+    public String docsPage(Model model) {
+        DocsAccess.checkEnabled(properties);
+        model.addAttribute("websocketUrl", properties.getServerUrl());
+        model.addAttribute("assets", DocsAssets.urls(resourceUrlProvider != null ? resourceUrlProvider::getForLookupPath : null));
+        model.addAttribute("docsApi", API_BASE);
+        return "docs";
+    }
+
+    @GetMapping("/asyncapi.yaml")
+    public ResponseEntity<StreamingResponseBody> asyncApiYaml(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        DocsAccess.checkEnabled(properties);
+        return SpecResponses.stream(aggregator.mergedSpec().get().getYaml(), SpecResponses.APPLICATION_YAML, acceptEncoding, request);
+    }
+
+    @GetMapping("/asyncapi.json")
+    public ResponseEntity<StreamingResponseBody> asyncApiJson(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        DocsAccess.checkEnabled(properties);
+        return SpecResponses.stream(aggregator.mergedSpec().get().getJson(), MediaType.APPLICATION_JSON, acceptEncoding, request);
+    }
+
+    @GetMapping("/api/overview")
+    @ResponseBody
+    public DocsOverview overview() {
+        DocsAccess.checkEnabled(properties);
+        return queryService.overview();
+    }
+
+    @GetMapping("/api/operations")
+    @ResponseBody
+    public OperationPage operations(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DocsQueryService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String messageType
+    ) {
+        DocsAccess.checkEnabled(properties);
+        return queryService.operations(page, size, prefix, messageType);
+    }
+
+    @GetMapping("/api/operations/detail")
+    @ResponseBody
+    public OperationDetail operation(@RequestParam String id) {
+        DocsAccess.checkEnabled(properties);
+        return queryService.operation(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "오퍼레이션을 찾을 수 없습니다: " + id));
+    }
+
+    @GetMapping("/api/schemas/detail")
+    @ResponseBody
+    public SchemaDetail schema(@RequestParam String name) {
+        DocsAccess.checkEnabled(properties);
+        return queryService.schema(name)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "스키마를 찾을 수 없습니다: " + name));
+    }
+
+}
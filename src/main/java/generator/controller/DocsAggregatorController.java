@@ -0,0 +1,28 @@
+package generator.controller;
+
+import generator.aggregate.PeerSnapshot;
+import generator.aggregate.SpecAggregator;
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 문서를 모아 오는 인스턴스별 상태(ETag, 200/304 응답 수, 마지막 오류)를 제공합니다.
+ * {@code websocket.docs.aggregator.enabled=true} 일 때만 등록됩니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class DocsAggregatorController {
+
+    private final SpecAggregator aggregator;
+    private final DocsProperties properties;
+
+    @GetMapping("/docs/api/aggregator")
+    public List<PeerSnapshot> peers() {
+        DocsAccess.checkEnabled(properties);
+        return aggregator.snapshot();
+    }
+}
@@ -0,0 +1,63 @@
+package generator.controller;
+
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import generator.query.DocsOverview;
+import generator.query.DocsQueryService;
+import generator.query.OperationDetail;
+import generator.query.OperationPage;
+import generator.query.SchemaDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 문서 페이지가 필요한 부분만 받아 가는 조회 API입니다.
+ */
+@RestController
+@RequestMapping("/docs/api")
+@RequiredArgsConstructor
+public class DocsApiController {
+
+    private final DocsQueryService queryService;
+    private final DocsProperties properties;
+
+    @GetMapping("/overview")
+    public DocsOverview overview() {
+        DocsAccess.checkEnabled(properties);
+        return queryService.overview();
+    }
+
+    @GetMapping("/operations")
+    public OperationPage operations(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DocsQueryService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String messageType
+    ) {
+        DocsAccess.checkEnabled(properties);
+        return queryService.operations(page, size, prefix, messageType);
+    }
+
+    /**
+     * 오퍼레이션 키에 / 가 들어 있으므로 경로 변수 대신 쿼리 파라미터로 받습니다.
+     */
+    @GetMapping("/operations/detail")
+    public OperationDetail operation(@RequestParam String id) {
+        DocsAccess.checkEnabled(properties);
+        return queryService.operation(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "오퍼레이션을 찾을 수 없습니다: " + id));
+    }
+
+    @GetMapping("/schemas/detail")
+    public SchemaDetail schema(@RequestParam String name) {
+        DocsAccess.checkEnabled(properties);
+        return queryService.schema(name)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "스키마를 찾을 수 없습니다: " + name));
+    }
+
+}
@@ -0,0 +1,73 @@
+package generator.controller;
+
+import generator.codec.PayloadFormat;
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 테스트 도구가 바이너리 형식(CBOR, Smile)으로 주고받을 페이로드를 JSON 과 서로 바꿉니다.
+ * {@code websocket.docs.codec.enabled=true} 일 때만 등록되며, 요청 본문은 {@code codec.max-body-size} 까지만 읽습니다.
+ */
+@RestController
+@RequestMapping("/docs/api/codec")
+@RequiredArgsConstructor
+public class DocsCodecController {
+
+    private final DocsProperties properties;
+
+    /**
+     * 테스트 도구가 보낼 JSON 페이로드를 {@code contentType} 형식(CBOR, Smile)으로 바꿉니다.
+     */
+    @PostMapping(value = "/encode", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public byte[] encode(@RequestParam String contentType, InputStream body) throws IOException {
+        DocsAccess.checkEnabled(properties);
+        PayloadFormat target = format(contentType);
+        return transcode(read(body), PayloadFormat.JSON, target);
+    }
+
+    /**
+     * 테스트 도구가 받은 {@code contentType} 형식의 페이로드를 JSON 으로 바꿉니다.
+     */
+    @PostMapping(value = "/decode", produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] decode(@RequestParam String contentType, InputStream body) throws IOException {
+        DocsAccess.checkEnabled(properties);
+        PayloadFormat source = format(contentType);
+        return transcode(read(body), source, PayloadFormat.JSON);
+    }
+
+    /**
+     * 한도보다 1 바이트 더 읽어 보고 넘치면 413 을 돌려줍니다. Content-Length 가 없는 요청도 같은 한도를 따릅니다.
+     */
+    private byte[] read(InputStream body) throws IOException {
+        int limit = (int) Math.min(properties.getCodec().getMaxBodySize().toBytes(), Integer.MAX_VALUE - 1);
+        byte[] payload = body.readNBytes(limit + 1);
+        if (payload.length > limit) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 " + limit + " 바이트를 넘습니다.");
+        }
+        return payload;
+    }
+
+    private PayloadFormat format(String contentType) {
+        return PayloadFormat.available(contentType)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 형식입니다: " + contentType));
+    }
+
+    private byte[] transcode(byte[] payload, PayloadFormat from, PayloadFormat to) {
+        try {
+            return from.transcode(payload, to);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, from.mimeType() + " 페이로드를 읽지 못했습니다: " + e.getMessage());
+        }
+    }
+
+}
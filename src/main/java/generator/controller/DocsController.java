@@ -1,32 +1,58 @@
 package generator.controller;
 
-import generator.AsyncApiGenerator;
+import generator.assets.DocsAssets;
+import generator.config.DocsAccess;
 import generator.config.DocsProperties;
+import generator.spec.AsyncApiSpecProvider;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
-import org.springframework.http.HttpStatus;
-import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
 
 @Controller
 @RequiredArgsConstructor
 public class DocsController {
 
-    private final AsyncApiGenerator generator;
+    private final AsyncApiSpecProvider specProvider;
     private final DocsProperties properties;
+    // 없으면 자원을 해시 없는 경로로 참조한다.
+    private final ResourceUrlProvider resourceUrlProvider;
 
+    /**
+     * 페이지에는 문서를 넣지 않습니다. 페이지가 /docs/asyncapi.json 을 따로 받아 오므로 브라우저가 각각 캐시할 수 있습니다.
+     * CSS, 스크립트도 해시가 붙은 URL 로 참조하므로 두 번째 방문부터는 페이지 HTML 만 받습니다.
+     */
     @GetMapping("/docs")
-    @MessageMapping
-    @SneakyThrows
     public String docsPage(Model model) {
-        if (!properties.isEnabled()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "문서 생성 기능이 비활성화되어 있습니다.");
-        }
-        model.addAttribute("asyncApiYml", generator.generateAsyncapiYml());
+        DocsAccess.checkEnabled(properties);
         model.addAttribute("websocketUrl", properties.getServerUrl());
+        model.addAttribute("assets", DocsAssets.urls(resourceUrlProvider != null ? resourceUrlProvider::getForLookupPath : null));
         return "docs";
     }
+
+    @GetMapping("/docs/asyncapi.yaml")
+    public ResponseEntity<StreamingResponseBody> asyncApiYaml(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        DocsAccess.checkEnabled(properties);
+        return SpecResponses.stream(specProvider.get().getYaml(), SpecResponses.APPLICATION_YAML, acceptEncoding, request);
+    }
+
+    @GetMapping("/docs/asyncapi.json")
+    public ResponseEntity<StreamingResponseBody> asyncApiJson(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        DocsAccess.checkEnabled(properties);
+        return SpecResponses.stream(specProvider.get().getJson(), MediaType.APPLICATION_JSON, acceptEncoding, request);
+    }
+
 }
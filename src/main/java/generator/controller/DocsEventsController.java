@@ -0,0 +1,69 @@
+package generator.controller;
+
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import generator.query.DocsQueryService;
+import generator.query.SpecChange;
+import generator.spec.AsyncApiSpec;
+import generator.spec.AsyncApiSpecProvider;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 문서가 다시 생성되면 바뀐 오퍼레이션과 스키마 목록을 SSE 로 보냅니다.
+ * 연결할 때마다 현재 문서 버전({@code spec-version})을 먼저 보내므로, devtools 재시작으로 끊겼다가
+ * 다시 연결한 페이지도 가진 버전과 비교해 갱신할 수 있습니다.
+ * {@code websocket.docs.dev.enabled=true} 일 때만 등록됩니다.
+ */
+@RestController
+public class DocsEventsController implements AsyncApiSpecProvider.Listener {
+
+    private static final String EVENT_NAME = "spec-updated";
+    private static final String VERSION_EVENT_NAME = "spec-version";
+
+    private final AsyncApiSpecProvider specProvider;
+    private final DocsProperties properties;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    public DocsEventsController(AsyncApiSpecProvider specProvider, DocsProperties properties) {
+        this.specProvider = specProvider;
+        this.properties = properties;
+    }
+
+    @GetMapping("/docs/api/events")
+    public SseEmitter events() {
+        DocsAccess.checkEnabled(properties);
+        // 개발용이므로 제한 시간 없이 연결을 유지한다.
+        SseEmitter emitter = new SseEmitter(0L);
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        try {
+            // 재시작 뒤에는 이전 문서가 없어 변경 이벤트가 오지 않으므로, 연결마다 현재 버전을 알린다.
+            emitter.send(SseEmitter.event().name(VERSION_EVENT_NAME).data(specProvider.get().getJson().getEtag()));
+        } catch (IOException e) {
+            emitters.remove(emitter);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void specRefreshed(AsyncApiSpec previous, AsyncApiSpec current) {
+        SpecChange change = DocsQueryService.diff(previous, current);
+        if (!change.hasChanges()) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(change));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
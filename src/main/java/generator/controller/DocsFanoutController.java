@@ -0,0 +1,27 @@
+package generator.controller;
+
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import generator.fanout.FanoutSnapshot;
+import generator.fanout.SubscriptionFanout;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * topic 별 구독 수와 팬아웃 추정치를 문서 페이지에 제공합니다. {@code websocket.docs.fanout.enabled=true} 일 때만 등록됩니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class DocsFanoutController {
+
+    private final SubscriptionFanout fanout;
+    private final DocsProperties properties;
+
+    @GetMapping("/docs/api/fanout")
+    public List<FanoutSnapshot> fanout() {
+        DocsAccess.checkEnabled(properties);
+        return fanout.snapshot();
+    }
+}
@@ -0,0 +1,27 @@
+package generator.controller;
+
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import generator.limit.LimitSnapshot;
+import generator.limit.MessageLimiter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * destination 별 전송 한도와 거부 건수를 제공합니다. {@code websocket.docs.limits.enabled=true} 일 때만 등록됩니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class DocsLimitsController {
+
+    private final MessageLimiter limiter;
+    private final DocsProperties properties;
+
+    @GetMapping("/docs/api/limits")
+    public List<LimitSnapshot> limits() {
+        DocsAccess.checkEnabled(properties);
+        return limiter.snapshot();
+    }
+}
@@ -0,0 +1,27 @@
+package generator.controller;
+
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import generator.metrics.DestinationSnapshot;
+import generator.metrics.TrafficMetrics;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 채널별 트래픽 지표를 문서 페이지에 제공합니다. {@code websocket.docs.metrics.enabled=true} 일 때만 등록됩니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class DocsMetricsController {
+
+    private final TrafficMetrics metrics;
+    private final DocsProperties properties;
+
+    @GetMapping("/docs/api/metrics")
+    public List<DestinationSnapshot> metrics() {
+        DocsAccess.checkEnabled(properties);
+        return metrics.snapshot();
+    }
+}
@@ -0,0 +1,27 @@
+package generator.controller;
+
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import generator.validation.PayloadValidator;
+import generator.validation.ValidationSnapshot;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 채널별 페이로드 검증 건수와 위반 건수를 제공합니다. {@code websocket.docs.validation.mode} 가 off 가 아닐 때만 등록됩니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class DocsValidationController {
+
+    private final PayloadValidator validator;
+    private final DocsProperties properties;
+
+    @GetMapping("/docs/api/validation")
+    public List<ValidationSnapshot> validation() {
+        DocsAccess.checkEnabled(properties);
+        return validator.snapshot();
+    }
+}
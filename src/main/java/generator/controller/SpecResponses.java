@@ -0,0 +1,58 @@
+package generator.controller;
+
+import generator.spec.AsyncApiSpec;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 문서 표현을 ETag, 304, gzip 을 지켜 응답합니다. 이 애플리케이션의 문서와 합친 문서가 같은 방식으로 씁니다.
+ */
+final class SpecResponses {
+
+    static final MediaType APPLICATION_YAML = MediaType.parseMediaType("application/yaml");
+
+    private SpecResponses() {
+    }
+
+    /**
+     * 압축하지 않은 응답은 스냅샷의 트리를 응답 스트림에 바로 직렬화하고,
+     * gzip 응답은 미리 압축해 둔 바이트를 그대로 씁니다.
+     */
+    static ResponseEntity<StreamingResponseBody> stream(
+            AsyncApiSpec.Representation representation,
+            MediaType contentType,
+            String acceptEncoding,
+            WebRequest request
+    ) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? representation.getGzipEtag() : representation.getEtag();
+        // StreamingResponseBody 응답은 Spring이 ETag를 비교해 주지 않으므로 직접 304를 처리한다.
+        // ETag 헤더도 checkNotModified 가 응답에 넣어 준다.
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        // Spring 은 GET 의 If-None-Match: * 를 비교하지 않지만 문서는 항상 있으므로 304 로 응답한다.
+        // ETag 헤더는 위의 checkNotModified 가 이미 넣었다.
+        if ("*".equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(contentType);
+        if (gzip) {
+            byte[] gzipped = representation.getGzipped();
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(gzipped.length)
+                    .body(out -> out.write(gzipped));
+        }
+        return builder.body(representation::writeTo);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
@@ -0,0 +1,17 @@
+package generator.fanout;
+
+/**
+ * @param channel              문서에 정의된 topic 경로 (예: /topic/room/{roomId})
+ * @param subscribers          현재 구독 수 (경로 변수 값이 다른 destination 을 모두 합친 값)
+ * @param publishesPerSecond   최근 10초의 초당 발행 수
+ * @param deliveriesPerSecond  최근 10초의 초당 전달 수 (발행 × 그 destination 의 구독 수)
+ * @param fanoutBytesPerSecond 최근 10초의 초당 전달 페이로드 크기 추정치 (byte), STOMP 헤더는 제외
+ */
+public record FanoutSnapshot(
+        String channel,
+        long subscribers,
+        double publishesPerSecond,
+        double deliveriesPerSecond,
+        double fanoutBytesPerSecond
+) {
+}
@@ -0,0 +1,210 @@
+package generator.fanout;
+
+import generator.metrics.DestinationIndex;
+import generator.query.DocsQueryService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 문서화된 {@code @MessageResponse} topic 별 구독 수와 팬아웃 지표 저장소입니다.
+ *
+ * <p>구독 수는 SUBSCRIBE / UNSUBSCRIBE / DISCONNECT 이벤트마다 destination 별, topic 별 카운터를 더하고 빼서 유지합니다.
+ * 조회는 문서의 topic 수만큼만 읽으므로 세션 수와 상관없이 가볍습니다.
+ * 세션을 훑는 일은 기동 직후와 문서가 바뀔 때 한 번씩만 합니다. 이때 {@link SimpUserRegistry} 의 구독도 가져옵니다.
+ */
+public class SubscriptionFanout implements SmartApplicationListener {
+
+    private final DocsQueryService queryService;
+    private final ObjectProvider<SimpUserRegistry> userRegistry;
+    private final Map<String, TopicFanout> topics = new ConcurrentHashMap<>();
+    // 실제 destination(/topic/room/42) 별 구독 수, 발행 한 건이 몇 번 전달되는지 구할 때 쓴다.
+    private final Map<String, Integer> destinations = new ConcurrentHashMap<>();
+    // 세션 id -> 구독 id -> 구독, UNSUBSCRIBE 프레임에는 destination 이 없으므로 보관한다.
+    private final Map<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+    private volatile DestinationIndex<TopicFanout> index = DestinationIndex.empty();
+    private volatile List<TopicFanout> documented = List.of();
+
+    public SubscriptionFanout(DocsQueryService queryService, ObjectProvider<SimpUserRegistry> userRegistry) {
+        this.queryService = queryService;
+        this.userRegistry = userRegistry;
+    }
+
+    @Override
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return ApplicationReadyEvent.class.isAssignableFrom(eventType)
+                || SessionSubscribeEvent.class.isAssignableFrom(eventType)
+                || SessionUnsubscribeEvent.class.isAssignableFrom(eventType)
+                || SessionDisconnectEvent.class.isAssignableFrom(eventType);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof SessionSubscribeEvent subscribe) {
+            Message<?> message = subscribe.getMessage();
+            subscribe(
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()),
+                    SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()),
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders())
+            );
+        } else if (event instanceof SessionUnsubscribeEvent unsubscribe) {
+            Message<?> message = unsubscribe.getMessage();
+            unsubscribe(
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()),
+                    SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders())
+            );
+        } else if (event instanceof SessionDisconnectEvent disconnect) {
+            disconnect(disconnect.getSessionId());
+        } else if (event instanceof ApplicationReadyEvent) {
+            // 메시지 스레드가 문서 생성을 기다리지 않도록 별도 스레드에서 색인을 만든다.
+            CompletableFuture.runAsync(this::refresh);
+        }
+    }
+
+    /**
+     * 현재 문서의 topic 으로 색인을 다시 만들고, 보관 중인 구독을 새 색인에 다시 대응시킵니다.
+     * 이미 있던 topic 의 지표는 유지합니다. 색인을 바꾸는 순간 동시에 들어온 구독 몇 건은 어긋날 수 있습니다.
+     */
+    public synchronized void refresh() {
+        Map<String, TopicFanout> byTemplate = new LinkedHashMap<>();
+        for (String topic : queryService.overview().topics()) {
+            byTemplate.put(topic, topics.computeIfAbsent(topic, TopicFanout::new));
+        }
+        DestinationIndex<TopicFanout> current = new DestinationIndex<>(byTemplate);
+        index = current;
+        documented = List.copyOf(byTemplate.values());
+
+        seedFromUserRegistry();
+        sessions.values().forEach(subscriptions -> subscriptions.forEach((subscriptionId, subscription) -> {
+            TopicFanout topic = current.find(subscription.destination());
+            if (topic != subscription.topic()
+                    && subscriptions.replace(subscriptionId, subscription, new Subscription(subscription.destination(), topic))) {
+                if (subscription.topic() != null) {
+                    subscription.topic().unsubscribed();
+                }
+                if (topic != null) {
+                    topic.subscribed();
+                }
+            }
+        }));
+    }
+
+    /**
+     * 인증된 사용자의 세션만 {@link SimpUserRegistry} 에 있습니다. 이미 이벤트로 받은 구독은 다시 세지 않습니다.
+     */
+    private void seedFromUserRegistry() {
+        SimpUserRegistry registry = userRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        for (SimpUser user : registry.getUsers()) {
+            for (SimpSession session : user.getSessions()) {
+                for (SimpSubscription subscription : session.getSubscriptions()) {
+                    subscribe(session.getId(), subscription.getId(), subscription.getDestination());
+                }
+            }
+        }
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+        Subscription subscription = new Subscription(destination, index.find(destination));
+        Map<String, Subscription> subscriptions = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>(4));
+        if (subscriptions.putIfAbsent(subscriptionId, subscription) == null) {
+            destinations.merge(destination, 1, Integer::sum);
+            if (subscription.topic() != null) {
+                subscription.topic().subscribed();
+            }
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Map<String, Subscription> subscriptions = sessions.get(sessionId);
+        if (subscriptions != null) {
+            Subscription removed = subscriptions.remove(subscriptionId);
+            if (removed != null) {
+                release(removed);
+            }
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Map<String, Subscription> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(Subscription subscription) {
+        destinations.computeIfPresent(subscription.destination(), (destination, count) -> count > 1 ? count - 1 : null);
+        if (subscription.topic() != null) {
+            subscription.topic().unsubscribed();
+        }
+    }
+
+    /**
+     * 구독자가 없거나 문서에 없는 destination 이면 기록하지 않습니다.
+     */
+    public void recordPublish(String destination, int payloadSize) {
+        if (destination == null) {
+            return;
+        }
+        Integer subscriberCount = destinations.get(destination);
+        if (subscriberCount == null) {
+            return;
+        }
+        TopicFanout topic = index.find(destination);
+        if (topic != null) {
+            topic.recordPublish(payloadSize, subscriberCount, System.currentTimeMillis() / 1000);
+        }
+    }
+
+    /**
+     * 문서의 topic 별 지표를 초당 전달 크기가 큰 순서로 돌려줍니다.
+     */
+    public List<FanoutSnapshot> snapshot() {
+        if (index.isEmpty()) {
+            refresh();
+        }
+        long now = System.currentTimeMillis() / 1000;
+        List<FanoutSnapshot> snapshots = new ArrayList<>();
+        for (TopicFanout topic : documented) {
+            snapshots.add(topic.snapshot(now));
+        }
+        snapshots.sort(Comparator.comparingDouble(FanoutSnapshot::fanoutBytesPerSecond).reversed()
+                .thenComparing(Comparator.comparingLong(FanoutSnapshot::subscribers).reversed())
+                .thenComparing(FanoutSnapshot::channel));
+        return snapshots;
+    }
+
+    /**
+     * @param topic 대응하는 문서 topic, 문서에 없는 destination 이면 null
+     */
+    private record Subscription(String destination, TopicFanout topic) {
+    }
+}
@@ -0,0 +1,27 @@
+package generator.fanout;
+
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 사용자 STOMP 설정에 발행 기록 인터셉터를 추가로 등록합니다. 기존 인터셉터와 브로커 설정은 그대로 유지됩니다.
+ */
+public class SubscriptionFanoutConfigurer implements WebSocketMessageBrokerConfigurer {
+
+    private final SubscriptionFanoutInterceptor interceptor;
+
+    public SubscriptionFanoutConfigurer(SubscriptionFanout fanout) {
+        this.interceptor = new SubscriptionFanoutInterceptor(fanout);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(interceptor);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.configureBrokerChannel().interceptors(interceptor);
+    }
+}
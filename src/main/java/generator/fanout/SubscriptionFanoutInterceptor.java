@@ -0,0 +1,29 @@
+package generator.fanout;
+
+import generator.metrics.PayloadSize;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * brokerChannel 과 clientInboundChannel 에 등록되어 브로커로 가는 MESSAGE 의 destination 과 크기를 기록합니다.
+ * {@code @SendTo}, {@code convertAndSend} 는 brokerChannel 로, 클라이언트가 topic 으로 직접 보낸 SEND 는 clientInboundChannel 로 들어옵니다.
+ */
+public class SubscriptionFanoutInterceptor implements ChannelInterceptor {
+
+    private final SubscriptionFanout fanout;
+
+    public SubscriptionFanoutInterceptor(SubscriptionFanout fanout) {
+        this.fanout = fanout;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            fanout.recordPublish(SimpMessageHeaderAccessor.getDestination(message.getHeaders()), PayloadSize.of(message));
+        }
+        return message;
+    }
+}
@@ -0,0 +1,54 @@
+package generator.fanout;
+
+import generator.metrics.RateCounter;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문서화된 {@code @MessageResponse} topic 하나의 구독자 수와 팬아웃 지표입니다.
+ * 구독자 수는 구독/해제 이벤트마다 더하고 빼므로 조회할 때 세션을 훑지 않습니다.
+ */
+public class TopicFanout {
+
+    private static final int RATE_WINDOW_SECONDS = 10;
+
+    private final String channel;
+    private final LongAdder subscribers = new LongAdder();
+    private final RateCounter publishes = new RateCounter();
+    private final RateCounter deliveries = new RateCounter();
+    private final RateCounter deliveredBytes = new RateCounter();
+
+    public TopicFanout(String channel) {
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    void subscribed() {
+        subscribers.increment();
+    }
+
+    void unsubscribed() {
+        subscribers.decrement();
+    }
+
+    /**
+     * 브로커로 발행된 메시지 한 건을, 그 destination 구독자 수만큼 전달된 것으로 기록합니다.
+     */
+    void recordPublish(int payloadSize, int subscriberCount, long epochSecond) {
+        publishes.increment(epochSecond);
+        deliveries.add(epochSecond, subscriberCount);
+        deliveredBytes.add(epochSecond, (long) payloadSize * subscriberCount);
+    }
+
+    public FanoutSnapshot snapshot(long nowEpochSecond) {
+        return new FanoutSnapshot(
+                channel,
+                Math.max(subscribers.sum(), 0),
+                publishes.perSecond(nowEpochSecond, RATE_WINDOW_SECONDS),
+                deliveries.perSecond(nowEpochSecond, RATE_WINDOW_SECONDS),
+                deliveredBytes.perSecond(nowEpochSecond, RATE_WINDOW_SECONDS)
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package generator.incremental;
+
+import generator.AsyncApiGenerator;
+import generator.model.EndpointModel;
+import generator.model.HandlerEndpoint;
+import generator.model.PayloadType;
+import generator.spec.AsyncApiSpecProvider;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 개발 중 문서에 쓰이는 클래스(핸들러, 페이로드와 그 필드 타입)의 클래스 파일을 주기적으로 확인합니다.
+ * 하나라도 바뀌면 생성기를 다시 읽고 문서를 갱신합니다. 바뀌지 않은 스키마는 {@link FragmentCache} 에서 재사용됩니다.
+ *
+ * <p>devtools 재시작은 컨텍스트를 새로 만들므로 이 감시자도 새로 시작합니다. 생성기는 로드된 {@link Class}를
+ * 리플렉션으로 읽으므로, 재시작 없이 문서가 바뀌는 것은 DCEVM 처럼 필드 구조까지 교체되는 경우뿐입니다.
+ * 재시작 뒤의 페이지 갱신은 SSE 연결마다 보내는 문서 버전으로 처리합니다.
+ */
+@Slf4j
+public class ClassChangeWatcher implements SmartLifecycle {
+
+    private final AsyncApiGenerator generator;
+    private final AsyncApiSpecProvider specProvider;
+    private final Duration interval;
+    private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    private volatile ScheduledExecutorService executor;
+    private Map<Class<?>, String> fingerprints;
+
+    public ClassChangeWatcher(AsyncApiGenerator generator, AsyncApiSpecProvider specProvider, Duration interval) {
+        this.generator = generator;
+        this.specProvider = specProvider;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "docs-class-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(interval.toMillis(), 100);
+        scheduler.scheduleWithFixedDelay(this::poll, millis, millis, TimeUnit.MILLISECONDS);
+        executor = scheduler;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    private void poll() {
+        try {
+            if (fingerprints == null) {
+                fingerprints = snapshot();
+                return;
+            }
+            List<String> changed = new ArrayList<>();
+            fingerprints.forEach((type, fingerprint) -> {
+                if (!fingerprint.equals(ClassFingerprints.of(type))) {
+                    changed.add(type.getName());
+                }
+            });
+            if (changed.isEmpty()) {
+                return;
+            }
+            log.info("클래스 변경 감지, 문서를 갱신합니다: {}", changed);
+            generator.reload();
+            specProvider.refresh();
+            fingerprints = snapshot();
+        } catch (RuntimeException e) {
+            // 컴파일 도중처럼 클래스 파일이 불완전할 수 있으므로 다음 주기에 다시 시도한다.
+            log.warn("문서 갱신에 실패했습니다: {}", e.getMessage());
+        }
+    }
+
+    private Map<Class<?>, String> snapshot() {
+        EndpointModel model = generator.getModel();
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (HandlerEndpoint handler : model.handlers()) {
+            String className = handler.handler().substring(0, handler.handler().indexOf('#'));
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException e) {
+                // 탐색 이후 지워진 클래스는 다음 갱신에서 빠진다.
+            }
+        }
+        for (PayloadType payload : model.requestPayloads()) {
+            classes.addAll(ClassDependencies.of(payload.type()));
+        }
+        for (PayloadType payload : model.replyPayloads()) {
+            classes.addAll(ClassDependencies.of(payload.type()));
+        }
+        Map<Class<?>, String> snapshot = new LinkedHashMap<>();
+        classes.forEach(type -> snapshot.put(type, ClassFingerprints.of(type)));
+        return snapshot;
+    }
+}
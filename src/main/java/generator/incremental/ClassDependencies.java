@@ -0,0 +1,83 @@
+package generator.incremental;
+
+import generator.annotaions.JsonSchemaEnumType;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 타입의 스키마가 의존하는 애플리케이션 클래스들입니다.
+ * 필드 타입, 제네릭 인자, 상위 클래스, {@link JsonSchemaEnumType} 의 enum 을 따라가며, JDK 클래스는 제외합니다.
+ */
+public final class ClassDependencies {
+
+    private ClassDependencies() {
+    }
+
+    public static Set<Class<?>> of(Type root) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        Set<Type> visited = new LinkedHashSet<>();
+        Deque<Type> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Type type = pending.pop();
+            if (type == null || !visited.add(type)) {
+                continue;
+            }
+            if (type instanceof ParameterizedType parameterized) {
+                pending.push(parameterized.getRawType());
+                for (Type argument : parameterized.getActualTypeArguments()) {
+                    pending.push(argument);
+                }
+            } else if (type instanceof GenericArrayType array) {
+                pending.push(array.getGenericComponentType());
+            } else if (type instanceof WildcardType wildcard) {
+                for (Type bound : wildcard.getUpperBounds()) {
+                    pending.push(bound);
+                }
+            } else if (type instanceof TypeVariable<?> variable) {
+                for (Type bound : variable.getBounds()) {
+                    pending.push(bound);
+                }
+            } else if (type instanceof Class<?> rawClass) {
+                visitClass(rawClass, classes, pending);
+            }
+        }
+        return classes;
+    }
+
+    private static void visitClass(Class<?> type, Set<Class<?>> classes, Deque<Type> pending) {
+        if (type.isArray()) {
+            pending.push(type.getComponentType());
+            return;
+        }
+        if (!isTracked(type) || !classes.add(type)) {
+            return;
+        }
+        pending.push(type.getGenericSuperclass());
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            pending.push(field.getGenericType());
+            JsonSchemaEnumType enumType = field.getAnnotation(JsonSchemaEnumType.class);
+            if (enumType != null) {
+                pending.push(enumType.enumType());
+            }
+        }
+    }
+
+    private static boolean isTracked(Class<?> type) {
+        return !type.isPrimitive()
+                && type.getClassLoader() != null
+                && !type.getName().startsWith("java.");
+    }
+}
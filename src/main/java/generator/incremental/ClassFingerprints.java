@@ -0,0 +1,77 @@
+package generator.incremental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 클래스 지문입니다. {@link #of(Class)}는 디스크의 클래스 파일 내용으로 만들어 다시 컴파일했는지 확인할 때 쓰고,
+ * {@link #ofLoaded(Class)}는 이미 로드된 클래스의 구조로 만들어 그 클래스로 만든 스키마를 보관할 때 씁니다.
+ * 둘 다 클래스가 그대로면 재시작 후에도 같습니다.
+ */
+public final class ClassFingerprints {
+
+    static final String MISSING = "missing";
+
+    private ClassFingerprints() {
+    }
+
+    public static String of(Class<?> type) {
+        return of(type.getName(), type.getClassLoader());
+    }
+
+    /**
+     * 로드된 클래스의 구조(상위 타입, 필드와 메소드의 제네릭 시그니처, 어노테이션, enum 상수)로 만든 지문입니다.
+     * 스키마는 로드된 클래스로 만들므로, 디스크의 클래스 파일이 이미 바뀌었어도 스키마와 같은 클래스를 가리킵니다.
+     */
+    public static String ofLoaded(Class<?> type) {
+        StringBuilder structure = new StringBuilder(type.getName())
+                .append('|').append(type.getModifiers())
+                .append('|').append(type.getGenericSuperclass())
+                .append('|').append(Arrays.toString(type.getGenericInterfaces()))
+                .append('|').append(Arrays.toString(type.getDeclaredAnnotations()));
+        // getDeclared* 의 순서는 정해져 있지 않으므로 정렬해서 붙인다.
+        List<String> members = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            members.add("F " + field.getModifiers() + ' ' + field.getGenericType().getTypeName() + ' ' + field.getName()
+                    + Arrays.toString(field.getDeclaredAnnotations()));
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            members.add("M " + method.getModifiers() + ' ' + method.toGenericString()
+                    + Arrays.toString(method.getDeclaredAnnotations()));
+        }
+        Collections.sort(members);
+        members.forEach(member -> structure.append('\n').append(member));
+        if (type.isEnum()) {
+            structure.append('\n').append(Arrays.toString(type.getEnumConstants()));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(structure.toString().getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    public static String of(String className, ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+        try (InputStream in = loader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in == null) {
+                return MISSING;
+            }
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[8 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+            return Long.toHexString(crc.getValue());
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+}
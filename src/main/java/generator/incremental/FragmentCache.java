@@ -0,0 +1,76 @@
+package generator.incremental;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 문서 조각(스키마)을 그 조각이 의존하는 클래스들의 구조 지문({@link ClassFingerprints#ofLoaded})과 함께 보관합니다.
+ * 의존 클래스가 하나도 바뀌지 않았으면 조각을 다시 만들지 않고 재사용합니다.
+ *
+ * <p>조각은 JsonNode 와 클래스 이름만 가지고 Class 를 참조하지 않으므로,
+ * devtools 재시작으로 애플리케이션 클래스 로더가 바뀌어도 {@link #shared()} 인스턴스를 그대로 쓸 수 있습니다.
+ * 보관된 노드는 여러 문서가 공유하므로 호출자는 수정하지 않아야 합니다.
+ */
+public final class FragmentCache {
+
+    private static final FragmentCache SHARED = new FragmentCache();
+
+    private final Map<String, Fragment> fragments = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 재시작 사이에도 유지되는 공용 캐시입니다.
+     */
+    public static FragmentCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * 의존 클래스가 그대로면 보관된 조각을, 아니면 새로 만든 조각을 돌려줍니다.
+     *
+     * @param key     조각 이름 (예: {@code inline:com.example.RoomState})
+     * @param root    조각을 만드는 루트 타입, 의존 클래스는 여기서부터 찾는다
+     * @param builder 조각을 새로 만드는 함수
+     */
+    public <T extends JsonNode> T get(String key, Type root, Supplier<T> builder) {
+        // 조각은 로드된 클래스로 만들므로 지문도 로드된 클래스의 구조로 만든다. 디스크의 클래스 파일로 만들면
+        // 다시 컴파일된 뒤 재시작 전에 만든 조각(옛 클래스로 만든)이 새 지문으로 보관되어 재시작 후에도 쓰인다.
+        // 필드가 바뀌어 의존 클래스가 달라져도 다시 만든다.
+        Map<String, String> dependencies = new LinkedHashMap<>();
+        for (Class<?> dependency : ClassDependencies.of(root)) {
+            dependencies.put(dependency.getName(), ClassFingerprints.ofLoaded(dependency));
+        }
+        Fragment fragment = fragments.get(key);
+        if (fragment != null && fragment.dependencies().equals(dependencies)) {
+            hits.increment();
+            @SuppressWarnings("unchecked")
+            T node = (T) fragment.node();
+            return node;
+        }
+        misses.increment();
+        T node = builder.get();
+        fragments.put(key, new Fragment(node, dependencies));
+        return node;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        fragments.clear();
+    }
+
+    private record Fragment(JsonNode node, Map<String, String> dependencies) {
+    }
+}
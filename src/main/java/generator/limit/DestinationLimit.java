@@ -0,0 +1,96 @@
+package generator.limit;
+
+import generator.model.OperationLimit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서화된 send destination 하나의 세션당 한도와 거부 건수입니다.
+ *
+ * <p>속도 한도는 GCRA(토큰 버킷과 같은 동작)로 계산합니다. 세션마다 다음 메시지의 이론상 도착 시각 하나만 두고
+ * CAS 로 갱신하므로, 메시지마다 객체를 만들거나 락을 잡지 않습니다.
+ */
+@Slf4j
+class DestinationLimit {
+
+    private final String destination;
+    private final int slot;
+    private final LongAdder rateRejected = new LongAdder();
+    private final LongAdder sizeRejected = new LongAdder();
+    private volatile Rule rule;
+
+    DestinationLimit(String destination, int slot) {
+        this.destination = destination;
+        this.slot = slot;
+    }
+
+    String getDestination() {
+        return destination;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    void update(OperationLimit limit) {
+        long interval = limit.hasRate() ? Math.max((long) (TimeUnit.SECONDS.toNanos(1) / limit.ratePerSecond()), 1) : 0;
+        rule = new Rule(limit, interval, interval * (Math.max(limit.burst(), 1) - 1));
+    }
+
+    boolean exceedsSize(int payloadSize) {
+        Rule current = rule;
+        if (current.limit().hasMaxPayloadSize() && payloadSize > current.limit().maxPayloadSize()) {
+            reject(sizeRejected, "최대 크기보다 큰 페이로드를 받았습니다", payloadSize + " > " + current.limit().maxPayloadSize() + " byte");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param arrivals 세션의 destination 별 다음 이론상 도착 시각 (System.nanoTime 기준)
+     */
+    boolean exceedsRate(AtomicLongArray arrivals, long now) {
+        Rule current = rule;
+        if (current.intervalNanos() == 0) {
+            return false;
+        }
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long base = arrival - now > 0 ? arrival : now;
+            if (base - now > current.toleranceNanos()) {
+                reject(rateRejected, "세션당 전송 한도를 넘었습니다", current.limit().ratePerSecond() + " msg/s, burst " + current.limit().burst());
+                return true;
+            }
+            if (arrivals.compareAndSet(slot, arrival, base + current.intervalNanos())) {
+                return false;
+            }
+        }
+    }
+
+    private void reject(LongAdder counter, String reason, String detail) {
+        boolean first = rateRejected.sum() + sizeRejected.sum() == 0;
+        counter.increment();
+        if (first) {
+            log.warn("{}: {} ({})", reason, destination, detail);
+        } else if (log.isDebugEnabled()) {
+            log.debug("{}: {} ({})", reason, destination, detail);
+        }
+    }
+
+    LimitSnapshot snapshot() {
+        OperationLimit limit = rule.limit();
+        return new LimitSnapshot(
+                destination,
+                limit.ratePerSecond(),
+                limit.burst(),
+                limit.maxPayloadSize(),
+                rateRejected.sum(),
+                sizeRejected.sum()
+        );
+    }
+
+    private record Rule(OperationLimit limit, long intervalNanos, long toleranceNanos) {
+    }
+}
@@ -0,0 +1,19 @@
+package generator.limit;
+
+/**
+ * @param destination    문서에 정의된 채널 경로 (예: /app/chat/join/{roomId})
+ * @param ratePerSecond  세션당 초당 메시지 수, 0이면 제한 없음
+ * @param burst          한꺼번에 보낼 수 있는 메시지 수
+ * @param maxPayloadSize 페이로드 최대 크기 (byte), 0이면 제한 없음
+ * @param rateRejected   속도 한도로 거부한 누적 메시지 수
+ * @param sizeRejected   크기 한도로 거부한 누적 메시지 수
+ */
+public record LimitSnapshot(
+        String destination,
+        double ratePerSecond,
+        int burst,
+        int maxPayloadSize,
+        long rateRejected,
+        long sizeRejected
+) {
+}
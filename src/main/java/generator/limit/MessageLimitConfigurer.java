@@ -0,0 +1,22 @@
+package generator.limit;
+
+import generator.config.DocsProperties;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 사용자 STOMP 설정에 한도 인터셉터를 추가로 등록합니다. 기존 인터셉터는 그대로 유지됩니다.
+ */
+public class MessageLimitConfigurer implements WebSocketMessageBrokerConfigurer {
+
+    private final MessageLimitInterceptor interceptor;
+
+    public MessageLimitConfigurer(MessageLimiter limiter, DocsProperties.LimitAction action) {
+        this.interceptor = new MessageLimitInterceptor(limiter, action);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(interceptor);
+    }
+}
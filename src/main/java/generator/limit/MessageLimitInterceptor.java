@@ -0,0 +1,41 @@
+package generator.limit;
+
+import generator.config.DocsProperties;
+import generator.metrics.PayloadSize;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * clientInboundChannel 에 등록되어 한도를 넘은 SEND 를 핸들러와 브로커에 넘기기 전에 거부합니다.
+ * 메시지를 큐에 넣기 전(WebSocket 스레드)에서 판단하므로 넘친 메시지가 inbound 실행기를 차지하지 않습니다.
+ */
+public class MessageLimitInterceptor implements ChannelInterceptor {
+
+    private final MessageLimiter limiter;
+    private final DocsProperties.LimitAction action;
+
+    public MessageLimitInterceptor(MessageLimiter limiter, DocsProperties.LimitAction action) {
+        this.limiter = limiter;
+        this.action = action;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (!limiter.exceeds(destination, PayloadSize.of(message), SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders()))) {
+            return message;
+        }
+        if (action == DocsProperties.LimitAction.ERROR) {
+            // StompSubProtocolHandler 가 클라이언트에 ERROR 프레임으로 알린다.
+            throw new MessageDeliveryException(message, "전송 한도를 넘었습니다: " + destination);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package generator.limit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import generator.metrics.DestinationIndex;
+import generator.model.OperationLimit;
+import generator.spec.AsyncApiSpecProvider;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * 문서의 send 오퍼레이션 바인딩({@code bindings.stomp.x-rate-limit}, {@code x-max-payload-size})에 적힌 한도를 세션마다 적용합니다.
+ * 한도는 기동 후(그리고 문서가 갱신될 때) 한 번만 읽고, 메시지마다 destination 으로 찾아 씁니다.
+ *
+ * <p>세션 상태는 세션 속성에 destination 마다 칸 하나씩 둔 {@link AtomicLongArray}로, 세션의 첫 메시지에서 한 번만 만듭니다.
+ * 세션끼리는 상태를 나눠 쓰지 않으므로 서로 경합하지 않고, 세션이 끝나면 속성과 함께 사라집니다.
+ */
+public class MessageLimiter implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final String SESSION_ATTRIBUTE = MessageLimiter.class.getName() + ".ARRIVALS";
+
+    private static final String CHANNEL_REF_PREFIX = "#/channels/";
+
+    private final AsyncApiSpecProvider specProvider;
+    private final Map<String, DestinationLimit> limits = new ConcurrentHashMap<>();
+    private final AtomicInteger slots = new AtomicInteger();
+    private volatile DestinationIndex<DestinationLimit> index = DestinationIndex.empty();
+
+    public MessageLimiter(AsyncApiSpecProvider specProvider) {
+        this.specProvider = specProvider;
+    }
+
+    /**
+     * 메시지 스레드가 문서 생성을 기다리지 않도록 기동 직후 별도 스레드에서 한도를 읽습니다.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        CompletableFuture.runAsync(this::refresh);
+    }
+
+    /**
+     * 현재 문서의 send 오퍼레이션에서 한도를 다시 읽습니다. 이미 있던 destination 의 칸과 거부 건수는 유지합니다.
+     */
+    public synchronized void refresh() {
+        Map<String, DestinationLimit> byTemplate = new LinkedHashMap<>();
+        specProvider.get().getRoot().path("operations").forEach(operation -> {
+            OperationLimit limit = limitOf(operation.path("bindings").path("stomp"));
+            String channel = channelOf(operation);
+            if (!"send".equals(operation.path("action").asText()) || limit == null || channel == null) {
+                return;
+            }
+            DestinationLimit destinationLimit = limits.computeIfAbsent(channel,
+                    destination -> new DestinationLimit(destination, slots.getAndIncrement()));
+            destinationLimit.update(limit);
+            byTemplate.put(channel, destinationLimit);
+        });
+        index = new DestinationIndex<>(byTemplate);
+    }
+
+    /**
+     * 한도를 넘은 메시지면 true 입니다. 한도가 없는 destination 이면 세션 상태를 만들지 않습니다.
+     *
+     * @param sessionAttributes STOMP 세션 속성, 없으면 속도 한도는 적용하지 않음
+     */
+    public boolean exceeds(String destination, int payloadSize, Map<String, Object> sessionAttributes) {
+        DestinationLimit limit = index.find(destination);
+        if (limit == null) {
+            return false;
+        }
+        if (limit.exceedsSize(payloadSize)) {
+            return true;
+        }
+        if (sessionAttributes == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        return limit.exceedsRate(arrivals(sessionAttributes, limit.getSlot(), now), now);
+    }
+
+    /**
+     * 문서가 갱신되어 칸이 늘어난 경우에만 배열을 다시 만듭니다. 동시에 다시 만들면 그 순간의 기록 몇 건은 사라질 수 있습니다.
+     */
+    private AtomicLongArray arrivals(Map<String, Object> sessionAttributes, int slot, long now) {
+        Object current = sessionAttributes.get(SESSION_ATTRIBUTE);
+        if (current instanceof AtomicLongArray arrivals && arrivals.length() > slot) {
+            return arrivals;
+        }
+        long[] initial = new long[Math.max(slots.get(), slot + 1)];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = current instanceof AtomicLongArray previous && i < previous.length() ? previous.get(i) : now;
+        }
+        AtomicLongArray arrivals = new AtomicLongArray(initial);
+        sessionAttributes.put(SESSION_ATTRIBUTE, arrivals);
+        return arrivals;
+    }
+
+    public List<LimitSnapshot> snapshot() {
+        if (index.isEmpty()) {
+            refresh();
+        }
+        List<LimitSnapshot> snapshots = new ArrayList<>();
+        for (DestinationLimit limit : limits.values()) {
+            snapshots.add(limit.snapshot());
+        }
+        snapshots.sort((left, right) -> left.destination().compareTo(right.destination()));
+        return snapshots;
+    }
+
+    private static OperationLimit limitOf(JsonNode stomp) {
+        JsonNode rate = stomp.path("x-rate-limit");
+        return OperationLimit.of(
+                rate.path("messagesPerSecond").asDouble(0),
+                rate.path("burst").asInt(0),
+                stomp.path("x-max-payload-size").asInt(0)
+        );
+    }
+
+    private static String channelOf(JsonNode operation) {
+        String ref = operation.path("channel").path("$ref").asText("");
+        return ref.startsWith(CHANNEL_REF_PREFIX) ? ref.substring(CHANNEL_REF_PREFIX.length()).replace("~1", "/") : null;
+    }
+}
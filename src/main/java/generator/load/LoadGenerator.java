@@ -0,0 +1,160 @@
+package generator.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 생성된 문서로 STOMP 부하를 만듭니다.
+ * 세션은 비동기 STOMP 클라이언트로 연결하므로 세션마다 스레드를 두지 않고,
+ * 전송은 CPU 코어 수만큼의 스케줄러 스레드가 세션을 나눠 맡아 정해진 속도로 보냅니다.
+ */
+public class LoadGenerator {
+
+    private static final long TICK_MILLIS = 10;
+    private static final long CONNECT_TIMEOUT_SECONDS = 60;
+    private static final long SETTLE_MILLIS = 1000;
+    private static final long DRAIN_MILLIS = 2000;
+
+    private final LoadScenario scenario;
+    private final LoadTestOptions options;
+
+    public LoadGenerator(LoadScenario scenario, LoadTestOptions options) {
+        this.scenario = scenario;
+        this.options = options;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        List<OperationStats> stats = new ArrayList<>();
+        List<Integer> sendOperations = new ArrayList<>();
+        for (LoadOperation operation : scenario.getOperations()) {
+            if (operation.sends()) {
+                sendOperations.add(stats.size());
+            }
+            stats.add(new OperationStats(operation));
+        }
+        LongAdder errors = new LongAdder();
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        List<LoadSession> sessions = connect(client, stats, errors);
+
+        // 구독 프레임이 브로커에 등록될 시간을 준다
+        Thread.sleep(SETTLE_MILLIS);
+
+        int shards = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), sessions.size()));
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(shards, runnable -> {
+            Thread thread = new Thread(runnable, "load-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        List<ScheduledFuture<?>> senders = new ArrayList<>();
+        if (!sendOperations.isEmpty()) {
+            for (int shard = 0; shard < shards; shard++) {
+                Sender sender = new Sender(shardOf(sessions, shard, shards), sendOperations,
+                        (double) options.getRatePerSecond() / shards, start);
+                senders.add(scheduler.scheduleAtFixedRate(sender, 0, TICK_MILLIS, TimeUnit.MILLISECONDS));
+            }
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(options.getDurationSeconds()));
+        senders.forEach(sender -> sender.cancel(false));
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        // 마지막으로 보낸 메시지의 응답을 기다린다
+        Thread.sleep(DRAIN_MILLIS);
+        scheduler.shutdownNow();
+        List<LoadReport.OperationReport> reports = new ArrayList<>();
+        for (OperationStats operationStats : stats) {
+            reports.add(operationStats.report(elapsedSeconds));
+        }
+        int connected = (int) sessions.stream().filter(LoadSession::isConnected).count();
+        // 연결을 끊을 때 서버가 보내는 ERROR 프레임은 집계하지 않는다
+        LoadReport report = new LoadReport(elapsedSeconds, options.getSessions(), connected, errors.sum(), reports);
+        sessions.forEach(LoadSession::disconnect);
+        client.stop();
+        return report;
+    }
+
+    /**
+     * 동시에 진행하는 핸드셰이크 수를 제한하면서 세션을 연결합니다. 연결에 실패한 세션은 제외합니다.
+     */
+    private List<LoadSession> connect(WebSocketStompClient client, List<OperationStats> stats, LongAdder errors)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(Math.max(1, options.getConnectConcurrency()));
+        CountDownLatch done = new CountDownLatch(options.getSessions());
+        List<LoadSession> connected = new ArrayList<>();
+        for (int i = 0; i < options.getSessions(); i++) {
+            LoadSession session = new LoadSession(i, stats, errors);
+            permits.acquire();
+            client.connectAsync(options.getUrl(), new WebSocketHttpHeaders(), session)
+                    .whenComplete((stompSession, failure) -> {
+                        permits.release();
+                        if (failure == null) {
+                            synchronized (connected) {
+                                connected.add(session);
+                            }
+                        } else {
+                            errors.increment();
+                        }
+                        done.countDown();
+                    });
+        }
+        if (!done.await(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("세션 연결이 " + CONNECT_TIMEOUT_SECONDS + "초 안에 끝나지 않았습니다.");
+        }
+        synchronized (connected) {
+            return List.copyOf(connected);
+        }
+    }
+
+    private static List<LoadSession> shardOf(List<LoadSession> sessions, int shard, int shards) {
+        List<LoadSession> result = new ArrayList<>();
+        for (int i = shard; i < sessions.size(); i += shards) {
+            result.add(sessions.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 틱마다 지금까지 보냈어야 할 건수와 실제로 보낸 건수의 차이만큼 보냅니다.
+     * 세션과 오퍼레이션은 돌아가며 고릅니다. 한 Sender 가 동시에 두 번 실행되지는 않습니다.
+     */
+    private static final class Sender implements Runnable {
+
+        private final List<LoadSession> sessions;
+        private final List<Integer> operations;
+        private final double ratePerSecond;
+        private final long start;
+        private int cursor;
+        private long sent;
+
+        private Sender(List<LoadSession> sessions, List<Integer> operations, double ratePerSecond, long start) {
+            this.sessions = sessions;
+            this.operations = operations;
+            this.ratePerSecond = ratePerSecond;
+            this.start = start;
+        }
+
+        @Override
+        public void run() {
+            if (sessions.isEmpty()) {
+                return;
+            }
+            long due = (long) ((System.nanoTime() - start) / 1e9 * ratePerSecond) - sent;
+            for (long i = 0; i < due; i++) {
+                int next = cursor++ & Integer.MAX_VALUE;
+                LoadSession session = sessions.get((next / operations.size()) % sessions.size());
+                session.send(operations.get(next % operations.size()));
+                sent++;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package generator.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 애플리케이션 밖에서 부하 생성을 실행합니다.
+ *
+ * <pre>
+ * java -cp ... generator.load.LoadGeneratorMain \
+ *     --url=ws://localhost:8080/ws --sessions=2000 --rate=5000 --duration=60
+ * </pre>
+ *
+ * {@code --spec} 을 주지 않으면 {@code --url} 과 같은 서버의 /docs/asyncapi.json 을 읽습니다.
+ * 파일 경로(예: build/generated/asyncapi.json)도 받습니다.
+ */
+public final class LoadGeneratorMain {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private LoadGeneratorMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions();
+        String spec = null;
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("--name=value 형식이 아닙니다: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "url" -> options.setUrl(value);
+                case "spec" -> spec = value;
+                case "sessions" -> options.setSessions(Integer.parseInt(value));
+                case "rate" -> options.setRatePerSecond(Integer.parseInt(value));
+                case "duration" -> options.setDurationSeconds(Integer.parseInt(value));
+                case "connect-concurrency" -> options.setConnectConcurrency(Integer.parseInt(value));
+                case "operations" -> options.setOperationPrefix(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+            }
+        }
+        LoadScenario scenario = LoadScenario.from(readSpec(spec != null ? spec : specUrlOf(options.getUrl())),
+                options.getOperationPrefix());
+        System.out.print(new LoadGenerator(scenario, options).run().format());
+    }
+
+    private static JsonNode readSpec(String location) throws IOException {
+        if (location.startsWith("http://") || location.startsWith("https://")) {
+            try (InputStream in = URI.create(location).toURL().openStream()) {
+                return MAPPER.readTree(in);
+            }
+        }
+        return MAPPER.readTree(Files.newInputStream(Path.of(location)));
+    }
+
+    private static String specUrlOf(String websocketUrl) {
+        URI uri = URI.create(websocketUrl);
+        String scheme = "wss".equals(uri.getScheme()) || "https".equals(uri.getScheme()) ? "https" : "http";
+        return scheme + "://" + uri.getRawAuthority() + "/docs/asyncapi.json";
+    }
+}
@@ -0,0 +1,24 @@
+package generator.load;
+
+/**
+ * 부하를 줄 오퍼레이션 하나입니다. destination 과 구독 경로에는 경로 변수({@code {roomId}})가 그대로 남아 있습니다.
+ *
+ * @param id           문서의 오퍼레이션 키
+ * @param destination  메시지를 보낼 경로, 구독만 하는 오퍼레이션이면 null
+ * @param subscription 구독할 경로 (@MessageResponse 또는 구독 전용 topic), 없으면 null
+ * @param payload      스키마로 만든 예시 페이로드 (JSON)
+ */
+public record LoadOperation(String id, String destination, String subscription, byte[] payload) {
+
+    public boolean sends() {
+        return destination != null;
+    }
+
+    /**
+     * 응답 경로에 세션마다 다른 경로 변수가 들어가야 보낸 메시지와 받은 응답을 짝지을 수 있습니다.
+     * 모든 세션이 같은 topic 을 구독하면 수신 건수만 셉니다.
+     */
+    public boolean correlated() {
+        return sends() && subscription != null && subscription.contains("{");
+    }
+}
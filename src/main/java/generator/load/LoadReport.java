@@ -0,0 +1,53 @@
+package generator.load;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 부하 생성 결과입니다. 지연 시간은 밀리초 단위 근사치(로그 구간 상한)입니다.
+ */
+public record LoadReport(
+        double elapsedSeconds,
+        int sessions,
+        int connectedSessions,
+        long errors,
+        List<OperationReport> operations
+) {
+
+    public record OperationReport(
+            String operationId,
+            long sent,
+            long received,
+            double sentPerSecond,
+            double receivedPerSecond,
+            long latencySamples,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+    }
+
+    /**
+     * 콘솔에 출력할 표 형식 문자열입니다.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "sessions %d/%d, %.1fs, errors %d%n",
+                connectedSessions, sessions, elapsedSeconds, errors));
+        builder.append(String.format(Locale.ROOT, "%-40s %10s %10s %10s %10s %9s %9s %9s %9s%n",
+                "operation", "sent", "received", "sent/s", "recv/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (OperationReport operation : operations) {
+            builder.append(String.format(Locale.ROOT, "%-40s %10d %10d %10.1f %10.1f ",
+                    operation.operationId(), operation.sent(), operation.received(),
+                    operation.sentPerSecond(), operation.receivedPerSecond()));
+            if (operation.latencySamples() == 0) {
+                builder.append(String.format(Locale.ROOT, "%9s %9s %9s %9s%n", "-", "-", "-", "-"));
+            } else {
+                builder.append(String.format(Locale.ROOT, "%9.2f %9.2f %9.2f %9.2f%n",
+                        operation.p50Millis(), operation.p90Millis(), operation.p99Millis(), operation.maxMillis()));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package generator.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.util.StringUtils;
+
+/**
+ * 생성된 AsyncAPI 문서에서 만든 부하 시나리오입니다.
+ * send 오퍼레이션은 예시 페이로드를 보내고 응답 경로를 구독하며, receive 오퍼레이션은 구독만 합니다.
+ */
+public final class LoadScenario {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CHANNEL_REF_PREFIX = "#/channels/";
+    private static final String MESSAGE_REF_PREFIX = "#/components/messages/";
+
+    private final List<LoadOperation> operations;
+
+    private LoadScenario(List<LoadOperation> operations) {
+        this.operations = List.copyOf(operations);
+    }
+
+    /**
+     * @param spec            생성된 문서 (AsyncApiSpec.getRoot() 또는 /docs/asyncapi.json)
+     * @param operationPrefix 이 접두사로 시작하는 오퍼레이션만 포함, 비어 있으면 전체
+     */
+    public static LoadScenario from(JsonNode spec, String operationPrefix) {
+        PayloadSampler sampler = new PayloadSampler(spec);
+        JsonNode messages = spec.path("components").path("messages");
+        List<LoadOperation> operations = new ArrayList<>();
+        spec.path("operations").fields().forEachRemaining(entry -> {
+            if (StringUtils.hasText(operationPrefix) && !entry.getKey().startsWith(operationPrefix)) {
+                return;
+            }
+            JsonNode operation = entry.getValue();
+            String channel = channelPath(operation.path("channel"));
+            if ("send".equals(operation.path("action").asText())) {
+                JsonNode reply = operation.path("reply");
+                String messageName = refName(operation.path("messages").path(0), MESSAGE_REF_PREFIX);
+                JsonNode payloadSchema = messages.path(messageName == null ? "" : messageName).path("payload");
+                operations.add(new LoadOperation(
+                        entry.getKey(),
+                        channel,
+                        reply.isMissingNode() ? null : channelPath(reply.path("channel")),
+                        toBytes(sampler.sample(payloadSchema))
+                ));
+            } else {
+                operations.add(new LoadOperation(entry.getKey(), null, channel, new byte[0]));
+            }
+        });
+        return new LoadScenario(operations);
+    }
+
+    public List<LoadOperation> getOperations() {
+        return operations;
+    }
+
+    private static byte[] toBytes(JsonNode payload) {
+        try {
+            return MAPPER.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예시 페이로드를 만들 수 없습니다.", e);
+        }
+    }
+
+    private static String channelPath(JsonNode channelRef) {
+        String name = refName(channelRef, CHANNEL_REF_PREFIX);
+        return name == null ? null : name.replace("~1", "/").replace("~0", "~");
+    }
+
+    private static String refName(JsonNode node, String prefix) {
+        JsonNode ref = node.get("$ref");
+        if (ref == null || !ref.isTextual() || !ref.asText().startsWith(prefix)) {
+            return null;
+        }
+        return ref.asText().substring(prefix.length());
+    }
+}
@@ -0,0 +1,136 @@
+package generator.load;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 부하 생성용 STOMP 세션 하나입니다.
+ * 경로 변수는 세션마다 다른 값으로 채우므로, 세션마다 자기 응답 topic 을 따로 구독합니다.
+ * 전송 헤더와 페이로드는 연결할 때 한 번만 만들고 재사용합니다.
+ */
+final class LoadSession extends StompSessionHandlerAdapter {
+
+    private final String key;
+    private final List<OperationStats> stats;
+    private final StompHeaders[] sendHeaders;
+    private final PendingSends[] pending;
+    private final LongAdder errors;
+    private volatile StompSession session;
+
+    LoadSession(int index, List<OperationStats> stats, LongAdder errors) {
+        this.key = "load" + index;
+        this.stats = stats;
+        this.errors = errors;
+        this.sendHeaders = new StompHeaders[stats.size()];
+        this.pending = new PendingSends[stats.size()];
+        for (int i = 0; i < stats.size(); i++) {
+            LoadOperation operation = stats.get(i).operation();
+            if (operation.sends()) {
+                StompHeaders headers = new StompHeaders();
+                headers.setDestination(resolve(operation.destination()));
+                headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                sendHeaders[i] = headers;
+            }
+            if (operation.correlated()) {
+                pending[i] = new PendingSends();
+            }
+        }
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        for (int i = 0; i < stats.size(); i++) {
+            String subscription = stats.get(i).operation().subscription();
+            if (subscription != null) {
+                session.subscribe(resolve(subscription), new ReplyHandler(i));
+            }
+        }
+        this.session = session;
+    }
+
+    boolean isConnected() {
+        StompSession current = session;
+        return current != null && current.isConnected();
+    }
+
+    void send(int operationIndex) {
+        StompSession current = session;
+        if (current == null) {
+            return;
+        }
+        if (pending[operationIndex] != null) {
+            pending[operationIndex].push(System.nanoTime());
+        }
+        try {
+            current.send(sendHeaders[operationIndex], stats.get(operationIndex).operation().payload());
+            stats.get(operationIndex).recordSent();
+        } catch (RuntimeException e) {
+            errors.increment();
+        }
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+        errors.increment();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        errors.increment();
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return byte[].class;
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        // 서버가 보낸 ERROR 프레임
+        errors.increment();
+    }
+
+    private String resolve(String path) {
+        return path.replaceAll("\\{[^/}]+}", key);
+    }
+
+    private final class ReplyHandler implements StompFrameHandler {
+
+        private final int operationIndex;
+
+        private ReplyHandler(int operationIndex) {
+            this.operationIndex = operationIndex;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            OperationStats operationStats = stats.get(operationIndex);
+            operationStats.recordReceived();
+            if (pending[operationIndex] != null) {
+                long sentAt = pending[operationIndex].poll();
+                if (sentAt >= 0) {
+                    operationStats.recordLatency(System.nanoTime() - sentAt);
+                }
+            }
+        }
+    }
+}
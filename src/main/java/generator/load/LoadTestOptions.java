@@ -0,0 +1,40 @@
+package generator.load;
+
+import lombok.Data;
+
+/**
+ * 부하 생성 설정입니다.
+ */
+@Data
+public class LoadTestOptions {
+
+    /**
+     * STOMP 엔드포인트 (예: ws://localhost:8080/ws). SockJS 엔드포인트라면 뒤에 /websocket 을 붙입니다.
+     */
+    private String url = "ws://localhost:8080/ws";
+
+    /**
+     * 동시에 연결할 STOMP 세션 수
+     */
+    private int sessions = 100;
+
+    /**
+     * 전체 세션을 합친 초당 전송 메시지 수
+     */
+    private int ratePerSecond = 100;
+
+    /**
+     * 전송 시간 (초)
+     */
+    private int durationSeconds = 30;
+
+    /**
+     * 동시에 진행할 연결 핸드셰이크 수
+     */
+    private int connectConcurrency = 64;
+
+    /**
+     * 이 접두사로 시작하는 오퍼레이션만 실행, 비어 있으면 전체
+     */
+    private String operationPrefix = "";
+}
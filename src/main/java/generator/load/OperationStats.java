@@ -0,0 +1,57 @@
+package generator.load;
+
+import generator.metrics.LogHistogram;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오퍼레이션 하나의 전송/수신 건수와 전송-응답 지연 분포입니다. 모든 세션이 함께 기록합니다.
+ */
+final class OperationStats {
+
+    private final LoadOperation operation;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LogHistogram latencyNanos = new LogHistogram();
+
+    OperationStats(LoadOperation operation) {
+        this.operation = operation;
+    }
+
+    LoadOperation operation() {
+        return operation;
+    }
+
+    void recordSent() {
+        sent.increment();
+    }
+
+    void recordReceived() {
+        received.increment();
+    }
+
+    void recordLatency(long nanos) {
+        latencyNanos.record(nanos);
+    }
+
+    LoadReport.OperationReport report(double elapsedSeconds) {
+        long sentCount = sent.sum();
+        long receivedCount = received.sum();
+        return new LoadReport.OperationReport(
+                operation.id(),
+                sentCount,
+                receivedCount,
+                sentCount / elapsedSeconds,
+                receivedCount / elapsedSeconds,
+                latencyNanos.count(),
+                toMillis(latencyNanos.valueAt(0.5)),
+                toMillis(latencyNanos.valueAt(0.9)),
+                toMillis(latencyNanos.valueAt(0.99)),
+                toMillis(latencyNanos.max())
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
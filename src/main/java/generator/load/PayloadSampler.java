@@ -0,0 +1,103 @@
+package generator.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 스키마에 맞는 예시 페이로드를 만듭니다. 문서 페이지의 예시 메시지와 같은 규칙을 따릅니다.
+ * 부하 생성기와 메시지 크기 추정({@code generator.codec.PayloadSizeEstimator})이 함께 씁니다.
+ */
+public final class PayloadSampler {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final int MAX_DEPTH = 8;
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final JsonNode schemas;
+
+    public PayloadSampler(JsonNode spec) {
+        this.schemas = spec.path("components").path("schemas");
+    }
+
+    public JsonNode sample(JsonNode schema) {
+        return sample("value", schema, 0, new HashSet<>());
+    }
+
+    /**
+     * @param path 지금 경로에서 이미 펼친 $ref 이름들
+     */
+    private JsonNode sample(String name, JsonNode rawSchema, int depth, Set<String> path) {
+        if (depth > MAX_DEPTH) {
+            return NODES.nullNode();
+        }
+        // 자기 자신을 다시 가리키는 $ref 는 펼치지 않고 빈 객체로 보낸다.
+        // INLINE 스키마의 {"$ref": "#"} 와 같은 예시가 나와 두 모드의 크기 추정이 같아진다.
+        String ref = refName(rawSchema);
+        if (ref != null && !path.add(ref)) {
+            return NODES.objectNode();
+        }
+        try {
+            return sampleResolved(name, rawSchema, depth, path);
+        } finally {
+            if (ref != null) {
+                path.remove(ref);
+            }
+        }
+    }
+
+    private JsonNode sampleResolved(String name, JsonNode rawSchema, int depth, Set<String> path) {
+        // 찾을 수 없는 $ref 는 빈 객체로 보낸다
+        JsonNode schema = resolve(rawSchema);
+        if (schema == null) {
+            return NODES.objectNode();
+        }
+        if (schema.has("const")) {
+            return schema.get("const");
+        }
+        if (schema.path("enum").size() > 0) {
+            return schema.get("enum").get(0);
+        }
+        switch (schema.path("type").asText()) {
+            case "string":
+                return NODES.textNode("예시 " + name);
+            case "integer":
+                return NODES.numberNode(1);
+            case "number":
+                return NODES.numberNode(1.0);
+            case "boolean":
+                return NODES.booleanNode(true);
+            case "array":
+                ArrayNode array = NODES.arrayNode();
+                if (schema.has("items")) {
+                    array.add(sample(name + " item", schema.get("items"), depth + 1, path));
+                }
+                return array;
+            default:
+                ObjectNode object = NODES.objectNode();
+                schema.path("properties").fields().forEachRemaining(property ->
+                        object.set(property.getKey(), sample(property.getKey(), property.getValue(), depth + 1, path)));
+                if (schema.path("additionalProperties").isObject()) {
+                    object.set("key", sample("key", schema.get("additionalProperties"), depth + 1, path));
+                }
+                return object;
+        }
+    }
+
+    private JsonNode resolve(JsonNode schema) {
+        String ref = refName(schema);
+        return ref == null ? schema : schemas.get(ref);
+    }
+
+    private static String refName(JsonNode schema) {
+        JsonNode ref = schema.get("$ref");
+        if (ref == null || !ref.asText().startsWith(SCHEMA_REF_PREFIX)) {
+            return null;
+        }
+        return ref.asText().substring(SCHEMA_REF_PREFIX.length());
+    }
+}
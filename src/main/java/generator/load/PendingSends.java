@@ -0,0 +1,37 @@
+package generator.load;
+
+/**
+ * 한 세션이 한 오퍼레이션으로 보내고 아직 응답을 받지 못한 메시지의 전송 시각입니다.
+ * 응답은 보낸 순서대로 온다고 보고 가장 오래된 전송 시각과 짝짓습니다.
+ * 정해진 개수를 넘으면 가장 오래된 기록을 버립니다.
+ */
+final class PendingSends {
+
+    private static final int CAPACITY = 1024;
+
+    private final long[] sentAt = new long[CAPACITY];
+    private int head;
+    private int size;
+
+    synchronized void push(long nanos) {
+        if (size == CAPACITY) {
+            head = (head + 1) % CAPACITY;
+            size--;
+        }
+        sentAt[(head + size) % CAPACITY] = nanos;
+        size++;
+    }
+
+    /**
+     * @return 가장 오래된 전송 시각, 없으면 -1
+     */
+    synchronized long poll() {
+        if (size == 0) {
+            return -1;
+        }
+        long nanos = sentAt[head];
+        head = (head + 1) % CAPACITY;
+        size--;
+        return nanos;
+    }
+}
@@ -0,0 +1,103 @@
+package generator.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실제 destination({@code /app/chat/join/42})을 문서의 채널 템플릿({@code /app/chat/join/{roomId}})에 대응시키는 트라이입니다.
+ * 조회할 때 문자열을 자르지 않고 인덱스로만 비교하므로 객체를 만들지 않습니다.
+ */
+public class DestinationIndex<T> {
+
+    private static final DestinationIndex<?> EMPTY = new DestinationIndex<>(Map.of());
+
+    private final Node<T> root = new Node<>(null);
+
+    public DestinationIndex(Map<String, T> valuesByTemplate) {
+        valuesByTemplate.forEach(this::add);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> DestinationIndex<T> empty() {
+        return (DestinationIndex<T>) EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * destination 에 대응하는 템플릿의 값을 돌려줍니다. 문서에 없는 destination 이면 null 입니다.
+     */
+    public T find(String destination) {
+        if (destination == null || destination.isEmpty()) {
+            return null;
+        }
+        return find(root, destination, destination.charAt(0) == '/' ? 1 : 0);
+    }
+
+    private T find(Node<T> node, String destination, int start) {
+        if (start > destination.length()) {
+            return node.value;
+        }
+        int end = destination.indexOf('/', start);
+        if (end < 0) {
+            end = destination.length();
+        }
+        int length = end - start;
+        // 조회 경로에서 Iterator 를 만들지 않도록 인덱스로 순회한다.
+        for (int i = 0; i < node.literals.size(); i++) {
+            Node<T> child = node.literals.get(i);
+            if (child.segment.length() == length && destination.regionMatches(start, child.segment, 0, length)) {
+                T found = find(child, destination, end + 1);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        if (node.variable != null && length > 0) {
+            return find(node.variable, destination, end + 1);
+        }
+        return null;
+    }
+
+    private void add(String template, T value) {
+        Node<T> node = root;
+        String path = template.startsWith("/") ? template.substring(1) : template;
+        for (String segment : path.split("/", -1)) {
+            node = segment.contains("{") ? node.variableChild() : node.literalChild(segment);
+        }
+        node.value = value;
+    }
+
+    private static final class Node<T> {
+
+        private final String segment;
+        private final List<Node<T>> literals = new ArrayList<>(2);
+        private Node<T> variable;
+        private T value;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node<T> literalChild(String segment) {
+            for (Node<T> child : literals) {
+                if (child.segment.equals(segment)) {
+                    return child;
+                }
+            }
+            Node<T> child = new Node<>(segment);
+            literals.add(child);
+            return child;
+        }
+
+        private Node<T> variableChild() {
+            if (variable == null) {
+                variable = new Node<>(null);
+            }
+            return variable;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package generator.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문서화된 destination 하나의 트래픽 지표입니다.
+ */
+public class DestinationMetrics {
+
+    private static final int RATE_WINDOW_SECONDS = 10;
+
+    private final String destination;
+    private final LongAdder messages = new LongAdder();
+    private final RateCounter rate = new RateCounter();
+    private final LogHistogram payloadBytes = new LogHistogram();
+    private final LogHistogram handlerNanos = new LogHistogram();
+
+    public DestinationMetrics(String destination) {
+        this.destination = destination;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    void recordMessage(int payloadSize, long epochSecond) {
+        messages.increment();
+        rate.increment(epochSecond);
+        payloadBytes.record(payloadSize);
+    }
+
+    void recordHandler(long elapsedNanos) {
+        handlerNanos.record(elapsedNanos);
+    }
+
+    public DestinationSnapshot snapshot(long nowEpochSecond) {
+        return new DestinationSnapshot(
+                destination,
+                messages.sum(),
+                rate.perSecond(nowEpochSecond, RATE_WINDOW_SECONDS),
+                new DestinationSnapshot.Distribution(
+                        payloadBytes.count(),
+                        payloadBytes.mean(),
+                        payloadBytes.valueAt(0.5),
+                        payloadBytes.valueAt(0.99),
+                        payloadBytes.max()
+                ),
+                new DestinationSnapshot.Distribution(
+                        handlerNanos.count(),
+                        handlerNanos.mean() / TimeUnit.MILLISECONDS.toNanos(1),
+                        toMillis(handlerNanos.valueAt(0.5)),
+                        toMillis(handlerNanos.valueAt(0.99)),
+                        toMillis(handlerNanos.max())
+                )
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
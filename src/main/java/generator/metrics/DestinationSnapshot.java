@@ -0,0 +1,20 @@
+package generator.metrics;
+
+/**
+ * @param destination   문서에 정의된 채널 경로 (예: /app/chat/join/{roomId})
+ * @param messages      누적 메시지 수
+ * @param ratePerSecond 최근 10초의 초당 메시지 수
+ * @param payloadBytes  페이로드 크기 분포 (byte)
+ * @param handlerMillis 핸들러 처리 시간 분포 (ms), 인바운드 destination 에만 기록됨
+ */
+public record DestinationSnapshot(
+        String destination,
+        long messages,
+        double ratePerSecond,
+        Distribution payloadBytes,
+        Distribution handlerMillis
+) {
+
+    public record Distribution(long count, double mean, double p50, double p99, double max) {
+    }
+}
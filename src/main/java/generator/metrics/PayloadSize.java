@@ -0,0 +1,48 @@
+package generator.metrics;
+
+import org.springframework.messaging.Message;
+
+/**
+ * STOMP 메시지 페이로드의 전송 크기(byte)입니다. 지표, 팬아웃, 전송 한도가 같은 기준으로 셉니다.
+ * 문자열 페이로드는 UTF-8 로 인코딩했을 때의 길이를 복사 없이 계산합니다.
+ */
+public final class PayloadSize {
+
+    private PayloadSize() {
+    }
+
+    /**
+     * @return byte[] 와 문자열이 아닌 페이로드는 0
+     */
+    public static int of(Message<?> message) {
+        Object payload = message.getPayload();
+        if (payload instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (payload instanceof CharSequence text) {
+            return utf8Length(text);
+        }
+        return 0;
+    }
+
+    static int utf8Length(CharSequence text) {
+        int length = text.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // 문자 두 개가 4 byte 가 된다.
+                bytes += 2;
+                i++;
+            } else {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,65 @@
+package generator.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 1분을 초 단위 슬롯으로 나눈 링 버퍼 카운터입니다.
+ * 슬롯은 초와 {@link LongAdder}를 함께 묶은 객체이고, 다른 초로 넘어갈 때 슬롯 자체를 CAS 로 바꿉니다.
+ * 그래서 초를 바꾸는 순간 다른 스레드가 새 초에 더한 값이 지워지지 않고, 같은 초에 기록하는 스레드끼리도 경합하지 않습니다.
+ * 객체는 슬롯이 바뀔 때(초마다 한 번)만 만듭니다.
+ */
+public class RateCounter {
+
+    private static final int SLOTS = 60;
+
+    private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(SLOTS);
+
+    public void increment(long epochSecond) {
+        add(epochSecond, 1);
+    }
+
+    public void add(long epochSecond, long delta) {
+        int index = (int) (epochSecond % SLOTS);
+        Slot slot = slots.get(index);
+        while (slot == null || slot.second != epochSecond) {
+            // 이미 지난 초의 늦은 기록이면 버린다.
+            if (slot != null && slot.second > epochSecond) {
+                return;
+            }
+            Slot next = new Slot(epochSecond);
+            if (slots.compareAndSet(index, slot, next)) {
+                slot = next;
+            } else {
+                slot = slots.get(index);
+            }
+        }
+        slot.count.add(delta);
+    }
+
+    /**
+     * 진행 중인 현재 초를 제외한 최근 {@code windowSeconds}초의 초당 평균입니다.
+     */
+    public double perSecond(long nowEpochSecond, int windowSeconds) {
+        int window = Math.min(Math.max(windowSeconds, 1), SLOTS - 1);
+        long total = 0;
+        for (int i = 1; i <= window; i++) {
+            long second = nowEpochSecond - i;
+            Slot slot = slots.get((int) (second % SLOTS));
+            if (slot != null && slot.second == second) {
+                total += slot.count.sum();
+            }
+        }
+        return (double) total / window;
+    }
+
+    private static final class Slot {
+
+        private final long second;
+        private final LongAdder count = new LongAdder();
+
+        private Slot(long second) {
+            this.second = second;
+        }
+    }
+}
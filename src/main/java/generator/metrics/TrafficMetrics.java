@@ -0,0 +1,73 @@
+package generator.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import generator.spec.AsyncApiSpecProvider;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * 문서화된 채널별 트래픽 지표 저장소입니다.
+ * 채널 목록은 애플리케이션 기동 후 생성된 문서에서 읽어 오며, 문서에 없는 destination 은 기록하지 않습니다.
+ */
+public class TrafficMetrics implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final AsyncApiSpecProvider specProvider;
+    private final Map<String, DestinationMetrics> metrics = new ConcurrentHashMap<>();
+    private volatile DestinationIndex<DestinationMetrics> index = DestinationIndex.empty();
+
+    public TrafficMetrics(AsyncApiSpecProvider specProvider) {
+        this.specProvider = specProvider;
+    }
+
+    /**
+     * 메시지 스레드가 문서 생성을 기다리지 않도록 기동 직후 별도 스레드에서 채널 색인을 만듭니다.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        CompletableFuture.runAsync(this::refresh);
+    }
+
+    /**
+     * 현재 문서의 채널로 색인을 다시 만듭니다. 이미 있던 채널의 지표는 유지합니다.
+     */
+    public void refresh() {
+        JsonNode channels = specProvider.get().getRoot().path("channels");
+        Map<String, DestinationMetrics> byTemplate = new LinkedHashMap<>();
+        channels.fieldNames().forEachRemaining(channel ->
+                byTemplate.put(channel, metrics.computeIfAbsent(channel, DestinationMetrics::new)));
+        index = new DestinationIndex<>(byTemplate);
+    }
+
+    public void recordMessage(String destination, int payloadSize) {
+        DestinationMetrics target = index.find(destination);
+        if (target != null) {
+            target.recordMessage(payloadSize, System.currentTimeMillis() / 1000);
+        }
+    }
+
+    public void recordHandler(String destination, long elapsedNanos) {
+        DestinationMetrics target = index.find(destination);
+        if (target != null) {
+            target.recordHandler(elapsedNanos);
+        }
+    }
+
+    public List<DestinationSnapshot> snapshot() {
+        if (index.isEmpty()) {
+            refresh();
+        }
+        long now = System.currentTimeMillis() / 1000;
+        List<DestinationSnapshot> snapshots = new ArrayList<>();
+        for (DestinationMetrics destinationMetrics : metrics.values()) {
+            snapshots.add(destinationMetrics.snapshot(now));
+        }
+        snapshots.sort((left, right) -> left.destination().compareTo(right.destination()));
+        return snapshots;
+    }
+}
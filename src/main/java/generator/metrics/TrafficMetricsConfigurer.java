@@ -0,0 +1,26 @@
+package generator.metrics;
+
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 사용자 STOMP 설정에 인터셉터를 추가로 등록합니다. 기존 인터셉터는 그대로 유지됩니다.
+ */
+public class TrafficMetricsConfigurer implements WebSocketMessageBrokerConfigurer {
+
+    private final TrafficMetricsInterceptor interceptor;
+
+    public TrafficMetricsConfigurer(TrafficMetrics metrics) {
+        this.interceptor = new TrafficMetricsInterceptor(metrics);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(interceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(interceptor);
+    }
+}
@@ -0,0 +1,55 @@
+package generator.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.handler.invocation.AbstractMethodMessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * clientInboundChannel, clientOutboundChannel 에 등록되어 MESSAGE 프레임의 건수, 크기, 핸들러 처리 시간을 기록합니다.
+ * 기록 경로에서는 객체를 만들지 않으며, 핸들러 시작 시각은 스레드마다 하나씩 둔 배열에 보관합니다.
+ */
+public class TrafficMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private static final ThreadLocal<long[]> HANDLER_START = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final TrafficMetrics metrics;
+
+    public TrafficMetricsInterceptor(TrafficMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (isMessageFrame(message)) {
+            metrics.recordMessage(SimpMessageHeaderAccessor.getDestination(message.getHeaders()), PayloadSize.of(message));
+        }
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (isMessageFrame(message) && handler instanceof AbstractMethodMessageHandler) {
+            HANDLER_START.get()[0] = System.nanoTime();
+        }
+        return message;
+    }
+
+    /**
+     * 인바운드 채널에는 브로커 핸들러도 구독하므로 {@code @MessageMapping} 메소드를 호출하는 핸들러만 잽니다.
+     */
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (isMessageFrame(message) && handler instanceof AbstractMethodMessageHandler) {
+            long elapsed = System.nanoTime() - HANDLER_START.get()[0];
+            metrics.recordHandler(SimpMessageHeaderAccessor.getDestination(message.getHeaders()), elapsed);
+        }
+    }
+
+    private static boolean isMessageFrame(Message<?> message) {
+        return SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE;
+    }
+}
@@ -0,0 +1,91 @@
+package generator.model;
+
+import generator.stats.GenerationPhase;
+import generator.stats.GenerationStats;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.PathMatcher;
+
+/**
+ * 빈을 만들지 않고 빈 정의의 타입만으로 {@link EndpointModel}을 만듭니다. Spring AOT 처리처럼 STOMP 핸들러 레지스트리가 아직 없을 때 씁니다.
+ * {@code SimpAnnotationMethodMessageHandler}와 같은 방식으로 {@code @Controller}의 클래스 레벨 {@code @MessageMapping}을 결합하고 placeholder를 해석합니다.
+ * 레지스트리의 destination prefix는 알 수 없으므로 모델에 넣지 않습니다.
+ */
+public class BeanDefinitionEndpointDiscovery implements EndpointDiscovery {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final GenerationStats stats;
+
+    public BeanDefinitionEndpointDiscovery(ConfigurableListableBeanFactory beanFactory) {
+        this(beanFactory, new GenerationStats());
+    }
+
+    public BeanDefinitionEndpointDiscovery(ConfigurableListableBeanFactory beanFactory, GenerationStats stats) {
+        this.beanFactory = beanFactory;
+        this.stats = stats;
+    }
+
+    @Override
+    public EndpointModel discover() {
+        List<Mapping> mappings = stats.time(GenerationPhase.SCAN, this::scan);
+        return stats.time(GenerationPhase.MODEL, () -> EndpointModel.of(mappings.stream()
+                .map(mapping -> mapping.destination() != null
+                        ? HandlerEndpoint.from(mapping.method(), mapping.destination())
+                        : HandlerEndpoint.from(mapping.method()))
+                .toList()));
+    }
+
+    private List<Mapping> scan() {
+        List<Mapping> mappings = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> userType = ClassUtils.getUserClass(beanType);
+            if (!AnnotatedElementUtils.hasAnnotation(userType, Controller.class)) {
+                continue;
+            }
+            MessageMapping typeMapping = AnnotatedElementUtils.findMergedAnnotation(userType, MessageMapping.class);
+            String[] prefixes = typeMapping != null && typeMapping.value().length > 0 ? typeMapping.value() : new String[]{""};
+            Map<Method, MessageMapping> methods = MethodIntrospector.selectMethods(userType,
+                    (MethodIntrospector.MetadataLookup<MessageMapping>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, MessageMapping.class));
+            methods.forEach((method, methodMapping) -> {
+                String[] patterns = methodMapping.value().length > 0 ? methodMapping.value() : new String[]{""};
+                for (String prefix : prefixes) {
+                    for (String pattern : patterns) {
+                        mappings.add(new Mapping(method, combine(prefix, pattern)));
+                    }
+                }
+            });
+        }
+        for (Method method : HandlerMethodEndpointDiscovery.findTopicMethods(beanFactory)) {
+            mappings.add(new Mapping(method, null));
+        }
+        return mappings;
+    }
+
+    private String combine(String prefix, String pattern) {
+        String resolvedPrefix = beanFactory.resolveEmbeddedValue(prefix);
+        String resolvedPattern = beanFactory.resolveEmbeddedValue(pattern);
+        return PATH_MATCHER.combine(resolvedPrefix, resolvedPattern);
+    }
+
+    /**
+     * @param destination 클래스 레벨 경로와 결합한 destination, {@code @MessageResponse}만 붙은 토픽 메소드는 null
+     */
+    private record Mapping(Method method, String destination) {
+    }
+}
@@ -0,0 +1,9 @@
+package generator.model;
+
+/**
+ * 문서화 대상 핸들러를 찾아 {@link EndpointModel}을 만듭니다.
+ */
+public interface EndpointDiscovery {
+
+    EndpointModel discover();
+}
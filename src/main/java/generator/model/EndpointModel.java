@@ -0,0 +1,70 @@
+package generator.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 한 번의 스캔으로 만든 핸들러 엔드포인트 전체 모델입니다.
+ * 문서의 각 섹션은 이 모델만 보고 렌더링하므로 애노테이션과 리플렉션 정보를 다시 읽지 않습니다.
+ * 핸들러 순서를 정렬해 두어 스캔 순서와 상관없이 항상 같은 문서가 나옵니다.
+ */
+public final class EndpointModel {
+
+    private static final Comparator<HandlerEndpoint> ORDER = Comparator
+            .comparing(HandlerEndpoint::handler)
+            .thenComparing(HandlerEndpoint::destination, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final List<HandlerEndpoint> handlers;
+    private final String appDestinationPrefix;
+    private final Set<PayloadType> requestPayloads;
+    private final Set<PayloadType> replyPayloads;
+
+    private EndpointModel(List<HandlerEndpoint> handlers, String appDestinationPrefix) {
+        this.handlers = handlers;
+        this.appDestinationPrefix = appDestinationPrefix;
+        Set<PayloadType> requests = new LinkedHashSet<>();
+        Set<PayloadType> replies = new LinkedHashSet<>();
+        for (HandlerEndpoint handler : handlers) {
+            if (handler.isSend()) {
+                requests.addAll(handler.payloads());
+            }
+            if (handler.reply() != null) {
+                replies.add(handler.reply().payload());
+            }
+        }
+        this.requestPayloads = Collections.unmodifiableSet(requests);
+        this.replyPayloads = Collections.unmodifiableSet(replies);
+    }
+
+    public static EndpointModel of(Collection<HandlerEndpoint> handlers) {
+        return of(handlers, null);
+    }
+
+    /**
+     * @param appDestinationPrefix 핸들러 레지스트리에서 확인한 app destination prefix (예: /app), 모르면 null
+     */
+    public static EndpointModel of(Collection<HandlerEndpoint> handlers, String appDestinationPrefix) {
+        return new EndpointModel(handlers.stream().sorted(ORDER).toList(), appDestinationPrefix);
+    }
+
+    public List<HandlerEndpoint> handlers() {
+        return handlers;
+    }
+
+    public Optional<String> appDestinationPrefix() {
+        return Optional.ofNullable(appDestinationPrefix);
+    }
+
+    public Set<PayloadType> requestPayloads() {
+        return requestPayloads;
+    }
+
+    public Set<PayloadType> replyPayloads() {
+        return replyPayloads;
+    }
+}
@@ -0,0 +1,123 @@
+package generator.model;
+
+import generator.annotaions.MessageLimit;
+import generator.annotaions.MessageResponse;
+import generator.annotaions.Operation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+
+/**
+ * 문서화 대상 핸들러 메소드 하나를 애노테이션을 한 번만 읽어 정리한 불변 모델입니다.
+ *
+ * @param handler       {@code 클래스명#메소드명}
+ * @param destination   app prefix를 제외한 {@code @MessageMapping} 경로, 없으면 null
+ * @param pathVariables {@code @DestinationVariable} 이름들
+ * @param payloads      {@code @DestinationVariable}이 아닌 파라미터의 페이로드 타입
+ * @param summary       {@code @Operation} summary, 없으면 null
+ * @param description   {@code @Operation} description, 없으면 null
+ * @param contentType   {@code @Operation} contentType (요청 페이로드), 지정하지 않았으면 null
+ * @param limit         {@code @MessageLimit} 세션당 전송 한도, 없으면 null
+ * @param reply         {@code @MessageResponse} 응답, 없으면 null
+ */
+public record HandlerEndpoint(
+        String handler,
+        String destination,
+        List<String> pathVariables,
+        List<PayloadType> payloads,
+        String summary,
+        String description,
+        String contentType,
+        OperationLimit limit,
+        ReplyEndpoint reply
+) {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^}]+)\\}");
+
+    public static HandlerEndpoint from(Method method) {
+        MessageMapping messageMapping = method.getAnnotation(MessageMapping.class);
+        String destination = null;
+        if (messageMapping != null) {
+            destination = messageMapping.value().length > 0 ? messageMapping.value()[0] : "";
+        }
+        return from(method, destination);
+    }
+
+    /**
+     * destination을 외부에서 해석한 경우(예: 클래스 레벨 prefix 결합) 사용합니다.
+     */
+    public static HandlerEndpoint from(Method method, String destination) {
+        List<String> pathVariables = new ArrayList<>();
+        List<PayloadType> payloads = new ArrayList<>();
+        if (destination != null) {
+            for (Parameter parameter : method.getParameters()) {
+                DestinationVariable destinationVariable = parameter.getAnnotation(DestinationVariable.class);
+                if (destinationVariable != null) {
+                    pathVariables.add(destinationVariable.value().isEmpty() ? parameter.getName() : destinationVariable.value());
+                } else {
+                    payloads.add(PayloadType.of(parameter.getParameterizedType()));
+                }
+            }
+        }
+
+        Operation operation = method.getAnnotation(Operation.class);
+        MessageResponse messageResponse = method.getAnnotation(MessageResponse.class);
+        ReplyEndpoint reply = null;
+        if (messageResponse != null) {
+            reply = new ReplyEndpoint(
+                    messageResponse.path(),
+                    pathVariablesOf(messageResponse.path()),
+                    PayloadType.of(messageResponse.returnType(), messageResponse.genericType()),
+                    contentTypeOf(messageResponse.contentType())
+            );
+        }
+
+        return new HandlerEndpoint(
+                method.getDeclaringClass().getName() + "#" + method.getName(),
+                destination,
+                List.copyOf(pathVariables),
+                List.copyOf(payloads),
+                operation != null ? operation.summary() : null,
+                operation != null ? operation.description() : null,
+                operation != null ? contentTypeOf(operation.contentType()) : null,
+                OperationLimit.of(method.getAnnotation(MessageLimit.class)),
+                reply
+        );
+    }
+
+    /**
+     * {@code @MessageMapping}이 있는 클라이언트 → 서버 엔드포인트인지 여부입니다.
+     */
+    public boolean isSend() {
+        return destination != null;
+    }
+
+    /**
+     * {@code @MessageMapping} 없이 {@code @MessageResponse}만 있는 서버 → 클라이언트 토픽인지 여부입니다.
+     */
+    public boolean isTopic() {
+        return destination == null && reply != null;
+    }
+
+    public boolean hasOperation() {
+        return summary != null;
+    }
+
+    private static String contentTypeOf(String value) {
+        return value.isBlank() ? null : value.trim();
+    }
+
+    static List<String> pathVariablesOf(String path) {
+        Matcher matcher = PATH_VARIABLE.matcher(path);
+        List<String> results = new ArrayList<>();
+        while (matcher.find()) {
+            results.add(matcher.group(1));
+        }
+        return List.copyOf(results);
+    }
+}
@@ -0,0 +1,129 @@
+package generator.model;
+
+import generator.annotaions.MessageResponse;
+import generator.stats.GenerationPhase;
+import generator.stats.GenerationStats;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.messaging.handler.HandlerMethod;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Spring이 이미 등록해 둔 STOMP 핸들러 메소드로 {@link EndpointModel}을 만듭니다.
+ * 클래스 레벨 {@code @MessageMapping}과 placeholder가 반영된 destination을 그대로 쓰므로 별도의 클래스패스 스캔이 필요 없습니다.
+ * {@code @MessageMapping} 없이 {@code @MessageResponse}만 붙은 토픽 메소드는 등록된 빈 타입에서 찾습니다.
+ */
+public class HandlerMethodEndpointDiscovery implements EndpointDiscovery {
+
+    private final SimpAnnotationMethodMessageHandler messageHandler;
+    private final ListableBeanFactory beanFactory;
+    private final GenerationStats stats;
+
+    public HandlerMethodEndpointDiscovery(SimpAnnotationMethodMessageHandler messageHandler,
+                                          ListableBeanFactory beanFactory) {
+        this(messageHandler, beanFactory, new GenerationStats());
+    }
+
+    public HandlerMethodEndpointDiscovery(SimpAnnotationMethodMessageHandler messageHandler,
+                                          ListableBeanFactory beanFactory,
+                                          GenerationStats stats) {
+        this.messageHandler = messageHandler;
+        this.beanFactory = beanFactory;
+        this.stats = stats;
+    }
+
+    @Override
+    public EndpointModel discover() {
+        List<Mapping> mappings = stats.time(GenerationPhase.SCAN, this::scan);
+        return stats.time(GenerationPhase.MODEL, () -> {
+            List<HandlerEndpoint> endpoints = new ArrayList<>(mappings.size());
+            for (Mapping mapping : mappings) {
+                endpoints.add(mapping.pattern() != null
+                        ? HandlerEndpoint.from(mapping.method(), mapping.pattern())
+                        : HandlerEndpoint.from(mapping.method()));
+            }
+            return EndpointModel.of(endpoints, appDestinationPrefix());
+        });
+    }
+
+    private List<Mapping> scan() {
+        List<Mapping> mappings = new ArrayList<>();
+        for (Map.Entry<SimpMessageMappingInfo, HandlerMethod> entry : messageHandler.getHandlerMethods().entrySet()) {
+            SimpMessageMappingInfo mappingInfo = entry.getKey();
+            // @SubscribeMapping은 클라이언트 → 서버 메시지가 아니므로 제외한다.
+            if (mappingInfo.getMessageTypeMessageCondition().getMessageType() != SimpMessageType.MESSAGE) {
+                continue;
+            }
+            Method method = entry.getValue().getMethod();
+            for (String pattern : mappingInfo.getDestinationConditions().getPatterns()) {
+                mappings.add(new Mapping(method, pattern));
+            }
+        }
+        for (Method method : findTopicMethods(beanFactory)) {
+            mappings.add(new Mapping(method, null));
+        }
+        return mappings;
+    }
+
+    /**
+     * 등록된 빈 타입에서 {@code @MessageMapping} 없이 {@code @MessageResponse}만 붙은 메소드를 찾습니다.
+     */
+    static Set<Method> findTopicMethods(ListableBeanFactory beanFactory) {
+        Set<Method> methods = new HashSet<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> userType = ClassUtils.getUserClass(beanType);
+            if (!AnnotationUtils.isCandidateClass(userType, MessageResponse.class)) {
+                continue;
+            }
+            Map<Method, MessageResponse> annotated = MethodIntrospector.selectMethods(userType,
+                    (MethodIntrospector.MetadataLookup<MessageResponse>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, MessageResponse.class));
+            for (Method method : annotated.keySet()) {
+                if (!AnnotatedElementUtils.hasAnnotation(method, MessageMapping.class)) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private String appDestinationPrefix() {
+        return appDestinationPrefix(messageHandler);
+    }
+
+    /**
+     * @return 핸들러에 등록된 첫 app destination prefix (끝의 / 제외), 없으면 null
+     */
+    public static String appDestinationPrefix(SimpAnnotationMethodMessageHandler messageHandler) {
+        Collection<String> prefixes = messageHandler.getDestinationPrefixes();
+        if (prefixes.isEmpty()) {
+            return null;
+        }
+        String prefix = prefixes.iterator().next();
+        // "/app/" 형태로 등록되므로 destination 패턴과 이어 붙일 수 있게 끝의 "/"를 제거한다.
+        return prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+    }
+
+    /**
+     * @param pattern {@code @MessageMapping} destination, {@code @MessageResponse}만 붙은 토픽 메소드는 null
+     */
+    private record Mapping(Method method, String pattern) {
+    }
+}
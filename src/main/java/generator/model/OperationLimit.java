@@ -0,0 +1,41 @@
+package generator.model;
+
+import generator.annotaions.MessageLimit;
+
+/**
+ * {@code @MessageLimit}로 선언된 세션당 전송 한도입니다.
+ *
+ * @param ratePerSecond  세션당 초당 메시지 수, 0이면 제한 없음
+ * @param burst          한꺼번에 보낼 수 있는 메시지 수 (1 이상으로 보정된 값)
+ * @param maxPayloadSize 페이로드 최대 크기 (byte), 0이면 제한 없음
+ */
+public record OperationLimit(double ratePerSecond, int burst, int maxPayloadSize) {
+
+    /**
+     * 한도를 하나도 지정하지 않았으면 null 입니다.
+     */
+    public static OperationLimit of(MessageLimit limit) {
+        if (limit == null) {
+            return null;
+        }
+        return of(limit.ratePerSecond(), limit.burst(), limit.maxPayloadSize());
+    }
+
+    public static OperationLimit of(double ratePerSecond, int burst, int maxPayloadSize) {
+        double rate = Math.max(ratePerSecond, 0);
+        int size = Math.max(maxPayloadSize, 0);
+        if (rate == 0 && size == 0) {
+            return null;
+        }
+        int effectiveBurst = burst > 0 ? burst : (int) Math.max(Math.ceil(rate), 1);
+        return new OperationLimit(rate, rate > 0 ? effectiveBurst : 0, size);
+    }
+
+    public boolean hasRate() {
+        return ratePerSecond > 0;
+    }
+
+    public boolean hasMaxPayloadSize() {
+        return maxPayloadSize > 0;
+    }
+}
@@ -0,0 +1,96 @@
+package generator.model;
+
+import generator.util.TypeGenerator;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메시지 페이로드 타입입니다.
+ * 이름은 1-depth 제네릭까지만 반영하며, JSON 호환성을 위해 {@code List<User> -> List_User} 형태로 만듭니다.
+ * 공유 스키마 모드는 중첩 제네릭까지 담긴 {@code type} 으로 스키마를 만듭니다.
+ *
+ * @param name         components/messages 에서 사용하는 이름
+ * @param rawType      원시 타입
+ * @param typeArgument 첫 번째 제네릭 인자, 없으면 null
+ * @param type         제네릭 인자까지 포함한 전체 타입
+ */
+public record PayloadType(String name, Class<?> rawType, Type typeArgument, Type type) {
+
+    /**
+     * {@code @MessageResponse(returnType, genericType)} 조합으로 만듭니다.
+     */
+    public static PayloadType of(Class<?> rawType, Class<?> genericType) {
+        Type argument = (genericType == null || genericType == Void.class) ? null : genericType;
+        // 제네릭 인자를 하나만 받는 타입일 때만 파라미터화된 타입으로 만든다.
+        Type type = (argument != null && rawType.getTypeParameters().length == 1)
+                ? TypeGenerator.generateType(rawType, genericType)
+                : rawType;
+        return new PayloadType(nameOf(rawType, argument), rawType, argument, type);
+    }
+
+    /**
+     * 핸들러 파라미터의 실제 제네릭 타입으로 만듭니다.
+     */
+    public static PayloadType of(Type type) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+            Type argument = parameterizedType.getActualTypeArguments()[0];
+            return new PayloadType(nameOf(rawType, argument), rawType, argument, type);
+        }
+        Class<?> rawType = (Class<?>) type;
+        return new PayloadType(nameOf(rawType, null), rawType, null, type);
+    }
+
+    public boolean isList() {
+        return List.class.isAssignableFrom(rawType);
+    }
+
+    /**
+     * 제네릭 인자의 클래스입니다. 인자가 다시 제네릭이면 원시 타입을 돌려줍니다.
+     */
+    public Class<?> argumentClass() {
+        if (typeArgument instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (typeArgument instanceof ParameterizedType parameterizedType) {
+            return (Class<?>) parameterizedType.getRawType();
+        }
+        return null;
+    }
+
+    /**
+     * components/schemas 에 스키마로 등록해야 하는 타입들입니다.
+     * List 자체가 아닌 원소 타입의 스키마만 생성합니다.
+     */
+    public List<Class<?>> schemaTypes() {
+        List<Class<?>> types = new ArrayList<>(2);
+        if (!isList()) {
+            types.add(rawType);
+        }
+        Class<?> argument = argumentClass();
+        if (argument != null && argument != List.class) {
+            types.add(argument);
+        }
+        return types;
+    }
+
+    private static String nameOf(Class<?> rawType, Type argument) {
+        if (argument == null) {
+            return rawType.getSimpleName();
+        }
+        return rawType.getSimpleName() + "_" + simpleNameOf(argument);
+    }
+
+    private static String simpleNameOf(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz.getSimpleName();
+        }
+        if (type instanceof ParameterizedType parameterizedType) {
+            return ((Class<?>) parameterizedType.getRawType()).getSimpleName();
+        }
+        String typeName = type.getTypeName();
+        return typeName.substring(typeName.lastIndexOf('.') + 1);
+    }
+}
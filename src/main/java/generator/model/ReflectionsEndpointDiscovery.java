@@ -0,0 +1,56 @@
+package generator.model;
+
+import generator.annotaions.MessageResponse;
+import generator.stats.GenerationPhase;
+import generator.stats.GenerationStats;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+
+/**
+ * Reflections로 basePackage들을 한 번 스캔해 {@link EndpointModel}을 만듭니다.
+ * Spring의 STOMP 핸들러 레지스트리를 쓸 수 없을 때의 대체 수단이며, 스캔 결과 저장소는 모델을 만든 뒤 바로 버려집니다.
+ */
+public class ReflectionsEndpointDiscovery implements EndpointDiscovery {
+
+    private final List<String> basePackages;
+    private final GenerationStats stats;
+
+    public ReflectionsEndpointDiscovery(List<String> basePackages) {
+        this(basePackages, new GenerationStats());
+    }
+
+    public ReflectionsEndpointDiscovery(List<String> basePackages, GenerationStats stats) {
+        if (basePackages.isEmpty()) {
+            throw new IllegalArgumentException("스캔할 basePackage가 지정되지 않았습니다.");
+        }
+        this.basePackages = List.copyOf(basePackages);
+        this.stats = stats;
+    }
+
+    @Override
+    public EndpointModel discover() {
+        Set<Method> methods = stats.time(GenerationPhase.SCAN, this::scan);
+        return stats.time(GenerationPhase.MODEL,
+                () -> EndpointModel.of(methods.stream().map(HandlerEndpoint::from).toList()));
+    }
+
+    private Set<Method> scan() {
+        FilterBuilder filter = new FilterBuilder();
+        basePackages.forEach(filter::includePackage);
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+                .forPackages(basePackages.toArray(String[]::new))
+                .filterInputsBy(filter)
+                .setScanners(Scanners.MethodsAnnotated));
+
+        Set<Method> methods = new LinkedHashSet<>(reflections.getMethodsAnnotatedWith(MessageMapping.class));
+        methods.addAll(reflections.getMethodsAnnotatedWith(MessageResponse.class));
+        return methods;
+    }
+}
@@ -0,0 +1,14 @@
+package generator.model;
+
+import java.util.List;
+
+/**
+ * {@code @MessageResponse}로 선언된 응답 토픽입니다.
+ *
+ * @param path          topic prefix를 제외한 경로
+ * @param pathVariables 경로의 {@code {var}} 이름들
+ * @param payload       응답 페이로드 타입
+ * @param contentType   {@code @MessageResponse} contentType, 지정하지 않았으면 null
+ */
+public record ReplyEndpoint(String path, List<String> pathVariables, PayloadType payload, String contentType) {
+}
@@ -0,0 +1,34 @@
+package generator.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+
+/**
+ * 첫 화면에 필요한 가벼운 색인입니다. 오퍼레이션 본문과 스키마는 들어 있지 않습니다.
+ *
+ * @param asyncapi           AsyncAPI 버전
+ * @param info               문서 정보
+ * @param defaultContentType contentType 이 없는 메시지의 형식
+ * @param operationCount     전체 오퍼레이션 수
+ * @param destinations       테스트 도구에서 선택할 send destination 목록
+ * @param topics             구독할 수 있는 topic 목록
+ * @param schemas            components/schemas 의 이름 목록
+ * @param version            문서 버전 (JSON 표현의 ETag), 개발 모드에서 다시 연결했을 때 바뀌었는지 비교한다
+ */
+public record DocsOverview(
+        String asyncapi,
+        JsonNode info,
+        String defaultContentType,
+        int operationCount,
+        List<Destination> destinations,
+        List<String> topics,
+        List<String> schemas,
+        String version
+) {
+
+    /**
+     * @param replyChannel {@code @MessageResponse} 응답 topic, 없으면 null
+     */
+    public record Destination(String operationId, String channel, String replyChannel) {
+    }
+}
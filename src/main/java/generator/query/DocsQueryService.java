@@ -0,0 +1,249 @@
+package generator.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import generator.spec.AsyncApiSpec;
+import generator.spec.AsyncApiSpecProvider;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.util.StringUtils;
+
+/**
+ * 생성된 문서를 페이지 단위로 조회합니다.
+ * 문서 페이지는 목록만 먼저 받고, 오퍼레이션과 스키마 본문은 펼칠 때 받아 갑니다.
+ * 웹 계층에 의존하지 않으므로 MVC, WebFlux 어느 쪽에서도 사용할 수 있습니다.
+ */
+public class DocsQueryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final String CHANNEL_REF_PREFIX = "#/channels/";
+    private static final String MESSAGE_REF_PREFIX = "#/components/messages/";
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final AsyncApiSpecProvider specProvider;
+    private volatile Index index;
+
+    public DocsQueryService(AsyncApiSpecProvider specProvider) {
+        this.specProvider = specProvider;
+    }
+
+    public DocsOverview overview() {
+        Index current = index();
+        JsonNode root = current.spec().getRoot();
+        List<DocsOverview.Destination> destinations = new ArrayList<>();
+        Set<String> topics = new LinkedHashSet<>();
+        for (OperationSummary operation : current.operations()) {
+            if ("send".equals(operation.action())) {
+                destinations.add(new DocsOverview.Destination(operation.id(), operation.channel(), operation.replyChannel()));
+                if (operation.replyChannel() != null) {
+                    topics.add(operation.replyChannel());
+                }
+            } else {
+                topics.add(operation.channel());
+            }
+        }
+        List<String> schemas = new ArrayList<>();
+        root.path("components").path("schemas").fieldNames().forEachRemaining(schemas::add);
+        return new DocsOverview(
+                root.path("asyncapi").asText(),
+                root.path("info"),
+                root.path("defaultContentType").asText("application/json"),
+                current.operations().size(),
+                destinations,
+                List.copyOf(topics),
+                schemas,
+                current.spec().getJson().getEtag()
+        );
+    }
+
+    /**
+     * @param page        0부터 시작하는 페이지 번호
+     * @param size        페이지 크기, 1 ~ {@value #MAX_PAGE_SIZE} 로 보정
+     * @param prefix      destination 접두사 (요청 또는 응답 채널), 비어 있으면 전체
+     * @param messageType 메시지 이름 검색어, 비어 있으면 전체
+     */
+    public OperationPage operations(int page, int size, String prefix, String messageType) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        List<OperationSummary> matched = index().operations().stream()
+                .filter(operation -> !StringUtils.hasText(prefix) || operation.matchesPrefix(prefix))
+                .filter(operation -> !StringUtils.hasText(messageType) || operation.matchesMessageType(messageType))
+                .toList();
+        int from = (int) Math.min((long) pageNumber * pageSize, matched.size());
+        int to = Math.min(from + pageSize, matched.size());
+        int totalPages = (matched.size() + pageSize - 1) / pageSize;
+        return new OperationPage(matched.subList(from, to), pageNumber, pageSize, matched.size(), totalPages);
+    }
+
+    public Optional<OperationDetail> operation(String id) {
+        return operationOf(index().spec().getRoot(), id);
+    }
+
+    public Optional<SchemaDetail> schema(String name) {
+        return schemaOf(index().spec().getRoot(), name);
+    }
+
+    /**
+     * 두 스냅샷에서 페이지가 받아 가는 오퍼레이션/스키마 상세가 달라진 것을 찾습니다.
+     * 스키마가 바뀌면 그 스키마를 참조하는 오퍼레이션도 바뀐 것으로 봅니다.
+     *
+     * @param previous 이전 스냅샷, null 이면 전체가 바뀐 것으로 본다
+     */
+    public static SpecChange diff(AsyncApiSpec previous, AsyncApiSpec current) {
+        if (previous == null) {
+            return SpecChange.everything();
+        }
+        JsonNode before = previous.getRoot();
+        JsonNode after = current.getRoot();
+        List<String> operations = new ArrayList<>();
+        List<String> removedOperations = new ArrayList<>();
+        diffKeys(before.path("operations"), after.path("operations"),
+                id -> operationOf(before, id), id -> operationOf(after, id), operations, removedOperations);
+        List<String> schemas = new ArrayList<>();
+        List<String> removedSchemas = new ArrayList<>();
+        diffKeys(before.path("components").path("schemas"), after.path("components").path("schemas"),
+                name -> schemaOf(before, name), name -> schemaOf(after, name), schemas, removedSchemas);
+        return new SpecChange(false, operations, removedOperations, schemas, removedSchemas);
+    }
+
+    private static <T> void diffKeys(
+            JsonNode before,
+            JsonNode after,
+            Function<String, Optional<T>> beforeDetail,
+            Function<String, Optional<T>> afterDetail,
+            List<String> changed,
+            List<String> removed
+    ) {
+        after.fieldNames().forEachRemaining(key -> {
+            if (!before.has(key) || !beforeDetail.apply(key).equals(afterDetail.apply(key))) {
+                changed.add(key);
+            }
+        });
+        before.fieldNames().forEachRemaining(key -> {
+            if (!after.has(key)) {
+                removed.add(key);
+            }
+        });
+    }
+
+    private static Optional<OperationDetail> operationOf(JsonNode root, String id) {
+        JsonNode operation = root.path("operations").get(id);
+        if (operation == null) {
+            return Optional.empty();
+        }
+        JsonNode messageNodes = root.path("components").path("messages");
+        Map<String, JsonNode> messages = new LinkedHashMap<>();
+        List<JsonNode> messageRefs = new ArrayList<>();
+        operation.path("messages").forEach(messageRefs::add);
+        operation.path("reply").path("messages").forEach(messageRefs::add);
+        for (JsonNode messageRef : messageRefs) {
+            String name = refName(messageRef, MESSAGE_REF_PREFIX);
+            if (name != null && messageNodes.has(name)) {
+                messages.putIfAbsent(name, messageNodes.get(name));
+            }
+        }
+        Map<String, JsonNode> schemas = collectSchemas(root, new ArrayList<>(messages.values()));
+        return Optional.of(new OperationDetail(id, operation, messages, schemas));
+    }
+
+    private static Optional<SchemaDetail> schemaOf(JsonNode root, String name) {
+        JsonNode schema = root.path("components").path("schemas").get(name);
+        if (schema == null) {
+            return Optional.empty();
+        }
+        Map<String, JsonNode> schemas = new LinkedHashMap<>();
+        schemas.put(name, schema);
+        schemas.putAll(collectSchemas(root, List.of(schema)));
+        return Optional.of(new SchemaDetail(name, schemas));
+    }
+
+    /**
+     * 스냅샷이 바뀌었을 때만 색인을 다시 만듭니다.
+     */
+    private Index index() {
+        AsyncApiSpec spec = specProvider.get();
+        Index current = index;
+        if (current == null || current.spec() != spec) {
+            current = new Index(spec, summarize(spec.getRoot()));
+            index = current;
+        }
+        return current;
+    }
+
+    private static List<OperationSummary> summarize(JsonNode root) {
+        List<OperationSummary> operations = new ArrayList<>();
+        root.path("operations").fields().forEachRemaining(entry -> {
+            JsonNode operation = entry.getValue();
+            JsonNode reply = operation.path("reply");
+            operations.add(new OperationSummary(
+                    entry.getKey(),
+                    operation.path("action").asText(),
+                    channelPath(operation.path("channel")),
+                    reply.isMissingNode() ? null : channelPath(reply.path("channel")),
+                    operation.hasNonNull("summary") ? operation.get("summary").asText() : null,
+                    messageNames(operation.path("messages")),
+                    messageNames(reply.path("messages"))
+            ));
+        });
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * 주어진 노드들에서 시작해 $ref 로 이어지는 스키마를 모두 모읍니다.
+     */
+    private static Map<String, JsonNode> collectSchemas(JsonNode root, List<JsonNode> starts) {
+        JsonNode schemaNodes = root.path("components").path("schemas");
+        Map<String, JsonNode> schemas = new LinkedHashMap<>();
+        Deque<JsonNode> pending = new ArrayDeque<>(starts);
+        while (!pending.isEmpty()) {
+            JsonNode node = pending.pop();
+            String name = refName(node, SCHEMA_REF_PREFIX);
+            if (name != null && !schemas.containsKey(name) && schemaNodes.has(name)) {
+                JsonNode schema = schemaNodes.get(name);
+                schemas.put(name, schema);
+                pending.push(schema);
+            }
+            if (node.isContainerNode()) {
+                node.elements().forEachRemaining(pending::push);
+            }
+        }
+        return schemas;
+    }
+
+    private static List<String> messageNames(JsonNode messageRefs) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode messageRef : messageRefs) {
+            String name = refName(messageRef, MESSAGE_REF_PREFIX);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private static String channelPath(JsonNode channelRef) {
+        String name = refName(channelRef, CHANNEL_REF_PREFIX);
+        return name == null ? "" : name.replace("~1", "/");
+    }
+
+    private static String refName(JsonNode node, String prefix) {
+        JsonNode ref = node.get("$ref");
+        if (ref == null || !ref.isTextual() || !ref.asText().startsWith(prefix)) {
+            return null;
+        }
+        return ref.asText().substring(prefix.length());
+    }
+
+    private record Index(AsyncApiSpec spec, List<OperationSummary> operations) {
+    }
+}
@@ -0,0 +1,20 @@
+package generator.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+/**
+ * 오퍼레이션 하나를 그리는 데 필요한 부분 문서입니다.
+ *
+ * @param id        operations 의 키
+ * @param operation operations 의 원본 노드
+ * @param messages  참조하는 components/messages
+ * @param schemas   메시지가 직접 또는 간접으로 참조하는 components/schemas
+ */
+public record OperationDetail(
+        String id,
+        JsonNode operation,
+        Map<String, JsonNode> messages,
+        Map<String, JsonNode> schemas
+) {
+}
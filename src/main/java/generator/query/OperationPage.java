@@ -0,0 +1,12 @@
+package generator.query;
+
+import java.util.List;
+
+public record OperationPage(
+        List<OperationSummary> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+}
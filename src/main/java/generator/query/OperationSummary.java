@@ -0,0 +1,38 @@
+package generator.query;
+
+import java.util.List;
+
+/**
+ * 목록에 표시할 오퍼레이션 요약입니다. 상세 스키마는 {@link OperationDetail}로 따로 받습니다.
+ *
+ * @param id            operations 의 키
+ * @param action        send 또는 receive
+ * @param channel       실제 destination (예: /app/chat/join/{roomId})
+ * @param replyChannel  응답 destination, 없으면 null
+ * @param summary       요약, 없으면 null
+ * @param messages      요청(또는 수신) 메시지 이름
+ * @param replyMessages 응답 메시지 이름
+ */
+public record OperationSummary(
+        String id,
+        String action,
+        String channel,
+        String replyChannel,
+        String summary,
+        List<String> messages,
+        List<String> replyMessages
+) {
+
+    boolean matchesPrefix(String prefix) {
+        return channel.startsWith(prefix) || (replyChannel != null && replyChannel.startsWith(prefix));
+    }
+
+    /**
+     * 요청/응답 메시지 이름에 대소문자 구분 없이 포함되는지 검사합니다.
+     */
+    boolean matchesMessageType(String messageType) {
+        String keyword = messageType.toLowerCase();
+        return messages.stream().anyMatch(name -> name.toLowerCase().contains(keyword))
+                || replyMessages.stream().anyMatch(name -> name.toLowerCase().contains(keyword));
+    }
+}
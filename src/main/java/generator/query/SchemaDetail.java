@@ -0,0 +1,14 @@
+package generator.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+/**
+ * @param name    components/schemas 의 키
+ * @param schemas 요청한 스키마와, 그 스키마가 $ref 로 참조하는 스키마들
+ */
+public record SchemaDetail(
+        String name,
+        Map<String, JsonNode> schemas
+) {
+}
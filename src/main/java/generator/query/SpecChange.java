@@ -0,0 +1,30 @@
+package generator.query;
+
+import java.util.List;
+
+/**
+ * 문서를 다시 생성했을 때 바뀐 부분입니다. 문서 페이지는 이 목록에 든 카드만 다시 받아 옵니다.
+ *
+ * @param full              이전 문서가 없어 전체를 다시 받아야 하면 true
+ * @param operations        추가되었거나 상세가 바뀐 오퍼레이션
+ * @param removedOperations 없어진 오퍼레이션
+ * @param schemas           추가되었거나 바뀐 스키마
+ * @param removedSchemas    없어진 스키마
+ */
+public record SpecChange(
+        boolean full,
+        List<String> operations,
+        List<String> removedOperations,
+        List<String> schemas,
+        List<String> removedSchemas
+) {
+
+    static SpecChange everything() {
+        return new SpecChange(true, List.of(), List.of(), List.of(), List.of());
+    }
+
+    public boolean hasChanges() {
+        return full || !operations.isEmpty() || !removedOperations.isEmpty()
+                || !schemas.isEmpty() || !removedSchemas.isEmpty();
+    }
+}
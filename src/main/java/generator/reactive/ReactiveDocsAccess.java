@@ -0,0 +1,26 @@
+package generator.reactive;
+
+import generator.config.DocsAccess;
+import generator.config.DocsProperties;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 문서 라우트에 공통으로 거는 필터입니다.
+ */
+final class ReactiveDocsAccess {
+
+    private ReactiveDocsAccess() {
+    }
+
+    /**
+     * 문서 기능이 꺼져 있으면 요청을 처리하지 않고 404 로 끝냅니다.
+     */
+    static HandlerFilterFunction<ServerResponse, ServerResponse> enabledOnly(DocsProperties properties) {
+        return (request, next) -> Mono.defer(() -> {
+            DocsAccess.checkEnabled(properties);
+            return next.handle(request);
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package generator.reactive;
+
+import generator.codec.PayloadFormat;
+import generator.config.DocsProperties;
+import java.io.IOException;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux 에서 {@code POST /docs/api/codec/encode|decode}로 JSON 과 바이너리 형식(CBOR, Smile)을 서로 바꿉니다.
+ * MVC 의 {@code DocsCodecController}에 해당하며, {@code websocket.docs.codec.enabled=true} 일 때만 등록됩니다.
+ */
+public class ReactiveDocsCodec {
+
+    private final DocsProperties properties;
+
+    public ReactiveDocsCodec(DocsProperties properties) {
+        this.properties = properties;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .POST("/docs/api/codec/encode", request -> transcode(request, PayloadFormat.JSON, null))
+                .POST("/docs/api/codec/decode", request -> transcode(request, null, PayloadFormat.JSON))
+                .filter(ReactiveDocsAccess.enabledOnly(properties))
+                .build();
+    }
+
+    /**
+     * JSON 과 {@code contentType} 형식(CBOR, Smile) 사이를 바꿉니다. null 인 쪽이 {@code contentType} 형식입니다.
+     */
+    private Mono<ServerResponse> transcode(ServerRequest request, PayloadFormat from, PayloadFormat to) {
+        String contentType = request.queryParam("contentType")
+                .orElseThrow(() -> new ServerWebInputException("contentType 파라미터가 필요합니다."));
+        PayloadFormat format = PayloadFormat.available(contentType)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 형식입니다: " + contentType));
+        PayloadFormat source = from != null ? from : format;
+        PayloadFormat target = to != null ? to : format;
+        MediaType responseType = target == PayloadFormat.JSON ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_OCTET_STREAM;
+        return read(request)
+                .flatMap(payload -> {
+                    try {
+                        return ServerResponse.ok().contentType(responseType).bodyValue(source.transcode(payload, target));
+                    } catch (IOException e) {
+                        return Mono.error(new ServerWebInputException(source.mimeType() + " 페이로드를 읽지 못했습니다: " + e.getMessage()));
+                    }
+                });
+    }
+
+    /**
+     * 버퍼를 합치는 도중 한도를 넘으면 더 받지 않고 413 을 돌려줍니다.
+     */
+    private Mono<byte[]> read(ServerRequest request) {
+        int limit = (int) Math.min(properties.getCodec().getMaxBodySize().toBytes(), Integer.MAX_VALUE);
+        return DataBufferUtils.join(request.body(BodyExtractors.toDataBuffers()), limit)
+                .map(buffer -> {
+                    byte[] payload = new byte[buffer.readableByteCount()];
+                    buffer.read(payload);
+                    DataBufferUtils.release(buffer);
+                    return payload;
+                })
+                .defaultIfEmpty(new byte[0])
+                .onErrorMap(DataBufferLimitException.class,
+                        e -> new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 " + limit + " 바이트를 넘습니다."));
+    }
+}
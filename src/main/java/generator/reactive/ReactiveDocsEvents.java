@@ -0,0 +1,63 @@
+package generator.reactive;
+
+import generator.config.DocsProperties;
+import generator.query.DocsQueryService;
+import generator.query.SpecChange;
+import generator.spec.AsyncApiSpec;
+import generator.spec.AsyncApiSpecProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux 에서 {@code GET /docs/api/events}로 문서 갱신을 SSE 로 보냅니다. MVC 의 {@code DocsEventsController}에 해당합니다.
+ * 연결할 때마다 현재 문서 버전({@code spec-version})을 먼저 보냅니다.
+ * {@code websocket.docs.dev.enabled=true} 일 때만 등록됩니다.
+ */
+public class ReactiveDocsEvents implements AsyncApiSpecProvider.Listener {
+
+    private static final String EVENT_NAME = "spec-updated";
+    private static final String VERSION_EVENT_NAME = "spec-version";
+
+    private final AsyncApiSpecProvider specProvider;
+    private final DocsProperties properties;
+    // 느린 구독자가 있어도 감시 스레드를 막지 않도록 버퍼 없이 보낼 수 있는 구독자에게만 보낸다.
+    private final Sinks.Many<SpecChange> changes = Sinks.many().multicast().directBestEffort();
+
+    public ReactiveDocsEvents(AsyncApiSpecProvider specProvider, DocsProperties properties) {
+        this.specProvider = specProvider;
+        this.properties = properties;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/docs/api/events", request -> {
+                    // 재시작 뒤에는 이전 문서가 없어 변경 이벤트가 오지 않으므로, 연결마다 현재 버전을 알린다.
+                    Flux<ServerSentEvent<?>> events = Flux.concat(
+                            Mono.fromSupplier(() -> ServerSentEvent.builder(specProvider.get().getJson().getEtag())
+                                    .event(VERSION_EVENT_NAME)
+                                    .build())
+                                    // 첫 요청이면 문서를 만드는 동안 막히므로 이벤트 루프 밖에서 부른다.
+                                    .subscribeOn(Schedulers.boundedElastic()),
+                            changes.asFlux().map(change -> ServerSentEvent.builder(change).event(EVENT_NAME).build())
+                    );
+                    return ServerResponse.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(events, ServerSentEvent.class);
+                })
+                .filter(ReactiveDocsAccess.enabledOnly(properties))
+                .build();
+    }
+
+    @Override
+    public void specRefreshed(AsyncApiSpec previous, AsyncApiSpec current) {
+        SpecChange change = DocsQueryService.diff(previous, current);
+        if (change.hasChanges()) {
+            changes.tryEmitNext(change);
+        }
+    }
+}
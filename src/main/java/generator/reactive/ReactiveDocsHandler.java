@@ -0,0 +1,214 @@
+package generator.reactive;
+
+import generator.assets.DocsAssets;
+import generator.config.DocsProperties;
+import generator.query.DocsQueryService;
+import generator.spec.AsyncApiSpec;
+import generator.spec.AsyncApiSpecProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.resource.ResourceUrlProvider;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux 애플리케이션에서 문서 페이지, 문서, 조회 API를 함수형 라우트로 제공합니다.
+ * MVC 의 {@code DocsController}, {@code DocsApiController}와 같은 경로와 응답을 가집니다.
+ *
+ * <p>문서 생성은 CPU 작업이므로 첫 요청 때 boundedElastic 에서 한 번만 수행하고, 결과 바이트를 캐시한 Mono 로 재사용합니다.
+ * 문서가 갱신되면 캐시도 다시 만듭니다.
+ */
+public class ReactiveDocsHandler {
+
+    private static final MediaType APPLICATION_YAML = MediaType.parseMediaType("application/yaml");
+
+    private final AsyncApiSpecProvider specProvider;
+    private final DocsQueryService queryService;
+    private final DocsProperties properties;
+    // 없으면 자원을 해시 없는 경로로 참조한다.
+    private final ResourceUrlProvider resourceUrlProvider;
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private volatile Mono<SpecBytes> spec;
+
+    public ReactiveDocsHandler(
+            AsyncApiSpecProvider specProvider,
+            DocsQueryService queryService,
+            DocsProperties properties,
+            ResourceUrlProvider resourceUrlProvider
+    ) {
+        this.specProvider = specProvider;
+        this.queryService = queryService;
+        this.properties = properties;
+        this.resourceUrlProvider = resourceUrlProvider;
+        this.spec = load();
+        specProvider.addListener((previous, current) -> spec = load());
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/docs", this::page)
+                .GET("/docs/asyncapi.json", request -> spec(request, SpecBytes::json, MediaType.APPLICATION_JSON))
+                .GET("/docs/asyncapi.yaml", request -> spec(request, SpecBytes::yaml, APPLICATION_YAML))
+                .GET("/docs/api/overview", request -> query(queryService::overview))
+                .GET("/docs/api/operations", this::operations)
+                .GET("/docs/api/operations/detail", this::operation)
+                .GET("/docs/api/schemas/detail", this::schema)
+                .filter(ReactiveDocsAccess.enabledOnly(properties))
+                .build();
+    }
+
+    /**
+     * 페이지에는 문서를 넣지 않습니다. 페이지가 /docs/asyncapi.json 을 따로 받아 오므로 브라우저가 각각 캐시할 수 있습니다.
+     */
+    private Mono<ServerResponse> page(ServerRequest request) {
+        return assets(request).flatMap(assets -> ServerResponse.ok()
+                .render("docs", Map.of("websocketUrl", properties.getServerUrl(), "assets", assets)));
+    }
+
+    /**
+     * 페이지가 참조할 자원의 해시가 붙은 URL 입니다. 템플릿의 링크가 컨텍스트 경로를 붙이므로 여기서는 뗀다.
+     */
+    private Mono<Map<String, String>> assets(ServerRequest request) {
+        if (resourceUrlProvider == null) {
+            return Mono.just(DocsAssets.urls(null));
+        }
+        String contextPath = request.requestPath().contextPath().value();
+        return Flux.fromIterable(DocsAssets.paths().entrySet())
+                .flatMap(asset -> resourceUrlProvider.getForUriString(contextPath + asset.getValue(), request.exchange())
+                        .map(url -> url.substring(contextPath.length()))
+                        .defaultIfEmpty(asset.getValue())
+                        .map(url -> Map.entry(asset.getKey(), url)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<ServerResponse> spec(ServerRequest request, Function<SpecBytes, Representation> format, MediaType contentType) {
+        boolean gzip = acceptsGzip(request.headers().header(HttpHeaders.ACCEPT_ENCODING));
+        return spec.flatMap(bytes -> {
+            Representation representation = format.apply(bytes);
+            String etag = gzip ? representation.gzipEtag() : representation.etag();
+            // If-None-Match 의 쉼표로 이어진 목록과 약한 ETag 비교는 Spring 에 맡긴다.
+            // Spring 은 GET 의 * 를 비교하지 않지만 문서는 항상 있으므로 304 로 응답한다.
+            Mono<ServerResponse> notModified = "*".equals(request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH))
+                    ? ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).build()
+                    : request.checkNotModified(etag);
+            return notModified.switchIfEmpty(Mono.defer(() -> {
+                byte[] body = gzip ? representation.gzipped() : representation.identity();
+                ServerResponse.BodyBuilder builder = ServerResponse.ok()
+                        .eTag(etag)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .contentType(contentType)
+                        .contentLength(body.length);
+                if (gzip) {
+                    builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                }
+                // 버퍼는 읽기 위치를 가지므로 요청마다 같은 바이트를 감싸기만 한다.
+                return builder.body(Mono.fromSupplier(() -> bufferFactory.wrap(body)), DataBuffer.class);
+            }));
+        });
+    }
+
+    private Mono<ServerResponse> operations(ServerRequest request) {
+        int page = intParam(request, "page", 0);
+        int size = intParam(request, "size", DocsQueryService.DEFAULT_PAGE_SIZE);
+        String prefix = request.queryParam("prefix").orElse(null);
+        String messageType = request.queryParam("messageType").orElse(null);
+        return query(() -> queryService.operations(page, size, prefix, messageType));
+    }
+
+    /**
+     * 오퍼레이션 키에 / 가 들어 있으므로 경로 변수 대신 쿼리 파라미터로 받습니다.
+     */
+    private Mono<ServerResponse> operation(ServerRequest request) {
+        String id = requiredParam(request, "id");
+        return spec.flatMap(ignored -> Mono.justOrEmpty(queryService.operation(id)))
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "오퍼레이션을 찾을 수 없습니다: " + id)))
+                .flatMap(detail -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(detail));
+    }
+
+    private Mono<ServerResponse> schema(ServerRequest request) {
+        String name = requiredParam(request, "name");
+        return spec.flatMap(ignored -> Mono.justOrEmpty(queryService.schema(name)))
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "스키마를 찾을 수 없습니다: " + name)))
+                .flatMap(detail -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(detail));
+    }
+
+    /**
+     * 문서가 캐시된 뒤에 조회하므로 조회 서비스가 이벤트 루프에서 문서를 생성하지 않는다.
+     */
+    private Mono<ServerResponse> query(Supplier<?> query) {
+        return spec.flatMap(ignored -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(query.get()));
+    }
+
+    /**
+     * 실패한 생성은 캐시하지 않고 다음 요청에서 다시 시도한다.
+     */
+    private Mono<SpecBytes> load() {
+        return Mono.fromCallable(() -> SpecBytes.of(specProvider.get()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .cache(value -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("숫자가 아닌 " + name + " 파라미터입니다: " + value);
+        }
+    }
+
+    private static String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .orElseThrow(() -> new ServerWebInputException(name + " 파라미터가 필요합니다."));
+    }
+
+    private static boolean acceptsGzip(List<String> acceptEncoding) {
+        return acceptEncoding.stream().anyMatch(value -> value.toLowerCase().contains("gzip"));
+    }
+
+    /**
+     * 스냅샷의 표현별 원문과 gzip 바이트입니다. MVC 와 달리 요청마다 트리를 직렬화하지 않도록 원문도 한 번만 만든다.
+     */
+    private record SpecBytes(Representation json, Representation yaml) {
+
+        private static SpecBytes of(AsyncApiSpec spec) {
+            return new SpecBytes(Representation.of(spec.getJson()), Representation.of(spec.getYaml()));
+        }
+    }
+
+    private record Representation(byte[] identity, byte[] gzipped, String etag, String gzipEtag) {
+
+        private static Representation of(AsyncApiSpec.Representation representation) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) representation.getSize());
+            try {
+                representation.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Representation(out.toByteArray(), representation.getGzipped(),
+                    representation.getEtag(), representation.getGzipEtag());
+        }
+    }
+}
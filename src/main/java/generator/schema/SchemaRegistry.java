@@ -0,0 +1,259 @@
+package generator.schema;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaBuilder;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import generator.annotaions.JsonSchemaEnumType;
+import generator.config.DocsProperties.SchemaMode;
+import generator.incremental.FragmentCache;
+import generator.model.PayloadType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 페이로드 타입의 JSON 스키마를 만들고 타입별로 캐싱합니다.
+ *
+ * <ul>
+ *     <li>INLINE: 페이로드 클래스마다 중첩 DTO를 모두 펼친 스키마를 만듭니다.</li>
+ *     <li>SHARED: 모든 객체 타입을 components/schemas 에 한 번만 등록하고 $ref 로 참조합니다.</li>
+ * </ul>
+ * 캐시에 없는 타입들은 ForkJoinPool 에서 병렬로 만들고, 결과는 항상 페이로드 순서대로 합칩니다.
+ * {@link FragmentCache} 가 주어지면 캐시를 비운 뒤에도 의존 클래스가 그대로인 스키마는 다시 만들지 않습니다.
+ */
+public class SchemaRegistry {
+
+    private static final String DEFINITION_PATH = "components/schemas";
+    private static final String SCHEMA_REF_PREFIX = "#/" + DEFINITION_PATH + "/";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final SchemaMode mode;
+    private final int parallelism;
+    private final FragmentCache fragments;
+    private final SchemaGenerator inlineGenerator = createGenerator(SchemaMode.INLINE);
+    private final SchemaGenerator sharedGenerator = createGenerator(SchemaMode.SHARED);
+    private final Map<Class<?>, ObjectNode> inlineSchemas = new ConcurrentHashMap<>();
+    private final Map<Type, SharedSchema> sharedSchemas = new ConcurrentHashMap<>();
+
+    public SchemaRegistry(SchemaMode mode) {
+        this(mode, 1);
+    }
+
+    /**
+     * @param parallelism 스키마 생성에 쓸 스레드 수, 0 이하이면 CPU 코어 수
+     */
+    public SchemaRegistry(SchemaMode mode, int parallelism) {
+        this(mode, parallelism, null);
+    }
+
+    /**
+     * @param fragments 클래스 변경 추적용 조각 캐시, null 이면 사용하지 않음
+     */
+    public SchemaRegistry(SchemaMode mode, int parallelism, FragmentCache fragments) {
+        this.mode = mode;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.fragments = fragments;
+    }
+
+    /**
+     * components/schemas 에 들어갈 스키마들을 주어진 페이로드 순서대로 만듭니다.
+     */
+    public ObjectNode definitions(Collection<PayloadType> payloads) {
+        prepare(payloads);
+        ObjectNode schemaNode = mapper.createObjectNode();
+        if (mode == SchemaMode.SHARED) {
+            for (PayloadType payload : payloads) {
+                // 이름이 같은 서로 다른 타입은 먼저 등록된 쪽을 유지한다.
+                sharedSchema(payload.type()).definitions()
+                        .forEach((name, definition) -> {
+                            if (!schemaNode.has(name)) {
+                                schemaNode.set(name, definition);
+                            }
+                        });
+            }
+            return schemaNode;
+        }
+        // List는 원소 타입의 스키마만 만든다.
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (PayloadType payload : payloads) {
+            types.addAll(payload.schemaTypes());
+        }
+        for (Class<?> type : types) {
+            schemaNode.set(type.getSimpleName(), inlineSchema(type));
+        }
+        return schemaNode;
+    }
+
+    /**
+     * components/messages 의 payload 로 들어갈 스키마입니다.
+     */
+    public ObjectNode payloadSchema(PayloadType payload) {
+        if (mode == SchemaMode.SHARED) {
+            return sharedSchema(payload.type()).reference().deepCopy();
+        }
+        Class<?> element = payload.argumentClass();
+        if (payload.isList() && element != null) {
+            // List 타입의 경우 직접 array 스키마 생성
+            ObjectNode arraySchema = mapper.createObjectNode();
+            arraySchema.put("type", "array");
+            arraySchema.set("items", schemaRef(element.getSimpleName()));
+            return arraySchema;
+        }
+        return schemaRef(payload.name());
+    }
+
+    /**
+     * 캐시된 스키마를 모두 버립니다.
+     */
+    public void clear() {
+        inlineSchemas.clear();
+        sharedSchemas.clear();
+    }
+
+    /**
+     * 아직 캐시에 없는 스키마들을 미리 병렬로 만들어 둡니다.
+     */
+    private void prepare(Collection<PayloadType> payloads) {
+        List<Runnable> tasks = new ArrayList<>();
+        if (mode == SchemaMode.SHARED) {
+            payloads.stream()
+                    .map(PayloadType::type)
+                    .distinct()
+                    .filter(type -> !sharedSchemas.containsKey(type))
+                    .forEach(type -> tasks.add(() -> sharedSchema(type)));
+        } else {
+            payloads.stream()
+                    .flatMap(payload -> payload.schemaTypes().stream())
+                    .distinct()
+                    .filter(type -> !inlineSchemas.containsKey(type))
+                    .forEach(type -> tasks.add(() -> inlineSchema(type)));
+        }
+        if (parallelism == 1 || tasks.size() < 2) {
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, tasks.size()));
+        try {
+            pool.submit(() -> tasks.parallelStream().forEach(Runnable::run)).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private ObjectNode inlineSchema(Class<?> type) {
+        return inlineSchemas.computeIfAbsent(type, key -> fragments == null
+                ? inlineGenerator.generateSchema(key)
+                : fragments.get("inline:" + key.getName(), key, () -> inlineGenerator.generateSchema(key)));
+    }
+
+    /**
+     * 루트 타입마다 별도의 SchemaBuilder 로 참조 노드와 그 타입이 쓰는 정의들을 만들어 둡니다.
+     */
+    private SharedSchema sharedSchema(Type type) {
+        return sharedSchemas.computeIfAbsent(type, key -> {
+            ObjectNode built = fragments == null
+                    ? buildSharedSchema(key)
+                    : fragments.get("shared:" + key.getTypeName(), key, () -> buildSharedSchema(key));
+            Map<String, JsonNode> definitions = new LinkedHashMap<>();
+            built.get("definitions").fields().forEachRemaining(entry -> definitions.put(entry.getKey(), entry.getValue()));
+            return new SharedSchema((ObjectNode) built.get("reference"), definitions);
+        });
+    }
+
+    /**
+     * 조각 캐시에 한 노드로 보관할 수 있도록 참조 노드와 정의들을 함께 담습니다.
+     */
+    private ObjectNode buildSharedSchema(Type type) {
+        SchemaBuilder builder = sharedGenerator.buildMultipleSchemaDefinitions();
+        ObjectNode built = mapper.createObjectNode();
+        built.set("reference", builder.createSchemaReference(type));
+        built.set("definitions", builder.collectDefinitions(DEFINITION_PATH));
+        return built;
+    }
+
+    private ObjectNode schemaRef(String name) {
+        ObjectNode refNode = mapper.createObjectNode();
+        refNode.put("$ref", SCHEMA_REF_PREFIX + name);
+        return refNode;
+    }
+
+    private static SchemaGenerator createGenerator(SchemaMode mode) {
+        // ⚡ victools 설정
+        SchemaGeneratorConfigBuilder configBuilder =
+                new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                        .without(Option.EXTRA_OPEN_API_FORMAT_VALUES); // 필요없으면 뺄 수 있음
+
+        if (mode == SchemaMode.SHARED) {
+            configBuilder.with(Option.DEFINITIONS_FOR_ALL_OBJECTS);
+            configBuilder.forTypesInGeneral()
+                    .withDefinitionNamingStrategy((definitionKey, context) -> definitionName(definitionKey.getType()))
+                    .withCustomDefinitionProvider(new MapValueDefinitionProvider());
+        } else {
+            configBuilder.without(Option.DEFINITIONS_FOR_ALL_OBJECTS);   // definitions/ref 없애고 inline
+        }
+
+        // Enum 처리 커스터마이징
+        configBuilder.forFields().withEnumResolver(field -> {
+            JsonSchemaEnumType annotation = field.getAnnotation(JsonSchemaEnumType.class);
+            if (annotation != null) {
+                Class<? extends Enum<?>> enumClass = annotation.enumType();
+                return Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList();
+            }
+            return null;
+        });
+
+        return new SchemaGenerator(configBuilder.build());
+    }
+
+    /**
+     * {@code Page<List<User>> -> Page_List_User} 처럼 중첩 제네릭까지 이름에 반영합니다.
+     */
+    private static String definitionName(ResolvedType type) {
+        StringBuilder name = new StringBuilder(type.getErasedType().getSimpleName());
+        for (ResolvedType parameter : type.getTypeParameters()) {
+            name.append('_').append(definitionName(parameter));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Map 은 별도 정의로 빼지 않고, 값 타입을 additionalProperties 로 참조하는 인라인 object 로 만듭니다.
+     */
+    private static class MapValueDefinitionProvider implements CustomDefinitionProviderV2 {
+
+        @Override
+        public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
+            if (!javaType.isInstanceOf(Map.class)) {
+                return null;
+            }
+            ObjectNode mapSchema = context.getGeneratorConfig().createObjectNode();
+            mapSchema.put("type", "object");
+            List<ResolvedType> parameters = javaType.typeParametersFor(Map.class);
+            if (parameters != null && parameters.size() == 2) {
+                mapSchema.set("additionalProperties", context.createDefinitionReference(parameters.get(1)));
+            }
+            return new CustomDefinition(mapSchema, CustomDefinition.DefinitionType.INLINE,
+                    CustomDefinition.AttributeInclusion.NO);
+        }
+    }
+
+    private record SharedSchema(ObjectNode reference, Map<String, JsonNode> definitions) {
+    }
+}
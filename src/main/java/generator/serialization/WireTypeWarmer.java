@@ -0,0 +1,136 @@
+package generator.serialization;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import generator.AsyncApiGenerator;
+import generator.config.DocsProperties;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * STOMP 브로커의 {@link MappingJackson2MessageConverter} 가 쓰는 ObjectMapper 에서,
+ * 메시지로 오가는 타입의 직렬화기/역직렬화기를 첫 메시지 전에 만들어 둡니다.
+ * 캐시를 미리 채울 뿐이므로 줄어드는 것은 타입마다 첫 메시지의 지연이고, 이후 처리 속도는 같습니다.
+ *
+ * <p>jackson-module-blackbird 가 클래스패스에 있으면 브로커 컨버터에 ObjectMapper 복사본을 따로 주고 거기에만 등록해,
+ * 필드/getter 접근을 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 합니다. 애플리케이션의 기본 ObjectMapper 는
+ * 브로커 컨버터와 같은 인스턴스여도 바꾸지 않습니다. 교체는 싱글톤 생성 직후, 즉 메시지를 처리하기 전에 한 번만 합니다.
+ */
+@Slf4j
+public class WireTypeWarmer implements SmartInitializingSingleton, ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private final ObjectProvider<CompositeMessageConverter> brokerMessageConverter;
+    private final AsyncApiGenerator generator;
+    private final DocsProperties.Serialization properties;
+
+    public WireTypeWarmer(
+            ObjectProvider<CompositeMessageConverter> brokerMessageConverter,
+            AsyncApiGenerator generator,
+            DocsProperties.Serialization properties
+    ) {
+        this.brokerMessageConverter = brokerMessageConverter;
+        this.generator = generator;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isBlackbird() || !ClassUtils.isPresent(BLACKBIRD_MODULE, getClass().getClassLoader())) {
+            return;
+        }
+        CompositeMessageConverter composite = brokerMessageConverter.getIfUnique();
+        if (composite == null) {
+            return;
+        }
+        // 같은 ObjectMapper 를 쓰던 컨버터끼리는 복사본도 하나를 나눠 쓴다.
+        Map<ObjectMapper, ObjectMapper> copies = new IdentityHashMap<>();
+        for (MessageConverter converter : composite.getConverters()) {
+            if (converter instanceof MappingJackson2MessageConverter jackson) {
+                jackson.setObjectMapper(copies.computeIfAbsent(jackson.getObjectMapper(), Blackbird::copyWithModule));
+            }
+        }
+    }
+
+    /**
+     * 기동을 늦추지 않도록 별도 스레드에서 만듭니다. Jackson 의 직렬화기 캐시는 스레드 안전합니다.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        CompletableFuture.runAsync(this::warm).exceptionally(error -> {
+            log.warn("직렬화기를 미리 만들지 못했습니다: {}", error.getMessage());
+            return null;
+        });
+    }
+
+    public void warm() {
+        List<ObjectMapper> mappers = objectMappers();
+        if (mappers.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<JavaType> types = wireTypes(mappers.get(0));
+        for (ObjectMapper mapper : mappers) {
+            for (JavaType type : types) {
+                // writerFor/readerFor 는 루트 직렬화기를 미리 찾으며, 찾은 직렬화기는 ObjectMapper 캐시에 남는다.
+                // 컨버터는 런타임 클래스로 직렬화하므로 원시 타입도 함께 만든다.
+                mapper.writerFor(type);
+                mapper.writerFor(type.getRawClass());
+                mapper.readerFor(type);
+            }
+        }
+        log.info("메시지 타입 {}개의 직렬화기를 미리 만들었습니다 ({} ms)",
+                types.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private List<JavaType> wireTypes(ObjectMapper mapper) {
+        try {
+            List<JavaType> types = WireTypes.fromResources(getClass().getClassLoader(), mapper.getTypeFactory());
+            if (!types.isEmpty()) {
+                return types;
+            }
+        } catch (IOException e) {
+            log.debug("{} 를 읽지 못했습니다: {}", WireTypes.RESOURCE, e.getMessage());
+        }
+        return WireTypes.fromModel(generator.getModel(), mapper.getTypeFactory());
+    }
+
+    private List<ObjectMapper> objectMappers() {
+        CompositeMessageConverter composite = brokerMessageConverter.getIfUnique();
+        if (composite == null) {
+            return List.of();
+        }
+        Map<ObjectMapper, Boolean> mappers = new IdentityHashMap<>();
+        for (MessageConverter converter : composite.getConverters()) {
+            if (converter instanceof MappingJackson2MessageConverter jackson) {
+                mappers.put(jackson.getObjectMapper(), Boolean.TRUE);
+            }
+        }
+        return new ArrayList<>(mappers.keySet());
+    }
+
+    /**
+     * blackbird 가 없을 때 이 클래스를 읽지 않도록 따로 둔다.
+     */
+    private static final class Blackbird {
+
+        private static ObjectMapper copyWithModule(ObjectMapper mapper) {
+            return mapper.copy().registerModule(new com.fasterxml.jackson.module.blackbird.BlackbirdModule());
+        }
+    }
+}
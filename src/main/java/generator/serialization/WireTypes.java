@@ -0,0 +1,67 @@
+package generator.serialization;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import generator.model.EndpointModel;
+import generator.model.PayloadType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메시지로 오가는 타입(핸들러 파라미터, {@code @MessageResponse} 의 returnType/genericType) 목록입니다.
+ * 어노테이션 프로세서가 남긴 {@value #RESOURCE} 가 있으면 스캔 없이 읽고, 없으면 엔드포인트 모델에서 구합니다.
+ */
+@Slf4j
+public final class WireTypes {
+
+    public static final String RESOURCE = "META-INF/websocket-docs/wire-types";
+
+    private WireTypes() {
+    }
+
+    /**
+     * 클래스패스의 모든 {@value #RESOURCE} 를 읽습니다. 한 줄에 하나씩 Jackson canonical 형식입니다.
+     * 지금 클래스패스에 없는 타입은 건너뜁니다.
+     */
+    public static List<JavaType> fromResources(ClassLoader classLoader, TypeFactory typeFactory) throws IOException {
+        Set<JavaType> types = new LinkedHashSet<>();
+        Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        types.add(typeFactory.constructFromCanonical(line.trim()));
+                    } catch (IllegalArgumentException e) {
+                        log.debug("타입을 찾을 수 없어 건너뜁니다: {}", line);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(types);
+    }
+
+    public static List<JavaType> fromModel(EndpointModel model, TypeFactory typeFactory) {
+        Set<JavaType> types = new LinkedHashSet<>();
+        for (PayloadType payload : model.requestPayloads()) {
+            types.add(typeFactory.constructType(payload.type()));
+        }
+        for (PayloadType payload : model.replyPayloads()) {
+            types.add(typeFactory.constructType(payload.type()));
+        }
+        return new ArrayList<>(types);
+    }
+}
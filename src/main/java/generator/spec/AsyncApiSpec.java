@@ -0,0 +1,169 @@
+package generator.spec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 한 번 생성된 AsyncAPI 문서의 불변 스냅샷입니다.
+ * 문서는 JsonNode 트리로만 보관하고, 응답할 때 JsonGenerator 로 출력 스트림에 바로 씁니다.
+ * 표현(YAML, JSON)마다 gzip으로 미리 압축한 바이트와 강한 ETag를 함께 보관합니다.
+ * 반환되는 트리와 바이트 배열은 공유되므로 호출자는 수정하지 않아야 합니다.
+ */
+public final class AsyncApiSpec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonNode root;
+    private final Representation yaml;
+    private final Representation json;
+
+    private AsyncApiSpec(JsonNode root) {
+        this.root = root;
+        this.yaml = Representation.of(root, Format.YAML);
+        this.json = Representation.of(root, Format.JSON);
+    }
+
+    public static AsyncApiSpec of(JsonNode root) {
+        return new AsyncApiSpec(root);
+    }
+
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    public Representation getYaml() {
+        return yaml;
+    }
+
+    public Representation getJson() {
+        return json;
+    }
+
+    /**
+     * 하나의 표현(YAML 또는 JSON)입니다.
+     */
+    public static final class Representation {
+
+        private final JsonNode root;
+        private final Format format;
+        private final byte[] gzipped;
+        private final String hash;
+        private final long size;
+
+        private Representation(JsonNode root, Format format, byte[] gzipped, String hash, long size) {
+            this.root = root;
+            this.format = format;
+            this.gzipped = gzipped;
+            this.hash = hash;
+            this.size = size;
+        }
+
+        /**
+         * 원문을 한 번도 byte[]나 String으로 만들지 않고, 다이제스트와 gzip 스트림에 동시에 흘려 보냅니다.
+         */
+        private static Representation of(JsonNode root, Format format) {
+            MessageDigest digest = md5();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(8 * 1024);
+            CountingOutputStream counter;
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                counter = new CountingOutputStream(new DigestOutputStream(gzip, digest));
+                write(root, format, counter);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Representation(root, format, compressed.toByteArray(), HexFormat.of().formatHex(digest.digest()), counter.count);
+        }
+
+        /**
+         * 압축하지 않은 원문을 출력 스트림에 씁니다. 스트림은 닫지 않습니다.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            write(root, format, out);
+        }
+
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+
+        /**
+         * 압축하지 않은 원문의 크기 (byte)
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public String getEtag() {
+            return "\"" + hash + "\"";
+        }
+
+        /**
+         * gzip 표현은 바이트가 다르므로 강한 ETag도 별도로 둔다.
+         */
+        public String getGzipEtag() {
+            return "\"" + hash + "-gzip\"";
+        }
+
+        private static void write(JsonNode root, Format format, OutputStream out) throws IOException {
+            try (JsonGenerator generator = format.factory.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (format == Format.YAML) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                MAPPER.writeTree(generator, root);
+            }
+        }
+
+        private static MessageDigest md5() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private enum Format {
+        YAML(new YAMLFactory()),
+        JSON(new JsonFactory());
+
+        private final JsonFactory factory;
+
+        Format(JsonFactory factory) {
+            this.factory = factory;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package generator.spec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import generator.stats.GenerationPhase;
+import generator.stats.GenerationStats;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * AsyncAPI 스냅샷을 최초 요청 시 한 번만 생성하고, {@link #invalidate()} 전까지 재사용합니다.
+ * 동시에 들어온 첫 요청들은 하나의 생성 작업을 공유합니다.
+ */
+public class AsyncApiSpecProvider {
+
+    private final Supplier<? extends JsonNode> documentSupplier;
+    private final GenerationStats stats;
+    private final AtomicReference<CompletableFuture<AsyncApiSpec>> current = new AtomicReference<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public AsyncApiSpecProvider(Supplier<? extends JsonNode> documentSupplier) {
+        this(documentSupplier, new GenerationStats());
+    }
+
+    /**
+     * @param stats 직렬화 시간과 생성된 문서 크기를 기록할 곳
+     */
+    public AsyncApiSpecProvider(Supplier<? extends JsonNode> documentSupplier, GenerationStats stats) {
+        this.documentSupplier = documentSupplier;
+        this.stats = stats;
+    }
+
+    public AsyncApiSpec get() {
+        while (true) {
+            CompletableFuture<AsyncApiSpec> future = current.get();
+            if (future != null) {
+                return await(future);
+            }
+            CompletableFuture<AsyncApiSpec> created = new CompletableFuture<>();
+            if (current.compareAndSet(null, created)) {
+                build(created);
+                return await(created);
+            }
+        }
+    }
+
+    /**
+     * 현재 스냅샷을 버립니다. 다음 {@link #get()} 호출에서 문서를 다시 생성합니다.
+     */
+    public void invalidate() {
+        current.set(null);
+    }
+
+    /**
+     * 문서를 바로 다시 생성하고, 이전 스냅샷과 함께 리스너에 알립니다.
+     */
+    public AsyncApiSpec refresh() {
+        AsyncApiSpec previous = peek();
+        invalidate();
+        AsyncApiSpec next = get();
+        for (Listener listener : listeners) {
+            listener.specRefreshed(previous, next);
+        }
+        return next;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 이미 만들어진 스냅샷이 있으면 돌려주고, 없으면 생성하지 않고 null 을 돌려줍니다.
+     */
+    private AsyncApiSpec peek() {
+        CompletableFuture<AsyncApiSpec> future = current.get();
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    private void build(CompletableFuture<AsyncApiSpec> target) {
+        try {
+            JsonNode document = documentSupplier.get();
+            AsyncApiSpec spec = stats.time(GenerationPhase.SERIALIZATION, () -> AsyncApiSpec.of(document));
+            stats.recordSpec(spec);
+            target.complete(spec);
+        } catch (Throwable e) {
+            // 실패한 결과는 캐시하지 않고 다음 요청에서 다시 시도한다.
+            current.compareAndSet(target, null);
+            target.completeExceptionally(e);
+        }
+    }
+
+    private AsyncApiSpec await(CompletableFuture<AsyncApiSpec> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("AsyncAPI 문서 생성에 실패했습니다.", cause);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param previous 이전 스냅샷, 아직 생성된 적이 없으면 null
+         * @param current  새로 생성한 스냅샷
+         */
+        void specRefreshed(AsyncApiSpec previous, AsyncApiSpec current);
+    }
+}
@@ -0,0 +1,114 @@
+package generator.spec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import generator.codec.PayloadSizeEstimator;
+import generator.config.DocsProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.core.io.Resource;
+
+/**
+ * 어노테이션 프로세서가 빌드 시점에 만든 {@code META-INF/websocket-docs/asyncapi.json}(또는 AOT 처리 시점의 문서)을 읽습니다.
+ * 핸들러 스캔과 스키마 생성 없이 info와 defaultContentType만 현재 설정값으로 바꿔서 제공합니다.
+ * 메시지 크기 추정은 형식 모듈이 있는 런타임 클래스패스 기준으로 다시 적습니다.
+ *
+ * <p>빌드 때 쓴 destination prefix({@value #PREFIXES_FIELD})가 런타임 prefix 와 다르면 채널 경로와 채널 {@code $ref}를 런타임 prefix 로 바꿉니다.
+ * 한도 적용, 검증, 지표가 문서의 채널 경로로 destination 을 찾기 때문입니다.
+ */
+public class PrebuiltSpecLoader implements Supplier<ObjectNode> {
+
+    public static final String PREFIXES_FIELD = "x-destination-prefixes";
+
+    private static final String CHANNEL_REF_PREFIX = "#/channels/";
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private final Resource resource;
+    private final DocsProperties properties;
+    private final Supplier<String> appPath;
+
+    /**
+     * @param appPath 런타임 app destination prefix (설정값, 없으면 STOMP 핸들러의 prefix)
+     */
+    public PrebuiltSpecLoader(Resource resource, DocsProperties properties, Supplier<String> appPath) {
+        this.resource = resource;
+        this.properties = properties;
+        this.appPath = appPath;
+    }
+
+    @Override
+    public ObjectNode get() {
+        try (InputStream in = resource.getInputStream()) {
+            ObjectNode root = (ObjectNode) JSON_MAPPER.readTree(in);
+            ObjectNode info = root.putObject("info");
+            info.put("title", properties.getInfo().getTitle());
+            info.put("version", properties.getInfo().getVersion());
+            info.put("description", properties.getInfo().getDescription());
+            root.put("defaultContentType", properties.getDefaultContentType());
+            JsonNode prefixes = root.remove(PREFIXES_FIELD);
+            if (prefixes != null) {
+                rewritePrefixes(root, prefixes.path("app").asText(), appPath.get(),
+                        prefixes.path("topic").asText(), properties.getTopicPath());
+            }
+            PayloadSizeEstimator.annotate(root);
+            return root;
+        } catch (IOException e) {
+            throw new UncheckedIOException("미리 생성된 AsyncAPI 문서를 읽지 못했습니다: " + resource, e);
+        }
+    }
+
+    private static void rewritePrefixes(ObjectNode root, String builtApp, String app, String builtTopic, String topic) {
+        if ((builtApp.equals(app) && builtTopic.equals(topic)) || !root.path("channels").isObject()) {
+            return;
+        }
+        ObjectNode channels = JSON_MAPPER.createObjectNode();
+        Map<String, String> refs = new HashMap<>();
+        root.get("channels").fields().forEachRemaining(channel -> {
+            String path = channel.getKey();
+            // 한 prefix 가 다른 prefix 의 앞부분일 수 있으므로 더 긴 쪽을 먼저 본다.
+            boolean appFirst = builtApp.length() >= builtTopic.length();
+            String moved = appFirst
+                    ? replacePrefix(path, builtApp, app, builtTopic, topic)
+                    : replacePrefix(path, builtTopic, topic, builtApp, app);
+            channels.set(moved, channel.getValue());
+            refs.put(channelRef(path), channelRef(moved));
+        });
+        root.set("channels", channels);
+        rewriteRefs(root.path("operations"), refs);
+    }
+
+    private static String replacePrefix(String path, String first, String firstTarget, String second, String secondTarget) {
+        if (hasPrefix(path, first)) {
+            return firstTarget + path.substring(first.length());
+        }
+        if (hasPrefix(path, second)) {
+            return secondTarget + path.substring(second.length());
+        }
+        return path;
+    }
+
+    private static boolean hasPrefix(String path, String prefix) {
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+
+    private static void rewriteRefs(JsonNode node, Map<String, String> refs) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            JsonNode ref = object.get("$ref");
+            if (ref != null && refs.containsKey(ref.asText())) {
+                object.set("$ref", TextNode.valueOf(refs.get(ref.asText())));
+            }
+        }
+        node.forEach(child -> rewriteRefs(child, refs));
+    }
+
+    private static String channelRef(String path) {
+        return CHANNEL_REF_PREFIX + path.replace("/", "~1");
+    }
+}
@@ -0,0 +1,40 @@
+package generator.stats;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import generator.spec.AsyncApiSpecProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/**
+ * {@code /actuator/asyncapi} 에서 현재 문서와 생성 통계를, {@code /actuator/asyncapi/stats} 에서 통계만 보여 줍니다.
+ * 다른 actuator 엔드포인트처럼 {@code management.endpoints.web.exposure.include} 에 추가해야 노출됩니다.
+ */
+@Endpoint(id = "asyncapi")
+public class AsyncApiActuatorEndpoint {
+
+    private final AsyncApiSpecProvider specProvider;
+    private final GenerationStats stats;
+
+    public AsyncApiActuatorEndpoint(AsyncApiSpecProvider specProvider, GenerationStats stats) {
+        this.specProvider = specProvider;
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public AsyncApiDescriptor asyncapi() {
+        JsonNode spec = specProvider.get().getRoot();
+        return new AsyncApiDescriptor(stats.snapshot(), spec);
+    }
+
+    @ReadOperation
+    public GenerationStats.Snapshot stats(@Selector String section) {
+        if (!"stats".equals(section)) {
+            return null;
+        }
+        return stats.snapshot();
+    }
+
+    public record AsyncApiDescriptor(GenerationStats.Snapshot stats, JsonNode spec) {
+    }
+}
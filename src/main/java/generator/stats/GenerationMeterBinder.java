@@ -0,0 +1,73 @@
+package generator.stats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 문서 생성 단계별 타이머와 문서 크기 게이지를 등록합니다.
+ *
+ * <ul>
+ *     <li>{@code websocket.docs.generation} (phase=scan|model|schema|serialization)</li>
+ *     <li>{@code websocket.docs.spec.size} (format=json|yaml, encoding=identity|gzip), byte</li>
+ *     <li>{@code websocket.docs.spec.channels}, {@code .operations}, {@code .messages}, {@code .schemas}</li>
+ * </ul>
+ */
+public class GenerationMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "websocket.docs.";
+
+    private final GenerationStats stats;
+
+    public GenerationMeterBinder(GenerationStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<GenerationPhase, Timer> timers = new EnumMap<>(GenerationPhase.class);
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            Timer timer = Timer.builder(PREFIX + "generation")
+                    .description("문서 생성 단계별 소요 시간")
+                    .tag("phase", phase.tagValue())
+                    .register(registry);
+            timers.put(phase, timer);
+            // 레지스트리가 준비되기 전에 생성이 끝났으면 마지막 기록이라도 남긴다.
+            if (stats.count(phase) > 0) {
+                timer.record(stats.lastNanos(phase), TimeUnit.NANOSECONDS);
+            }
+        }
+        stats.addListener((phase, nanos) -> timers.get(phase).record(nanos, TimeUnit.NANOSECONDS));
+
+        size(registry, "json", "identity", SpecStats::jsonBytes);
+        size(registry, "json", "gzip", SpecStats::jsonGzipBytes);
+        size(registry, "yaml", "identity", SpecStats::yamlBytes);
+        size(registry, "yaml", "gzip", SpecStats::yamlGzipBytes);
+        count(registry, "channels", SpecStats::channels);
+        count(registry, "operations", SpecStats::operations);
+        count(registry, "messages", SpecStats::messages);
+        count(registry, "schemas", SpecStats::schemas);
+    }
+
+    private void size(MeterRegistry registry, String format, String encoding, ToDoubleFunction<SpecStats> value) {
+        Gauge.builder(PREFIX + "spec.size", stats, current -> value.applyAsDouble(current.spec()))
+                .description("생성된 문서 크기")
+                .baseUnit("bytes")
+                .tag("format", format)
+                .tag("encoding", encoding)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private void count(MeterRegistry registry, String name, ToDoubleFunction<SpecStats> value) {
+        Gauge.builder(PREFIX + "spec." + name, stats, current -> value.applyAsDouble(current.spec()))
+                .description("생성된 문서의 " + name + " 수")
+                .strongReference(true)
+                .register(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package generator.stats;
+
+/**
+ * 문서 생성 단계입니다.
+ */
+public enum GenerationPhase {
+
+    /**
+     * 핸들러 메소드 탐색 (Reflections 스캔 또는 STOMP 핸들러 레지스트리 조회)
+     */
+    SCAN,
+
+    /**
+     * 탐색한 메소드로 엔드포인트 모델 생성
+     */
+    MODEL,
+
+    /**
+     * 페이로드 JSON 스키마 생성
+     */
+    SCHEMA,
+
+    /**
+     * 문서 트리를 JSON/YAML 로 직렬화하고 gzip, ETag 계산
+     */
+    SERIALIZATION;
+
+    /**
+     * 지표 태그와 엔드포인트 응답에 쓰는 이름입니다. (예: {@code scan})
+     */
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
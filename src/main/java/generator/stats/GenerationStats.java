@@ -0,0 +1,122 @@
+package generator.stats;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import generator.spec.AsyncApiSpec;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 문서 생성 단계별 소요 시간과 마지막으로 생성한 문서의 크기를 모읍니다.
+ * Micrometer 가 있으면 리스너로 타이머에 기록하고, 없어도 actuator 엔드포인트나 로그에서 조회할 수 있습니다.
+ */
+public class GenerationStats {
+
+    private final Map<GenerationPhase, Phase> phases = new EnumMap<>(GenerationPhase.class);
+    private final List<PhaseListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile SpecStats spec = SpecStats.EMPTY;
+
+    public GenerationStats() {
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            phases.put(phase, new Phase());
+        }
+    }
+
+    public <T> T time(GenerationPhase phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void record(GenerationPhase phase, long nanos) {
+        Phase stats = phases.get(phase);
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        stats.lastNanos.set(nanos);
+        for (PhaseListener listener : listeners) {
+            listener.phaseCompleted(phase, nanos);
+        }
+    }
+
+    public void recordSpec(AsyncApiSpec asyncApiSpec) {
+        JsonNode root = asyncApiSpec.getRoot();
+        spec = new SpecStats(
+                root.path("channels").size(),
+                root.path("operations").size(),
+                root.path("components").path("messages").size(),
+                root.path("components").path("schemas").size(),
+                asyncApiSpec.getJson().getSize(),
+                asyncApiSpec.getJson().getGzipped().length,
+                asyncApiSpec.getYaml().getSize(),
+                asyncApiSpec.getYaml().getGzipped().length,
+                Instant.now()
+        );
+    }
+
+    public SpecStats spec() {
+        return spec;
+    }
+
+    /**
+     * 단계별 누적 실행 횟수입니다. 리스너를 늦게 등록한 경우 이전 기록이 있는지 확인할 때 씁니다.
+     */
+    public long count(GenerationPhase phase) {
+        return phases.get(phase).count.sum();
+    }
+
+    public long lastNanos(GenerationPhase phase) {
+        return phases.get(phase).lastNanos.get();
+    }
+
+    public void addListener(PhaseListener listener) {
+        listeners.add(listener);
+    }
+
+    public Snapshot snapshot() {
+        Map<String, PhaseSnapshot> phaseSnapshots = new LinkedHashMap<>();
+        phases.forEach((phase, stats) -> phaseSnapshots.put(phase.tagValue(), new PhaseSnapshot(
+                stats.count.sum(),
+                toMillis(stats.lastNanos.get()),
+                toMillis(stats.totalNanos.sum())
+        )));
+        return new Snapshot(phaseSnapshots, spec);
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @FunctionalInterface
+    public interface PhaseListener {
+
+        void phaseCompleted(GenerationPhase phase, long nanos);
+    }
+
+    /**
+     * @param count       실행 횟수
+     * @param lastMillis  마지막 실행 시간 (ms)
+     * @param totalMillis 누적 실행 시간 (ms)
+     */
+    public record PhaseSnapshot(long count, double lastMillis, double totalMillis) {
+    }
+
+    public record Snapshot(Map<String, PhaseSnapshot> phases, SpecStats spec) {
+    }
+
+    private static final class Phase {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong lastNanos = new AtomicLong();
+    }
+}
@@ -0,0 +1,31 @@
+package generator.stats;
+
+import java.time.Instant;
+
+/**
+ * 마지막으로 생성한 문서의 크기입니다.
+ *
+ * @param channels      채널 수
+ * @param operations    오퍼레이션 수
+ * @param messages      메시지 수
+ * @param schemas       components/schemas 의 스키마 수
+ * @param jsonBytes     JSON 표현 크기 (byte)
+ * @param jsonGzipBytes gzip 으로 압축한 JSON 표현 크기 (byte)
+ * @param yamlBytes     YAML 표현 크기 (byte)
+ * @param yamlGzipBytes gzip 으로 압축한 YAML 표현 크기 (byte)
+ * @param generatedAt   생성 시각
+ */
+public record SpecStats(
+        int channels,
+        int operations,
+        int messages,
+        int schemas,
+        long jsonBytes,
+        long jsonGzipBytes,
+        long yamlBytes,
+        long yamlGzipBytes,
+        Instant generatedAt
+) {
+
+    static final SpecStats EMPTY = new SpecStats(0, 0, 0, 0, 0, 0, 0, 0, null);
+}
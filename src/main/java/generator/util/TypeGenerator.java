@@ -2,34 +2,60 @@ package generator.util;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
 
 public class TypeGenerator {
 
     public static Type generateType(Class<?> returnType, Class<?> genericType) {
-        return new ParameterizedType() {
-            @Override
-            public Type[] getActualTypeArguments() {
-                return new Type[]{genericType};
-            }
+        return new SimpleParameterizedType(returnType, genericType);
+    }
 
-            @Override
-            public Type getRawType() {
-                return returnType;
-            }
+    /**
+     * 스키마 캐시의 키로 쓰이므로 JDK 의 ParameterizedType 구현과 같은 규칙으로 equals/hashCode 를 구현합니다.
+     */
+    private record SimpleParameterizedType(Class<?> returnType, Class<?> genericType) implements ParameterizedType {
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return new Type[]{genericType};
+        }
 
-            @Override
-            public Type getOwnerType() {
-                return null;
+        @Override
+        public Type getRawType() {
+            return returnType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return returnType.getDeclaringClass();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
+            if (!(o instanceof ParameterizedType other)) {
+                return false;
+            }
+            return returnType.equals(other.getRawType())
+                    && Objects.equals(getOwnerType(), other.getOwnerType())
+                    && Arrays.equals(getActualTypeArguments(), other.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(getActualTypeArguments()) ^ Objects.hashCode(getOwnerType()) ^ returnType.hashCode();
+        }
 
-            @Override
-            public String toString() {
-                if (genericType == Void.class) {
-                    return returnType.getSimpleName();
-                }
-                // JSON 호환성을 위해 <> 대신 _ 사용
-                return returnType.getSimpleName() + "_" + genericType.getSimpleName();
+        @Override
+        public String toString() {
+            if (genericType == Void.class) {
+                return returnType.getSimpleName();
             }
-        };
+            // JSON 호환성을 위해 <> 대신 _ 사용
+            return returnType.getSimpleName() + "_" + genericType.getSimpleName();
+        }
     }
 }
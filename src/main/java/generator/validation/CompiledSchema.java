@@ -0,0 +1,356 @@
+package generator.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 생성된 JSON 스키마를 미리 해석해 둔 검증기입니다. 페이로드를 트리로 읽지 않고 파서 토큰을 따라가며 검증합니다.
+ *
+ * <p>생성기가 만드는 키워드(type, properties, required, additionalProperties, items, enum, anyOf/oneOf,
+ * minimum/maximum, minLength/maxLength, pattern, minItems/maxItems)와 {@code #/components/schemas/} 참조만 해석하고,
+ * 나머지 키워드와 풀 수 없는 참조는 제한 없음으로 봅니다.
+ *
+ * <p>생성기(PLAIN_JSON)는 참조 타입 필드에도 null 을 적지 않으므로, 속성 값과 배열 원소의 null 은 타입과 무관하게 허용합니다.
+ * Jackson 기본 설정은 primitive 필드의 null 도 기본값으로 받으므로 역직렬화 결과와도 맞습니다.
+ */
+final class CompiledSchema {
+
+    private static final int STRING = 1;
+    private static final int INTEGER = 1 << 1;
+    private static final int NUMBER = 1 << 2;
+    private static final int BOOLEAN = 1 << 3;
+    private static final int NULL = 1 << 4;
+    private static final int OBJECT = 1 << 5;
+    private static final int ARRAY = 1 << 6;
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final int MAX_TRACKED_REQUIRED = 64;
+
+    // 0 이면 타입 제한 없음
+    private int types;
+    private Set<String> enumValues;
+    private Map<String, Property> properties = Map.of();
+    private String[] required = new String[0];
+    private long requiredMask;
+    private boolean additionalAllowed = true;
+    private CompiledSchema additional;
+    private CompiledSchema items;
+    private List<CompiledSchema> anyOf;
+    private double minimum = Double.NaN;
+    private double maximum = Double.NaN;
+    private int minLength = -1;
+    private int maxLength = -1;
+    private int minItems = -1;
+    private int maxItems = -1;
+    private Pattern pattern;
+
+    /**
+     * 스칼라 페이로드는 STOMP 에서 JSON 이 아닌 원문으로 오가므로 검증하지 않는다.
+     */
+    boolean acceptsJsonStructure() {
+        if (anyOf != null) {
+            return anyOf.stream().allMatch(CompiledSchema::acceptsJsonStructure);
+        }
+        return types == 0 || (types & (OBJECT | ARRAY)) != 0;
+    }
+
+    /**
+     * 파서가 값의 첫 토큰에 있을 때 호출합니다.
+     *
+     * @return 위반 내용 (예: {@code .me.score: integer 타입이어야 합니다}), 맞으면 null
+     */
+    String validate(JsonParser parser) throws IOException {
+        if (anyOf != null) {
+            return validateAnyOf(parser);
+        }
+        JsonToken token = parser.currentToken();
+        int type = typeOf(token, parser);
+        if (types != 0 && (types & type) == 0) {
+            return ": " + typeNames(types) + " 타입이어야 합니다 (받은 값: " + tokenName(token) + ")";
+        }
+        if (token == JsonToken.START_OBJECT) {
+            return validateObject(parser);
+        }
+        if (token == JsonToken.START_ARRAY) {
+            return validateArray(parser);
+        }
+        if (enumValues != null && !enumValues.contains(parser.getText())) {
+            return ": 허용되지 않는 값입니다: " + parser.getText();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return validateString(parser);
+        }
+        if ((type & NUMBER) != 0 && !(Double.isNaN(minimum) && Double.isNaN(maximum))) {
+            double value = parser.getDoubleValue();
+            if (!Double.isNaN(minimum) && value < minimum) {
+                return ": " + minimum + " 이상이어야 합니다";
+            }
+            if (!Double.isNaN(maximum) && value > maximum) {
+                return ": " + maximum + " 이하여야 합니다";
+            }
+        }
+        return null;
+    }
+
+    private String validateObject(JsonParser parser) throws IOException {
+        long seen = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            Property property = properties.get(name);
+            CompiledSchema schema;
+            if (property != null) {
+                seen |= property.requiredBit();
+                schema = property.schema();
+            } else if (!additionalAllowed) {
+                return "." + name + ": 정의되지 않은 속성입니다";
+            } else {
+                schema = additional;
+            }
+            if (schema == null || parser.currentToken() == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            String violation = schema.validate(parser);
+            if (violation != null) {
+                return "." + name + violation;
+            }
+        }
+        if (seen != requiredMask) {
+            for (String name : required) {
+                Property property = properties.get(name);
+                if (property != null && property.requiredBit() != 0 && (seen & property.requiredBit()) == 0) {
+                    return ": 필수 속성이 없습니다: " + name;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String validateArray(JsonParser parser) throws IOException {
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (items == null || parser.currentToken() == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+            } else {
+                String violation = items.validate(parser);
+                if (violation != null) {
+                    return "[" + count + "]" + violation;
+                }
+            }
+            count++;
+        }
+        if (minItems >= 0 && count < minItems) {
+            return ": 원소가 " + minItems + "개 이상이어야 합니다";
+        }
+        if (maxItems >= 0 && count > maxItems) {
+            return ": 원소가 " + maxItems + "개 이하여야 합니다";
+        }
+        return null;
+    }
+
+    private String validateString(JsonParser parser) throws IOException {
+        if (minLength < 0 && maxLength < 0 && pattern == null) {
+            return null;
+        }
+        String value = parser.getText();
+        int length = value.codePointCount(0, value.length());
+        if (minLength >= 0 && length < minLength) {
+            return ": 길이가 " + minLength + " 이상이어야 합니다";
+        }
+        if (maxLength >= 0 && length > maxLength) {
+            return ": 길이가 " + maxLength + " 이하여야 합니다";
+        }
+        if (pattern != null && !pattern.matcher(value).find()) {
+            return ": 패턴과 맞지 않습니다: " + pattern.pattern();
+        }
+        return null;
+    }
+
+    /**
+     * 파서는 되돌릴 수 없으므로 값을 토큰 버퍼에 복사해 두고 후보마다 다시 읽는다.
+     */
+    private String validateAnyOf(JsonParser parser) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        String first = null;
+        for (CompiledSchema candidate : anyOf) {
+            try (JsonParser copy = buffer.asParser()) {
+                copy.nextToken();
+                String violation = candidate.validate(copy);
+                if (violation == null) {
+                    return null;
+                }
+                if (first == null) {
+                    first = violation;
+                }
+            }
+        }
+        return first;
+    }
+
+    private static int typeOf(JsonToken token, JsonParser parser) throws IOException {
+        return switch (token) {
+            case START_OBJECT -> OBJECT;
+            case START_ARRAY -> ARRAY;
+            case VALUE_STRING -> STRING;
+            case VALUE_NUMBER_INT -> INTEGER | NUMBER;
+            // 1.0 처럼 소수부가 없는 수도 integer 로 본다.
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue() % 1 == 0 ? INTEGER | NUMBER : NUMBER;
+            case VALUE_TRUE, VALUE_FALSE -> BOOLEAN;
+            case VALUE_NULL -> NULL;
+            default -> 0;
+        };
+    }
+
+    private static String tokenName(JsonToken token) {
+        return switch (token) {
+            case START_OBJECT -> "object";
+            case START_ARRAY -> "array";
+            case VALUE_STRING -> "string";
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> "number";
+            case VALUE_TRUE, VALUE_FALSE -> "boolean";
+            case VALUE_NULL -> "null";
+            default -> String.valueOf(token);
+        };
+    }
+
+    private static String typeNames(int types) {
+        List<String> names = new ArrayList<>();
+        String[] all = {"string", "integer", "number", "boolean", "null", "object", "array"};
+        for (int i = 0; i < all.length; i++) {
+            if ((types & (1 << i)) != 0) {
+                names.add(all[i]);
+            }
+        }
+        return String.join("|", names);
+    }
+
+    private record Property(CompiledSchema schema, long requiredBit) {
+    }
+
+    /**
+     * 참조는 이름마다 빈 검증기를 먼저 만들어 두고 채우므로, 자기 자신을 참조하는 스키마도 한 번만 해석한다.
+     * 같은 Compiler 로 만든 검증기끼리는 참조한 스키마의 검증기를 공유한다.
+     */
+    static final class Compiler {
+
+        private final JsonNode schemas;
+        private final Map<String, CompiledSchema> references = new HashMap<>();
+
+        /**
+         * @param schemas 문서의 components/schemas
+         */
+        Compiler(JsonNode schemas) {
+            this.schemas = schemas;
+        }
+
+        CompiledSchema compile(JsonNode node) {
+            String ref = node.path("$ref").asText(null);
+            if (ref != null) {
+                return reference(ref);
+            }
+            CompiledSchema schema = new CompiledSchema();
+            fill(schema, node);
+            return schema;
+        }
+
+        private CompiledSchema reference(String ref) {
+            if (!ref.startsWith(SCHEMA_REF_PREFIX)) {
+                return new CompiledSchema();
+            }
+            String name = ref.substring(SCHEMA_REF_PREFIX.length());
+            CompiledSchema existing = references.get(name);
+            if (existing != null) {
+                return existing;
+            }
+            CompiledSchema schema = new CompiledSchema();
+            references.put(name, schema);
+            JsonNode target = schemas.path(name);
+            if (target.isObject()) {
+                fill(schema, target);
+            }
+            return schema;
+        }
+
+        private void fill(CompiledSchema schema, JsonNode node) {
+            JsonNode type = node.path("type");
+            if (type.isTextual()) {
+                schema.types = typeBit(type.asText());
+            } else if (type.isArray()) {
+                type.forEach(item -> schema.types |= typeBit(item.asText()));
+            }
+            if (node.path("enum").isArray()) {
+                Set<String> values = new HashSet<>();
+                node.path("enum").forEach(value -> values.add(value.asText()));
+                schema.enumValues = values;
+            }
+            JsonNode alternatives = node.has("anyOf") ? node.path("anyOf") : node.path("oneOf");
+            if (alternatives.isArray() && !alternatives.isEmpty()) {
+                List<CompiledSchema> compiled = new ArrayList<>();
+                alternatives.forEach(alternative -> compiled.add(compile(alternative)));
+                schema.anyOf = compiled;
+            }
+            fillObject(schema, node);
+            if (node.has("items") && node.path("items").isObject()) {
+                schema.items = compile(node.path("items"));
+            }
+            schema.minimum = node.path("minimum").asDouble(Double.NaN);
+            schema.maximum = node.path("maximum").asDouble(Double.NaN);
+            schema.minLength = node.path("minLength").asInt(-1);
+            schema.maxLength = node.path("maxLength").asInt(-1);
+            schema.minItems = node.path("minItems").asInt(-1);
+            schema.maxItems = node.path("maxItems").asInt(-1);
+            if (node.path("pattern").isTextual()) {
+                schema.pattern = Pattern.compile(node.path("pattern").asText());
+            }
+        }
+
+        private void fillObject(CompiledSchema schema, JsonNode node) {
+            Map<String, Property> properties = new HashMap<>();
+            node.path("properties").fields().forEachRemaining(entry ->
+                    properties.put(entry.getKey(), new Property(compile(entry.getValue()), 0)));
+            List<String> required = new ArrayList<>();
+            node.path("required").forEach(name -> required.add(name.asText()));
+            long mask = 0;
+            // 필수 속성이 64개를 넘으면 앞의 64개만 확인한다.
+            for (int i = 0; i < Math.min(required.size(), MAX_TRACKED_REQUIRED); i++) {
+                long bit = 1L << i;
+                Property property = properties.get(required.get(i));
+                properties.put(required.get(i), new Property(property != null ? property.schema() : null, bit));
+                mask |= bit;
+            }
+            schema.properties = properties;
+            schema.required = required.toArray(String[]::new);
+            schema.requiredMask = mask;
+            JsonNode additional = node.path("additionalProperties");
+            if (additional.isBoolean()) {
+                schema.additionalAllowed = additional.asBoolean();
+            } else if (additional.isObject()) {
+                schema.additional = compile(additional);
+            }
+        }
+
+        private static int typeBit(String type) {
+            return switch (type) {
+                case "string" -> STRING;
+                case "integer" -> INTEGER;
+                case "number" -> NUMBER;
+                case "boolean" -> BOOLEAN;
+                case "null" -> NULL;
+                case "object" -> OBJECT;
+                case "array" -> ARRAY;
+                default -> 0;
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package generator.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채널 하나의 검증기와 검증 건수, 위반 건수입니다. 위반 내용 문자열은 위반이 있을 때만 만듭니다.
+ */
+@Slf4j
+final class DestinationValidation {
+
+    private final String destination;
+    private volatile CompiledSchema schema;
+    private final LongAdder validated = new LongAdder();
+    private final LongAdder violations = new LongAdder();
+    private volatile String lastViolation;
+
+    DestinationValidation(String destination) {
+        this.destination = destination;
+    }
+
+    void updateSchema(CompiledSchema schema) {
+        this.schema = schema;
+    }
+
+    void validate(JsonFactory factory, Object payload) {
+        validated.increment();
+        String violation;
+        try (JsonParser parser = createParser(factory, payload)) {
+            if (parser == null) {
+                return;
+            }
+            violation = parser.nextToken() == null ? ": 페이로드가 비어 있습니다" : schema.validate(parser);
+        } catch (JsonProcessingException e) {
+            violation = ": JSON 이 아닙니다: " + e.getOriginalMessage();
+        } catch (IOException e) {
+            violation = ": " + e.getMessage();
+        }
+        if (violation != null) {
+            recordViolation("$" + violation);
+        }
+    }
+
+    /**
+     * 채널마다 첫 위반만 WARN 으로 남기고, 이후로는 DEBUG 로 남깁니다. 위반 건수는 조회 API 로 확인합니다.
+     */
+    private void recordViolation(String violation) {
+        violations.increment();
+        boolean first = lastViolation == null;
+        lastViolation = violation;
+        if (first) {
+            log.warn("스키마와 맞지 않는 페이로드를 받았습니다: {} {}", destination, violation);
+        } else if (log.isDebugEnabled()) {
+            log.debug("스키마와 맞지 않는 페이로드를 받았습니다: {} {}", destination, violation);
+        }
+    }
+
+    ValidationSnapshot snapshot() {
+        return new ValidationSnapshot(destination, validated.sum(), violations.sum(), lastViolation);
+    }
+
+    private static JsonParser createParser(JsonFactory factory, Object payload) throws IOException {
+        if (payload instanceof byte[] bytes) {
+            return factory.createParser(bytes);
+        }
+        if (payload instanceof String text) {
+            return factory.createParser(text);
+        }
+        return null;
+    }
+}
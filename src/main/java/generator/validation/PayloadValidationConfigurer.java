@@ -0,0 +1,21 @@
+package generator.validation;
+
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 사용자 STOMP 설정에 검증 인터셉터를 추가로 등록합니다. 기존 인터셉터는 그대로 유지됩니다.
+ */
+public class PayloadValidationConfigurer implements WebSocketMessageBrokerConfigurer {
+
+    private final PayloadValidationInterceptor interceptor;
+
+    public PayloadValidationConfigurer(PayloadValidator validator) {
+        this.interceptor = new PayloadValidationInterceptor(validator);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(interceptor);
+    }
+}
@@ -0,0 +1,33 @@
+package generator.validation;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.util.MimeType;
+
+/**
+ * clientInboundChannel 에 등록되어 클라이언트가 보낸 SEND 프레임의 페이로드를 검증합니다.
+ * 위반한 메시지도 그대로 전달하고 건수만 기록합니다.
+ */
+public class PayloadValidationInterceptor implements ChannelInterceptor {
+
+    private final PayloadValidator validator;
+
+    public PayloadValidationInterceptor(PayloadValidator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) == SimpMessageType.MESSAGE) {
+            Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            validator.validate(SimpMessageHeaderAccessor.getDestination(headers),
+                    contentType instanceof MimeType mimeType ? mimeType : null, message.getPayload());
+        }
+        return message;
+    }
+}
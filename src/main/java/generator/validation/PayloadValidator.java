@@ -0,0 +1,121 @@
+package generator.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import generator.config.DocsProperties;
+import generator.metrics.DestinationIndex;
+import generator.spec.AsyncApiSpecProvider;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.MimeType;
+
+/**
+ * 문서의 채널별 페이로드 스키마로 인바운드 메시지를 검증합니다.
+ * 검증기는 기동 후(그리고 문서가 갱신될 때) 한 번만 만들고, 메시지마다 destination 으로 찾아 씁니다.
+ *
+ * <p>SAMPLED 모드는 메시지마다 난수 하나로 검증 여부를 정하므로, 검증하지 않는 메시지에는 destination 조회도 하지 않습니다.
+ */
+public class PayloadValidator implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final int SAMPLE_SCALE = 10_000;
+
+    private final AsyncApiSpecProvider specProvider;
+    private final DocsProperties.ValidationMode mode;
+    private final int sampleThreshold;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Map<String, DestinationValidation> validations = new ConcurrentHashMap<>();
+    private volatile DestinationIndex<DestinationValidation> index = DestinationIndex.empty();
+
+    public PayloadValidator(AsyncApiSpecProvider specProvider, DocsProperties.Validation properties) {
+        this.specProvider = specProvider;
+        this.mode = properties.getMode();
+        this.sampleThreshold = (int) Math.round(Math.max(0, Math.min(100, properties.getSamplePercent())) * SAMPLE_SCALE / 100);
+    }
+
+    /**
+     * 메시지 스레드가 문서 생성을 기다리지 않도록 기동 직후 별도 스레드에서 검증기를 만듭니다.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        CompletableFuture.runAsync(this::refresh);
+    }
+
+    /**
+     * 현재 문서의 채널마다 메시지 페이로드 스키마로 검증기를 만듭니다. 채널에 메시지가 여럿이면 그중 하나와 맞으면 됩니다.
+     * 이미 있던 채널의 건수는 유지합니다.
+     */
+    public void refresh() {
+        JsonNode root = specProvider.get().getRoot();
+        JsonNode messages = root.path("components").path("messages");
+        CompiledSchema.Compiler compiler = new CompiledSchema.Compiler(root.path("components").path("schemas"));
+        Map<String, DestinationValidation> byTemplate = new LinkedHashMap<>();
+        root.path("channels").fields().forEachRemaining(channel -> {
+            List<JsonNode> payloads = new ArrayList<>();
+            channel.getValue().path("messages").forEach(message -> {
+                String ref = message.path("$ref").asText("");
+                JsonNode payload = messages.path(ref.substring(ref.lastIndexOf('/') + 1)).path("payload");
+                if (payload.isObject()) {
+                    payloads.add(payload);
+                }
+            });
+            if (payloads.isEmpty()) {
+                return;
+            }
+            CompiledSchema schema = compiler.compile(anyOf(payloads));
+            if (schema.acceptsJsonStructure()) {
+                DestinationValidation validation = validations.computeIfAbsent(channel.getKey(), DestinationValidation::new);
+                validation.updateSchema(schema);
+                byTemplate.put(channel.getKey(), validation);
+            }
+        });
+        index = new DestinationIndex<>(byTemplate);
+    }
+
+    public void validate(String destination, MimeType contentType, Object payload) {
+        if (mode == DocsProperties.ValidationMode.OFF) {
+            return;
+        }
+        if (mode == DocsProperties.ValidationMode.SAMPLED
+                && ThreadLocalRandom.current().nextInt(SAMPLE_SCALE) >= sampleThreshold) {
+            return;
+        }
+        // JSON 이 아니라고 밝힌 메시지는 검증하지 않는다.
+        if (contentType != null && !contentType.getSubtype().contains("json")) {
+            return;
+        }
+        DestinationValidation validation = index.find(destination);
+        if (validation != null) {
+            validation.validate(jsonFactory, payload);
+        }
+    }
+
+    public List<ValidationSnapshot> snapshot() {
+        if (index.isEmpty()) {
+            refresh();
+        }
+        List<ValidationSnapshot> snapshots = new ArrayList<>();
+        for (DestinationValidation validation : validations.values()) {
+            snapshots.add(validation.snapshot());
+        }
+        snapshots.sort((left, right) -> left.destination().compareTo(right.destination()));
+        return snapshots;
+    }
+
+    private static JsonNode anyOf(List<JsonNode> payloads) {
+        if (payloads.size() == 1) {
+            return payloads.get(0);
+        }
+        ObjectNode union = JsonNodeFactory.instance.objectNode();
+        union.putArray("anyOf").addAll(payloads);
+        return union;
+    }
+}
@@ -0,0 +1,15 @@
+package generator.validation;
+
+/**
+ * @param destination   문서에 정의된 채널 경로 (예: /app/chat/join/{roomId})
+ * @param validated     검증한 메시지 수, 샘플링 모드에서는 받은 메시지의 일부
+ * @param violations    스키마와 맞지 않은 메시지 수
+ * @param lastViolation 마지막 위반 내용 (예: {@code $.me.score: integer 타입이어야 합니다 (받은 값: string)})
+ */
+public record ValidationSnapshot(
+        String destination,
+        long validated,
+        long violations,
+        String lastViolation
+) {
+}
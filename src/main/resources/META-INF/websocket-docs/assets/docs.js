@@ -0,0 +1,2400 @@
+// 조회 API 로 받은 부분들을 모아 두는 로컬 명세 (operations, components 는 펼칠 때 채워짐)
+let apiSpec = null;
+// 첫 화면용 색인 (destination, topic, 스키마 이름 목록)
+let overview = null;
+// 순환 참조 스키마가 끝없이 펼쳐지지 않도록 제한하는 깊이
+const MAX_SCHEMA_DEPTH = 8;
+const OPERATION_PAGE_SIZE = 50;
+// 컨텍스트 경로가 붙은 조회 API 경로는 페이지가 data-docs-api 로 넘겨준다.
+const docsApiBase = document.body.dataset.docsApi || '/docs/api';
+const operationQuery = { page: 0, prefix: '', messageType: '' };
+let operationRequestSeq = 0;
+// 채널별 트래픽 지표 (websocket.docs.metrics.enabled=true 일 때만 서버가 제공)
+const METRICS_POLL_INTERVAL = 5000;
+let trafficMetrics = null;
+// topic 별 구독 수와 팬아웃 (websocket.docs.fanout.enabled=true 일 때만 서버가 제공)
+const FANOUT_POLL_INTERVAL = 5000;
+
+// 페이지 로드 시 초기화
+document.addEventListener('DOMContentLoaded', async () => {
+    try {
+        await loadApiSpec();
+        await renderApiDocumentation();
+        hideLoading();
+        initializeNavigation();
+        pollTrafficMetrics();
+        pollFanout();
+        subscribeSpecEvents();
+    } catch (error) {
+        showError('API 명세를 불러오는데 실패했습니다: ' + error.message);
+    }
+});
+
+// 첫 화면에는 가벼운 색인만 받고, 오퍼레이션/스키마 본문은 펼칠 때 받는다
+async function loadApiSpec() {
+    overview = await fetchDocsApi('/overview');
+    apiSpec = {
+        asyncapi: overview.asyncapi,
+        info: overview.info,
+        operations: {},
+        components: { messages: {}, schemas: {} }
+    };
+}
+
+// 조회 API 호출
+async function fetchDocsApi(path, params = {}) {
+    const url = new URL(docsApiBase + path, window.location.origin);
+    Object.entries(params).forEach(([key, value]) => {
+        if (value !== undefined && value !== null && value !== '') {
+            url.searchParams.set(key, value);
+        }
+    });
+    const response = await fetch(url);
+    if (!response.ok) {
+        throw new Error(`HTTP ${response.status}`);
+    }
+    return response.json();
+}
+
+// API 문서 렌더링
+async function renderApiDocumentation() {
+    renderHeader();
+    initializeOperationFilters();
+    await loadOperations(true);
+    renderSchemas();
+    initializeWebSocketTest();
+}
+
+// 헤더 렌더링
+function renderHeader() {
+    document.getElementById('api-title').textContent = apiSpec.info.title || 'WebSocket API';
+    document.getElementById('api-version').textContent = `v${apiSpec.info.version}`;
+    document.getElementById('asyncapi-version').textContent = `AsyncAPI ${apiSpec.asyncapi}`;
+    document.getElementById('api-description').textContent = apiSpec.info.description || '';
+}
+
+// 네비게이션 렌더링 (불러온 페이지만큼 추가)
+function renderNavigation(summaries) {
+    const operationsNav = document.getElementById('operations-nav-list');
+
+    summaries.forEach(summary => {
+        const operationId = 'operation-' + sanitizeId(summary.id);
+        const operationName = getOperationDisplayName(summary.id);
+
+        const li = document.createElement('li');
+        li.innerHTML = `<a href="#${operationId}">${operationName}</a>`;
+        li.querySelector('a').addEventListener('click', function (e) {
+            e.preventDefault();
+            const target = document.getElementById(operationId);
+            if (target) {
+                target.scrollIntoView({ behavior: 'smooth' });
+            }
+        });
+        operationsNav.appendChild(li);
+    });
+}
+
+// 필터 입력과 Load More 버튼
+function initializeOperationFilters() {
+    let debounceTimer = null;
+    const onFilterChange = () => {
+        clearTimeout(debounceTimer);
+        debounceTimer = setTimeout(() => {
+            operationQuery.prefix = document.getElementById('operation-prefix-filter').value.trim();
+            operationQuery.messageType = document.getElementById('operation-message-filter').value.trim();
+            loadOperations(true).catch(error => addLogEntry('error', `Failed to load operations: ${error.message}`));
+        }, 300);
+    };
+    document.getElementById('operation-prefix-filter').addEventListener('input', onFilterChange);
+    document.getElementById('operation-message-filter').addEventListener('input', onFilterChange);
+    document.getElementById('operations-load-more').addEventListener('click', () => {
+        loadOperations(false).catch(error => addLogEntry('error', `Failed to load operations: ${error.message}`));
+    });
+}
+
+// 오퍼레이션 목록을 페이지 단위로 받아서 카드 헤더만 그린다
+async function loadOperations(reset) {
+    const requestSeq = ++operationRequestSeq;
+    const page = reset ? 0 : operationQuery.page;
+    const result = await fetchDocsApi('/operations', {
+        page: page,
+        size: OPERATION_PAGE_SIZE,
+        prefix: operationQuery.prefix,
+        messageType: operationQuery.messageType
+    });
+    // 필터를 빠르게 바꾼 경우 늦게 도착한 이전 응답은 버린다
+    if (requestSeq !== operationRequestSeq) return;
+
+    if (reset) {
+        document.getElementById('operations-container').innerHTML = '';
+        document.getElementById('operations-nav-list').innerHTML = '';
+    }
+    renderOperations(result.content);
+    renderNavigation(result.content);
+    updateTrafficBadges();
+    operationQuery.page = result.page + 1;
+
+    const loadedCount = document.querySelectorAll('#operations-container .operation-card').length;
+    document.getElementById('operations-count').textContent = `${loadedCount} / ${result.totalElements}`;
+    document.getElementById('operations-load-more').style.display =
+        operationQuery.page < result.totalPages ? 'inline-block' : 'none';
+}
+
+
+// Operations 렌더링
+function renderOperations(summaries) {
+    const container = document.getElementById('operations-container');
+
+    summaries.forEach(summary => {
+        container.appendChild(createOperationCard(summary));
+    });
+}
+
+// Operation 카드 생성 (헤더만, 본문은 펼칠 때 불러옴)
+function createOperationCard(summary) {
+    const operationId = 'operation-' + sanitizeId(summary.id);
+    const action = summary.action || 'send';
+
+    const div = document.createElement('div');
+    div.id = operationId;
+    div.className = 'operation-card';
+    div.dataset.operationPath = summary.id;
+    div.innerHTML = `
+        <div class="operation-header collapsible-header ${action.toLowerCase()}-header" onclick="toggleOperation('${operationId}')">
+            <div class="operation-header-content">
+                <span class="operation-badge ${action.toLowerCase()}">${action.toUpperCase()}</span>
+                <h3>${summary.id}</h3>
+                ${trafficBadge(summary.channel)}
+            </div>
+            <span class="operation-toggle-icon">▶</span>
+        </div>
+        <div class="operation-info collapsed">
+            <p class="operation-loading">불러오는 중...</p>
+        </div>
+    `;
+
+    return div;
+}
+
+// 펼칠 때 오퍼레이션 상세를 한 번만 받아서 본문을 그린다
+async function ensureOperationLoaded(operationElement) {
+    if (operationElement.dataset.loaded === 'true') return;
+    operationElement.dataset.loaded = 'true';
+
+    const operationPath = operationElement.dataset.operationPath;
+    const content = operationElement.querySelector('.operation-info');
+    try {
+        const operationSpec = await loadOperationDetail(operationPath);
+        content.innerHTML = createOperationBody(operationPath, operationSpec);
+        updateTrafficBadges();
+    } catch (error) {
+        operationElement.dataset.loaded = 'false';
+        content.innerHTML = `<p class="operation-loading">오퍼레이션 정보를 불러오지 못했습니다: ${error.message}</p>`;
+    }
+}
+
+// 상세 응답을 로컬 apiSpec 에 합쳐서 기존 스키마 렌더링 함수들이 그대로 쓰게 한다
+async function loadOperationDetail(operationPath) {
+    if (apiSpec.operations[operationPath]) {
+        return apiSpec.operations[operationPath];
+    }
+    const detail = await fetchDocsApi('/operations/detail', { id: operationPath });
+    Object.assign(apiSpec.components.messages, detail.messages);
+    Object.assign(apiSpec.components.schemas, detail.schemas);
+    apiSpec.operations[operationPath] = detail.operation;
+    return detail.operation;
+}
+
+// Operation 본문 생성
+function createOperationBody(operationPath, operationSpec) {
+    const action = operationSpec.action || 'SEND';
+    
+    // Request Payload 정보 (send action인 경우)
+    let requestPayloadHtml = '';
+    if (action === 'send') {
+        requestPayloadHtml += '<div class="payload-section"><h4>📤 Request</h4>';
+        
+        // Destination 정보는 항상 표시
+        const destinationPath = getChannelPathFromRef(operationSpec.channel);
+        
+        if (operationSpec.messages && operationSpec.messages.length > 0) {
+            // Request payload가 있는 경우
+            operationSpec.messages.forEach(messageRef => {
+                const messageName = getMessageNameFromRef(messageRef);
+                const messageSchema = getMessageSchema(messageName);
+                
+                requestPayloadHtml += `
+                    <div class="payload-card">
+                        <div class="payload-header">
+                            <strong>Destination:</strong> <code>${destinationPath}</code> ${trafficBadge(destinationPath)}
+                            ${generateDestinationVariablesInfo(destinationPath)}
+                            ${generateLimitInfo(operationSpec)}
+                        </div>
+                        <div class="payload-content">
+                            <h5>Payload Type: <code>${formatTypeNameForDisplay(messageName)}</code></h5>
+                            ${generateMessageFormatInfo(messageName)}
+                            <div class="schema-tabs">
+                                <div class="tab-buttons">
+                                    <button class="tab-button active" data-tab="example">Example</button>
+                                    <button class="tab-button" data-tab="schema">Schema</button>
+                                </div>
+                                <div class="tab-content">
+                                    <div class="tab-panel active" data-panel="example">
+                                        <div class="schema-example">
+                                            <pre><code>${messageSchema}</code></pre>
+                                        </div>
+                                    </div>
+                                    <div class="tab-panel" data-panel="schema">
+                                        <div class="schema-tree">
+                                            ${generateSchemaTree(messageName)}
+                                        </div>
+                                    </div>
+                                </div>
+                            </div>
+                        </div>
+                    </div>
+                `;
+            });
+        } else {
+            // Request payload가 없는 경우 (빈 메시지)
+            requestPayloadHtml += `
+                <div class="payload-card">
+                    <div class="payload-header">
+                        <strong>Destination:</strong> <code>${destinationPath}</code> ${trafficBadge(destinationPath)}
+                        ${generateDestinationVariablesInfo(destinationPath)}
+                        ${generateLimitInfo(operationSpec)}
+                    </div>
+                    <div class="payload-content">
+                        <p>이 요청은 빈 페이로드를 전송합니다.</p>
+                    </div>
+                </div>
+            `;
+        }
+        requestPayloadHtml += '</div>';
+    }
+
+    // Response Payload 정보
+    let responsePayloadHtml = '';
+    
+    if (action === 'send' && operationSpec.reply) {
+        // SEND 액션: reply가 있는 경우 Response 표시
+        const replyChannelPath = getChannelPathFromRef(operationSpec.reply.channel);
+        responsePayloadHtml += '<div class="payload-section"><h4>📥 Response</h4>';
+        
+        if (operationSpec.reply.messages && operationSpec.reply.messages.length > 0) {
+            operationSpec.reply.messages.forEach(messageRef => {
+                const messageName = getMessageNameFromRef(messageRef);
+                const messageSchema = getMessageSchema(messageName);
+                
+                responsePayloadHtml += `
+                    <div class="payload-card">
+                        <div class="payload-header">
+                            <strong>Subscribe to:</strong> <code>${replyChannelPath}</code> ${trafficBadge(replyChannelPath)}
+                            ${generateDestinationVariablesInfo(replyChannelPath)}
+                        </div>
+                        <div class="payload-content">
+                            <h5>Payload Type: <code>${formatTypeNameForDisplay(messageName)}</code></h5>
+                            ${generateMessageFormatInfo(messageName)}
+                            <div class="schema-tabs">
+                                <div class="tab-buttons">
+                                    <button class="tab-button active" data-tab="example">Example</button>
+                                    <button class="tab-button" data-tab="schema">Schema</button>
+                                </div>
+                                <div class="tab-content">
+                                    <div class="tab-panel active" data-panel="example">
+                                        <div class="schema-example">
+                                            <pre><code>${messageSchema}</code></pre>
+                                        </div>
+                                    </div>
+                                    <div class="tab-panel" data-panel="schema">
+                                        <div class="schema-tree">
+                                            ${generateSchemaTree(messageName)}
+                                        </div>
+                                    </div>
+                                </div>
+                            </div>
+                        </div>
+                    </div>
+                `;
+            });
+        }
+        responsePayloadHtml += '</div>';
+    } else if (action === 'receive' && operationSpec.messages && operationSpec.messages.length > 0) {
+        // RECEIVE 액션: messages를 Response로 표시
+        const channelPath = getChannelPathFromRef(operationSpec.channel);
+        responsePayloadHtml += '<div class="payload-section"><h4>📥 Received Message</h4>';
+        
+        operationSpec.messages.forEach(messageRef => {
+            const messageName = getMessageNameFromRef(messageRef);
+            const messageSchema = getMessageSchema(messageName);
+            
+            responsePayloadHtml += `
+                <div class="payload-card">
+                    <div class="payload-header">
+                        <strong>Subscribe to:</strong> <code>${channelPath}</code> ${trafficBadge(channelPath)}
+                        ${generateDestinationVariablesInfo(channelPath)}
+                    </div>
+                    <div class="payload-content">
+                        <h5>Payload Type: <code>${messageName}</code></h5>
+                        ${generateMessageFormatInfo(messageName)}
+                        <div class="schema-tabs">
+                            <div class="tab-buttons">
+                                <button class="tab-button active" data-tab="example">Example</button>
+                                <button class="tab-button" data-tab="schema">Schema</button>
+                            </div>
+                            <div class="tab-content">
+                                <div class="tab-panel active" data-panel="example">
+                                    <div class="schema-example">
+                                        <pre><code>${messageSchema}</code></pre>
+                                    </div>
+                                </div>
+                                <div class="tab-panel" data-panel="schema">
+                                    <div class="schema-tree">
+                                        ${generateSchemaTree(messageName)}
+                                    </div>
+                                </div>
+                            </div>
+                        </div>
+                    </div>
+                </div>
+            `;
+        });
+        responsePayloadHtml += '</div>';
+    }
+
+    return `
+            <div class="operation-description">
+                <div class="operation-desc-content">
+                    <p><strong>Summary:</strong> ${operationSpec.summary || '설명 없음'}</p>
+                    <p><strong>Description:</strong> ${operationSpec.description || '상세 설명 없음'}</p>
+                </div>
+                <div class="operation-actions">
+                    <button class="btn btn-info btn-sm go-to-test-btn" data-operation-path="${operationPath}" data-action="${action.toLowerCase()}">
+                        🧪 Go to Test
+                    </button>
+                </div>
+            </div>
+            ${requestPayloadHtml}
+            ${responsePayloadHtml}
+    `;
+}
+
+// 개발 모드(websocket.docs.dev.enabled=true)에서 서버가 문서를 다시 만들면 바뀐 카드만 갱신한다
+function subscribeSpecEvents() {
+    if (!window.EventSource) return;
+    // 개발 모드가 아니면 404 로 연결이 닫히고 다시 시도하지 않는다
+    const source = new EventSource(new URL(docsApiBase + '/events', window.location.origin));
+    // 연결(재연결 포함)마다 서버가 현재 버전을 보낸다. devtools 재시작 뒤에는 spec-updated 가 오지 않으므로 여기서 비교한다
+    source.addEventListener('spec-version', event => {
+        if (!overview || event.data === overview.version) return;
+        applySpecChange({ full: true, operations: [], removedOperations: [], schemas: [], removedSchemas: [] })
+            .catch(error => addLogEntry('error', `Failed to apply docs update: ${error.message}`));
+    });
+    source.addEventListener('spec-updated', event => {
+        applySpecChange(JSON.parse(event.data))
+            .catch(error => addLogEntry('error', `Failed to apply docs update: ${error.message}`));
+    });
+}
+
+async function applySpecChange(change) {
+    const previousOverview = overview;
+    // 색인은 가벼우므로 항상 다시 받는다
+    overview = await fetchDocsApi('/overview');
+    apiSpec.asyncapi = overview.asyncapi;
+    apiSpec.info = overview.info;
+    renderHeader();
+    refreshTestTargets();
+
+    const operationListChanged = change.full
+        || change.removedOperations.length > 0
+        || overview.operationCount !== previousOverview.operationCount;
+    const schemaListChanged = change.full
+        || change.removedSchemas.length > 0
+        || overview.schemas.join('\n') !== previousOverview.schemas.join('\n');
+
+    // 오퍼레이션 상세에도 스키마가 섞여 있으므로 바뀐 스키마는 캐시에서 먼저 지운다
+    change.schemas.forEach(schemaName => delete apiSpec.components.schemas[schemaName]);
+
+    if (operationListChanged) {
+        apiSpec.operations = {};
+        apiSpec.components = { messages: {}, schemas: {} };
+        await loadOperations(true);
+    } else {
+        for (const operationPath of change.operations) {
+            delete apiSpec.operations[operationPath];
+            const card = document.querySelector(`.operation-card[data-operation-path="${CSS.escape(operationPath)}"]`);
+            if (card) {
+                await reloadCard(card, '.operation-info', ensureOperationLoaded);
+            }
+        }
+    }
+
+    if (schemaListChanged) {
+        renderSchemas();
+    } else {
+        for (const schemaName of change.schemas) {
+            const card = document.querySelector(`.schema-card[data-schema-name="${CSS.escape(schemaName)}"]`);
+            if (card) {
+                await reloadCard(card, '.schema-content', ensureSchemaLoaded);
+            }
+        }
+    }
+}
+
+// 펼쳐져 있는 카드는 바로 다시 그리고, 접힌 카드는 다음에 펼칠 때 다시 받게 한다
+async function reloadCard(card, contentSelector, ensureLoaded) {
+    card.dataset.loaded = 'false';
+    if (!card.querySelector(contentSelector).classList.contains('collapsed')) {
+        await ensureLoaded(card);
+    }
+    card.classList.remove('spec-updated');
+    void card.offsetWidth;
+    card.classList.add('spec-updated');
+}
+
+// 테스트 도구의 destination/topic 목록을 다시 채우되 선택값은 유지한다
+function refreshTestTargets() {
+    const destinationSelect = document.getElementById('message-destination');
+    const topicSelect = document.getElementById('subscription-topic');
+    const selectedDestination = destinationSelect.value;
+    const selectedTopic = topicSelect.value;
+    populateDestinations();
+    populateSubscriptionTopics();
+    destinationSelect.value = selectedDestination;
+    topicSelect.value = selectedTopic;
+}
+
+// 트래픽 지표를 주기적으로 받아서 배지를 갱신한다
+async function pollTrafficMetrics() {
+    try {
+        const response = await fetch(new URL(docsApiBase + '/metrics', window.location.origin));
+        if (response.status === 404) {
+            // 지표 수집이 꺼져 있으면 더 이상 조회하지 않는다
+            return;
+        }
+        if (response.ok) {
+            const snapshots = await response.json();
+            trafficMetrics = {};
+            snapshots.forEach(snapshot => {
+                trafficMetrics[snapshot.destination] = snapshot;
+            });
+            updateTrafficBadges();
+        }
+    } catch (error) {
+        // 일시적인 오류는 다음 주기에 다시 시도
+    }
+    setTimeout(pollTrafficMetrics, METRICS_POLL_INTERVAL);
+}
+
+// topic 별 구독 수를 주기적으로 받아서 팬아웃 표를 갱신한다 (서버가 전달 크기 순으로 정렬해서 준다)
+async function pollFanout() {
+    try {
+        const response = await fetch(new URL(docsApiBase + '/fanout', window.location.origin));
+        if (response.status === 404) {
+            // 팬아웃 기록이 꺼져 있으면 더 이상 조회하지 않는다
+            return;
+        }
+        if (response.ok) {
+            renderFanout(await response.json());
+        }
+    } catch (error) {
+        // 일시적인 오류는 다음 주기에 다시 시도
+    }
+    setTimeout(pollFanout, FANOUT_POLL_INTERVAL);
+}
+
+function renderFanout(snapshots) {
+    document.getElementById('fanout').style.display = '';
+    document.getElementById('nav-fanout').style.display = '';
+    const rows = document.getElementById('fanout-rows');
+    if (snapshots.length === 0) {
+        rows.innerHTML = '<tr><td colspan="5" class="fanout-empty">문서화된 topic 이 없습니다.</td></tr>';
+        return;
+    }
+    rows.innerHTML = snapshots.map(snapshot => `
+        <tr>
+            <td><code>${snapshot.channel}</code></td>
+            <td>${snapshot.subscribers.toLocaleString()}</td>
+            <td>${snapshot.publishesPerSecond.toFixed(1)}</td>
+            <td>${snapshot.deliveriesPerSecond.toFixed(1)}</td>
+            <td>${formatBytes(snapshot.fanoutBytesPerSecond)}</td>
+        </tr>
+    `).join('');
+}
+
+function trafficBadge(channelPath) {
+    return `<span class="traffic-badge" data-channel="${channelPath}"></span>`;
+}
+
+function updateTrafficBadges() {
+    if (!trafficMetrics) return;
+
+    document.querySelectorAll('.traffic-badge').forEach(badge => {
+        const snapshot = trafficMetrics[badge.dataset.channel];
+        if (!snapshot || snapshot.messages === 0) {
+            badge.textContent = '';
+            badge.classList.remove('active');
+            return;
+        }
+        let text = `${snapshot.ratePerSecond.toFixed(1)} msg/s · p99 ${formatBytes(snapshot.payloadBytes.p99)}`;
+        if (snapshot.handlerMillis.count > 0) {
+            text += ` · handler p99 ${snapshot.handlerMillis.p99.toFixed(1)} ms`;
+        }
+        badge.textContent = text;
+        badge.title = `total ${snapshot.messages} messages · avg ${formatBytes(snapshot.payloadBytes.mean)} · max ${formatBytes(snapshot.payloadBytes.max)}`;
+        badge.classList.add('active');
+    });
+}
+
+function formatBytes(bytes) {
+    if (bytes < 1024) return `${Math.round(bytes)} B`;
+    if (bytes < 1024 * 1024) return `${(bytes / 1024).toFixed(1)} KB`;
+    return `${(bytes / 1024 / 1024).toFixed(1)} MB`;
+}
+
+// Schemas 렌더링
+function renderSchemas() {
+    const container = document.getElementById('schemas-container');
+    container.innerHTML = '';
+
+    overview.schemas.forEach(schemaName => {
+        container.appendChild(createSchemaCard(schemaName));
+    });
+}
+
+// Schema 카드 생성 (헤더만, 본문은 펼칠 때 불러옴)
+function createSchemaCard(schemaName) {
+    const div = document.createElement('div');
+    div.id = `schema-${sanitizeId(schemaName)}`;
+    div.className = 'schema-card';
+    div.dataset.schemaName = schemaName;
+
+    div.innerHTML = `
+        <div class="schema-header collapsible-header" onclick="toggleSchemaCard('schema-${sanitizeId(schemaName)}')">
+            <div class="schema-header-content">
+                <h3>${schemaName}</h3>
+                <span class="schema-type-badge object-type">DTO</span>
+            </div>
+            <span class="schema-toggle-icon">▶</span>
+        </div>
+        <div class="schema-content collapsed">
+            <p class="operation-loading">불러오는 중...</p>
+        </div>
+    `;
+
+    return div;
+}
+
+// 펼칠 때 스키마와 그 스키마가 참조하는 스키마들을 한 번만 받아서 본문을 그린다
+async function ensureSchemaLoaded(schemaElement) {
+    if (schemaElement.dataset.loaded === 'true') return;
+    schemaElement.dataset.loaded = 'true';
+
+    const schemaName = schemaElement.dataset.schemaName;
+    const content = schemaElement.querySelector('.schema-content');
+    try {
+        if (!apiSpec.components.schemas[schemaName]) {
+            const detail = await fetchDocsApi('/schemas/detail', { name: schemaName });
+            Object.assign(apiSpec.components.schemas, detail.schemas);
+        }
+        content.innerHTML = createSchemaBody(schemaName, apiSpec.components.schemas[schemaName]);
+    } catch (error) {
+        schemaElement.dataset.loaded = 'false';
+        content.innerHTML = `<p class="operation-loading">스키마 정보를 불러오지 못했습니다: ${error.message}</p>`;
+    }
+}
+
+// Schema 본문 생성
+function createSchemaBody(schemaName, schemaSpec) {
+    // 스키마 예제 생성
+    const schemaExample = generateSchemaExample(schemaSpec);
+    const schemaTree = generateSchemaTreeForSchema(schemaSpec, schemaName);
+
+    return `
+            <div class="schema-tabs">
+                <div class="tab-buttons">
+                    <button class="tab-button active" data-tab="example">Example</button>
+                    <button class="tab-button" data-tab="schema">Schema</button>
+                </div>
+                <div class="tab-content">
+                    <div class="tab-panel active" data-panel="example">
+                        <div class="schema-example">
+                            <pre><code>${schemaExample}</code></pre>
+                        </div>
+                    </div>
+                    <div class="tab-panel" data-panel="schema">
+                        <div class="schema-tree">
+                            ${schemaTree}
+                        </div>
+                    </div>
+                </div>
+            </div>
+    `;
+}
+
+// 스키마용 트리 생성
+function generateSchemaTreeForSchema(schema, schemaName) {
+    if (!schema.properties) return '<p>스키마 정보 없음</p>';
+    return generateSchemaTreeNode(schema, schemaName, 0);
+}
+
+// 메시지 스키마 가져오기
+function getMessageSchema(messageName) {
+    if (!apiSpec.components || !apiSpec.components.messages) return '스키마 정보 없음';
+    
+    const messageSpec = apiSpec.components.messages[messageName];
+    if (!messageSpec || !messageSpec.payload) return '스키마 정보 없음';
+    
+    // List 타입인 경우 직접 배열 스키마 처리
+    if (messageSpec.payload.type === 'array' && messageSpec.payload.items) {
+        const itemSchemaRef = messageSpec.payload.items.$ref;
+        if (itemSchemaRef) {
+            const itemSchemaName = itemSchemaRef.split('/').pop();
+            const itemSchema = apiSpec.components.schemas[itemSchemaName];
+            if (itemSchema) {
+                const itemExample = generateSchemaExample(itemSchema);
+                // 배열 형태로 래핑
+                try {
+                    const itemObj = JSON.parse(itemExample);
+                    return JSON.stringify([itemObj], null, 2);
+                } catch (e) {
+                    return `[${itemExample}]`;
+                }
+            }
+        }
+        return '[]';
+    }
+    
+    // 일반 타입인 경우
+    if (!messageSpec.payload.$ref) return '스키마 정보 없음';
+    
+    const schemaName = messageSpec.payload.$ref.split('/').pop();
+    const schema = apiSpec.components.schemas[schemaName];
+    
+    if (!schema) return '스키마 정보 없음';
+    
+    return generateSchemaExample(schema);
+}
+
+// 스키마 트리 생성
+function generateSchemaTree(messageName) {
+    if (!apiSpec.components || !apiSpec.components.messages) return '<p>스키마 정보 없음</p>';
+    
+    const messageSpec = apiSpec.components.messages[messageName];
+    if (!messageSpec || !messageSpec.payload) return '<p>스키마 정보 없음</p>';
+    
+    // List 타입인 경우 배열 스키마 처리
+    if (messageSpec.payload.type === 'array' && messageSpec.payload.items) {
+        const itemSchemaRef = messageSpec.payload.items.$ref;
+        if (itemSchemaRef) {
+            const itemSchemaName = itemSchemaRef.split('/').pop();
+            const itemSchema = apiSpec.components.schemas[itemSchemaName];
+            if (itemSchema) {
+                return `
+                    <div class="schema-node" data-depth="0">
+                        <div class="schema-node-header root-node">
+                            <span class="schema-node-type array-type">Array</span>
+                            <span class="schema-type-badge">array</span>
+                        </div>
+                        <div class="schema-node-children">
+                            <div class="schema-field">
+                                <div class="schema-node-header">
+                                    <span class="schema-field-name">items</span>
+                                    <span class="schema-type-badge object-type">${itemSchemaName}</span>
+                                </div>
+                                <div class="schema-node-children">
+                                    ${generateSchemaTreeNode(itemSchema, itemSchemaName, 1)}
+                                </div>
+                            </div>
+                        </div>
+                    </div>
+                `;
+            }
+        }
+        return '<p>배열 스키마 정보 없음</p>';
+    }
+    
+    // 일반 타입인 경우
+    if (!messageSpec.payload.$ref) return '<p>스키마 정보 없음</p>';
+    
+    const schemaName = messageSpec.payload.$ref.split('/').pop();
+    const schema = apiSpec.components.schemas[schemaName];
+    
+    if (!schema) return '<p>스키마 정보 없음</p>';
+    
+    return generateSchemaTreeNode(schema, schemaName, 0);
+}
+
+// 스키마 트리 노드 생성
+function generateSchemaTreeNode(schema, nodeName, depth) {
+    if (!schema.properties || depth > MAX_SCHEMA_DEPTH) return '';
+    
+    const indent = '  '.repeat(depth);
+    let html = `<div class="schema-node" data-depth="${depth}">`;
+    
+    if (depth === 0) {
+        html += `<div class="schema-node-header root-node">
+            <span class="schema-node-type object-type">${nodeName}</span>
+            <span class="schema-type-badge">object</span>
+        </div>`;
+    }
+    
+    html += '<div class="schema-node-children">';
+    
+    Object.entries(schema.properties).forEach(([propName, rawPropSpec]) => {
+        const propSpec = resolveSchemaRef(rawPropSpec);
+        const itemSpec = propSpec.items ? resolveSchemaRef(propSpec.items) : null;
+        const isRequired = schema.required && schema.required.includes(propName);
+        const fieldId = `field-${nodeName}-${propName}-${depth}`;
+        
+        html += `<div class="schema-field" data-field-id="${fieldId}">`;
+        
+        if (propSpec.type === 'object' && propSpec.properties) {
+            // 중첩 객체
+            html += `<div class="schema-node-header collapsible" data-field-id="${fieldId}">
+                <span class="toggle-icon">▶</span>
+                <span class="schema-field-name">${propName}</span>
+                ${isRequired ? '<span class="required-badge">required</span>' : '<span class="optional-badge">optional</span>'}
+                <span class="schema-type-badge object-type">object</span>
+            </div>
+            <div class="schema-node-children collapsed" id="${fieldId}-children">
+                ${generateSchemaTreeNode(propSpec, `${nodeName}_${propName}`, depth + 1)}
+            </div>`;
+        } else if (propSpec.type === 'array') {
+            // 배열
+            html += `<div class="schema-node-header">
+                <span class="schema-field-name">${propName}</span>
+                ${isRequired ? '<span class="required-badge">required</span>' : '<span class="optional-badge">optional</span>'}
+                <span class="schema-type-badge array-type">array</span>
+            </div>`;
+            
+            if (itemSpec && itemSpec.type === 'object' && itemSpec.properties) {
+                html += `<div class="schema-array-items">
+                    <div class="schema-node-header collapsible" data-field-id="${fieldId}-items">
+                        <span class="toggle-icon">▶</span>
+                        <span class="schema-field-name">items</span>
+                        <span class="schema-type-badge object-type">object</span>
+                    </div>
+                    <div class="schema-node-children collapsed" id="${fieldId}-items-children">
+                        ${generateSchemaTreeNode(itemSpec, `${nodeName}_${propName}_item`, depth + 1)}
+                    </div>
+                </div>`;
+            } else if (itemSpec) {
+                html += `<div class="schema-array-items">
+                    <div class="schema-field-info">
+                        <span class="schema-field-name">items</span>
+                        <span class="schema-type-badge">${itemSpec.type || 'unknown'}</span>
+                        ${itemSpec.enum ? `<span class="enum-values">${itemSpec.enum.join(' | ')}</span>` : ''}
+                    </div>
+                </div>`;
+            }
+        } else {
+            // 기본 타입
+            const typeClass = getTypeClass(propSpec.type);
+            html += `<div class="schema-node-header">
+                <span class="schema-field-name">${propName}</span>
+                ${isRequired ? '<span class="required-badge">required</span>' : '<span class="optional-badge">optional</span>'}
+                <span class="schema-type-badge ${typeClass}">${propSpec.type || 'unknown'}</span>
+                ${propSpec.enum ? generateEnumBadges(propSpec.enum) : ''}
+            </div>`;
+        }
+        
+        html += '</div>';
+    });
+    
+    html += '</div></div>';
+    return html;
+}
+
+// 스키마 예제 생성
+function generateSchemaExample(schema) {
+    if (!schema.properties) return '{}';
+    
+    const example = generateExampleObject(schema);
+    let jsonString = JSON.stringify(example, null, 2);
+    
+    // enum 값들에 대한 주석 추가
+    jsonString = addEnumComments(jsonString, schema);
+    return jsonString;
+}
+
+// enum 주석 추가
+function addEnumComments(jsonString, schema, depth = 0) {
+    if (!schema.properties || depth > MAX_SCHEMA_DEPTH) return jsonString;
+    
+    Object.entries(schema.properties).forEach(([propName, rawPropSpec]) => {
+        const propSpec = resolveSchemaRef(rawPropSpec);
+        if (propSpec.type === 'string' && propSpec.enum && propSpec.enum.length > 1) {
+            // enum 값이 있는 문자열 필드에 주석 추가
+            const currentValue = propSpec.enum[0];
+            const enumComment = ` // ${propSpec.enum.join(' | ')}`;
+            const regex = new RegExp(`"${propName}":\\s*"${currentValue}"`, 'g');
+            jsonString = jsonString.replace(regex, `"${propName}": "${currentValue}"${enumComment}`);
+        } else if (propSpec.type === 'object' && propSpec.properties) {
+            // 중첩된 객체에 대해서도 재귀적으로 처리
+            jsonString = addEnumComments(jsonString, propSpec, depth + 1);
+        }
+    });
+    
+    return jsonString;
+}
+
+// 예제 객체 생성 (재귀적으로 중첩 객체 처리)
+function generateExampleObject(schema, depth = 0) {
+    if (!schema.properties || depth > MAX_SCHEMA_DEPTH) return {};
+    
+    const example = {};
+    Object.entries(schema.properties).forEach(([propName, rawPropSpec]) => {
+        const propSpec = resolveSchemaRef(rawPropSpec);
+        const itemSpec = propSpec.items ? resolveSchemaRef(propSpec.items) : null;
+        if (propSpec.type === 'string') {
+            if (propSpec.enum) {
+                example[propName] = propSpec.enum[0];
+            } else if (propSpec.const) {
+                example[propName] = propSpec.const;
+            } else {
+                example[propName] = `예시 ${propName}`;
+            }
+        } else if (propSpec.type === 'integer') {
+            example[propName] = 1;
+        } else if (propSpec.type === 'number') {
+            example[propName] = 1.0;
+        } else if (propSpec.type === 'boolean') {
+            example[propName] = true;
+        } else if (propSpec.type === 'array') {
+            if (itemSpec) {
+                if (itemSpec.type === 'object' && itemSpec.properties) {
+                    // 배열 안의 객체
+                    example[propName] = [generateExampleObject(itemSpec, depth + 1)];
+                } else if (itemSpec.type === 'string') {
+                    if (itemSpec.enum) {
+                        example[propName] = [itemSpec.enum[0]];
+                    } else if (itemSpec.const) {
+                        example[propName] = [itemSpec.const];
+                    } else {
+                        example[propName] = [`예시 ${propName} item`];
+                    }
+                } else {
+                    example[propName] = [getDefaultValueForType(itemSpec.type)];
+                }
+            } else {
+                example[propName] = [];
+            }
+        } else if (propSpec.type === 'object' && propSpec.properties) {
+            // 중첩된 객체를 재귀적으로 생성
+            example[propName] = generateExampleObject(propSpec, depth + 1);
+        } else {
+            example[propName] = getDefaultValueForType(propSpec.type);
+        }
+    });
+
+    return example;
+}
+
+// 공유 스키마 모드의 $ref 를 components.schemas 의 실제 스키마로 바꿔서 반환
+function resolveSchemaRef(schema) {
+    let current = schema;
+    let hops = 0;
+    while (current && current.$ref && hops < MAX_SCHEMA_DEPTH) {
+        const refName = current.$ref.split('/').pop();
+        current = apiSpec.components && apiSpec.components.schemas
+            ? apiSpec.components.schemas[refName]
+            : undefined;
+        hops++;
+    }
+    return current || {};
+}
+
+// 타입별 기본값 반환
+function getDefaultValueForType(type) {
+    switch (type) {
+        case 'string': return '예시 문자열';
+        case 'integer': return 1;
+        case 'number': return 1.0;
+        case 'boolean': return true;
+        case 'array': return [];
+        case 'object': return {};
+        default: return null;
+    }
+}
+
+// 타입별 CSS 클래스 반환
+function getTypeClass(type) {
+    switch (type) {
+        case 'string': return 'string-type';
+        case 'integer': return 'integer-type';
+        case 'number': return 'number-type';
+        case 'boolean': return 'boolean-type';
+        case 'array': return 'array-type';
+        case 'object': return 'object-type';
+        default: return '';
+    }
+}
+
+// ENUM 값들을 개별 배지로 생성
+function generateEnumBadges(enumValues) {
+    return enumValues.map(value => 
+        `<span class="enum-badge">${value}</span>`
+    ).join('');
+}
+
+// Destination Variables 정보 생성
+function generateDestinationVariablesInfo(destinationPath) {
+    if (!destinationPath) return '';
+    
+    // {변수명} 패턴을 찾기
+    const variables = destinationPath.match(/{([^}]+)}/g);
+    
+    if (!variables || variables.length === 0) return '';
+    
+    let variablesInfo = '<div class="destination-variables-info">';
+    variablesInfo += '<div class="variables-label">Path Variables:</div>';
+    variablesInfo += '<div class="variables-list">';
+    
+    variables.forEach(variable => {
+        const varName = variable.slice(1, -1); // {} 제거
+        const varDescription = getVariableDescription(varName);
+        
+        variablesInfo += `
+            <div class="variable-item">
+                <span class="variable-name">${varName}</span>
+                <span class="variable-desc">${varDescription}</span>
+            </div>
+        `;
+    });
+    
+    variablesInfo += '</div></div>';
+    return variablesInfo;
+}
+
+// 변수별 설명 생성
+function getVariableDescription(varName) {
+    const descriptions = {
+        'joinCode': 'Room join code (방 참가 코드)',
+        'roomId': 'Room identifier (방 식별자)',
+        'userId': 'User identifier (사용자 식별자)',
+        'playerId': 'Player identifier (플레이어 식별자)',
+        'gameId': 'Game identifier (게임 식별자)',
+        'sessionId': 'Session identifier (세션 식별자)',
+        'id': 'Resource identifier (리소스 식별자)',
+        'code': 'Access code (접근 코드)',
+        'token': 'Authentication token (인증 토큰)'
+    };
+    
+    return descriptions[varName] || `${varName} parameter (${varName} 매개변수)`;
+}
+
+// 유틸리티 함수들
+function sanitizeId(path) {
+    return path.replace(/[^a-zA-Z0-9]/g, '-').replace(/-+/g, '-').replace(/^-|-$/g, '');
+}
+
+// 표시용 타입명 변환: List_User -> List<User>
+function formatTypeNameForDisplay(typeName) {
+    if (typeName && typeName.includes('_')) {
+        const parts = typeName.split('_');
+        if (parts.length === 2) {
+            return `${parts[0]}<${parts[1]}>`;
+        }
+    }
+    return typeName;
+}
+
+function getChannelDisplayName(channelPath) {
+    return channelPath.split('/').pop().replace(/-/g, ' ').replace(/\b\w/g, l => l.toUpperCase());
+}
+
+function getOperationDisplayName(operationPath) {
+    return operationPath.split('/').pop().replace(/-/g, ' ').replace(/\b\w/g, l => l.toUpperCase());
+}
+
+// contentType 이 없는 메시지는 문서의 defaultContentType 형식이다
+const BINARY_CONTENT_TYPES = ['application/cbor', 'application/x-jackson-smile'];
+
+function getMessageContentType(messageName) {
+    const messageSpec = apiSpec.components.messages[messageName];
+    return (messageSpec && messageSpec.contentType) || overview.defaultContentType || 'application/json';
+}
+
+function isBinaryContentType(contentType) {
+    if (!contentType) return false;
+    return BINARY_CONTENT_TYPES.includes(contentType.split(';')[0].trim().toLowerCase());
+}
+
+// 형식과, 예시 페이로드로 추정한 형식별 크기 (x-payload-size)
+function generateMessageFormatInfo(messageName) {
+    const messageSpec = apiSpec.components.messages[messageName] || {};
+    const sizes = Object.entries(messageSpec['x-payload-size'] || {})
+        .map(([contentType, bytes]) => `${contentType.replace('application/', '')} ${formatBytes(bytes)}`)
+        .join(' · ');
+    return `<p class="message-format"><strong>Content-Type:</strong> <code>${getMessageContentType(messageName)}</code>`
+        + (sizes ? ` <span class="payload-size" title="예시 페이로드로 추정한 크기">${sizes}</span>` : '')
+        + '</p>';
+}
+
+// @MessageLimit 으로 선언된 세션당 한도 (bindings.stomp)
+function generateLimitInfo(operationSpec) {
+    const stomp = (operationSpec.bindings || {}).stomp || {};
+    const limits = [];
+    if (stomp['x-rate-limit']) {
+        limits.push(`${stomp['x-rate-limit'].messagesPerSecond} msg/s per session (burst ${stomp['x-rate-limit'].burst})`);
+    }
+    if (stomp['x-max-payload-size']) {
+        limits.push(`max ${formatBytes(stomp['x-max-payload-size'])}`);
+    }
+    if (limits.length === 0) return '';
+    return `<p class="message-limit"><strong>Limit:</strong> ${limits.join(' · ')}</p>`;
+}
+
+// JSON 과 CBOR/Smile 사이 변환은 서버의 Jackson 으로 한다
+async function encodePayload(json, contentType) {
+    const response = await fetch(`${docsApiBase}/codec/encode?contentType=${encodeURIComponent(contentType)}`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: json
+    });
+    if (!response.ok) {
+        throw new Error(`${contentType} encoding failed (HTTP ${response.status})`);
+    }
+    return new Uint8Array(await response.arrayBuffer());
+}
+
+async function decodePayload(bytes, contentType) {
+    const response = await fetch(`${docsApiBase}/codec/decode?contentType=${encodeURIComponent(contentType)}`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/octet-stream' },
+        body: bytes
+    });
+    if (!response.ok) {
+        throw new Error(`${contentType} decoding failed (HTTP ${response.status})`);
+    }
+    return response.text();
+}
+
+function getMessageNameFromRef(messageRef) {
+    if (typeof messageRef === 'string') return messageRef;
+    if (messageRef.$ref) return messageRef.$ref.split('/').pop();
+    return 'Unknown';
+}
+
+function getChannelPathFromRef(channelRef) {
+    if (typeof channelRef === 'string') return channelRef;
+    if (channelRef.$ref) {
+        // #/channels/~1topic~1topic~1room~1{joinCode} 형태에서 채널 경로 추출
+        const refPath = channelRef.$ref.replace('#/channels/', '').replace(/~1/g, '/');
+        return refPath;
+    }
+    return 'Unknown';
+}
+
+// UI 상태 관리
+function hideLoading() {
+    document.getElementById('loading').style.display = 'none';
+    document.getElementById('app').style.display = 'flex';
+}
+
+function showError(message) {
+    document.getElementById('loading').style.display = 'none';
+    document.getElementById('error-message').textContent = message;
+    document.getElementById('error').style.display = 'block';
+}
+
+
+// Operation 카드 토글
+function toggleOperation(operationId) {
+    const content = document.querySelector(`#${operationId} .operation-info`);
+    const toggleIcon = document.querySelector(`#${operationId} .operation-toggle-icon`);
+    
+    if (content && toggleIcon) {
+        if (content.classList.contains('collapsed')) {
+            content.classList.remove('collapsed');
+            toggleIcon.textContent = '▼';
+            ensureOperationLoaded(document.getElementById(operationId));
+        } else {
+            content.classList.add('collapsed');
+            toggleIcon.textContent = '▶';
+        }
+    }
+}
+
+// Schema 카드 토글
+function toggleSchemaCard(schemaId) {
+    const content = document.querySelector(`#${schemaId} .schema-content`);
+    const toggleIcon = document.querySelector(`#${schemaId} .schema-toggle-icon`);
+    
+    if (content && toggleIcon) {
+        if (content.classList.contains('collapsed')) {
+            content.classList.remove('collapsed');
+            toggleIcon.textContent = '▼';
+            ensureSchemaLoaded(document.getElementById(schemaId));
+        } else {
+            content.classList.add('collapsed');
+            toggleIcon.textContent = '▶';
+        }
+    }
+}
+
+// 탭 전환 및 스키마 노드 토글 (이벤트 위임 사용)
+function initializeTabs() {
+    document.addEventListener('click', function(e) {
+        // 탭 버튼 클릭 처리
+        if (e.target.classList.contains('tab-button')) {
+            const tab = e.target.dataset.tab;
+            const tabContainer = e.target.closest('.schema-tabs');
+            
+            // 탭 버튼 활성화
+            tabContainer.querySelectorAll('.tab-button').forEach(btn => btn.classList.remove('active'));
+            e.target.classList.add('active');
+            
+            // 탭 패널 표시
+            tabContainer.querySelectorAll('.tab-panel').forEach(panel => panel.classList.remove('active'));
+            tabContainer.querySelector(`[data-panel="${tab}"]`).classList.add('active');
+        }
+        
+        // 스키마 노드 토글 클릭 처리 (이벤트 위임)
+        if (e.target.closest('.collapsible')) {
+            const header = e.target.closest('.collapsible');
+            const fieldId = header.getAttribute('data-field-id');
+            if (fieldId) {
+                toggleSchemaNodeByElement(header);
+            }
+        }
+    });
+}
+
+// 요소 기반 스키마 노드 토글
+function toggleSchemaNodeByElement(headerElement) {
+    const fieldId = headerElement.getAttribute('data-field-id');
+    const toggleIcon = headerElement.querySelector('.toggle-icon');
+    
+    // 클릭한 헤더 바로 다음에 있는 children 찾기
+    let targetChildren = null;
+    
+    // 헤더의 다음 형제 요소에서 schema-node-children 찾기
+    let nextElement = headerElement.nextElementSibling;
+    while (nextElement) {
+        if (nextElement.classList.contains('schema-node-children')) {
+            targetChildren = nextElement;
+            break;
+        }
+        nextElement = nextElement.nextElementSibling;
+    }
+    
+    // 못 찾았으면 ID로 다시 시도
+    if (!targetChildren) {
+        targetChildren = document.getElementById(`${fieldId}-items-children`) || 
+                        document.getElementById(`${fieldId}-children`);
+    }
+    
+    console.log('Field ID:', fieldId, 'Target children:', targetChildren); // 디버깅용
+    
+    if (targetChildren && toggleIcon) {
+        if (targetChildren.classList.contains('collapsed')) {
+            targetChildren.classList.remove('collapsed');
+            toggleIcon.textContent = '▼';
+            console.log('Expanded'); // 디버깅용
+        } else {
+            targetChildren.classList.add('collapsed');
+            toggleIcon.textContent = '▶';
+            console.log('Collapsed'); // 디버깅용
+        }
+    } else {
+        console.log('Target children or toggle icon not found'); // 디버깅용
+    }
+}
+
+// 네비게이션 초기화
+function initializeNavigation() {
+    // 탭 초기화
+    initializeTabs();
+    
+    // Collapse All 버튼 이벤트
+    document.getElementById('header-collapse-all-btn').addEventListener('click', collapseAllOperations);
+    
+    // Go to Test 버튼들 이벤트 (이벤트 위임)
+    document.addEventListener('click', function(e) {
+        if (e.target.classList.contains('go-to-test-btn')) {
+            const operationPath = e.target.getAttribute('data-operation-path');
+            const action = e.target.getAttribute('data-action');
+            goToTestFromOperation(operationPath, action);
+        }
+    });
+    
+    // Smooth scrolling for navigation links
+    document.querySelectorAll('a[href^="#"]').forEach(anchor => {
+        anchor.addEventListener('click', function (e) {
+            e.preventDefault();
+            const target = document.querySelector(this.getAttribute('href'));
+            if (target) {
+                target.scrollIntoView({ behavior: 'smooth' });
+            }
+        });
+    });
+
+    // Highlight current section in navigation
+    window.addEventListener('scroll', () => {
+        let current = '';
+        document.querySelectorAll('section[id], [id^="channel-"], [id^="operation-"]').forEach(section => {
+            const sectionTop = section.offsetTop;
+            if (window.pageYOffset >= sectionTop - 60) {
+                current = section.getAttribute('id');
+            }
+        });
+
+        document.querySelectorAll('.nav-list a').forEach(link => {
+            link.classList.remove('active');
+            if (link.getAttribute('href') === `#${current}`) {
+                link.classList.add('active');
+            }
+        });
+    });
+}
+
+// WebSocket Test 기능
+let stompClient = null;
+let subscriptions = [];
+// 현재 연결의 전송 방식 (sockjs | websocket)
+let connectedTransport = 'sockjs';
+
+function initializeWebSocketTest() {
+    populateDestinations();
+    populateSubscriptionTopics();
+    initializeWebSocketEvents();
+}
+
+function populateDestinations() {
+    const destinationSelect = document.getElementById('message-destination');
+    destinationSelect.innerHTML = '<option value="">Select destination...</option>';
+    
+    overview.destinations.forEach(({ operationId: operationPath, channel: channelPath }) => {
+        const option = document.createElement('option');
+        option.value = channelPath;
+        // 중복되거나 유사한 경우 channelPath만 표시, 다른 경우 operationPath 표시
+        if (operationPath === channelPath || channelPath.includes(operationPath)) {
+            option.textContent = channelPath;
+        } else {
+            option.textContent = `${operationPath} (${channelPath})`;
+        }
+        destinationSelect.appendChild(option);
+    });
+}
+
+function populateSubscriptionTopics() {
+    const topicSelect = document.getElementById('subscription-topic');
+    topicSelect.innerHTML = '<option value="">Select topic...</option>';
+    
+    // RECEIVE 오퍼레이션의 채널과 SEND 오퍼레이션의 reply 채널 (서버에서 중복 제거됨)
+    overview.topics.forEach(topic => {
+        const option = document.createElement('option');
+        option.value = topic;
+        option.textContent = topic;
+        topicSelect.appendChild(option);
+    });
+}
+
+function initializeWebSocketEvents() {
+    document.getElementById('connect-btn').addEventListener('click', connectWebSocket);
+    document.getElementById('disconnect-btn').addEventListener('click', disconnectWebSocket);
+    document.getElementById('send-message-btn').addEventListener('click', sendMessage);
+    
+    // 구독 관련 이벤트
+    document.getElementById('subscribe-btn').addEventListener('click', manualSubscribe);
+    document.getElementById('unsubscribe-all-btn').addEventListener('click', unsubscribeAll);
+    
+    // 로그 클리어 이벤트
+    document.getElementById('clear-connection-log-btn').addEventListener('click', clearConnectionLog);
+    document.getElementById('clear-subscription-log-btn').addEventListener('click', clearSubscriptionLog);
+
+    // 많이 들어오는 topic 을 위한 일시 정지, 샘플링, 보관 개수
+    document.getElementById('pause-subscription-log-btn').addEventListener('click', toggleSubscriptionLogPause);
+    document.getElementById('subscription-sampling').addEventListener('change', function(e) {
+        subscriptionLogFilter.sampling = Number(e.target.value);
+        subscriptionLogFilter.counters.clear();
+    });
+    document.getElementById('subscription-log-capacity').addEventListener('change', function(e) {
+        subscriptionLog.resize(Number(e.target.value));
+    });
+    
+    // Operation 이동 이벤트
+    document.getElementById('go-to-operation-btn').addEventListener('click', goToOperation);
+    document.getElementById('go-to-topic-btn').addEventListener('click', goToTopic);
+    
+    // Burst 전송
+    document.getElementById('burst-start-btn').addEventListener('click', startBurst);
+    document.getElementById('burst-stop-btn').addEventListener('click', () => stopBurst());
+    document.getElementById('burst-mode').addEventListener('change', updateBurstModeOptions);
+    updateBurstModeOptions();
+
+    // Destination 선택 시 예제 메시지 로드
+    document.getElementById('message-destination').addEventListener('change', function(e) {
+        const selectedPath = e.target.value;
+        createDestinationVariableInputs(selectedPath);
+        loadExampleMessage(selectedPath);
+        updateFinalDestination();
+        updateGoToOperationButton();
+    });
+    
+    // 구독 토픽 선택 시 변수 입력 필드 생성
+    document.getElementById('subscription-topic').addEventListener('change', function(e) {
+        const selectedTopic = e.target.value;
+        createSubscriptionVariableInputs(selectedTopic);
+        updateFinalSubscription();
+        updateGoToTopicButton();
+    });
+}
+
+function connectWebSocket() {
+    const url = document.getElementById('ws-url').value.trim();
+    if (!url) {
+        addLogEntry('error', 'Please enter a WebSocket URL');
+        return;
+    }
+
+    try {
+        connectedTransport = document.getElementById('ws-transport').value;
+        const transportName = getTransportName(connectedTransport);
+        const socketUrl = connectedTransport === 'websocket' ? toWebSocketUrl(url) : url;
+        addLogEntry('info', `Connecting to ${socketUrl} (${transportName})...`);
+        if (connectedTransport === 'websocket') {
+            addLogEntry('info', 'SockJS endpoints accept raw WebSocket at {endpoint}/websocket');
+        }
+        
+        // SockJS 또는 WebSocket 위에 STOMP 연결
+        const socket = connectedTransport === 'websocket'
+            ? new WebSocket(socketUrl, ['v12.stomp', 'v11.stomp', 'v10.stomp'])
+            : new SockJS(url);
+        stompClient = StompJs.Stomp.over(socket);
+        
+        // STOMP 연결
+        stompClient.connect({}, function(frame) {
+            addLogEntry('success', `STOMP connected to ${socketUrl} (${transportName})`);
+            addLogEntry('info', `Session: ${frame.headers['session']}`);
+            updateConnectionStatus(true);
+            
+        }, function(error) {
+            addLogEntry('error', `STOMP connection failed: ${error}`);
+            updateConnectionStatus(false);
+        });
+
+        // WebSocket 연결 상태 모니터링
+        socket.onopen = function() {
+            addLogEntry('info', `${transportName} connection opened`);
+        };
+
+        socket.onclose = function(event) {
+            addLogEntry('info', `${transportName} connection closed (code: ${event.code})`);
+            stopBurst();
+            updateConnectionStatus(false);
+            clearSubscriptions();
+        };
+
+        socket.onerror = function(error) {
+            addLogEntry('error', `${transportName} error: ${error}`);
+        };
+        
+    } catch (error) {
+        addLogEntry('error', `Connection failed: ${error.message}`);
+        updateConnectionStatus(false);
+    }
+}
+
+function getTransportName(transport) {
+    return transport === 'websocket' ? 'WebSocket' : 'SockJS';
+}
+
+// SockJS 는 http(s) URL 을 쓰고, 브라우저 WebSocket 은 ws(s) URL 이 필요하다
+function toWebSocketUrl(url) {
+    return url.replace(/^http(s?):\/\//, 'ws$1://');
+}
+
+function disconnectWebSocket() {
+    stopBurst();
+    if (stompClient && stompClient.connected) {
+        // 모든 구독 해제
+        clearSubscriptions();
+        
+        // STOMP 연결 해제
+        stompClient.disconnect(function() {
+            addLogEntry('info', 'STOMP disconnected');
+            updateConnectionStatus(false);
+        });
+    } else {
+        updateConnectionStatus(false);
+        addLogEntry('info', 'Already disconnected');
+    }
+}
+
+function createSubscriptionVariableInputs(topicPath) {
+    const variablesContainer = document.getElementById('subscription-variables');
+    variablesContainer.innerHTML = '';
+
+    if (!topicPath) return;
+
+    // {변수명} 패턴을 찾아서 입력 필드 생성
+    const variables = topicPath.match(/{([^}]+)}/g);
+    
+    if (variables && variables.length > 0) {
+        variables.forEach(variable => {
+            const varName = variable.slice(1, -1); // {} 제거
+            
+            const formGroup = document.createElement('div');
+            formGroup.className = 'form-group';
+            
+            formGroup.innerHTML = `
+                <label for="sub-var-${varName}">${varName}:</label>
+                <input type="text" id="sub-var-${varName}" data-variable="${varName}" 
+                       placeholder="Enter ${varName}..." class="subscription-variable">
+            `;
+            
+            variablesContainer.appendChild(formGroup);
+        });
+
+        // 변수 입력 시 최종 subscription 업데이트
+        variablesContainer.addEventListener('input', updateFinalSubscription);
+    }
+}
+
+function updateFinalSubscription() {
+    const baseTopic = document.getElementById('subscription-topic').value;
+    const finalSubscriptionInput = document.getElementById('final-subscription');
+    const subscribeBtn = document.getElementById('subscribe-btn');
+    
+    if (!baseTopic) {
+        finalSubscriptionInput.value = '';
+        subscribeBtn.disabled = true;
+        return;
+    }
+
+    let finalTopic = baseTopic;
+    
+    // 모든 변수 입력 필드의 값으로 치환
+    const variableInputs = document.querySelectorAll('.subscription-variable');
+    variableInputs.forEach(input => {
+        const varName = input.dataset.variable;
+        const varValue = input.value.trim();
+        if (varValue) {
+            finalTopic = finalTopic.replace(`{${varName}}`, varValue);
+        }
+    });
+    
+    finalSubscriptionInput.value = finalTopic;
+    
+    // 변수가 모두 채워졌는지 확인
+    const hasUnfilledVariables = finalTopic.includes('{') && finalTopic.includes('}');
+    subscribeBtn.disabled = !stompClient || !stompClient.connected || hasUnfilledVariables;
+}
+
+function manualSubscribe() {
+    if (!stompClient || !stompClient.connected) {
+        addLogEntry('error', 'Not connected to STOMP server');
+        return;
+    }
+
+    const finalTopic = document.getElementById('final-subscription').value;
+    
+    if (!finalTopic) {
+        addLogEntry('error', 'Please select a topic');
+        return;
+    }
+
+    // 변수가 아직 치환되지 않았는지 확인
+    if (finalTopic.includes('{') && finalTopic.includes('}')) {
+        addLogEntry('error', 'Please fill in all topic variables');
+        return;
+    }
+
+    // 이미 구독 중인지 확인
+    const existingSubscription = subscriptions.find(sub => sub.destination === finalTopic);
+    if (existingSubscription) {
+        addLogEntry('error', `Already subscribed to ${finalTopic}`);
+        return;
+    }
+
+    subscribeToTopic(finalTopic);
+    updateSubscriptionsList();
+}
+
+function unsubscribeAll() {
+    clearSubscriptions();
+    updateSubscriptionsList();
+    addLogEntry('info', 'All subscriptions cleared');
+    
+    // 구독 로그도 초기화
+    subscriptionLog.clear();
+    subscriptionLog.push('info', 'No active subscriptions');
+}
+
+function subscribeToTopic(topicPath) {
+    if (!stompClient || !stompClient.connected) return;
+    
+    // 이미 구독 중인지 확인
+    const existingSubscription = subscriptions.find(sub => sub.destination === topicPath);
+    if (existingSubscription) return;
+    
+    try {
+        const subscription = stompClient.subscribe(topicPath, function(message) {
+            const contentType = message.headers['content-type'];
+            if (isBinaryContentType(contentType)) {
+                addSubscriptionLogEntry('received', topicPath, null, () => decodePayload(message.binaryBody, contentType)
+                    .catch(error => `[${contentType}, ${formatBytes(message.binaryBody.length)}] ${error.message}`));
+                return;
+            }
+            addSubscriptionLogEntry('received', topicPath, message.body);
+        });
+        
+        subscriptions.push({
+            destination: topicPath,
+            subscription: subscription
+        });
+        
+        addLogEntry('info', `Subscribed to ${topicPath}`);
+        
+        // 첫 번째 구독 시 subscription log 초기화
+        if (subscriptions.length === 1) {
+            clearSubscriptionLog();
+        }
+    } catch (error) {
+        addLogEntry('error', `Failed to subscribe to ${topicPath}: ${error.message}`);
+    }
+}
+
+function updateSubscriptionsList() {
+    const subscriptionsList = document.getElementById('subscriptions-list');
+    
+    if (subscriptions.length === 0) {
+        subscriptionsList.innerHTML = '<div class="no-subscriptions">No active subscriptions</div>';
+        return;
+    }
+    
+    subscriptionsList.innerHTML = '';
+    subscriptions.forEach(sub => {
+        const subscriptionItem = document.createElement('div');
+        subscriptionItem.className = 'subscription-item';
+        
+        subscriptionItem.innerHTML = `
+            <span class="subscription-topic">${sub.destination}</span>
+            <button class="unsubscribe-btn" onclick="unsubscribeFromTopic('${sub.destination}')">×</button>
+        `;
+        
+        subscriptionsList.appendChild(subscriptionItem);
+    });
+}
+
+function unsubscribeFromTopic(topicPath) {
+    const subscriptionIndex = subscriptions.findIndex(sub => sub.destination === topicPath);
+    if (subscriptionIndex === -1) return;
+    
+    try {
+        subscriptions[subscriptionIndex].subscription.unsubscribe();
+        subscriptions.splice(subscriptionIndex, 1);
+        updateSubscriptionsList();
+        addLogEntry('info', `Unsubscribed from ${topicPath}`);
+    } catch (error) {
+        addLogEntry('error', `Failed to unsubscribe from ${topicPath}: ${error.message}`);
+    }
+}
+
+function clearSubscriptions() {
+    subscriptions.forEach(sub => {
+        try {
+            sub.subscription.unsubscribe();
+        } catch (error) {
+            console.error('Error unsubscribing:', error);
+        }
+    });
+    subscriptions = [];
+}
+
+function createDestinationVariableInputs(destinationPath) {
+    const variablesContainer = document.getElementById('destination-variables');
+    variablesContainer.innerHTML = '';
+
+    if (!destinationPath) return;
+
+    // {변수명} 패턴을 찾아서 입력 필드 생성
+    const variables = destinationPath.match(/{([^}]+)}/g);
+    
+    if (variables && variables.length > 0) {
+        variables.forEach(variable => {
+            const varName = variable.slice(1, -1); // {} 제거
+            
+            const formGroup = document.createElement('div');
+            formGroup.className = 'form-group';
+            
+            formGroup.innerHTML = `
+                <label for="var-${varName}">${varName}:</label>
+                <input type="text" id="var-${varName}" data-variable="${varName}" 
+                       placeholder="Enter ${varName}..." class="destination-variable">
+            `;
+            
+            variablesContainer.appendChild(formGroup);
+        });
+
+        // 변수 입력 시 최종 destination 업데이트
+        variablesContainer.addEventListener('input', updateFinalDestination);
+    }
+}
+
+function updateFinalDestination() {
+    const baseDestination = document.getElementById('message-destination').value;
+    const finalDestinationInput = document.getElementById('final-destination');
+    
+    const replyTopicInput = document.getElementById('burst-reply-topic');
+    
+    if (!baseDestination) {
+        finalDestinationInput.value = '';
+        replyTopicInput.value = '';
+        return;
+    }
+
+    let finalDestination = baseDestination;
+    // Burst 응답을 받을 @MessageResponse topic 도 같은 변수 값으로 채운다
+    const matched = overview.destinations.find(entry => entry.channel === baseDestination);
+    let replyTopic = matched && matched.replyChannel ? matched.replyChannel : '';
+    
+    // 모든 변수 입력 필드의 값으로 치환
+    const variableInputs = document.querySelectorAll('.destination-variable');
+    variableInputs.forEach(input => {
+        const varName = input.dataset.variable;
+        const varValue = input.value.trim();
+        if (varValue) {
+            finalDestination = finalDestination.replace(`{${varName}}`, varValue);
+            replyTopic = replyTopic.replace(`{${varName}}`, varValue);
+        }
+    });
+    
+    finalDestinationInput.value = finalDestination;
+    replyTopicInput.value = replyTopic;
+}
+
+function sendMessage() {
+    if (!stompClient || !stompClient.connected) {
+        addLogEntry('error', 'Not connected to STOMP server');
+        return;
+    }
+
+    const finalDestination = document.getElementById('final-destination').value;
+    const payload = document.getElementById('message-payload').value.trim();
+    const contentType = document.getElementById('message-content-type').value;
+
+    if (!finalDestination) {
+        addLogEntry('error', 'Please select a destination');
+        return;
+    }
+
+    // 변수가 아직 치환되지 않았는지 확인
+    if (finalDestination.includes('{') && finalDestination.includes('}')) {
+        addLogEntry('error', 'Please fill in all destination variables');
+        return;
+    }
+
+    try {
+        let messageBody = {};
+        if (payload) {
+            // JSON validation
+            messageBody = JSON.parse(payload);
+        }
+
+        if (isBinaryContentType(contentType)) {
+            sendBinaryMessage(finalDestination, contentType, JSON.stringify(messageBody));
+            return;
+        }
+
+        // STOMP send
+        stompClient.send(finalDestination, {
+            'content-type': contentType
+        }, JSON.stringify(messageBody));
+        
+        addLogEntry('sent', `Sent to ${finalDestination}: ${JSON.stringify(messageBody)}`);
+        
+    } catch (error) {
+        if (error.name === 'SyntaxError') {
+            addLogEntry('error', `Invalid JSON payload: ${error.message}`);
+        } else {
+            addLogEntry('error', `Failed to send message: ${error.message}`);
+        }
+    }
+}
+
+// 바이너리 형식은 서버에서 인코딩해 바이너리 프레임으로 보낸다. SockJS 는 텍스트 프레임만 보낼 수 있다.
+async function sendBinaryMessage(destination, contentType, json) {
+    if (connectedTransport !== 'websocket') {
+        addLogEntry('error', `${contentType} requires the Raw WebSocket transport`);
+        return;
+    }
+    try {
+        const binaryBody = await encodePayload(json, contentType);
+        stompClient.publish({ destination, headers: { 'content-type': contentType }, binaryBody });
+        addLogEntry('sent', `Sent to ${destination} (${contentType}, ${formatBytes(binaryBody.length)}): ${json}`);
+    } catch (error) {
+        addLogEntry('error', `Failed to send message: ${error.message}`);
+    }
+}
+
+async function loadExampleMessage(destination) {
+    if (!destination) return;
+    
+    // 해당 destination과 매칭되는 operation 찾기
+    const matched = overview.destinations.find(entry => entry.channel === destination);
+    if (!matched) return;
+
+    try {
+        const operationSpec = await loadOperationDetail(matched.operationId);
+        if (operationSpec.messages && operationSpec.messages.length > 0) {
+            const messageName = getMessageNameFromRef(operationSpec.messages[0]);
+            const exampleJson = getMessageSchema(messageName);
+            document.getElementById('message-payload').value = exampleJson;
+            document.getElementById('message-content-type').value = getMessageContentType(messageName);
+        } else {
+            document.getElementById('message-payload').value = '{}';
+            document.getElementById('message-content-type').value = overview.defaultContentType || 'application/json';
+        }
+    } catch (error) {
+        addLogEntry('error', `Failed to load example message: ${error.message}`);
+    }
+}
+
+function updateConnectionStatus(isConnected) {
+    const statusElement = document.getElementById('connection-status');
+    const connectBtn = document.getElementById('connect-btn');
+    const disconnectBtn = document.getElementById('disconnect-btn');
+    const sendBtn = document.getElementById('send-message-btn');
+    const burstStartBtn = document.getElementById('burst-start-btn');
+
+    if (isConnected && stompClient && stompClient.connected) {
+        statusElement.textContent = `Connected (STOMP over ${getTransportName(connectedTransport)})`;
+        statusElement.className = 'status-connected';
+        connectBtn.disabled = true;
+        disconnectBtn.disabled = false;
+        sendBtn.disabled = false;
+        burstStartBtn.disabled = burst !== null;
+    } else {
+        statusElement.textContent = 'Disconnected';
+        statusElement.className = 'status-disconnected';
+        connectBtn.disabled = false;
+        disconnectBtn.disabled = true;
+        sendBtn.disabled = true;
+        burstStartBtn.disabled = true;
+    }
+}
+
+// Burst: 같은 페이로드를 N 건, 또는 초당 R 건씩 T 초 동안 보내고 응답 topic 으로 돌아온 시간을 잰다
+const BURST_TICK_MS = 10;
+const BURST_CHUNK_SIZE = 500;
+const BURST_REPLY_TIMEOUT_MS = 5000;
+const BURST_REPORT_INTERVAL_MS = 250;
+const BURST_MAX_MESSAGES = 1000000;
+let burst = null;
+
+function updateBurstModeOptions() {
+    const rateMode = document.getElementById('burst-mode').value === 'rate';
+    document.querySelectorAll('.burst-count-option').forEach(el => el.style.display = rateMode ? 'none' : '');
+    document.querySelectorAll('.burst-rate-option').forEach(el => el.style.display = rateMode ? '' : 'none');
+}
+
+async function startBurst() {
+    if (!stompClient || !stompClient.connected || burst) return;
+
+    const destination = document.getElementById('final-destination').value;
+    const replyTopic = document.getElementById('burst-reply-topic').value;
+    if (!destination || destination.includes('{')) {
+        addLogEntry('error', 'Please select a destination and fill in all destination variables');
+        return;
+    }
+
+    let body;
+    try {
+        const payload = document.getElementById('message-payload').value.trim();
+        body = JSON.stringify(payload ? JSON.parse(payload) : {});
+    } catch (error) {
+        addLogEntry('error', `Invalid JSON payload: ${error.message}`);
+        return;
+    }
+
+    // 바이너리 형식은 한 번만 인코딩해 두고 같은 바이트를 보낸다
+    const contentType = document.getElementById('message-content-type').value;
+    let binaryBody = null;
+    if (isBinaryContentType(contentType)) {
+        if (connectedTransport !== 'websocket') {
+            addLogEntry('error', `${contentType} requires the Raw WebSocket transport`);
+            return;
+        }
+        try {
+            binaryBody = await encodePayload(body, contentType);
+        } catch (error) {
+            addLogEntry('error', error.message);
+            return;
+        }
+        if (!stompClient || !stompClient.connected || burst) return;
+    }
+
+    const rateMode = document.getElementById('burst-mode').value === 'rate';
+    const rate = Math.max(1, Number(document.getElementById('burst-rate').value) || 1);
+    const total = rateMode
+        ? Math.round(rate * Math.max(1, Number(document.getElementById('burst-duration').value) || 1))
+        : Math.max(1, Number(document.getElementById('burst-count').value) || 1);
+    if (total > BURST_MAX_MESSAGES) {
+        addLogEntry('error', `Burst is limited to ${BURST_MAX_MESSAGES} messages`);
+        return;
+    }
+    // 응답 topic 에 채우지 못한 변수가 있으면 전송 건수만 센다
+    const correlated = replyTopic !== '' && !replyTopic.includes('{');
+
+    burst = {
+        destination, replyTopic, body, binaryBody, rateMode, rate, total, correlated,
+        transport: getTransportName(connectedTransport),
+        headers: { 'content-type': contentType },
+        sent: 0,
+        received: 0,
+        // 응답은 보낸 순서대로 온다고 보고, 보낸 시각을 순서대로 꺼내 맞춘다
+        sendTimes: new Float64Array(total),
+        nextReply: 0,
+        latencies: [],
+        startedAt: performance.now(),
+        sendEndedAt: null,
+        lastReceivedAt: null,
+        subscription: null,
+        timer: null,
+        reportTimer: null,
+        waitTimer: null
+    };
+
+    if (correlated) {
+        burst.subscription = stompClient.subscribe(replyTopic, onBurstReply);
+    }
+    document.getElementById('burst-start-btn').disabled = true;
+    document.getElementById('burst-stop-btn').disabled = false;
+    addLogEntry('info', `Burst started: ${total} messages to ${destination}`
+        + (rateMode ? ` at ${rate} msg/s` : '')
+        + (correlated ? `, replies on ${replyTopic}` : ', no reply topic'));
+
+    burst.reportTimer = setInterval(renderBurstResult, BURST_REPORT_INTERVAL_MS);
+    burst.timer = setInterval(sendBurstTick, rateMode ? BURST_TICK_MS : 0);
+}
+
+function sendBurstTick() {
+    const current = burst;
+    if (!current) return;
+    const elapsed = performance.now() - current.startedAt;
+    // 속도 모드는 지금까지 보냈어야 할 건수만큼, N 건 모드는 한 번에 CHUNK 건씩 보내서 화면이 멈추지 않게 한다
+    const due = current.rateMode
+        ? Math.min(current.total, Math.floor(elapsed * current.rate / 1000))
+        : Math.min(current.total, current.sent + BURST_CHUNK_SIZE);
+    while (current.sent < due) {
+        current.sendTimes[current.sent] = performance.now();
+        if (current.binaryBody) {
+            stompClient.publish({ destination: current.destination, headers: current.headers, binaryBody: current.binaryBody });
+        } else {
+            stompClient.send(current.destination, current.headers, current.body);
+        }
+        current.sent++;
+    }
+    if (current.sent >= current.total) {
+        clearInterval(current.timer);
+        current.timer = null;
+        current.sendEndedAt = performance.now();
+        if (!current.correlated || current.received >= current.total) {
+            finishBurst('completed');
+        } else {
+            current.waitTimer = setTimeout(() => finishBurst('reply timeout'), BURST_REPLY_TIMEOUT_MS);
+        }
+    }
+}
+
+function onBurstReply() {
+    const current = burst;
+    if (!current) return;
+    const now = performance.now();
+    current.received++;
+    current.lastReceivedAt = now;
+    if (current.nextReply < current.sent) {
+        current.latencies.push(now - current.sendTimes[current.nextReply++]);
+    }
+    if (current.sendEndedAt !== null && current.received >= current.total) {
+        finishBurst('completed');
+    }
+}
+
+function stopBurst() {
+    if (burst) {
+        finishBurst('stopped');
+    }
+}
+
+function finishBurst(reason) {
+    const current = burst;
+    burst = null;
+    clearInterval(current.timer);
+    clearInterval(current.reportTimer);
+    clearTimeout(current.waitTimer);
+    if (current.sendEndedAt === null) {
+        current.sendEndedAt = performance.now();
+    }
+    if (current.subscription) {
+        try {
+            current.subscription.unsubscribe();
+        } catch (error) {
+            console.error('Error unsubscribing:', error);
+        }
+    }
+    current.finishedReason = reason;
+    renderBurstResult(current);
+    document.getElementById('burst-stop-btn').disabled = true;
+    updateConnectionStatus(true);
+    addLogEntry(reason === 'completed' ? 'success' : 'info',
+        `Burst ${reason}: sent ${current.sent}, received ${current.received}`);
+}
+
+function renderBurstResult(current = burst) {
+    if (!current) return;
+    const now = performance.now();
+    const sendSeconds = ((current.sendEndedAt || now) - current.startedAt) / 1000;
+    const receiveSeconds = ((current.lastReceivedAt || now) - current.startedAt) / 1000;
+    const lines = [
+        `${current.transport} · ${current.finishedReason || 'running'}`,
+        `sent ${current.sent}/${current.total} in ${sendSeconds.toFixed(2)} s (${formatRate(current.sent, sendSeconds)} msg/s)`
+    ];
+    if (current.correlated) {
+        lines.push(`received ${current.received} (${formatRate(current.received, receiveSeconds)} msg/s)`
+            + (current.finishedReason ? `, missing ${Math.max(0, current.sent - current.received)}` : ''));
+        const latencies = Float64Array.from(current.latencies).sort();
+        if (latencies.length > 0) {
+            lines.push(`latency ms p50 ${percentile(latencies, 0.5)} · p90 ${percentile(latencies, 0.9)}`
+                + ` · p99 ${percentile(latencies, 0.99)} · max ${latencies[latencies.length - 1].toFixed(1)}`);
+        }
+    } else {
+        lines.push('no reply topic, latency not measured');
+    }
+    document.getElementById('burst-result').textContent = lines.join('\n');
+}
+
+function formatRate(count, seconds) {
+    return seconds > 0 ? Math.round(count / seconds) : 0;
+}
+
+function percentile(sorted, fraction) {
+    const index = Math.min(sorted.length - 1, Math.ceil(sorted.length * fraction) - 1);
+    return sorted[Math.max(0, index)].toFixed(1);
+}
+
+// 테스트 콘솔 로그는 정해진 개수만 링 버퍼에 보관하고, 화면에 보이는 행만 애니메이션 프레임마다 한 번 그린다
+const LOG_ROW_HEIGHT = 22;
+const LOG_OVERSCAN_ROWS = 10;
+const LOG_PREVIEW_LENGTH = 200;
+const DEFAULT_LOG_CAPACITY = 1000;
+
+class VirtualLog {
+    constructor(container, capacity, onRender = null) {
+        this.container = container;
+        this.onRender = onRender;
+        this.entries = new Array(capacity);
+        this.start = 0;
+        this.size = 0;
+        this.pending = [];
+        this.seq = 0;
+        this.dropped = 0;
+        this.dirty = true;
+        this.frameRequested = false;
+
+        container.classList.add('virtual-log');
+        container.innerHTML = '';
+        this.spacer = document.createElement('div');
+        this.spacer.className = 'virtual-log-spacer';
+        this.rows = document.createElement('div');
+        this.rows.className = 'virtual-log-rows';
+        this.spacer.appendChild(this.rows);
+        container.appendChild(this.spacer);
+
+        container.addEventListener('scroll', () => this.scheduleRender(true));
+        this.rows.addEventListener('click', event => {
+            const row = event.target.closest('.log-entry');
+            if (row && !window.getSelection().toString()) {
+                this.toggle(Number(row.dataset.seq));
+            }
+        });
+    }
+
+    get capacity() {
+        return this.entries.length;
+    }
+
+    push(type, text, topic = null) {
+        this.pending.push({ seq: ++this.seq, time: Date.now(), type, topic, text, expanded: false, pretty: null, height: LOG_ROW_HEIGHT });
+        // 탭이 백그라운드면 프레임이 오지 않으므로 대기열도 용량의 두 배를 넘기지 않는다
+        if (this.pending.length > this.capacity * 2) {
+            const overflow = this.pending.length - this.capacity;
+            this.pending.splice(0, overflow);
+            this.dropped += overflow;
+        }
+        this.scheduleRender(true);
+    }
+
+    clear() {
+        this.entries = new Array(this.capacity);
+        this.start = 0;
+        this.size = 0;
+        this.pending = [];
+        this.dropped = 0;
+        this.scheduleRender(true);
+    }
+
+    resize(capacity) {
+        const kept = [];
+        for (let i = Math.max(0, this.size - capacity); i < this.size; i++) {
+            kept.push(this.at(i));
+        }
+        this.dropped += this.size - kept.length;
+        this.entries = new Array(capacity);
+        this.start = 0;
+        this.size = 0;
+        kept.forEach(entry => this.append(entry));
+        this.scheduleRender(true);
+    }
+
+    toggle(seq) {
+        for (let i = 0; i < this.size; i++) {
+            const entry = this.at(i);
+            if (entry.seq === seq) {
+                entry.expanded = !entry.expanded;
+                entry.height = LOG_ROW_HEIGHT;
+                this.scheduleRender(true);
+                return;
+            }
+        }
+    }
+
+    // dirty 가 아니면 행은 그대로 두고 onRender(통계 표시)만 갱신한다
+    scheduleRender(dirty = false) {
+        this.dirty = this.dirty || dirty;
+        if (this.frameRequested) return;
+        this.frameRequested = true;
+        requestAnimationFrame(() => this.render());
+    }
+
+    at(index) {
+        return this.entries[(this.start + index) % this.capacity];
+    }
+
+    append(entry) {
+        if (this.size < this.capacity) {
+            this.entries[(this.start + this.size) % this.capacity] = entry;
+            this.size++;
+        } else {
+            this.entries[this.start] = entry;
+            this.start = (this.start + 1) % this.capacity;
+            this.dropped++;
+        }
+    }
+
+    flush() {
+        const batch = this.pending;
+        if (batch.length === 0) return;
+        this.pending = [];
+        const skipped = Math.max(0, batch.length - this.capacity);
+        this.dropped += skipped;
+        for (let i = skipped; i < batch.length; i++) {
+            this.append(batch[i]);
+        }
+    }
+
+    render() {
+        this.frameRequested = false;
+        if (this.dirty) {
+            this.dirty = false;
+            this.renderRows();
+        }
+        if (this.onRender) this.onRender(this);
+    }
+
+    renderRows() {
+        const container = this.container;
+        const followTail = container.scrollTop + container.clientHeight >= container.scrollHeight - LOG_ROW_HEIGHT;
+        this.flush();
+
+        // 펼친 행만 높이가 달라서 전체 높이는 매번 더해서 구한다
+        let totalHeight = 0;
+        for (let i = 0; i < this.size; i++) {
+            totalHeight += this.at(i).height;
+        }
+        this.spacer.style.height = `${totalHeight}px`;
+        if (followTail) {
+            container.scrollTop = totalHeight;
+        }
+
+        const viewTop = container.scrollTop - LOG_OVERSCAN_ROWS * LOG_ROW_HEIGHT;
+        const viewBottom = container.scrollTop + container.clientHeight + LOG_OVERSCAN_ROWS * LOG_ROW_HEIGHT;
+        const fragment = document.createDocumentFragment();
+        const rendered = [];
+        let offset = 0;
+        let firstOffset = null;
+        for (let i = 0; i < this.size && offset < viewBottom; i++) {
+            const entry = this.at(i);
+            if (offset + entry.height > viewTop) {
+                if (firstOffset === null) firstOffset = offset;
+                const row = createLogRow(entry);
+                fragment.appendChild(row);
+                rendered.push([entry, row]);
+            }
+            offset += entry.height;
+        }
+        this.rows.style.transform = `translateY(${firstOffset || 0}px)`;
+        this.rows.replaceChildren(fragment);
+
+        // 펼친 행의 실제 높이를 재서 다르면 다음 프레임에 다시 배치한다
+        let heightChanged = false;
+        rendered.forEach(([entry, row]) => {
+            if (entry.expanded && entry.height !== row.offsetHeight) {
+                entry.height = row.offsetHeight;
+                heightChanged = true;
+            }
+        });
+        if (heightChanged) {
+            this.scheduleRender(true);
+        }
+    }
+}
+
+function createLogRow(entry) {
+    const row = document.createElement('div');
+    row.className = `log-entry ${entry.type}` + (entry.expanded ? ' expanded' : '');
+    row.dataset.seq = entry.seq;
+
+    const timestamp = document.createElement('span');
+    timestamp.className = 'timestamp';
+    timestamp.textContent = `[${new Date(entry.time).toLocaleTimeString()}]`;
+    row.appendChild(timestamp);
+
+    if (entry.topic) {
+        const topic = document.createElement('span');
+        topic.className = 'subscription-topic-header';
+        topic.textContent = entry.topic;
+        row.appendChild(topic);
+    }
+
+    if (entry.expanded) {
+        // 큰 페이로드는 펼쳤을 때 처음 한 번만 정렬해서 보관한다
+        if (entry.pretty === null) {
+            entry.pretty = prettyPrintPayload(entry.text);
+        }
+        const content = document.createElement('pre');
+        content.className = 'subscription-content';
+        content.textContent = entry.pretty;
+        row.appendChild(content);
+    } else {
+        const message = document.createElement('span');
+        message.className = 'message';
+        message.textContent = entry.text.length > LOG_PREVIEW_LENGTH
+            ? entry.text.slice(0, LOG_PREVIEW_LENGTH) + '…'
+            : entry.text;
+        row.appendChild(message);
+    }
+    return row;
+}
+
+function prettyPrintPayload(text) {
+    try {
+        return JSON.stringify(JSON.parse(text), null, 2);
+    } catch (e) {
+        // JSON이 아니면 그대로 표시
+        return text;
+    }
+}
+
+const connectionLog = new VirtualLog(document.getElementById('message-log'), DEFAULT_LOG_CAPACITY);
+const subscriptionLog = new VirtualLog(document.getElementById('subscription-log'), DEFAULT_LOG_CAPACITY, updateSubscriptionLogStats);
+// 구독 메시지의 일시 정지와 topic 별 샘플링 상태
+const subscriptionLogFilter = { paused: false, sampling: 1, counters: new Map(), received: 0, skipped: 0 };
+connectionLog.push('info', 'Ready to connect...');
+subscriptionLog.push('info', 'No active subscriptions');
+
+function addLogEntry(type, message) {
+    connectionLog.push(type, message);
+}
+
+// 바이너리 페이로드는 decode 로 넘겨 샘플링을 통과한 것만 디코딩한다
+function addSubscriptionLogEntry(type, topic, message, decode = null) {
+    const filter = subscriptionLogFilter;
+    filter.received++;
+    if (filter.paused) {
+        filter.skipped++;
+        subscriptionLog.scheduleRender();
+        return;
+    }
+    if (filter.sampling > 1) {
+        const count = (filter.counters.get(topic) || 0) + 1;
+        filter.counters.set(topic, count);
+        if ((count - 1) % filter.sampling !== 0) {
+            filter.skipped++;
+            subscriptionLog.scheduleRender();
+            return;
+        }
+    }
+    if (decode) {
+        decode().then(text => subscriptionLog.push(type, text, topic));
+        return;
+    }
+    subscriptionLog.push(type, message, topic);
+}
+
+function toggleSubscriptionLogPause() {
+    subscriptionLogFilter.paused = !subscriptionLogFilter.paused;
+    document.getElementById('pause-subscription-log-btn').textContent = subscriptionLogFilter.paused ? 'Resume' : 'Pause';
+    subscriptionLog.scheduleRender();
+}
+
+function updateSubscriptionLogStats(log) {
+    const filter = subscriptionLogFilter;
+    const parts = [`received ${filter.received}`, `kept ${log.size}`];
+    if (log.dropped > 0) parts.push(`dropped ${log.dropped}`);
+    if (filter.skipped > 0) parts.push(`skipped ${filter.skipped}`);
+    if (filter.paused) parts.push('paused');
+    document.getElementById('subscription-log-stats').textContent = parts.join(' · ');
+}
+
+function clearSubscriptionLog() {
+    subscriptionLogFilter.received = 0;
+    subscriptionLogFilter.skipped = 0;
+    subscriptionLogFilter.counters.clear();
+    subscriptionLog.clear();
+    subscriptionLog.push('info', 'Waiting for subscription messages...');
+}
+
+function clearConnectionLog() {
+    connectionLog.clear();
+    connectionLog.push('info', 'Connection log cleared');
+}
+
+async function goToOperation() {
+    const selectedDestination = document.getElementById('message-destination').value;
+    if (!selectedDestination) return;
+    
+    // 색인에서 해당 destination과 매칭되는 operation 찾기
+    const matched = overview.destinations.find(entry => entry.channel === selectedDestination);
+    if (matched) {
+        await focusOperation(matched.operationId, selectedDestination, 'rgba(52, 152, 219, 0.6)');
+    }
+}
+
+async function goToTopic() {
+    const selectedTopic = document.getElementById('subscription-topic').value;
+    if (!selectedTopic) return;
+    
+    // 해당 topic으로 받거나 응답하는 operation 찾기
+    const result = await fetchDocsApi('/operations', { prefix: selectedTopic, size: 200 });
+    const matched = result.content.find(summary =>
+        summary.channel === selectedTopic || summary.replyChannel === selectedTopic);
+    if (matched) {
+        await focusOperation(matched.id, selectedTopic, 'rgba(23, 162, 184, 0.6)');
+    }
+}
+
+// 현재 목록에 없는 operation이면 destination으로 필터링해서 다시 불러온 뒤 펼친다
+async function focusOperation(operationPath, channelPath, highlightColor) {
+    const operationId = 'operation-' + sanitizeId(operationPath);
+    let operationElement = document.getElementById(operationId);
+    if (!operationElement) {
+        document.getElementById('operation-prefix-filter').value = channelPath;
+        document.getElementById('operation-message-filter').value = '';
+        operationQuery.prefix = channelPath;
+        operationQuery.messageType = '';
+        await loadOperations(true);
+        operationElement = document.getElementById(operationId);
+    }
+    if (!operationElement) return;
+
+    // 해당 operation으로 스크롤
+    operationElement.scrollIntoView({ behavior: 'smooth', block: 'start' });
+    
+    // operation이 접혀있으면 펼치기
+    const operationInfo = operationElement.querySelector('.operation-info');
+    const toggleIcon = operationElement.querySelector('.operation-toggle-icon');
+    if (operationInfo && operationInfo.classList.contains('collapsed')) {
+        operationInfo.classList.remove('collapsed');
+        toggleIcon.textContent = '▼';
+    }
+    await ensureOperationLoaded(operationElement);
+    
+    // 잠깐 하이라이트 효과
+    operationElement.style.boxShadow = `0 0 20px ${highlightColor}`;
+    setTimeout(() => {
+        operationElement.style.boxShadow = '';
+    }, 2000);
+}
+
+function updateGoToOperationButton() {
+    const goToOperationBtn = document.getElementById('go-to-operation-btn');
+    const selectedDestination = document.getElementById('message-destination').value;
+    goToOperationBtn.disabled = !selectedDestination;
+}
+
+function updateGoToTopicButton() {
+    const goToTopicBtn = document.getElementById('go-to-topic-btn');
+    const selectedTopic = document.getElementById('subscription-topic').value;
+    goToTopicBtn.disabled = !selectedTopic;
+}
+
+function collapseAllOperations() {
+    const allOperationInfos = document.querySelectorAll('.operation-info');
+    const allToggleIcons = document.querySelectorAll('.operation-toggle-icon');
+    
+    allOperationInfos.forEach(info => {
+        info.classList.add('collapsed');
+    });
+    
+    allToggleIcons.forEach(icon => {
+        icon.textContent = '▶';
+    });
+    
+    addLogEntry('info', 'All operations collapsed');
+}
+
+function goToTestFromOperation(operationPath, action) {
+    // WebSocket Test 섹션으로 스크롤
+    const testSection = document.getElementById('websocket-test');
+    testSection.scrollIntoView({ behavior: 'smooth', block: 'start' });
+    
+    if (action === 'send') {
+        // SEND operation인 경우 Send Message 패널에서 해당 destination 선택
+        if (apiSpec.operations && apiSpec.operations[operationPath]) {
+            const operationSpec = apiSpec.operations[operationPath];
+            const channelPath = getChannelPathFromRef(operationSpec.channel);
+            
+            const destinationSelect = document.getElementById('message-destination');
+            destinationSelect.value = channelPath;
+            
+            // 변경 이벤트 트리거
+            createDestinationVariableInputs(channelPath);
+            loadExampleMessage(channelPath);
+            updateFinalDestination();
+            updateGoToOperationButton();
+            
+            // Send Message 패널 하이라이트
+            const messagePanel = document.querySelector('.message-panel');
+            messagePanel.style.boxShadow = '0 0 20px rgba(52, 152, 219, 0.6)';
+            setTimeout(() => {
+                messagePanel.style.boxShadow = '';
+            }, 2000);
+        }
+    } else if (action === 'receive') {
+        // RECEIVE operation인 경우 Subscription 패널에서 해당 topic 선택
+        if (apiSpec.operations && apiSpec.operations[operationPath]) {
+            const operationSpec = apiSpec.operations[operationPath];
+            const topicPath = getChannelPathFromRef(operationSpec.channel);
+            
+            const topicSelect = document.getElementById('subscription-topic');
+            topicSelect.value = topicPath;
+            
+            // 변경 이벤트 트리거
+            createSubscriptionVariableInputs(topicPath);
+            updateFinalSubscription();
+            updateGoToTopicButton();
+            
+            // Subscription 패널 하이라이트
+            const subscriptionPanel = document.querySelector('.subscription-panel');
+            subscriptionPanel.style.boxShadow = '0 0 20px rgba(23, 162, 184, 0.6)';
+            setTimeout(() => {
+                subscriptionPanel.style.boxShadow = '';
+            }, 2000);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package generator.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import generator.config.DocsProperties;
+import generator.spec.AsyncApiSpec;
+import generator.spec.AsyncApiSpecProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpecAggregatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String ORDERS_SPEC = """
+            {
+              "asyncapi": "3.0.0",
+              "info": {"title": "orders", "version": "1.0.0"},
+              "channels": {
+                "/app/x": {"messages": {"Foo": {"$ref": "#/components/messages/Foo"}}}
+              },
+              "operations": {
+                "sendX": {"action": "send", "channel": {"$ref": "#/channels/~1app~1x"}}
+              },
+              "components": {
+                "messages": {"Foo": {"payload": {"$ref": "#/components/schemas/Foo"}}},
+                "schemas": {"Foo": {"type": "object", "properties": {"id": {"type": "string"}}}}
+              }
+            }
+            """;
+
+    private static final String LOCAL_SPEC = """
+            {
+              "asyncapi": "3.0.0",
+              "info": {"title": "local", "version": "1.0.0"},
+              "channels": {"/app/y": {}}
+            }
+            """;
+
+    private final List<StubPeer> peers = new ArrayList<>();
+
+    @AfterEach
+    void stopPeers() {
+        peers.forEach(StubPeer::stop);
+    }
+
+    @Test
+    @DisplayName("처음 요청하면 인스턴스의 문서를 받아 합친다")
+    void firstFetch() throws IOException {
+        StubPeer orders = start(ORDERS_SPEC, "\"v1\"");
+        SpecAggregator aggregator = aggregator(orders);
+
+        JsonNode merged = aggregator.mergedSpec().get().getRoot();
+
+        assertThat(orders.requests).isEqualTo(1);
+        assertThat(merged.path("channels").has("orders:/app/x")).isTrue();
+        assertThat(merged.path("channels").has("local:/app/y")).isTrue();
+        assertThat(merged.path("x-aggregated-from").path("orders").path("title").asText()).isEqualTo("orders");
+        PeerSnapshot snapshot = aggregator.snapshot().get(0);
+        assertThat(snapshot.available()).isTrue();
+        assertThat(snapshot.etag()).isEqualTo("\"v1\"");
+        assertThat(snapshot.fullResponses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 304 를 받고 다시 합치지 않는다")
+    void notModified() throws IOException {
+        StubPeer orders = start(ORDERS_SPEC, "\"v1\"");
+        SpecAggregator aggregator = aggregator(orders);
+        AsyncApiSpec first = aggregator.mergedSpec().get();
+
+        boolean changed = aggregator.poll();
+
+        assertThat(changed).isFalse();
+        assertThat(orders.lastIfNoneMatch).isEqualTo("\"v1\"");
+        assertThat(aggregator.mergedSpec().get()).isSameAs(first);
+        PeerSnapshot snapshot = aggregator.snapshot().get(0);
+        assertThat(snapshot.fullResponses()).isEqualTo(1);
+        assertThat(snapshot.notModifiedResponses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문서가 바뀌면 poll 이 true 를 돌려준다")
+    void changed() throws IOException {
+        StubPeer orders = start(ORDERS_SPEC, "\"v1\"");
+        SpecAggregator aggregator = aggregator(orders);
+        aggregator.mergedSpec().get();
+
+        orders.body = ORDERS_SPEC.replace("\"version\": \"1.0.0\"", "\"version\": \"1.0.1\"");
+        orders.etag = "\"v2\"";
+
+        assertThat(aggregator.poll()).isTrue();
+        JsonNode merged = aggregator.mergedSpec().refresh().getRoot();
+        assertThat(merged.path("x-aggregated-from").path("orders").path("version").asText()).isEqualTo("1.0.1");
+    }
+
+    @Test
+    @DisplayName("gzip 으로 압축된 본문을 풀어서 읽는다")
+    void gzipBody() throws IOException {
+        StubPeer orders = start(ORDERS_SPEC, "\"v1\"");
+        orders.gzip = true;
+        SpecAggregator aggregator = aggregator(orders);
+
+        JsonNode merged = aggregator.mergedSpec().get().getRoot();
+
+        assertThat(orders.lastAcceptEncoding).contains("gzip");
+        assertThat(merged.path("channels").has("orders:/app/x")).isTrue();
+        PeerSnapshot snapshot = aggregator.snapshot().get(0);
+        assertThat(snapshot.transferredBytes()).isEqualTo(gzip(ORDERS_SPEC).length);
+    }
+
+    @Test
+    @DisplayName("요청이 실패한 인스턴스는 마지막으로 받은 문서를 계속 쓴다")
+    void failingPeerKeepsLastDocument() throws IOException {
+        StubPeer orders = start(ORDERS_SPEC, "\"v1\"");
+        SpecAggregator aggregator = aggregator(orders);
+        aggregator.mergedSpec().get();
+
+        orders.status = 500;
+
+        assertThat(aggregator.poll()).isFalse();
+        JsonNode merged = aggregator.mergedSpec().refresh().getRoot();
+        assertThat(merged.path("channels").has("orders:/app/x")).isTrue();
+        PeerSnapshot snapshot = aggregator.snapshot().get(0);
+        assertThat(snapshot.available()).isTrue();
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.lastError()).contains("500");
+    }
+
+    @Test
+    @DisplayName("한 번도 받지 못한 인스턴스는 빼고 합친다")
+    void unreachablePeerIsSkipped() throws IOException {
+        StubPeer orders = start(ORDERS_SPEC, "\"v1\"");
+        orders.stop();
+        SpecAggregator aggregator = aggregator(orders);
+
+        JsonNode merged = aggregator.mergedSpec().get().getRoot();
+
+        assertThat(merged.path("channels").has("local:/app/y")).isTrue();
+        assertThat(merged.path("x-aggregated-from").has("orders")).isFalse();
+        PeerSnapshot snapshot = aggregator.snapshot().get(0);
+        assertThat(snapshot.available()).isFalse();
+        assertThat(snapshot.lastError()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("$ref 를 이름공간을 붙인 이름으로 바꾼다")
+    void namespacedRefs() throws IOException {
+        StubPeer orders = start(ORDERS_SPEC, "\"v1\"");
+        SpecAggregator aggregator = aggregator(orders);
+
+        JsonNode merged = aggregator.mergedSpec().get().getRoot();
+
+        assertThat(merged.at("/operations/orders:sendX/channel/$ref").asText())
+                .isEqualTo("#/channels/orders:~1app~1x");
+        assertThat(merged.at("/channels/orders:~1app~1x/address").asText()).isEqualTo("/app/x");
+        assertThat(merged.at("/channels/orders:~1app~1x/messages/Foo/$ref").asText())
+                .isEqualTo("#/components/messages/orders.Foo");
+        assertThat(merged.at("/components/messages/orders.Foo/payload/$ref").asText())
+                .isEqualTo("#/components/schemas/orders.Foo");
+        assertThat(merged.at("/components/schemas/orders.Foo/type").asText()).isEqualTo("object");
+    }
+
+    private StubPeer start(String body, String etag) throws IOException {
+        StubPeer peer = new StubPeer(body, etag);
+        peers.add(peer);
+        return peer;
+    }
+
+    private SpecAggregator aggregator(StubPeer... stubs) throws IOException {
+        DocsProperties properties = new DocsProperties();
+        properties.getAggregator().setTimeout(Duration.ofSeconds(2));
+        for (StubPeer stub : stubs) {
+            DocsProperties.Aggregator.Peer peer = new DocsProperties.Aggregator.Peer();
+            peer.setName("orders");
+            peer.setUrl(stub.url());
+            properties.getAggregator().getPeers().add(peer);
+        }
+        JsonNode local = MAPPER.readTree(LOCAL_SPEC);
+        return new SpecAggregator(properties, new AsyncApiSpecProvider(() -> local));
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * /docs/asyncapi.json 을 흉내 내는 인스턴스입니다. If-None-Match 가 ETag 와 같으면 304 를 보냅니다.
+     */
+    private static final class StubPeer {
+
+        private final HttpServer server;
+        private volatile String body;
+        private volatile String etag;
+        private volatile boolean gzip;
+        private volatile int status = 200;
+        private volatile int requests;
+        private volatile String lastIfNoneMatch;
+        private volatile String lastAcceptEncoding;
+
+        StubPeer(String body, String etag) throws IOException {
+            this.body = body;
+            this.etag = etag;
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/docs/asyncapi.json", this::handle);
+            server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/docs/asyncapi.json";
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            requests++;
+            lastIfNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            lastAcceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            try (exchange) {
+                if (status != 200) {
+                    exchange.sendResponseHeaders(status, -1);
+                    return;
+                }
+                exchange.getResponseHeaders().set("ETag", etag);
+                if (etag.equals(lastIfNoneMatch)) {
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                if (gzip && lastAcceptEncoding != null && lastAcceptEncoding.contains("gzip")) {
+                    bytes = SpecAggregatorTest.gzip(body);
+                    exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                }
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package generator.capture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import generator.config.DocsProperties;
+import generator.spec.AsyncApiSpecProvider;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.unit.DataSize;
+
+class CaptureRoundTripTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("여러 스레드가 한 세그먼트에 동시에 쓴 레코드를 모두 읽는다")
+    void concurrentWriters() throws Exception {
+        int threads = 8;
+        int perThread = 500;
+        CaptureSegment segment = CaptureSegment.create(directory.resolve("segment-00000.seg"), 1 << 20, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String sessionId = "session-" + t;
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    assertThat(append(segment, sessionId, "/app/chat", Map.of(), sessionId + ":" + i)).isTrue();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        segment.close();
+
+        Set<String> payloads = new HashSet<>();
+        CaptureReader.readSegment(segment.path(), frame -> {
+            String payload = new String(frame.payload(), StandardCharsets.UTF_8);
+            assertThat(payload).startsWith(frame.sessionId() + ":");
+            payloads.add(payload);
+        });
+        assertThat(payloads).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 reserve 가 -1 을 돌려주고 닫은 뒤에는 더 잡지 않는다")
+    void reserveUntilFull() throws IOException {
+        CaptureSegment segment = CaptureSegment.create(directory.resolve("segment-00000.seg"), 256, 0);
+        int written = 0;
+        while (append(segment, "s", "/app/chat", Map.of(), "0123456789")) {
+            written++;
+        }
+        segment.close();
+
+        assertThat(written).isPositive();
+        assertThat(segment.reserve(1)).isEqualTo(-1);
+        assertThat(readAll(segment.path())).hasSize(written);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 다음 파일로 넘어가고 순서대로 모두 읽는다")
+    void rollover() throws IOException {
+        StompCaptureRecorder recorder = recorder(DataSize.ofBytes(512), 8);
+        recorder.start();
+        int count = 40;
+        for (int i = 0; i < count; i++) {
+            recorder.record(FrameType.SEND, message("/app/chat", "message-" + i));
+        }
+        Path run = recorder.getDirectory();
+        recorder.stop();
+
+        assertThat(CaptureReader.segments(run)).hasSizeGreaterThan(1);
+        List<String> payloads = new ArrayList<>();
+        CaptureReader.read(run, frame -> payloads.add(new String(frame.payload(), StandardCharsets.UTF_8)));
+        // 한 스레드로 기록했으므로 파일 순서가 기록 순서다.
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            expected.add("message-" + i);
+        }
+        assertThat(payloads).isEqualTo(expected);
+        assertThat(recorder.getRecordedFrames()).isEqualTo(count);
+        assertThat(recorder.getDroppedFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("세그먼트를 모두 채우면 기록을 멈추고 나머지는 버린다")
+    void stopsAfterMaxSegments() throws IOException {
+        StompCaptureRecorder recorder = recorder(DataSize.ofBytes(256), 2);
+        recorder.start();
+        Path run = recorder.getDirectory();
+        for (int i = 0; i < 40; i++) {
+            recorder.record(FrameType.SEND, message("/app/chat", "message-" + i));
+        }
+
+        assertThat(recorder.isRecording()).isFalse();
+        assertThat(CaptureReader.segments(run)).hasSize(2);
+        List<CapturedFrame> frames = new ArrayList<>();
+        CaptureReader.read(run, frames::add);
+        assertThat((long) frames.size()).isEqualTo(recorder.getRecordedFrames());
+        assertThat(recorder.getDroppedFrames()).isPositive();
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍은 그대로, 짝이 없는 서로게이트는 U+FFFD 로 읽힌다")
+    void surrogates() throws IOException {
+        CaptureSegment segment = CaptureSegment.create(directory.resolve("segment-00000.seg"), 4096, 0);
+        String paired = "/app/채팅/😀";
+        String unpaired = "a\uD83Db\uDE00c\uD83D";
+        append(segment, "s", paired, Map.of("x-emoji", List.of(paired), "x-broken", List.of(unpaired)), unpaired);
+        // 길이를 잘못 세면 다음 레코드 위치가 어긋난다.
+        append(segment, "s", "/app/next", Map.of(), "😀");
+        segment.close();
+
+        List<CapturedFrame> frames = readAll(segment.path());
+        assertThat(frames).hasSize(2);
+        CapturedFrame first = frames.get(0);
+        assertThat(first.destination()).isEqualTo(paired);
+        assertThat(first.headers().get("x-emoji")).containsExactly(paired);
+        assertThat(first.headers().get("x-broken")).containsExactly("a�b�c�");
+        assertThat(new String(first.payload(), StandardCharsets.UTF_8)).isEqualTo("a�b�c�");
+        assertThat(first.payload()).hasSize(CaptureFormat.utf8Length(unpaired));
+        assertThat(frames.get(1).destination()).isEqualTo("/app/next");
+        assertThat(new String(frames.get(1).payload(), StandardCharsets.UTF_8)).isEqualTo("😀");
+    }
+
+    @Test
+    @DisplayName("중간에 잘린 마지막 레코드 앞에서 멈춘다")
+    void truncatedTail() throws IOException {
+        CaptureSegment segment = CaptureSegment.create(directory.resolve("segment-00000.seg"), 4096, 0);
+        for (int i = 0; i < 3; i++) {
+            append(segment, "s", "/app/chat", Map.of(), "message-" + i);
+        }
+        segment.close();
+        try (FileChannel channel = FileChannel.open(segment.path(), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        assertThat(readAll(segment.path())).extracting(frame -> new String(frame.payload(), StandardCharsets.UTF_8))
+                .containsExactly("message-0", "message-1");
+    }
+
+    @Test
+    @DisplayName("잘라 내지 못한 0 으로 찬 뒷부분과 길이를 쓰지 못한 레코드에서 멈춘다")
+    void zeroedTail() throws IOException {
+        Path path = directory.resolve("segment-00000.seg");
+        CaptureSegment segment = CaptureSegment.create(path, 4096, 0);
+        append(segment, "s", "/app/chat", Map.of(), "message-0");
+        append(segment, "s", "/app/chat", Map.of(), "message-1");
+        // 구간만 잡고 쓰지 못한 레코드: 길이 필드가 0 으로 남는다.
+        int size = CaptureFormat.recordSize("s", "/app/chat", Map.of(), "lost");
+        assertThat(segment.reserve(size)).isPositive();
+        segment.release();
+        append(segment, "s", "/app/chat", Map.of(), "message-2");
+        // close() 를 부르지 않은 파일처럼 뒷부분이 0 으로 남아 있다.
+        segment.buffer().force();
+
+        assertThat(Files.size(path)).isEqualTo(4096);
+        assertThat(readAll(path)).extracting(frame -> new String(frame.payload(), StandardCharsets.UTF_8))
+                .containsExactly("message-0", "message-1");
+        segment.close();
+    }
+
+    private static boolean append(CaptureSegment segment, String sessionId, String destination,
+                                  Map<String, List<String>> headers, String payload) {
+        int size = CaptureFormat.recordSize(sessionId, destination, headers, payload);
+        int offset = segment.reserve(size);
+        if (offset < 0) {
+            return false;
+        }
+        try {
+            CaptureFormat.write(segment.buffer(), offset, size, System.nanoTime(), FrameType.SEND,
+                    sessionId, destination, headers, payload);
+        } finally {
+            segment.release();
+        }
+        return true;
+    }
+
+    private static List<CapturedFrame> readAll(Path segment) throws IOException {
+        List<CapturedFrame> frames = new ArrayList<>();
+        CaptureReader.readSegment(segment, frames::add);
+        return frames;
+    }
+
+    private StompCaptureRecorder recorder(DataSize segmentSize, int maxSegments) throws IOException {
+        DocsProperties.Capture properties = new DocsProperties.Capture();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(segmentSize);
+        properties.setMaxSegments(maxSegments);
+        JsonNode spec = new ObjectMapper().readTree("{\"channels\": {\"/app/chat\": {}}}");
+        return new StompCaptureRecorder(new AsyncApiSpecProvider(() -> spec), properties);
+    }
+
+    private static Message<byte[]> message(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
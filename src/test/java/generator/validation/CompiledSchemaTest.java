@@ -0,0 +1,149 @@
+package generator.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompiledSchemaTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("필수 속성은 앞의 64개만 확인하고, 그 뒤의 속성이 있어도 확인 결과는 바뀌지 않는다")
+    void requiredPastFirst64() throws IOException {
+        ObjectNode schema = MAPPER.createObjectNode().put("type", "object");
+        ObjectNode properties = schema.putObject("properties");
+        ArrayNode required = schema.putArray("required");
+        for (int i = 0; i < 70; i++) {
+            properties.putObject("p" + i).put("type", "integer");
+            required.add("p" + i);
+        }
+
+        assertThat(validate(schema, payloadWithout(70, -1))).isNull();
+        assertThat(validate(schema, payloadWithout(70, 3))).isEqualTo(": 필수 속성이 없습니다: p3");
+        assertThat(validate(schema, payloadWithout(70, 63))).isEqualTo(": 필수 속성이 없습니다: p63");
+        assertThat(validate(schema, payloadWithout(70, 64))).isNull();
+        // 64번째 이후 속성도 타입은 검증한다.
+        assertThat(validate(schema, payloadWithout(70, -1).replace("\"p65\":1", "\"p65\":\"x\"")))
+                .startsWith(".p65: integer");
+    }
+
+    @Test
+    @DisplayName("속성 값과 배열 원소의 null 은 타입과 무관하게 허용한다")
+    void nullValues() throws IOException {
+        JsonNode schema = MAPPER.readTree("""
+                {"type": "object",
+                 "properties": {"name": {"type": "string"}, "scores": {"type": "array", "items": {"type": "integer"}}},
+                 "required": ["name"]}
+                """);
+
+        assertThat(validate(schema, "{\"name\": null, \"scores\": [1, null, 3]}")).isNull();
+        assertThat(validate(schema, "{\"name\": \"a\", \"scores\": [1, \"x\"]}")).startsWith(".scores[1]: integer");
+        assertThat(validate(schema, "null")).startsWith(": object 타입이어야 합니다");
+    }
+
+    @Test
+    @DisplayName("anyOf 는 값을 토큰 버퍼에 복사해 후보마다 다시 읽고, 원래 파서는 값 뒤에서 이어 간다")
+    void anyOf() throws IOException {
+        JsonNode schema = MAPPER.readTree("""
+                {"type": "object",
+                 "properties": {
+                   "value": {"anyOf": [
+                     {"type": "string", "minLength": 3},
+                     {"type": "object", "properties": {"id": {"type": "integer"}}, "required": ["id"]}
+                   ]},
+                   "after": {"type": "integer", "maximum": 2}
+                 }}
+                """);
+
+        assertThat(validate(schema, "{\"value\": \"abc\", \"after\": 1}")).isNull();
+        assertThat(validate(schema, "{\"value\": {\"id\": 1, \"nested\": [1, {\"a\": 2}]}, \"after\": 1}")).isNull();
+        // 첫 후보의 위반 내용을 돌려준다.
+        assertThat(validate(schema, "{\"value\": \"ab\"}")).isEqualTo(".value: 길이가 3 이상이어야 합니다");
+        assertThat(validate(schema, "{\"value\": {}}")).startsWith(".value: string 타입이어야 합니다");
+        assertThat(validate(schema, "{\"value\": {\"id\": 1}, \"after\": 3}")).isEqualTo(".after: 2.0 이하여야 합니다");
+    }
+
+    @Test
+    @DisplayName("자기 자신을 참조하는 스키마도 한 번만 해석하고 깊은 값까지 검증한다")
+    void refCycle() throws IOException {
+        JsonNode schemas = MAPPER.readTree("""
+                {"Node": {"type": "object",
+                          "properties": {"value": {"type": "integer"}, "next": {"$ref": "#/components/schemas/Node"}},
+                          "additionalProperties": false}}
+                """);
+        JsonNode schema = MAPPER.readTree("{\"$ref\": \"#/components/schemas/Node\"}");
+
+        assertThat(validate(schemas, schema, "{\"value\": 1, \"next\": {\"value\": 2, \"next\": {\"value\": 3}}}")).isNull();
+        assertThat(validate(schemas, schema, "{\"value\": 1, \"next\": {\"next\": {\"value\": \"x\"}}}"))
+                .startsWith(".next.next.value: integer");
+        assertThat(validate(schemas, schema, "{\"next\": {\"other\": 1}}"))
+                .isEqualTo(".next.other: 정의되지 않은 속성입니다");
+        CompiledSchema.Compiler compiler = new CompiledSchema.Compiler(schemas);
+        assertThat(compiler.compile(schema)).isSameAs(compiler.compile(schema));
+    }
+
+    @Test
+    @DisplayName("소수부가 없는 실수는 integer 로 본다")
+    void integerValuedFloats() throws IOException {
+        JsonNode schema = MAPPER.readTree("{\"type\": \"integer\", \"minimum\": 0}");
+
+        assertThat(validate(schema, "1.0")).isNull();
+        assertThat(validate(schema, "1e2")).isNull();
+        assertThat(validate(schema, "1.5")).startsWith(": integer 타입이어야 합니다");
+        assertThat(validate(schema, "-1.0")).isEqualTo(": 0.0 이상이어야 합니다");
+    }
+
+    @Test
+    @DisplayName("additionalProperties 가 false 면 정의되지 않은 속성을 막고, 스키마면 그 스키마로 검증한다")
+    void additionalProperties() throws IOException {
+        JsonNode closed = MAPPER.readTree("""
+                {"type": "object", "properties": {"id": {"type": "integer"}}, "additionalProperties": false}
+                """);
+        JsonNode typed = MAPPER.readTree("""
+                {"type": "object", "additionalProperties": {"type": "string"}}
+                """);
+        JsonNode open = MAPPER.readTree("""
+                {"type": "object", "properties": {"id": {"type": "integer"}}}
+                """);
+
+        assertThat(validate(closed, "{\"id\": 1}")).isNull();
+        assertThat(validate(closed, "{\"id\": 1, \"extra\": {\"a\": 1}}")).isEqualTo(".extra: 정의되지 않은 속성입니다");
+        assertThat(validate(typed, "{\"a\": \"x\", \"b\": \"y\"}")).isNull();
+        assertThat(validate(typed, "{\"a\": \"x\", \"b\": 1}")).startsWith(".b: string 타입이어야 합니다");
+        assertThat(validate(open, "{\"id\": 1, \"extra\": [1, 2]}")).isNull();
+    }
+
+    private static String payloadWithout(int count, int missing) {
+        StringBuilder payload = new StringBuilder("{");
+        for (int i = 0; i < count; i++) {
+            if (i == missing) {
+                continue;
+            }
+            if (payload.length() > 1) {
+                payload.append(',');
+            }
+            payload.append("\"p").append(i).append("\":1");
+        }
+        return payload.append('}').toString();
+    }
+
+    private static String validate(JsonNode schema, String payload) throws IOException {
+        return validate(MAPPER.createObjectNode(), schema, payload);
+    }
+
+    private static String validate(JsonNode schemas, JsonNode schema, String payload) throws IOException {
+        CompiledSchema compiled = new CompiledSchema.Compiler(schemas).compile(schema);
+        try (JsonParser parser = MAPPER.createParser(payload)) {
+            parser.nextToken();
+            return compiled.validate(parser);
+        }
+    }
+}